@@ -0,0 +1,28 @@
+package com.alphaka.blogservice.blog.controller;
+
+import com.alphaka.blogservice.blog.dto.BlogHomeResponse;
+import com.alphaka.blogservice.blog.service.BlogHomeService;
+import com.alphaka.blogservice.common.dto.CurrentUser;
+import com.alphaka.blogservice.common.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/blogs")
+@RequiredArgsConstructor
+public class BlogController {
+
+    private final BlogHomeService blogHomeService;
+
+    /**
+     * 블로그 홈 조회 (블로그 주인 프로필, 게시글 수, 최신 게시글 목록, 태그 목록)
+     */
+    @GetMapping("/{nickname}/home")
+    public ApiResponse<BlogHomeResponse> getBlogHome(@Nullable CurrentUser currentUser,
+                                                     @PathVariable("nickname") String nickname,
+                                                     @RequestParam(value = "size", defaultValue = "5") int size) {
+        BlogHomeResponse response = blogHomeService.getBlogHome(currentUser, nickname, size);
+        return new ApiResponse<>(response);
+    }
+}
@@ -0,0 +1,37 @@
+package com.alphaka.blogservice.blog.controller;
+
+import com.alphaka.blogservice.common.response.ApiResponse;
+import com.alphaka.blogservice.shard.BlogShardRebalancer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 블로그 샤드 재배치 (운영용, 게이트웨이 외부 경로(/api)로 노출하지 않음)
+ */
+@RestController
+@RequestMapping("/internal/blogs")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "blog.sharding.enabled", havingValue = "true")
+public class BlogShardController {
+
+    private final BlogShardRebalancer blogShardRebalancer;
+
+    /**
+     * 블로그를 대상 샤드로 재배치
+     */
+    @PutMapping("/{blogId}/shard")
+    public ApiResponse<BlogShardRebalancer.Result> moveBlog(@PathVariable("blogId") Long blogId,
+                                                           @RequestParam("target") String target) {
+        return new ApiResponse<>(blogShardRebalancer.move(blogId, target));
+    }
+
+    /**
+     * 블로그가 위치하지 않은 샤드에 남은 데이터 삭제 (재배치 중 원본 삭제에 실패한 경우)
+     */
+    @DeleteMapping("/{blogId}/shard/{shard}")
+    public ApiResponse<Integer> purgeBlog(@PathVariable("blogId") Long blogId,
+                                          @PathVariable("shard") String shard) {
+        return new ApiResponse<>(blogShardRebalancer.purge(blogId, shard));
+    }
+}
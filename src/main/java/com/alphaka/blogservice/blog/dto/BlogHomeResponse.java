@@ -0,0 +1,25 @@
+package com.alphaka.blogservice.blog.dto;
+
+import com.alphaka.blogservice.common.dto.PageResponse;
+import com.alphaka.blogservice.common.dto.UserDTO;
+import com.alphaka.blogservice.post.dto.PostListResponse;
+import com.alphaka.blogservice.tag.dto.TagListResponse;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 블로그 홈 조회 응답 DTO
+ * 블로그 주인 프로필, 게시글 수, 첫 페이지 게시글 목록, 태그 목록
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogHomeResponse {
+    private Long blogId;
+    private UserDTO owner;
+    private long postCount;
+    private PageResponse<PostListResponse> posts;
+    private List<TagListResponse> tags;
+}
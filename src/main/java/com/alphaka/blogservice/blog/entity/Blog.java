@@ -10,7 +10,7 @@ import java.util.List;
 
 @Entity
 @Getter
-@Table(name = "blogs")
+@Table(name = "blogs", uniqueConstraints = @UniqueConstraint(name = "uk_blogs_user_id", columnNames = "user_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 public class Blog extends DeleteBaseEntity {
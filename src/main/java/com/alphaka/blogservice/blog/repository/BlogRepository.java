@@ -1,11 +1,16 @@
 package com.alphaka.blogservice.blog.repository;
 
 import com.alphaka.blogservice.blog.entity.Blog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface BlogRepository extends JpaRepository<Blog, Long> {
+public interface BlogRepository extends JpaRepository<Blog, Long>, BlogRepositoryCustom {
 
     /**
      * 주어진 사용자 ID로 블로그가 존재하는지 확인
@@ -15,9 +20,27 @@ public interface BlogRepository extends JpaRepository<Blog, Long> {
     boolean existsByUserId(Long userId);
 
     /**
-     * 주어진 사용자 ID로 블로그 조회
+     * 주어진 사용자 ID로 블로그 조회 (삭제된 블로그 제외)
      * @param userId - 사용자 ID
      * @return 블로그
      */
-    Optional<Blog> findByUserId(Long userId);
+    @Query("SELECT b FROM Blog b WHERE b.userId = :userId AND b.deletedAt IS NULL")
+    Optional<Blog> findByUserId(@Param("userId") Long userId);
+
+    /**
+     * 주어진 사용자 ID 목록의 블로그 ID 조회 (삭제된 블로그 제외)
+     * @param userIds - 사용자 ID 목록
+     * @return 블로그 ID 목록
+     */
+    @Query("SELECT b.id FROM Blog b WHERE b.userId IN :userIds AND b.deletedAt IS NULL")
+    List<Long> findIdsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 주어진 사용자 ID 이후의 블로그 주인 ID 목록 조회 (ID 순, 삭제된 블로그 제외)
+     * @param lastUserId - 마지막으로 조회한 사용자 ID
+     * @param pageable - 조회 개수
+     * @return 사용자 ID 목록
+     */
+    @Query("SELECT b.userId FROM Blog b WHERE b.userId > :lastUserId AND b.deletedAt IS NULL ORDER BY b.userId")
+    List<Long> findUserIdsAfter(@Param("lastUserId") Long lastUserId, Pageable pageable);
 }
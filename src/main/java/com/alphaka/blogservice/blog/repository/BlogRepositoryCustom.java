@@ -0,0 +1,9 @@
+package com.alphaka.blogservice.blog.repository;
+
+import java.util.List;
+
+public interface BlogRepositoryCustom {
+
+    // 사용자 ID 목록의 블로그 일괄 생성 (이미 블로그가 있는 사용자는 건너뜀)
+    void insertIfAbsentForUsers(List<Long> userIds);
+}
@@ -0,0 +1,23 @@
+package com.alphaka.blogservice.blog.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class BlogRepositoryImpl implements BlogRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 블로그 일괄 삽입 (uk_blogs_user_id(V7 마이그레이션)에 걸리는 행은 그대로 두므로 같은 이벤트를 다시 받아도 중복 생성되지 않음)
+    // INSERT IGNORE 는 중복 키 외의 오류(NOT NULL, 잘린 값 등)도 경고로 바꾸므로 중복 키만 넘기도록 ON DUPLICATE KEY UPDATE 사용
+    @Override
+    public void insertIfAbsentForUsers(List<Long> userIds) {
+        String sql = "INSERT INTO blogs (user_id, created_at) VALUES (?, NOW(6)) ON DUPLICATE KEY UPDATE user_id = user_id";
+
+        jdbcTemplate.batchUpdate(sql, userIds, userIds.size(),
+                (PreparedStatement ps, Long userId) -> ps.setLong(1, userId));
+    }
+}
@@ -0,0 +1,75 @@
+package com.alphaka.blogservice.blog.service;
+
+import com.alphaka.blogservice.blog.dto.BlogHomeResponse;
+import com.alphaka.blogservice.common.dto.PageResponse;
+import com.alphaka.blogservice.post.dto.PostListResponse;
+import com.alphaka.blogservice.post.service.PostService;
+import com.alphaka.blogservice.tag.dto.TagListResponse;
+import com.alphaka.blogservice.tag.service.TagService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BlogHomeContentService {
+
+    private final PostService postService;
+    private final TagService tagService;
+    private final Executor blogHomeExecutor;
+
+    /**
+     * 블로그 홈의 블로그 단위 구성 요소 조회 (첫 페이지 게시글 목록, 게시글 수, 태그 목록)
+     * 블로그 주인 프로필은 포함하지 않음 (프로필 변경이 캐시에 남지 않도록 BlogHomeService 가 요청마다 붙임)
+     * 블로그 주인과 방문자는 비공개 게시글 포함 여부만 다르므로, 사용자별이 아닌 주인 / 방문자로 나누어 캐시
+     * @param blogId - 블로그 ID (확인이 끝난 블로그)
+     * @param isOwner - 블로그 주인 여부
+     * @param size - 첫 페이지 게시글 수
+     * @return BlogHomeResponse - 블로그 홈 정보 (owner 제외)
+     */
+    @Cacheable(
+            value = "blogService:cache:blogHome",
+            key = "'blog:' + #blogId + ':size:' + #size + ':' + (#isOwner ? 'owner' : 'visitor')",
+            sync = true
+    )
+    @Transactional(readOnly = true)
+    public BlogHomeResponse getContent(Long blogId, boolean isOwner, int size) {
+        // 태그 목록은 별도 스레드에서, 게시글 목록은 요청 스레드에서 동시에 조회
+        CompletableFuture<List<TagListResponse>> tagsFuture =
+                CompletableFuture.supplyAsync(() -> tagService.getTagListByBlogId(blogId), blogHomeExecutor);
+        Pageable pageable = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        PageResponse<PostListResponse> posts = postService.getPostPage(blogId, isOwner, pageable);
+        List<TagListResponse> tags = join(tagsFuture);
+
+        log.info("블로그 홈 구성 요소 조회 완료 - Blog ID: {}, Owner: {}", blogId, isOwner);
+        return BlogHomeResponse.builder()
+                .blogId(blogId)
+                .postCount(posts.getTotalElements())
+                .posts(posts)
+                .tags(tags)
+                .build();
+    }
+
+    // 병렬 작업의 결과 대기 (작업 중 발생한 예외는 그대로 전달)
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.alphaka.blogservice.blog.service;
+
+import com.alphaka.blogservice.blog.dto.BlogHomeResponse;
+import com.alphaka.blogservice.blog.entity.Blog;
+import com.alphaka.blogservice.blog.repository.BlogRepository;
+import com.alphaka.blogservice.common.dto.CurrentUser;
+import com.alphaka.blogservice.common.dto.UserDTO;
+import com.alphaka.blogservice.exception.custom.BlogNotFoundException;
+import com.alphaka.blogservice.exception.custom.UserNotFoundException;
+import com.alphaka.blogservice.user.service.UserDirectoryService;
+import com.alphaka.blogservice.util.ExistenceGuard;
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BlogHomeService {
+
+    private final ExistenceGuard existenceGuard;
+    private final UserDirectoryService userDirectoryService;
+    private final BlogRepository blogRepository;
+    private final BlogHomeContentService blogHomeContentService;
+
+    /**
+     * 블로그 홈 조회
+     * 닉네임으로 블로그 주인과 블로그를 한 번만 확인한 뒤, 블로그 단위 구성 요소(캐시)에 주인 프로필을 붙여 응답
+     * 주인 프로필은 사용자 디렉터리에서 요청마다 조회하므로 프로필이 바뀌면 바로 반영됨
+     * @param currentUser - 현재 사용자 정보
+     * @param nickname - 블로그 주인 닉네임
+     * @param size - 첫 페이지 게시글 수
+     * @return BlogHomeResponse - 블로그 홈 정보
+     */
+    @Transactional(readOnly = true)
+    public BlogHomeResponse getBlogHome(CurrentUser currentUser, String nickname, int size) {
+        log.info("블로그 홈 조회 요청 - Nickname: {}", nickname);
+
+        // 블로그 주인과 블로그 확인 (한 번만 수행)
+        existenceGuard.checkNickname(nickname);
+        UserDTO owner = findOwner(nickname);
+        Blog blog = blogRepository.findByUserId(owner.getUserId()).orElseThrow(() -> {
+            BlogNotFoundException notFound = new BlogNotFoundException();
+            existenceGuard.markNicknameMissing(nickname, notFound);
+            return notFound;
+        });
+        boolean isOwner = currentUser != null && currentUser.getUserId().equals(blog.getUserId());
+
+        BlogHomeResponse content = blogHomeContentService.getContent(blog.getId(), isOwner, size);
+
+        log.info("블로그 홈 조회 완료 - Blog ID: {}", blog.getId());
+        return BlogHomeResponse.builder()
+                .blogId(content.getBlogId())
+                .owner(owner)
+                .postCount(content.getPostCount())
+                .posts(content.getPosts())
+                .tags(content.getTags())
+                .build();
+    }
+
+    // 닉네임으로 블로그 주인 조회 (없는 닉네임은 음성 캐시에 기록)
+    private UserDTO findOwner(String nickname) {
+        UserDTO user;
+        try {
+            user = userDirectoryService.findByNickname(nickname);
+        } catch (FeignException.NotFound e) {
+            UserNotFoundException notFound = new UserNotFoundException();
+            existenceGuard.markNicknameMissing(nickname, notFound);
+            throw notFound;
+        }
+        // 응답이 비어 있는 경우는 user-service 장애(fallback)일 수 있으므로 음성 캐시에 기록하지 않음
+        if (user == null) {
+            throw new UserNotFoundException();
+        }
+        return user;
+    }
+}
@@ -0,0 +1,167 @@
+package com.alphaka.blogservice.blog.service;
+
+import com.alphaka.blogservice.common.event.PostEvent;
+import com.alphaka.blogservice.outbox.entity.OutboxEventType;
+import com.alphaka.blogservice.outbox.service.OutboxService;
+import com.alphaka.blogservice.shard.ReferenceTableReplicator;
+import com.alphaka.blogservice.shard.ShardContext;
+import com.alphaka.blogservice.shard.ShardMap;
+import com.alphaka.blogservice.util.CacheUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 삭제된 블로그(탈퇴한 사용자) 정리
+ * - 블로그의 게시글을 일정 개수씩 골라 신고, 좋아요, 댓글, 태그 연결, 게시글 순으로 삭제 (묶음마다 별도 트랜잭션, 묶음 사이 대기)
+ * - 모든 샤드에서 게시글이 정리되면 블로그와 샤드 맵 위치 정보를 삭제
+ * - 진행 상태는 블로그의 삭제 표시와 남은 게시글로 판단하므로, 재시작하거나 한 번에 끝나지 않아도 다음 실행에서 이어서 정리
+ * 여러 인스턴스가 동시에 실행해도 같은 행을 지울 뿐이므로 안전
+ * 공용 스케줄러(SchedulingConfig)에서 실행되며, 종료 시 진행 중인 묶음이 끝날 때까지 기다림
+ */
+@Slf4j
+@Component
+public class BlogPurger {
+
+    // 정리 대상 조회 (실행 계획 검증 테스트에서 같은 쿼리를 사용하므로 공개)
+    public static final String DELETED_BLOGS = "SELECT id FROM blogs WHERE deleted_at IS NOT NULL ORDER BY deleted_at LIMIT ?";
+    public static final String BLOG_POSTS = "SELECT id FROM posts WHERE blog_id = ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardMap shardMap;
+    private final ReferenceTableReplicator referenceTableReplicator;
+    private final CacheUtils cacheUtils;
+    private final OutboxService outboxService;
+
+    @Value("${blog.withdrawal.purge.enabled:true}")
+    private boolean enabled;
+
+    @Value("${blog.withdrawal.purge.blogs-per-run:10}")
+    private int blogsPerRun;
+
+    @Value("${blog.withdrawal.purge.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${blog.withdrawal.purge.max-chunks-per-run:50}")
+    private int maxChunksPerRun;
+
+    @Value("${blog.withdrawal.purge.throttle-ms:200}")
+    private long throttleMillis;
+
+    public BlogPurger(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, ShardMap shardMap,
+                      ReferenceTableReplicator referenceTableReplicator, CacheUtils cacheUtils,
+                      OutboxService outboxService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardMap = shardMap;
+        this.referenceTableReplicator = referenceTableReplicator;
+        this.cacheUtils = cacheUtils;
+        this.outboxService = outboxService;
+    }
+
+    @Scheduled(initialDelayString = "${blog.withdrawal.purge.interval-ms:30000}",
+            fixedDelayString = "${blog.withdrawal.purge.interval-ms:30000}")
+    public void scheduledPurge() {
+        if (enabled) {
+            purgeDeletedBlogs();
+        }
+    }
+
+    /**
+     * 삭제된 블로그 정리 (한 번에 최대 max-chunks-per-run 묶음까지, 남은 데이터는 다음 실행에서 정리)
+     * @return int - 삭제한 게시글 수
+     */
+    public int purgeDeletedBlogs() {
+        int purgedPosts = 0;
+        try {
+            List<Long> blogIds = onShard(ShardContext.DEFAULT_SHARD,
+                    () -> jdbcTemplate.queryForList(DELETED_BLOGS, Long.class, blogsPerRun));
+            int chunks = 0;
+            for (Long blogId : blogIds) {
+                for (String shard : shardMap.shards()) {
+                    int purged;
+                    do {
+                        if (chunks >= maxChunksPerRun) {
+                            log.info("삭제된 블로그 정리 중단, 다음 실행에서 이어서 정리 - Blog ID: {}", blogId);
+                            return purgedPosts;
+                        }
+                        purged = onShard(shard, () -> transactionTemplate.execute(status -> purgeChunk(blogId)));
+                        purgedPosts += purged;
+                        chunks++;
+                        if (purged > 0) {
+                            throttle();
+                        }
+                    } while (purged == chunkSize);
+                }
+                deleteBlog(blogId);
+            }
+        } catch (RuntimeException e) {
+            log.error("삭제된 블로그 정리 실패", e);
+        }
+        return purgedPosts;
+    }
+
+    // 블로그의 게시글 한 묶음과 게시글에 속한 데이터 삭제
+    private int purgeChunk(Long blogId) {
+        List<Long> postIds = jdbcTemplate.queryForList(BLOG_POSTS, Long.class, blogId, chunkSize);
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        String posts = "(" + String.join(", ", Collections.nCopies(postIds.size(), "?")) + ")";
+        Object[] args = postIds.toArray();
+        jdbcTemplate.update("DELETE r FROM reports r JOIN comments c ON c.id = r.comment_id WHERE c.post_id IN " + posts, args);
+        jdbcTemplate.update("DELETE FROM reports WHERE post_id IN " + posts, args);
+        jdbcTemplate.update("DELETE l FROM likes l JOIN comments c ON c.id = l.comment_id WHERE c.post_id IN " + posts, args);
+        jdbcTemplate.update("DELETE FROM likes WHERE post_id IN " + posts, args);
+        // ID 순서는 작성 순서를 보장하지 않으므로 부모 참조를 먼저 끊은 뒤 삭제
+        jdbcTemplate.update("UPDATE comments SET parent_id = NULL WHERE post_id IN " + posts + " AND parent_id IS NOT NULL", args);
+        jdbcTemplate.update("DELETE FROM comments WHERE post_id IN " + posts, args);
+        jdbcTemplate.update("DELETE FROM post_tags WHERE post_id IN " + posts, args);
+        jdbcTemplate.update("DELETE FROM posts WHERE id IN " + posts, args);
+
+        // 게시글 삭제 이벤트를 같은 트랜잭션에서 아웃박스에 저장하고 순번 행을 지운 뒤, 커밋 후 게시글 캐시 무효화
+        postIds.forEach(postId -> outboxService.append(OutboxEventType.POST_DELETED, postId,
+                new PostEvent(postId, blogId, null, false)));
+        outboxService.forgetSequences(postIds);
+        postIds.forEach(cacheUtils::evictDeletedPostCache);
+        return postIds.size();
+    }
+
+    // 모든 샤드의 게시글을 정리한 블로그 삭제 (커밋 후 다른 샤드의 블로그 행도 삭제)
+    private void deleteBlog(Long blogId) {
+        onShard(ShardContext.DEFAULT_SHARD, () -> transactionTemplate.execute(status -> {
+            jdbcTemplate.update("DELETE FROM blogs WHERE id = ? AND deleted_at IS NOT NULL", blogId);
+            referenceTableReplicator.replicateAfterCommit(ReferenceTableReplicator.BLOGS, List.of(blogId));
+            return null;
+        }));
+        shardMap.forgetBlog(blogId);
+        log.info("삭제된 블로그 정리 완료 - Blog ID: {}", blogId);
+    }
+
+    private void throttle() {
+        try {
+            Thread.sleep(throttleMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("삭제된 블로그 정리가 중단되었습니다.", e);
+        }
+    }
+
+    private static <T> T onShard(String shard, Supplier<T> action) {
+        try {
+            ShardContext.bind(shard);
+            return action.get();
+        } finally {
+            ShardContext.clear();
+        }
+    }
+}
@@ -4,17 +4,30 @@ import com.alphaka.blogservice.blog.entity.Blog;
 import com.alphaka.blogservice.exception.custom.BlogCreationFailedException;
 import com.alphaka.blogservice.blog.repository.BlogRepository;
 import com.alphaka.blogservice.exception.custom.UserNotFoundException;
+import com.alphaka.blogservice.post.repository.PostRepository;
+import com.alphaka.blogservice.shard.ReferenceTableReplicator;
+import com.alphaka.blogservice.shard.ShardMap;
+import com.alphaka.blogservice.shard.ShardTemplate;
+import com.alphaka.blogservice.util.CacheUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Optional;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BlogService {
 
     private final BlogRepository blogRepository;
+    private final PostRepository postRepository;
+    private final ShardMap shardMap;
+    private final ShardTemplate shardTemplate;
+    private final ReferenceTableReplicator referenceTableReplicator;
+    private final CacheUtils cacheUtils;
 
     /**
      * 사용자 가입시 블로그 생성
@@ -31,25 +44,78 @@ public class BlogService {
         Blog newBlog = Blog.builder()
                 .userId(userId)
                 .build();
-        blogRepository.save(newBlog);
+        Blog savedBlog = blogRepository.save(newBlog);
+
+        // 샤드 배정 후, 커밋되면 블로그 정보를 모든 샤드에 복제
+        shardMap.assignBlog(savedBlog.getId());
+        referenceTableReplicator.replicateAfterCommit(ReferenceTableReplicator.BLOGS, List.of(savedBlog.getId()));
         log.info("사용자 ID[{}]에 대한 블로그 생성이 완료 되었습니다. ", userId);
     }
 
+    /**
+     * 가입 이벤트 묶음의 블로그 일괄 생성
+     * 이미 블로그가 있는 사용자는 user_id 유니크 인덱스로 건너뛰므로, 같은 묶음을 다시 처리해도 결과가 같음
+     * 샤드 배정과 복제도 이미 반영된 블로그에는 영향이 없어, 이전 처리가 중간에 실패했더라도 다시 처리하면 채워짐
+     * @param userIds - 사용자 ID 목록
+     * @return int - 처리한 블로그 수
+     */
+    @Transactional
+    public int createBlogsForNewUsers(List<Long> userIds) {
+        List<Long> validUserIds = userIds.stream()
+                .filter(userId -> {
+                    if (userId == null || userId <= 0) {
+                        log.error("유효하지 않은 사용자입니다. ID[{}]", userId);
+                        return false;
+                    }
+                    return true;
+                })
+                .distinct()
+                .sorted() // 동시에 처리하는 다른 컨슈머와 같은 순서로 인덱스 잠금을 잡도록 정렬
+                .toList();
+        if (validUserIds.isEmpty()) {
+            return 0;
+        }
+
+        // 블로그 일괄 생성 후 생성된 (또는 이미 있던) 블로그 ID 조회
+        blogRepository.insertIfAbsentForUsers(validUserIds);
+        List<Long> blogIds = blogRepository.findIdsByUserIds(validUserIds);
+
+        // 샤드 배정 후, 커밋되면 블로그 정보를 모든 샤드에 복제
+        shardMap.assignBlogs(blogIds);
+        referenceTableReplicator.replicateAfterCommit(ReferenceTableReplicator.BLOGS, blogIds);
+        log.info("사용자 {}명에 대한 블로그 일괄 생성이 완료 되었습니다.", validUserIds.size());
+        return blogIds.size();
+    }
+
     /**
      * 사용자 탈퇴시 블로그 삭제
+     * 블로그만 삭제 표시하여 바로 조회되지 않도록 하고, 게시글, 댓글, 좋아요, 태그 연결은 BlogPurger 가 나누어 삭제
      * @param userId - 사용자 ID
      */
-//    @Transactional
-//    public void deleteBlogForUser(Long userId) {
-//        log.info("사용자 ID[{}]에 대한 블로그 삭제를 시작합니다.", userId);
-//
-//        // 블로그 삭제를 위한 검증
-//        blogValidation(userId);
-//
-//        /* 논리적 블로그 삭제 (블로그의 게시글, 댓글, 태그도 모두 논리적 삭제)*/
-//
-//        log.info("사용자 ID[{}]에 대한 블로그 삭제가 완료 되었습니다. ", userId);
-//    }
+    @Transactional
+    public void deleteBlogForUser(Long userId) {
+        log.info("사용자 ID[{}]에 대한 블로그 삭제를 시작합니다.", userId);
+
+        // 이미 삭제되었거나 없는 블로그는 무시 (같은 탈퇴 이벤트를 다시 받은 경우)
+        Optional<Blog> found = blogRepository.findByUserId(userId);
+        if (found.isEmpty()) {
+            log.warn("사용자 ID[{}]의 삭제할 블로그가 없습니다.", userId);
+            return;
+        }
+
+        /* 논리적 블로그 삭제 */
+        Blog blog = found.get();
+        blog.delete();
+
+        // 커밋되면 삭제 표시를 모든 샤드에 복제하고, 블로그 단위 캐시와 블로그 게시글의 캐시 무효화
+        // (게시글 상세, 댓글 캐시 키에는 블로그 ID 가 없으므로 게시글 ID 를 조회, 게시글은 블로그가 위치한 샤드에만 있음)
+        referenceTableReplicator.replicateAfterCommit(ReferenceTableReplicator.BLOGS, List.of(blog.getId()));
+        List<Long> postIds = shardTemplate.queryAll(() -> postRepository.findIdsByBlogId(blog.getId())).stream()
+                .flatMap(List::stream)
+                .toList();
+        cacheUtils.evictDeletedBlogCache(blog.getId(), postIds);
+        log.info("사용자 ID[{}]에 대한 블로그 삭제가 완료 되었습니다. ", userId);
+    }
 
     // 블로그 생성을 위한 검증
     private void blogValidation(Long userId) {
@@ -0,0 +1,28 @@
+package com.alphaka.blogservice.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Stale-While-Revalidate 캐시에 저장되는 값과 갱신 메타데이터
+ * Redis 직렬화 시 타입 정보가 포함되도록 final 로 선언하지 않음
+ * 바이너리 캐시는 캐시별 값 타입(T)으로 읽으므로 타입 정보 없이 저장
+ * @param <T> - 캐시된 값 타입
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEntry<T> {
+
+    /** 캐시된 값 */
+    private T value;
+
+    /** 소프트 만료 시각 (epoch millis), 이후 조회 시 이전 값을 반환하며 비동기로 갱신 */
+    private long softExpireAt;
+
+    /** 값을 계산하는 데 걸린 시간 (millis), 조기 갱신 확률 계산에 사용 */
+    private long computeMillis;
+}
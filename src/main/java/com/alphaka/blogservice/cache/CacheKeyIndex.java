@@ -0,0 +1,127 @@
+package com.alphaka.blogservice.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 블로그 / 게시글 단위로 무효화하는 캐시의 키 색인
+ * 저장한 캐시 키를 묶음별 Sorted Set("캐시 이름:keys::blog:{id}")에 기록해 두고,
+ * 무효화 시 키 공간 전체를 SCAN 하지 않고 색인에 기록된 키만 삭제
+ * - 캐시 키의 앞 두 부분(blog:{id}, post:{id})을 묶음으로 사용
+ * - 점수는 캐시 항목의 만료 시각이며, 기록할 때 이미 만료된 키를 정리하므로 색인이 계속 커지지 않음
+ * - 색인도 캐시 항목의 만료 시간만큼만 유지 (기록할 때마다 연장)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheKeyIndex {
+
+    // 한 번의 UNLINK 로 삭제할 최대 키 수
+    private static final int UNLINK_BATCH_SIZE = 1000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * @param cacheName - 캐시 이름
+     * @param group - 묶음 (blog:{id}, post:{id})
+     * @return String - 색인 키
+     */
+    public static String indexKey(String cacheName, String group) {
+        return cacheName + ":keys::" + group;
+    }
+
+    // 캐시 키가 속한 묶음 (blog:1:page:0:... -> blog:1)
+    static String group(Object key) {
+        String value = key.toString();
+        int first = value.indexOf(':');
+        int second = first < 0 ? -1 : value.indexOf(':', first + 1);
+        return second < 0 ? value : value.substring(0, second);
+    }
+
+    /**
+     * 저장한 캐시 키를 색인에 기록 (기록, 만료된 키 정리, 색인 만료 연장을 한 번의 파이프라인으로 처리)
+     * 기록에 실패해도 캐시 저장은 유지하며, 색인에 없는 값은 TTL 로 만료됨
+     * @param cacheName - 캐시 이름
+     * @param key - 캐시 키
+     * @param ttl - 캐시 항목의 만료 시간
+     */
+    public void register(String cacheName, Object key, Duration ttl) {
+        String index = indexKey(cacheName, group(key));
+        String cacheKey = cacheName + "::" + key;
+        long now = System.currentTimeMillis();
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                redis.zAdd(index, now + ttl.toMillis(), cacheKey);
+                redis.zRemRangeByScore(index, Double.NEGATIVE_INFINITY, now);
+                redis.pExpire(index, ttl.toMillis());
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("캐시 키 색인 기록에 실패했습니다. 색인: {}, 키: {}", index, cacheKey, e);
+        }
+    }
+
+    /**
+     * 색인에 기록된 캐시 키를 삭제
+     * 색인을 읽는 데 한 번, 키 삭제와 색인 정리에 한 번의 파이프라인을 사용하므로 색인 수와 관계없이 왕복 두 번
+     * 색인을 통째로 지우지 않고 읽은 키만 빼므로, 읽은 뒤 새로 기록된 키는 다음 무효화 대상으로 남음
+     * @param indexKeys - 색인 키 목록
+     * @return long - 삭제된 캐시 수
+     */
+    public long unlinkIndexed(Collection<String> indexKeys) {
+        if (indexKeys.isEmpty()) {
+            return 0;
+        }
+
+        List<String> indexes = List.copyOf(indexKeys);
+        List<Object> ranges = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            indexes.forEach(index -> redis.zRange(index, 0, -1));
+            return null;
+        });
+
+        Map<String, String[]> members = new LinkedHashMap<>();
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < indexes.size(); i++) {
+            if (ranges.get(i) instanceof Collection<?> range && !range.isEmpty()) {
+                String[] indexed = range.stream().map(Object::toString).toArray(String[]::new);
+                members.put(indexes.get(i), indexed);
+                keys.addAll(List.of(indexed));
+            }
+        }
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        int unlinkCount = (keys.size() + UNLINK_BATCH_SIZE - 1) / UNLINK_BATCH_SIZE;
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (int from = 0; from < keys.size(); from += UNLINK_BATCH_SIZE) {
+                redis.unlink(keys.subList(from, Math.min(from + UNLINK_BATCH_SIZE, keys.size())).toArray(String[]::new));
+            }
+            members.forEach(redis::zRem);
+            return null;
+        });
+
+        long deleted = 0;
+        for (int i = 0; i < unlinkCount; i++) {
+            if (results.get(i) instanceof Long count) {
+                deleted += count;
+            }
+        }
+        return deleted;
+    }
+}
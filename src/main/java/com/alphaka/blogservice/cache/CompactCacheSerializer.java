@@ -0,0 +1,151 @@
+package com.alphaka.blogservice.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 캐시 값을 바이너리(Smile) 형식으로 저장하는 Redis 직렬화기
+ * 캐시마다 값 타입을 지정하여 그 타입으로 읽으므로 값에 클래스 이름 등 타입 정보를 저장하지 않음
+ * 저장 형식: [magic(1)][version(1)][flags(1)][원본 길이(4), 압축 시에만][payload]
+ * - 기준 크기 이상인 값은 LZ4 로 압축
+ * - magic 으로 시작하지 않는 값은 이전 JSON 형식으로 간주하고 fallback 직렬화기로 읽음
+ * - 값 구조가 호환되지 않게 바뀌면 VERSION 을 올려 이전 값을 캐시 미스로 처리
+ */
+@Slf4j
+public class CompactCacheSerializer implements RedisSerializer<Object> {
+
+    // JSON 값의 첫 바이트('{', '[', '"' 등)나 Smile 헤더(':')와 겹치지 않는 값
+    static final byte MAGIC = (byte) 0xA7;
+    // 1: 클래스 이름을 타입 정보로 포함하던 형식 (더 이상 읽지 않음)
+    static final byte VERSION = 2;
+    static final byte FLAG_LZ4 = 0x01;
+
+    private static final int HEADER_SIZE = 3;
+    private static final int LENGTH_SIZE = 4;
+
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    private final RedisSerializer<Object> fallback;
+    private final int compressionThreshold;
+    private final int maxValueSize;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    /**
+     * @param smileMapper - Smile 포맷 ObjectMapper (타입 정보 포함 설정 없이 사용)
+     * @param valueType - 캐시 값 타입
+     * @param fallback - 이전 형식의 값을 읽을 직렬화기
+     * @param compressionThreshold - 압축을 적용할 최소 크기 (byte, 0 이하이면 압축하지 않음)
+     * @param maxValueSize - 압축을 해제할 수 있는 최대 크기 (byte, 헤더의 원본 길이가 이보다 크면 읽지 않음)
+     */
+    public CompactCacheSerializer(ObjectMapper smileMapper, JavaType valueType, RedisSerializer<Object> fallback,
+                                  int compressionThreshold, int maxValueSize) {
+        this.writer = smileMapper.writerFor(valueType);
+        this.reader = smileMapper.readerFor(valueType);
+        this.fallback = fallback;
+        this.compressionThreshold = compressionThreshold;
+        this.maxValueSize = maxValueSize;
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.fastDecompressor();
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte[] payload;
+        try {
+            payload = writer.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값을 직렬화할 수 없습니다: " + value.getClass().getName(), e);
+        }
+
+        // 최대 크기를 넘는 값은 읽을 때 압축을 해제할 수 없으므로 압축하지 않음
+        if (compressionThreshold > 0 && payload.length >= compressionThreshold && payload.length <= maxValueSize) {
+            byte[] compressed = compress(payload);
+            // 압축 효과가 없으면 원본을 그대로 저장
+            if (compressed.length < payload.length + LENGTH_SIZE) {
+                return ByteBuffer.allocate(HEADER_SIZE + LENGTH_SIZE + compressed.length)
+                        .put(MAGIC).put(VERSION).put(FLAG_LZ4)
+                        .putInt(payload.length)
+                        .put(compressed)
+                        .array();
+            }
+        }
+
+        return ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                .put(MAGIC).put(VERSION).put((byte) 0)
+                .put(payload)
+                .array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        // 이전 JSON 형식으로 저장된 값
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+
+        if (bytes.length < HEADER_SIZE) {
+            throw new SerializationException("캐시 값의 헤더가 올바르지 않습니다.");
+        }
+
+        // 새 버전으로 저장된 값은 캐시 미스로 처리 (배포 중 이전 버전 인스턴스가 읽는 경우)
+        if (bytes[1] != VERSION) {
+            log.debug("지원하지 않는 캐시 값 버전입니다 - Version: {}", bytes[1]);
+            return null;
+        }
+
+        byte[] payload = (bytes[2] & FLAG_LZ4) != 0
+                ? decompress(bytes)
+                : Arrays.copyOfRange(bytes, HEADER_SIZE, bytes.length);
+        try {
+            return reader.readValue(payload);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값을 역직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private byte[] compress(byte[] payload) {
+        byte[] buffer = new byte[compressor.maxCompressedLength(payload.length)];
+        int length = compressor.compress(payload, 0, payload.length, buffer, 0, buffer.length);
+        return Arrays.copyOf(buffer, length);
+    }
+
+    private byte[] decompress(byte[] bytes) {
+        if (bytes.length < HEADER_SIZE + LENGTH_SIZE) {
+            throw new SerializationException("압축된 캐시 값의 헤더가 올바르지 않습니다.");
+        }
+        // 헤더의 길이만큼 버퍼를 할당하므로, 손상되거나 조작된 값으로 큰 메모리를 할당하지 않도록 범위 확인
+        int originalLength = ByteBuffer.wrap(bytes, HEADER_SIZE, LENGTH_SIZE).getInt();
+        if (originalLength < 0 || originalLength > maxValueSize) {
+            throw new SerializationException("압축된 캐시 값의 원본 길이가 허용 범위를 벗어났습니다: " + originalLength);
+        }
+        byte[] payload = new byte[originalLength];
+        try {
+            decompressor.decompress(bytes, HEADER_SIZE + LENGTH_SIZE, payload, 0, originalLength);
+        } catch (RuntimeException e) {
+            throw new SerializationException("캐시 값의 압축을 해제할 수 없습니다.", e);
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,32 @@
+package com.alphaka.blogservice.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * 캐시별 값 타입으로 CompactCacheSerializer 생성
+ * 모든 캐시가 같은 Smile ObjectMapper, 이전 형식 직렬화기, 압축 설정을 사용
+ */
+@RequiredArgsConstructor
+public class CompactCacheSerializerFactory {
+
+    private final ObjectMapper smileMapper;
+    private final RedisSerializer<Object> fallback;
+    private final int compressionThreshold;
+    private final int maxValueSize;
+
+    public TypeFactory getTypeFactory() {
+        return smileMapper.getTypeFactory();
+    }
+
+    /**
+     * @param valueType - 캐시 값 타입
+     * @return CompactCacheSerializer - 값 타입으로 읽고 쓰는 직렬화기
+     */
+    public CompactCacheSerializer create(JavaType valueType) {
+        return new CompactCacheSerializer(smileMapper, valueType, fallback, compressionThreshold, maxValueSize);
+    }
+}
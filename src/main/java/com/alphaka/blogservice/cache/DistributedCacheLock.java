@@ -0,0 +1,57 @@
+package com.alphaka.blogservice.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 인스턴스 간 캐시 계산을 조율하기 위한 Redis 기반 락
+ * SET NX PX 로 락을 획득하고, 토큰이 일치할 때만 해제
+ */
+@RequiredArgsConstructor
+public class DistributedCacheLock {
+
+    private static final String LOCK_PREFIX = "blogService:lock:";
+
+    // 자신이 획득한 락만 해제하도록 토큰 비교 후 삭제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration lockTtl;
+
+    /**
+     * 락 획득 시도
+     * @param name - 락 이름
+     * @return String - 획득한 락의 토큰 (획득 실패 시 null)
+     */
+    public String tryLock(String name) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_PREFIX + name, token, lockTtl);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    /**
+     * 락이 현재 점유 중인지 확인
+     * @param name - 락 이름
+     */
+    public boolean isLocked(String name) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(LOCK_PREFIX + name));
+    }
+
+    /**
+     * 락 해제
+     * @param name - 락 이름
+     * @param token - 락 획득 시 발급된 토큰
+     */
+    public void unlock(String name, String token) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_PREFIX + name), token);
+    }
+}
@@ -0,0 +1,101 @@
+package com.alphaka.blogservice.cache;
+
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * 저장한 키를 CacheKeyIndex 에 기록하는 캐시
+ * 블로그 / 게시글 단위로 무효화하는 캐시에 사용 (CacheUtils 가 색인으로 키를 찾아 삭제)
+ */
+public class KeyIndexedCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheKeyIndex keyIndex;
+    private final Duration ttl;
+
+    /**
+     * @param delegate - 실제 값을 저장하는 캐시
+     * @param keyIndex - 캐시 키 색인
+     * @param ttl - 캐시 항목의 만료 시간 (색인에서 만료된 키를 정리하는 기준)
+     */
+    public KeyIndexedCache(Cache delegate, CacheKeyIndex keyIndex, Duration ttl) {
+        this.delegate = delegate;
+        this.keyIndex = keyIndex;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    // 실제 캐시가 직접 저장하면 색인에 기록되지 않으므로 조회와 저장을 나누어 처리
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        keyIndex.register(getName(), key, ttl);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        if (existing == null) {
+            keyIndex.register(getName(), key, ttl);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+}
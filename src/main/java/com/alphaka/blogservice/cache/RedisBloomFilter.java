@@ -0,0 +1,168 @@
+package com.alphaka.blogservice.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.BitFieldSubCommands;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldType;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Redis 비트맵 기반 블룸 필터
+ * - 조회와 추가 모두 BITFIELD 한 번으로 처리
+ * - 모든 인스턴스가 같은 비트맵을 공유하므로 다른 인스턴스에서 추가된 값도 바로 반영됨
+ * - 삭제는 지원하지 않음 (삭제된 값은 음성 캐시로 처리)
+ * - 필터 뒤에 준비 완료 비트를 두어, 채우기 전이거나 키가 사라진 경우에는 존재한다고 판단
+ * - Redis 장애 시 존재한다고 판단하여(fail-open) 정상 요청이 거절되지 않도록 함
+ */
+@Slf4j
+public class RedisBloomFilter {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String key;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param stringRedisTemplate - Redis 템플릿
+     * @param key - 비트맵 키
+     * @param expectedInsertions - 예상 원소 수
+     * @param falsePositiveRate - 허용 오탐률
+     */
+    public RedisBloomFilter(StringRedisTemplate stringRedisTemplate, String key,
+                            long expectedInsertions, double falsePositiveRate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.key = key;
+        this.bitSize = optimalBitSize(expectedInsertions, falsePositiveRate);
+        this.hashCount = optimalHashCount(expectedInsertions, bitSize);
+    }
+
+    /**
+     * 값이 존재할 가능성이 있는지 확인
+     * @param value - 확인할 값
+     * @return boolean - 존재하지 않는 것이 확실하면 false
+     */
+    public boolean mightContain(String value) {
+        BitFieldSubCommands commands = BitFieldSubCommands.create()
+                .get(BitFieldType.unsigned(1)).valueAt(readyOffset());
+        for (long offset : offsets(value)) {
+            commands = commands.get(BitFieldType.unsigned(1)).valueAt(offset);
+        }
+
+        try {
+            List<Long> bits = stringRedisTemplate.opsForValue().bitField(key, commands);
+            // 첫 번째 값은 준비 완료 비트
+            if (bits == null || bits.isEmpty() || !Long.valueOf(1L).equals(bits.get(0))) {
+                return true;
+            }
+            return bits.stream().skip(1).allMatch(bit -> bit != null && bit == 1L);
+        } catch (RuntimeException e) {
+            log.warn("블룸 필터 조회 실패, 존재하는 것으로 처리합니다 - Key: {}", key, e);
+            return true;
+        }
+    }
+
+    /**
+     * 필터가 모두 채워졌는지 여부
+     * @return boolean - 준비 완료 비트가 설정되어 있으면 true
+     */
+    public boolean isReady() {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().getBit(key, readyOffset()));
+    }
+
+    /**
+     * 필터를 모두 채운 뒤 준비 완료 비트 설정 (이후부터 없는 값을 거절)
+     */
+    public void markReady() {
+        stringRedisTemplate.opsForValue().setBit(key, readyOffset(), true);
+    }
+
+    /**
+     * 값 추가
+     * @param value - 추가할 값
+     */
+    public void add(String value) {
+        addAll(List.of(value));
+    }
+
+    /**
+     * 여러 값을 한 번에 추가
+     * @param values - 추가할 값 목록
+     */
+    public void addAll(Collection<String> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        BitFieldSubCommands commands = BitFieldSubCommands.create();
+        for (String value : values) {
+            for (long offset : offsets(value)) {
+                commands = commands.set(BitFieldType.unsigned(1)).valueAt(offset).to(1);
+            }
+        }
+
+        try {
+            stringRedisTemplate.opsForValue().bitField(key, commands);
+        } catch (RuntimeException e) {
+            log.warn("블룸 필터 추가 실패 - Key: {}, Count: {}", key, values.size(), e);
+        }
+    }
+
+    /**
+     * 값에 해당하는 비트 위치 계산 (64비트 해시를 둘로 나누어 k 개의 위치를 생성)
+     * @param value - 값
+     * @return long[] - 비트 위치 목록
+     */
+    long[] offsets(String value) {
+        long hash = hash64(value.getBytes(StandardCharsets.UTF_8));
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+
+        long[] offsets = new long[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            long combined = hash1 + (long) (i + 1) * hash2;
+            offsets[i] = (combined & Long.MAX_VALUE) % bitSize;
+        }
+        return offsets;
+    }
+
+    // 필터 비트 바로 뒤의 비트를 준비 완료 표시로 사용
+    private long readyOffset() {
+        return bitSize;
+    }
+
+    long getBitSize() {
+        return bitSize;
+    }
+
+    int getHashCount() {
+        return hashCount;
+    }
+
+    // FNV-1a 해시 후 비트를 고르게 섞음 (SplitMix64 finalizer)
+    private static long hash64(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= (hash >>> 33);
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= (hash >>> 33);
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= (hash >>> 33);
+        return hash;
+    }
+
+    // m = -n * ln(p) / (ln 2)^2
+    private static long optimalBitSize(long expectedInsertions, double falsePositiveRate) {
+        return Math.max(64, (long) (-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+    }
+
+    // k = m / n * ln 2
+    private static int optimalHashCount(long expectedInsertions, long bitSize) {
+        return Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+}
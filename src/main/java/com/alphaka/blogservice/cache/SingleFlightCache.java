@@ -0,0 +1,232 @@
+package com.alphaka.blogservice.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.function.Predicate;
+
+/**
+ * 캐시 미스 시 동일 키에 대한 동시 계산을 하나로 합치는 캐시 데코레이터
+ * - 로컬: 같은 인스턴스 안에서 동일 키를 요청한 스레드들은 하나의 계산 결과를 공유
+ * - 분산(선택): Redis 락을 획득한 인스턴스만 계산하고, 나머지 인스턴스는 캐시가 채워지기를 대기
+ * '@Cacheable(sync = true)'로 선언된 메서드에서만 get(key, valueLoader) 경로를 타므로 합치기가 적용됨
+ */
+@Slf4j
+public class SingleFlightCache implements Cache {
+
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private final Cache delegate;
+    private final DistributedCacheLock distributedLock;
+    private final Predicate<Object> storeCondition;
+    private final Duration waitTimeout;
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate - 실제 값을 저장하는 캐시
+     * @param distributedLock - 인스턴스 간 합치기에 사용할 락 (null 이면 로컬 합치기만 수행)
+     * @param storeCondition - 계산된 값을 캐시에 저장할지 여부
+     * @param waitTimeout - 다른 계산을 기다리는 최대 시간 (초과 시 직접 계산)
+     */
+    public SingleFlightCache(Cache delegate, DistributedCacheLock distributedLock,
+                             Predicate<Object> storeCondition, Duration waitTimeout) {
+        this.delegate = delegate;
+        this.distributedLock = distributedLock;
+        this.storeCondition = storeCondition;
+        this.waitTimeout = waitTimeout;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        return (T) load(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    /**
+     * 동일 키에 대해 진행 중인 계산이 있으면 그 결과를 기다리고, 없으면 직접 계산
+     * @param key - 캐시 키
+     * @param valueLoader - 값 계산 로직
+     * @return Object - 계산된 값
+     */
+    protected Object load(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return awaitFlight(key, existing, valueLoader);
+        }
+
+        try {
+            Object value = loadAcrossInstances(key, valueLoader);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * 값을 계산하고 저장 조건에 맞는 경우에만 캐시에 저장
+     * @param key - 캐시 키
+     * @param valueLoader - 값 계산 로직
+     * @return Object - 계산된 값
+     */
+    protected Object loadAndStore(Object key, Callable<?> valueLoader) {
+        long startedAt = System.nanoTime();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        long computeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        if (value != null && storeCondition.test(value)) {
+            store(key, value, computeMillis);
+        }
+        return value;
+    }
+
+    /**
+     * 계산된 값을 캐시에 저장
+     * @param key - 캐시 키
+     * @param value - 계산된 값
+     * @param computeMillis - 값을 계산하는 데 걸린 시간
+     */
+    protected void store(Object key, Object value, long computeMillis) {
+        put(key, value);
+    }
+
+    protected Cache getDelegate() {
+        return delegate;
+    }
+
+    protected DistributedCacheLock getDistributedLock() {
+        return distributedLock;
+    }
+
+    // 로컬에서 진행 중인 계산 결과 대기
+    private Object awaitFlight(Object key, CompletableFuture<Object> flight, Callable<?> valueLoader) {
+        try {
+            return flight.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        } catch (TimeoutException e) {
+            log.warn("캐시 계산 대기 시간 초과, 직접 계산합니다 - Cache: {}, Key: {}", getName(), key);
+            return loadAndStore(key, valueLoader);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    // 분산 락이 설정된 경우 락을 획득한 인스턴스만 계산하고, 나머지는 캐시가 채워지기를 대기
+    private Object loadAcrossInstances(Object key, Callable<?> valueLoader) {
+        if (distributedLock == null) {
+            return loadAndStore(key, valueLoader);
+        }
+
+        String lockName = getName() + "::" + key;
+        String token;
+        try {
+            token = distributedLock.tryLock(lockName);
+        } catch (RuntimeException e) {
+            log.warn("캐시 분산 락 획득 실패, 로컬에서 계산합니다 - Cache: {}, Key: {}", getName(), key, e);
+            return loadAndStore(key, valueLoader);
+        }
+
+        if (token != null) {
+            try {
+                // 락을 획득하는 사이 다른 인스턴스가 값을 채웠을 수 있음
+                ValueWrapper cached = get(key);
+                if (cached != null) {
+                    return cached.get();
+                }
+                return loadAndStore(key, valueLoader);
+            } finally {
+                distributedLock.unlock(lockName, token);
+            }
+        }
+
+        // 다른 인스턴스가 계산 중인 경우, 캐시가 채워지거나 락이 풀릴 때까지 대기
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            ValueWrapper cached = get(key);
+            if (cached != null) {
+                return cached.get();
+            }
+            // 계산이 끝났지만 저장되지 않은 경우 (빈 결과, 예외 등) 더 기다리지 않음
+            if (!distributedLock.isLocked(lockName)) {
+                break;
+            }
+        }
+        return loadAndStore(key, valueLoader);
+    }
+}
@@ -0,0 +1,47 @@
+package com.alphaka.blogservice.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * 실제 CacheManager 가 생성한 캐시를 SingleFlightCache 로 감싸서 제공하는 CacheManager
+ */
+public class SingleFlightCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Function<Cache, Cache> decorator;
+    private final ConcurrentMap<String, Cache> decoratedCaches = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate - 실제 캐시를 생성하는 CacheManager
+     * @param decorator - 캐시를 감싸는 함수
+     */
+    public SingleFlightCacheManager(CacheManager delegate, Function<Cache, Cache> decorator) {
+        this.delegate = delegate;
+        this.decorator = decorator;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = decoratedCaches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return decoratedCaches.computeIfAbsent(name, key -> decorator.apply(target));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,166 @@
+package com.alphaka.blogservice.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * 소프트 만료를 가진 캐시 데코레이터 (Stale-While-Revalidate)
+ * - 소프트 만료 이후 조회 시 이전 값을 즉시 반환하고, 키당 한 번만 비동기로 갱신
+ * - XFetch 방식으로 계산 비용이 크고 만료가 가까운 키는 만료 전에 확률적으로 미리 갱신
+ * 하드 만료(Redis TTL)는 소프트 만료보다 길게 설정해야 이전 값을 반환할 수 있음
+ */
+@Slf4j
+public class StaleWhileRevalidateCache extends SingleFlightCache {
+
+    private final Duration softTtl;
+    private final double beta;
+    private final Executor refreshExecutor;
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param delegate - 실제 값을 저장하는 캐시
+     * @param distributedLock - 인스턴스 간 합치기와 갱신 조율에 사용할 락 (null 이면 로컬에서만 조율)
+     * @param storeCondition - 계산된 값을 캐시에 저장할지 여부
+     * @param waitTimeout - 다른 계산을 기다리는 최대 시간
+     * @param softTtl - 소프트 만료 시간
+     * @param beta - 조기 갱신 가중치 (클수록 일찍 갱신, 1.0 권장)
+     * @param refreshExecutor - 비동기 갱신을 수행할 Executor
+     */
+    public StaleWhileRevalidateCache(Cache delegate, DistributedCacheLock distributedLock,
+                                     Predicate<Object> storeCondition, Duration waitTimeout,
+                                     Duration softTtl, double beta, Executor refreshExecutor) {
+        super(delegate, distributedLock, storeCondition, waitTimeout);
+        this.softTtl = softTtl;
+        this.beta = beta;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = getDelegate().get(key);
+        if (wrapper != null && wrapper.get() instanceof CacheEntry<?> entry) {
+            return new SimpleValueWrapper(entry.getValue());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = (wrapper != null ? wrapper.get() : null);
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = getDelegate().get(key);
+        if (wrapper == null) {
+            return (T) load(key, valueLoader);
+        }
+
+        // 이전 방식으로 저장된 값은 그대로 반환
+        if (!(wrapper.get() instanceof CacheEntry<?> entry)) {
+            return (T) wrapper.get();
+        }
+
+        if (shouldRefresh(entry)) {
+            refreshAsync(key, valueLoader);
+        }
+        return (T) entry.getValue();
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        store(key, value, 0);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = getDelegate().putIfAbsent(key, newEntry(value, 0));
+        if (existing != null && existing.get() instanceof CacheEntry<?> entry) {
+            return new SimpleValueWrapper(entry.getValue());
+        }
+        return existing;
+    }
+
+    @Override
+    protected void store(Object key, Object value, long computeMillis) {
+        getDelegate().put(key, newEntry(value, computeMillis));
+    }
+
+    /**
+     * 갱신 여부 판단 (XFetch)
+     * 소프트 만료가 지났거나, 계산 시간 * beta * -ln(random) 만큼 앞당긴 시각이 소프트 만료를 넘으면 갱신
+     * @param entry - 캐시 엔트리
+     * @return boolean - 갱신이 필요하면 true
+     */
+    boolean shouldRefresh(CacheEntry<?> entry) {
+        long now = System.currentTimeMillis();
+        if (now >= entry.getSoftExpireAt()) {
+            return true;
+        }
+        double gap = entry.getComputeMillis() * beta * -Math.log(ThreadLocalRandom.current().nextDouble());
+        return now + gap >= entry.getSoftExpireAt();
+    }
+
+    // 키당 하나의 비동기 갱신만 실행
+    private void refreshAsync(Object key, Callable<?> valueLoader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh(key, valueLoader);
+                } catch (RuntimeException e) {
+                    log.warn("캐시 비동기 갱신 실패 - Cache: {}, Key: {}", getName(), key, e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            log.debug("캐시 갱신 작업이 거절되었습니다 - Cache: {}, Key: {}", getName(), key);
+        }
+    }
+
+    // 인스턴스 간에는 갱신 락을 획득한 인스턴스만 갱신
+    private void refresh(Object key, Callable<?> valueLoader) {
+        DistributedCacheLock distributedLock = getDistributedLock();
+        if (distributedLock == null) {
+            loadAndStore(key, valueLoader);
+            return;
+        }
+
+        String lockName = getName() + "::refresh::" + key;
+        String token = distributedLock.tryLock(lockName);
+        if (token == null) {
+            return; // 다른 인스턴스가 갱신 중
+        }
+        try {
+            loadAndStore(key, valueLoader);
+        } finally {
+            distributedLock.unlock(lockName, token);
+        }
+    }
+
+    private CacheEntry<Object> newEntry(Object value, long computeMillis) {
+        return new CacheEntry<>(value, System.currentTimeMillis() + softTtl.toMillis(), computeMillis);
+    }
+}
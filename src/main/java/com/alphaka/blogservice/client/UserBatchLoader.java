@@ -0,0 +1,194 @@
+package com.alphaka.blogservice.client;
+
+import com.alphaka.blogservice.client.feign.UserClient;
+import com.alphaka.blogservice.common.dto.UserDTO;
+import com.alphaka.blogservice.common.response.ApiResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * user-service 사용자 조회를 모아서 처리하는 로더 (DataLoader 방식)
+ * - 짧은 시간(window) 동안 모든 요청에서 들어온 사용자 ID 조회를 모아 getUsersById 한 번으로 조회
+ * - 같은 사용자 ID 를 동시에 요청하면 하나의 조회 결과를 공유
+ * - 조회한 사용자는 크기와 만료 시간이 제한된 로컬 캐시에 보관
+ * user-service 호출 수가 페이지 조회 수가 아닌 작성자 수에 비례하도록 하기 위함
+ * 모으는 시간은 공용 스케줄러(SchedulingConfig)로 재고, 조회는 userLoaderExecutor(ExecutorConfig)에서 실행
+ */
+@Slf4j
+@Component
+public class UserBatchLoader {
+
+    private final UserClient userClient;
+    private final Cache<Long, UserDTO> userCache;
+    private final long batchWindowMillis;
+    private final int maxBatchSize;
+    private final Duration loadTimeout;
+
+    private final TaskScheduler taskScheduler;
+    private final TaskExecutor dispatcher;
+
+    private final Object lock = new Object();
+    private Map<Long, CompletableFuture<UserDTO>> pending = new HashMap<>();
+    private ScheduledFuture<?> scheduledDispatch;
+
+    public UserBatchLoader(UserClient userClient,
+                           TaskScheduler taskScheduler,
+                           TaskExecutor userLoaderExecutor,
+                           @Value("${blog.user-loader.batch-window-ms:5}") long batchWindowMillis,
+                           @Value("${blog.user-loader.max-batch-size:100}") int maxBatchSize,
+                           @Value("${blog.user-loader.timeout-ms:3000}") long loadTimeoutMillis,
+                           @Value("${blog.user-loader.cache.maximum-size:10000}") long cacheMaximumSize,
+                           @Value("${blog.user-loader.cache.ttl-ms:60000}") long cacheTtlMillis) {
+        this.userClient = userClient;
+        this.taskScheduler = taskScheduler;
+        this.dispatcher = userLoaderExecutor;
+        this.batchWindowMillis = batchWindowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.loadTimeout = Duration.ofMillis(loadTimeoutMillis);
+        this.userCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(Duration.ofMillis(cacheTtlMillis))
+                .build();
+    }
+
+    /**
+     * 사용자 한 명 조회
+     * @param userId - 사용자 ID
+     * @return UserDTO - 사용자 정보 (존재하지 않으면 null)
+     */
+    public UserDTO getUser(Long userId) {
+        return getUsers(List.of(userId)).get(userId);
+    }
+
+    /**
+     * 여러 사용자 조회
+     * @param userIds - 사용자 ID 목록
+     * @return Map<Long, UserDTO> - 사용자 ID 별 사용자 정보 (존재하지 않는 사용자는 제외)
+     */
+    public Map<Long, UserDTO> getUsers(Collection<Long> userIds) {
+        Map<Long, UserDTO> result = new HashMap<>();
+        Map<Long, CompletableFuture<UserDTO>> futures = new HashMap<>();
+
+        for (Long userId : new LinkedHashSet<>(userIds)) {
+            UserDTO cached = userCache.getIfPresent(userId);
+            if (cached != null) {
+                result.put(userId, cached);
+            } else {
+                futures.put(userId, load(userId));
+            }
+        }
+
+        if (futures.isEmpty()) {
+            return result;
+        }
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                    .get(loadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("사용자 정보 조회에 실패했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("사용자 정보 조회 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("사용자 정보 조회가 중단되었습니다.", e);
+        }
+
+        futures.forEach((userId, future) -> {
+            UserDTO user = future.join();
+            if (user != null) {
+                result.put(userId, user);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 사용자 조회 예약
+     * 같은 ID 가 이미 대기 중이면 그 결과를 공유하고, 대기 목록이 가득 차면 바로 조회
+     * @param userId - 사용자 ID
+     * @return CompletableFuture<UserDTO> - 조회 결과
+     */
+    public CompletableFuture<UserDTO> load(Long userId) {
+        UserDTO cached = userCache.getIfPresent(userId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        synchronized (lock) {
+            CompletableFuture<UserDTO> future = pending.computeIfAbsent(userId, id -> new CompletableFuture<>());
+            if (pending.size() >= maxBatchSize) {
+                dispatchPending();
+            } else if (scheduledDispatch == null) {
+                scheduledDispatch = taskScheduler.schedule(this::dispatchScheduled,
+                        Instant.now().plusMillis(batchWindowMillis));
+            }
+            return future;
+        }
+    }
+
+    /**
+     * 캐시된 사용자 정보 삭제 (사용자 정보 변경 시)
+     * @param userId - 사용자 ID
+     */
+    public void evict(Long userId) {
+        userCache.invalidate(userId);
+    }
+
+    private void dispatchScheduled() {
+        synchronized (lock) {
+            dispatchPending();
+        }
+    }
+
+    // lock 을 잡은 상태에서 호출
+    private void dispatchPending() {
+        if (scheduledDispatch != null) {
+            scheduledDispatch.cancel(false);
+            scheduledDispatch = null;
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, CompletableFuture<UserDTO>> batch = pending;
+        pending = new HashMap<>();
+        try {
+            dispatcher.execute(() -> fetch(batch));
+        } catch (RejectedExecutionException e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    // 모인 사용자 ID 를 한 번에 조회하고 각 요청에 결과를 전달
+    private void fetch(Map<Long, CompletableFuture<UserDTO>> batch) {
+        try {
+            log.debug("사용자 일괄 조회 - Count: {}", batch.size());
+            ApiResponse<List<UserDTO>> response = userClient.getUsersById(new HashSet<>(batch.keySet()));
+            List<UserDTO> users = (response != null && response.getData() != null) ? response.getData() : List.of();
+
+            Map<Long, UserDTO> userMap = new HashMap<>();
+            for (UserDTO user : users) {
+                userMap.put(user.getUserId(), user);
+                userCache.put(user.getUserId(), user);
+            }
+            batch.forEach((userId, future) -> future.complete(userMap.get(userId)));
+        } catch (RuntimeException e) {
+            log.warn("사용자 일괄 조회 실패 - Count: {}", batch.size(), e);
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+}
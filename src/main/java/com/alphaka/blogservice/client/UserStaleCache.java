@@ -0,0 +1,89 @@
+package com.alphaka.blogservice.client;
+
+import com.alphaka.blogservice.common.dto.UserDTO;
+import com.alphaka.blogservice.common.response.ApiResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * user-service 에서 마지막으로 받은 사용자 정보 보관
+ * user-service 장애 시 fallback 에서 오래된(stale) 정보라도 응답하기 위해 사용
+ * 정상 조회에는 사용하지 않으므로 만료 시간을 길게 둠
+ */
+@Component
+public class UserStaleCache {
+
+    private final Cache<Long, UserDTO> usersById;
+    private final Cache<String, Long> userIdsByNickname;
+
+    public UserStaleCache(@Value("${blog.user-client.stale-cache.maximum-size:50000}") long maximumSize,
+                          @Value("${blog.user-client.stale-cache.ttl-ms:86400000}") long ttlMillis) {
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .build();
+        this.userIdsByNickname = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .build();
+    }
+
+    /**
+     * user-service 응답에 포함된 사용자 정보 기록
+     * @param decoded - 디코딩된 응답
+     */
+    public void record(Object decoded) {
+        if (!(decoded instanceof ApiResponse<?> response)) {
+            return;
+        }
+        if (response.getData() instanceof UserDTO user) {
+            put(user);
+        } else if (response.getData() instanceof Collection<?> users) {
+            for (Object user : users) {
+                if (user instanceof UserDTO userDTO) {
+                    put(userDTO);
+                }
+            }
+        }
+    }
+
+    public void put(UserDTO user) {
+        if (user == null || user.getUserId() == null) {
+            return;
+        }
+        usersById.put(user.getUserId(), user);
+        if (user.getNickname() != null) {
+            userIdsByNickname.put(user.getNickname(), user.getUserId());
+        }
+    }
+
+    public UserDTO getById(Long userId) {
+        return usersById.getIfPresent(userId);
+    }
+
+    public UserDTO getByNickname(String nickname) {
+        Long userId = userIdsByNickname.getIfPresent(nickname);
+        if (userId == null) {
+            return null;
+        }
+        UserDTO user = usersById.getIfPresent(userId);
+        // 닉네임이 변경된 경우 이전 닉네임으로는 응답하지 않음
+        return (user != null && nickname.equals(user.getNickname())) ? user : null;
+    }
+
+    /**
+     * 여러 사용자 조회
+     * @param userIds - 사용자 ID 목록
+     * @return List<UserDTO> - 보관 중인 사용자 정보 (없는 사용자는 제외)
+     */
+    public List<UserDTO> getAllById(Collection<Long> userIds) {
+        return new ArrayList<>(usersById.getAllPresent(userIds).values());
+    }
+}
@@ -0,0 +1,124 @@
+package com.alphaka.blogservice.client.feign;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 커넥션 대기 시간과 연결 시간을 측정하는 커넥션 매니저
+ * - lease: 풀에서 커넥션을 얻기까지 기다린 시간 (풀이 부족하면 길어짐)
+ * - connect: 새 커넥션을 맺는 데 걸린 시간 (재사용 커넥션은 측정되지 않음)
+ * Feign 은 요청마다 RequestConfig 를 새로 만들어 커넥션 대기 시간 설정이 사라지므로, 대기 시간 상한도 여기서 적용
+ */
+public class InstrumentedConnectionManager implements HttpClientConnectionManager {
+
+    static final String LEASE_METRIC = "blog.feign.http_client.lease";
+    static final String CONNECT_METRIC = "blog.feign.http_client.connect";
+
+    private final HttpClientConnectionManager delegate;
+    private final Timeout maxLeaseTimeout;
+    private final Timer leaseSuccess;
+    private final Timer leaseTimeout;
+    private final Timer connectSuccess;
+    private final Timer connectFailure;
+
+    /**
+     * @param delegate - 실제 커넥션 매니저
+     * @param maxLeaseTimeout - 풀에서 커넥션을 기다리는 최대 시간
+     * @param meterRegistry - 메트릭 레지스트리
+     * @param name - 메트릭 태그(client)
+     */
+    public InstrumentedConnectionManager(HttpClientConnectionManager delegate, Timeout maxLeaseTimeout,
+                                         MeterRegistry meterRegistry, String name) {
+        this.delegate = delegate;
+        this.maxLeaseTimeout = maxLeaseTimeout;
+        this.leaseSuccess = timer(meterRegistry, LEASE_METRIC, name, "success");
+        this.leaseTimeout = timer(meterRegistry, LEASE_METRIC, name, "timeout");
+        this.connectSuccess = timer(meterRegistry, CONNECT_METRIC, name, "success");
+        this.connectFailure = timer(meterRegistry, CONNECT_METRIC, name, "failure");
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest leaseRequest = delegate.lease(id, route, requestTimeout, state);
+        return new LeaseRequest() {
+            @Override
+            public ConnectionEndpoint get(Timeout timeout) throws InterruptedException, ExecutionException, TimeoutException {
+                long start = System.nanoTime();
+                try {
+                    ConnectionEndpoint endpoint = leaseRequest.get(capped(timeout));
+                    leaseSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    return endpoint;
+                } catch (TimeoutException e) {
+                    leaseTimeout.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    throw e;
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return leaseRequest.cancel();
+            }
+        };
+    }
+
+    @Override
+    public void release(ConnectionEndpoint endpoint, Object newState, TimeValue validDuration) {
+        delegate.release(endpoint, newState, validDuration);
+    }
+
+    @Override
+    public void connect(ConnectionEndpoint endpoint, TimeValue connectTimeout, HttpContext context) throws IOException {
+        long start = System.nanoTime();
+        try {
+            delegate.connect(endpoint, connectTimeout, context);
+            connectSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } catch (IOException e) {
+            connectFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    @Override
+    public void upgrade(ConnectionEndpoint endpoint, HttpContext context) throws IOException {
+        delegate.upgrade(endpoint, context);
+    }
+
+    @Override
+    public void close(CloseMode closeMode) {
+        delegate.close(closeMode);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    // 설정되지 않았거나(0) 상한보다 긴 대기 시간은 상한으로 제한
+    private Timeout capped(Timeout timeout) {
+        if (timeout == null || !timeout.isPositive() || timeout.compareTo(maxLeaseTimeout) > 0) {
+            return maxLeaseTimeout;
+        }
+        return timeout;
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String metric, String name, String result) {
+        return Timer.builder(metric)
+                .tag("client", name)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -13,7 +13,7 @@ import java.util.Set;
 /**
  * User-Service와 통신하기 위한 Feign Client
  */
-@FeignClient(name = "user-service", fallback = UserClientFallback.class, configuration = FeignConfig.class)
+@FeignClient(name = "user-service", fallbackFactory = UserClientFallbackFactory.class, configuration = FeignConfig.class)
 public interface UserClient {
 
     /**
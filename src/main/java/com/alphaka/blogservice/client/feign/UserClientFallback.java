@@ -1,48 +1,101 @@
 package com.alphaka.blogservice.client.feign;
 
+import com.alphaka.blogservice.client.UserStaleCache;
 import com.alphaka.blogservice.common.dto.UserDTO;
 import com.alphaka.blogservice.common.response.ApiResponse;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpStatus;
 import org.slf4j.MDC;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeoutException;
 
 /**
  * UserClient의 Fallback 클래스
- * User-Service와 통신이 불가능할 때 호출되어 대체 기능을 수행
+ * User-Service와 통신이 불가능할 때 호출되어 마지막으로 받은 사용자 정보(stale)로 응답
+ * 보관 중인 정보가 없으면 data 가 null 인 응답을 반환
  */
 @Slf4j
 public class UserClientFallback implements UserClient {
 
+    static final String METRIC_NAME = "blog.user_client.fallback";
+
+    private final Throwable cause;
+    private final UserStaleCache userStaleCache;
+    private final MeterRegistry meterRegistry;
+
+    public UserClientFallback(Throwable cause, UserStaleCache userStaleCache, MeterRegistry meterRegistry) {
+        this.cause = cause;
+        this.userStaleCache = userStaleCache;
+        this.meterRegistry = meterRegistry;
+    }
+
     @Override
     public ApiResponse<UserDTO> findUserByNickname(String nickname) {
-        log.error("User-Service 통신 실패 | nickname: {} | traceId: {}", nickname, MDC.get("traceId"));
-        return new ApiResponse<>(
-                HttpStatus.SC_SERVICE_UNAVAILABLE,
-                "사용자 정보를 불러올 수 없습니다. 잠시 후 다시 시도해주세요",
-                null
-        );
+        UserDTO user = userStaleCache.getByNickname(nickname);
+        record("findUserByNickname", user != null);
+        if (user == null) {
+            log.error("User-Service 통신 실패 | nickname: {} | reason: {} | traceId: {}", nickname, reason(), MDC.get("traceId"));
+            return unavailable();
+        }
+        log.warn("User-Service 통신 실패, 이전 사용자 정보로 응답 | nickname: {} | reason: {}", nickname, reason());
+        return new ApiResponse<>(user);
     }
 
     @Override
     public ApiResponse<UserDTO> findUserById(Long id) {
-        log.error("User-Service 통신 실패 | id: {} | traceId: {}", id, MDC.get("traceId"));
-        return new ApiResponse<>(
-                HttpStatus.SC_SERVICE_UNAVAILABLE,
-                "사용자 정보를 불러올 수 없습니다. 잠시 후 다시 시도해주세요",
-                null
-        );
+        UserDTO user = userStaleCache.getById(id);
+        record("findUserById", user != null);
+        if (user == null) {
+            log.error("User-Service 통신 실패 | id: {} | reason: {} | traceId: {}", id, reason(), MDC.get("traceId"));
+            return unavailable();
+        }
+        log.warn("User-Service 통신 실패, 이전 사용자 정보로 응답 | id: {} | reason: {}", id, reason());
+        return new ApiResponse<>(user);
     }
 
     @Override
     public ApiResponse<List<UserDTO>> getUsersById(Set<Long> userIds) {
-        log.error("User-Service 통신 실패 | userIds: {} | traceId: {}", userIds, MDC.get("traceId"));
+        List<UserDTO> users = userStaleCache.getAllById(userIds);
+        record("getUsersById", !users.isEmpty());
+        if (users.isEmpty()) {
+            log.error("User-Service 통신 실패 | userIds: {} | reason: {} | traceId: {}", userIds, reason(), MDC.get("traceId"));
+            return unavailable();
+        }
+        log.warn("User-Service 통신 실패, 이전 사용자 정보로 응답 | Count: {}/{} | reason: {}", users.size(), userIds.size(), reason());
+        return new ApiResponse<>(users);
+    }
+
+    private <T> ApiResponse<T> unavailable() {
         return new ApiResponse<>(
                 HttpStatus.SC_SERVICE_UNAVAILABLE,
                 "사용자 정보를 불러올 수 없습니다. 잠시 후 다시 시도해주세요",
                 null
         );
     }
+
+    private void record(String method, boolean served) {
+        meterRegistry.counter(METRIC_NAME,
+                "method", method,
+                "reason", reason(),
+                "result", served ? "stale" : "miss").increment();
+    }
+
+    // fallback 이 호출된 원인 (메트릭 태그)
+    private String reason() {
+        if (cause instanceof CallNotPermittedException) {
+            return "circuit_open";
+        }
+        if (cause instanceof BulkheadFullException) {
+            return "bulkhead_full";
+        }
+        if (cause instanceof TimeoutException) {
+            return "timeout";
+        }
+        return "error";
+    }
 }
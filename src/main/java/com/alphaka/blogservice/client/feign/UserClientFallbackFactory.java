@@ -0,0 +1,42 @@
+package com.alphaka.blogservice.client.feign;
+
+import com.alphaka.blogservice.client.UserStaleCache;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * UserClient 호출 실패 시 Fallback 생성
+ * 4xx 응답은 user-service 장애가 아니므로 fallback 으로 감추지 않고 그대로 전달 (예: 존재하지 않는 닉네임)
+ */
+@Component
+@RequiredArgsConstructor
+public class UserClientFallbackFactory implements FallbackFactory<UserClient> {
+
+    private final UserStaleCache userStaleCache;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public UserClient create(Throwable cause) {
+        Throwable actual = unwrap(cause);
+        if (actual instanceof FeignException.FeignClientException clientError) {
+            throw clientError;
+        }
+        return new UserClientFallback(actual, userStaleCache, meterRegistry);
+    }
+
+    // 별도 스레드에서 실행된 경우 감싸진 예외를 꺼냄
+    private Throwable unwrap(Throwable cause) {
+        Throwable current = cause;
+        while ((current instanceof ExecutionException || current instanceof CompletionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+}
@@ -0,0 +1,58 @@
+package com.alphaka.blogservice.client.hedging;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 원 요청과 헤지 요청을 보낼 인스턴스 선택
+ * - 원 요청은 로드밸런서가 고른 인스턴스
+ * - 헤지 요청은 원 요청 인스턴스를 뺀 나머지 중 무작위 (느린 인스턴스에 다시 보내지 않도록)
+ */
+public class HedgeInstanceChooser {
+
+    private final LoadBalancerClient loadBalancerClient;
+    private final DiscoveryClient discoveryClient;
+
+    public HedgeInstanceChooser(LoadBalancerClient loadBalancerClient, DiscoveryClient discoveryClient) {
+        this.loadBalancerClient = loadBalancerClient;
+        this.discoveryClient = discoveryClient;
+    }
+
+    /**
+     * 원 요청 인스턴스 선택
+     * @param serviceId - 서비스 ID
+     * @return ServiceInstance - 인스턴스 (없으면 null)
+     */
+    public ServiceInstance choose(String serviceId) {
+        return loadBalancerClient.choose(serviceId);
+    }
+
+    /**
+     * 원 요청 인스턴스를 제외한 헤지 요청 인스턴스 선택
+     * @param serviceId - 서비스 ID
+     * @param excludedInstanceId - 원 요청 인스턴스 ID (instanceId 참고)
+     * @return ServiceInstance - 인스턴스 (다른 인스턴스가 없으면 null)
+     */
+    public ServiceInstance chooseExcluding(String serviceId, String excludedInstanceId) {
+        List<ServiceInstance> candidates = discoveryClient.getInstances(serviceId).stream()
+                .filter(instance -> !instanceId(instance).equals(excludedInstanceId))
+                .toList();
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        return candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+    }
+
+    /**
+     * 인스턴스 식별자 (디스커버리가 ID 를 주지 않으면 호스트와 포트)
+     * @param instance - 인스턴스
+     * @return String - 인스턴스 ID
+     */
+    public static String instanceId(ServiceInstance instance) {
+        return instance.getInstanceId() != null ? instance.getInstanceId() : instance.getHost() + ":" + instance.getPort();
+    }
+}
@@ -0,0 +1,36 @@
+package com.alphaka.blogservice.client.hedging;
+
+/**
+ * 헤징 예산 (토큰 버킷)
+ * 요청마다 ratio 만큼 토큰이 쌓이고 헤지 요청 하나에 토큰 하나를 사용
+ * 장애로 모든 요청이 느려져도 헤지 요청은 전체 요청의 ratio 비율을 넘지 못함
+ */
+class HedgingBudget {
+
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+
+    /**
+     * @param ratio - 요청 대비 허용 헤지 비율 (예: 0.1 이면 요청 10건당 헤지 1건)
+     * @param maxTokens - 한 번에 사용할 수 있는 최대 토큰 수
+     */
+    HedgingBudget(double ratio, double maxTokens) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+    }
+
+    // 원 요청마다 호출
+    synchronized void onRequest() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    // 헤지 요청을 보낼 수 있으면 토큰을 사용하고 true
+    synchronized boolean tryAcquire() {
+        if (tokens < 1.0) {
+            return false;
+        }
+        tokens -= 1.0;
+        return true;
+    }
+}
@@ -0,0 +1,269 @@
+package com.alphaka.blogservice.client.hedging;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerUriTools;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.function.BiConsumer;
+
+/**
+ * 헤지 요청을 보내는 Feign Client
+ * - 멱등한 GET 요청이 최근 응답 시간의 백분위수(delay) 안에 끝나지 않으면 같은 요청을 한 번 더 보내고 먼저 성공한 응답을 사용
+ * - 인스턴스를 직접 골라 로드밸런서 아래의 Client 로 보내며, 헤지 요청은 원 요청과 다른 인스턴스로 보냄 (다른 인스턴스가 없으면 헤징하지 않음)
+ * - 2xx, 4xx 응답만 성공으로 보고, 먼저 끝난 5xx 응답은 다른 요청을 기다림 (둘 다 실패하면 나중에 끝난 결과 사용)
+ * - 헤지 요청 수는 HedgingBudget 으로 제한하여 장애 시 부하가 커지지 않도록 함
+ * - 늦게 끝난 응답은 사용하지 않고 닫음 (진행 중인 HTTP 호출은 중단하지 않음)
+ */
+@Slf4j
+public class HedgingClient implements Client {
+
+    static final String METRIC_NAME = "blog.user_client.hedging";
+
+    private final Client delegate;
+    private final Client directClient;
+    private final HedgeInstanceChooser instanceChooser;
+    private final ExecutorService executor;
+    private final Set<String> targets;
+    private final LatencyTracker latencyTracker;
+    private final HedgingBudget budget;
+    private final long initialDelayMillis;
+    private final long minDelayMillis;
+    private final long maxDelayMillis;
+
+    private final Counter hedgedCounter;
+    private final Counter hedgeWonCounter;
+    private final Counter budgetExhaustedCounter;
+
+    /**
+     * @param delegate - 로드밸런서 Client (헤징하지 않는 요청과 인스턴스를 고르지 못한 요청에 사용)
+     * @param directClient - 로드밸런서 아래의 Client (선택한 인스턴스로 바로 요청)
+     * @param instanceChooser - 원 요청, 헤지 요청 인스턴스 선택
+     * @param executor - 요청 실행용 Executor
+     * @param meterRegistry - 헤징 지표 기록
+     * @param properties - 헤징 설정
+     */
+    public HedgingClient(Client delegate, Client directClient, HedgeInstanceChooser instanceChooser,
+                         ExecutorService executor, MeterRegistry meterRegistry, Properties properties) {
+        this.delegate = delegate;
+        this.directClient = directClient;
+        this.instanceChooser = instanceChooser;
+        this.executor = executor;
+        this.targets = properties.targets();
+        this.latencyTracker = new LatencyTracker(properties.windowSize(), properties.delayPercentile(), properties.minSamples());
+        this.budget = new HedgingBudget(properties.budgetRatio(), properties.budgetMaxTokens());
+        this.initialDelayMillis = properties.initialDelayMillis();
+        this.minDelayMillis = properties.minDelayMillis();
+        this.maxDelayMillis = properties.maxDelayMillis();
+        this.hedgedCounter = meterRegistry.counter(METRIC_NAME, "result", "hedged");
+        this.hedgeWonCounter = meterRegistry.counter(METRIC_NAME, "result", "hedge_won");
+        this.budgetExhaustedCounter = meterRegistry.counter(METRIC_NAME, "result", "budget_exhausted");
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        if (!isHedgeable(request)) {
+            return delegate.execute(request, options);
+        }
+
+        String serviceId = URI.create(request.url()).getHost();
+        ServiceInstance primaryInstance = instanceChooser.choose(serviceId);
+        if (primaryInstance == null) {
+            // 고를 인스턴스가 없으면 로드밸런서 Client 의 처리(503 응답)를 그대로 사용
+            return delegate.execute(request, options);
+        }
+
+        budget.onRequest();
+        CompletableFuture<Response> primary;
+        try {
+            primary = submit(routed(request, primaryInstance), options, true);
+        } catch (RejectedExecutionException e) {
+            return delegate.execute(request, options);
+        }
+
+        try {
+            return primary.get(hedgeDelayMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 헤지 요청 판단으로 이동
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("user-service 호출이 중단되었습니다.");
+        }
+
+        // 같은 인스턴스에 다시 보내면 지연이 줄지 않으므로 다른 인스턴스가 없으면 원 요청만 기다림
+        ServiceInstance hedgeInstance = instanceChooser.chooseExcluding(serviceId,
+                HedgeInstanceChooser.instanceId(primaryInstance));
+        if (hedgeInstance == null) {
+            return await(primary);
+        }
+
+        if (!budget.tryAcquire()) {
+            budgetExhaustedCounter.increment();
+            return await(primary);
+        }
+
+        CompletableFuture<Response> hedge;
+        try {
+            hedge = submit(routed(request, hedgeInstance), options, false);
+        } catch (RejectedExecutionException e) {
+            return await(primary);
+        }
+        hedgedCounter.increment();
+        log.debug("헤지 요청 전송 - URL: {}, Instance: {}", request.url(), HedgeInstanceChooser.instanceId(hedgeInstance));
+
+        Response response = await(firstSuccessful(primary, hedge));
+        if (hedge.isDone() && !hedge.isCompletedExceptionally() && hedge.getNow(null) == response) {
+            hedgeWonCounter.increment();
+        }
+        return response;
+    }
+
+    private boolean isHedgeable(Request request) {
+        if (request.httpMethod() != Request.HttpMethod.GET || request.requestTemplate() == null
+                || request.requestTemplate().feignTarget() == null) {
+            return false;
+        }
+        return targets.contains(request.requestTemplate().feignTarget().name());
+    }
+
+    // 원 요청의 응답 시간으로 계산한 백분위수를 최소, 최대 범위로 제한 (응답 수가 부족하면 초기값 사용)
+    long hedgeDelayMillis() {
+        long percentile = latencyTracker.percentile();
+        long delay = percentile < 0 ? initialDelayMillis : percentile;
+        return Math.max(minDelayMillis, Math.min(maxDelayMillis, delay));
+    }
+
+    // 선택한 인스턴스 주소로 요청 URL 변경 (FeignBlockingLoadBalancerClient 와 같은 방식)
+    private Request routed(Request request, ServiceInstance instance) {
+        String url = LoadBalancerUriTools.reconstructURI(instance, URI.create(request.url())).toString();
+        return Request.create(request.httpMethod(), url, request.headers(), request.body(), request.charset(),
+                request.requestTemplate());
+    }
+
+    private CompletableFuture<Response> submit(Request request, Request.Options options, boolean recordLatency) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        long start = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> {
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            try {
+                Response response = directClient.execute(request, options);
+                if (recordLatency) {
+                    latencyTracker.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                }
+                return response;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                MDC.clear();
+            }
+        }, executor);
+    }
+
+    // 먼저 성공한 응답으로 완료
+    private CompletableFuture<Response> firstSuccessful(CompletableFuture<Response> primary, CompletableFuture<Response> hedge) {
+        FirstSuccessful handler = new FirstSuccessful();
+        primary.whenComplete(handler);
+        hedge.whenComplete(handler);
+        return handler.result;
+    }
+
+    private Response await(CompletableFuture<Response> future) throws IOException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("user-service 호출이 중단되었습니다.");
+        }
+    }
+
+    private IOException unwrap(Throwable cause) {
+        Throwable actual = cause instanceof CompletionException && cause.getCause() != null ? cause.getCause() : cause;
+        if (actual instanceof UncheckedIOException unchecked) {
+            return unchecked.getCause();
+        }
+        if (actual instanceof IOException io) {
+            return io;
+        }
+        if (actual instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        return new IOException(actual);
+    }
+
+    /**
+     * 두 요청 중 먼저 끝난 성공 응답(2xx, 4xx)으로 완료
+     * 5xx 응답과 예외는 다른 요청을 기다리고, 둘 다 실패하면 나중에 끝난 결과로 완료
+     * 사용하지 않는 응답은 닫음
+     */
+    private static class FirstSuccessful implements BiConsumer<Response, Throwable> {
+
+        private final CompletableFuture<Response> result = new CompletableFuture<>();
+        private Response failedResponse;
+        private int failures;
+
+        @Override
+        public synchronized void accept(Response response, Throwable error) {
+            if (error == null && response.status() < 500) {
+                if (!result.complete(response)) {
+                    response.close();
+                }
+                return;
+            }
+            if (result.isDone()) {
+                close(response);
+                return;
+            }
+            if (++failures < 2) {
+                failedResponse = response;
+                return;
+            }
+            close(failedResponse);
+            if (error == null) {
+                result.complete(response);
+            } else {
+                result.completeExceptionally(error);
+            }
+        }
+
+        private static void close(Response response) {
+            if (response != null) {
+                response.close();
+            }
+        }
+    }
+
+    /**
+     * 헤징 설정
+     * @param targets - 헤징을 적용할 Feign 클라이언트 이름
+     * @param delayPercentile - 헤지 요청을 보내기까지 기다릴 응답 시간 백분위
+     * @param windowSize - 백분위수 계산에 사용할 최근 응답 수
+     * @param minSamples - 백분위수를 사용하기 위한 최소 응답 수
+     * @param initialDelayMillis - 응답 수가 부족할 때의 대기 시간
+     * @param minDelayMillis - 최소 대기 시간
+     * @param maxDelayMillis - 최대 대기 시간
+     * @param budgetRatio - 요청 대비 허용 헤지 비율
+     * @param budgetMaxTokens - 한 번에 보낼 수 있는 최대 헤지 수
+     */
+    public record Properties(Set<String> targets, double delayPercentile, int windowSize, int minSamples,
+                             long initialDelayMillis, long minDelayMillis, long maxDelayMillis,
+                             double budgetRatio, double budgetMaxTokens) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.alphaka.blogservice.client.hedging;
+
+import java.util.Arrays;
+
+/**
+ * 최근 응답 시간의 백분위수 추적
+ * 최근 N 건을 원형 버퍼에 보관하고, 일정 건수마다 백분위수를 다시 계산
+ */
+class LatencyTracker {
+
+    private static final int RECOMPUTE_INTERVAL = 100;
+
+    private final long[] samples;
+    private final double percentile;
+    private final int minSamples;
+
+    private int index;
+    private int count;
+    private int sinceRecompute;
+    private volatile long cachedPercentile = -1;
+
+    /**
+     * @param windowSize - 보관할 최근 응답 수
+     * @param percentile - 백분위 (예: 95)
+     * @param minSamples - 백분위수를 계산하기 위한 최소 응답 수
+     */
+    LatencyTracker(int windowSize, double percentile, int minSamples) {
+        this.samples = new long[windowSize];
+        this.percentile = percentile;
+        this.minSamples = Math.min(minSamples, windowSize);
+    }
+
+    synchronized void record(long millis) {
+        samples[index] = millis;
+        index = (index + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+        sinceRecompute++;
+
+        if (count >= minSamples && (cachedPercentile < 0 || sinceRecompute >= RECOMPUTE_INTERVAL)) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile / 100.0 * count) - 1;
+            cachedPercentile = sorted[Math.max(0, Math.min(rank, count - 1))];
+            sinceRecompute = 0;
+        }
+    }
+
+    /**
+     * @return long - 백분위 응답 시간 (ms), 응답 수가 부족하면 -1
+     */
+    long percentile() {
+        return cachedPercentile;
+    }
+}
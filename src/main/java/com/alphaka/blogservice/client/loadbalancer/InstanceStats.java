@@ -0,0 +1,59 @@
+package com.alphaka.blogservice.client.loadbalancer;
+
+/**
+ * 인스턴스별 응답 시간(Peak EWMA), 진행 중 요청 수, 연속 실패 수
+ */
+class InstanceStats {
+
+    private double ewmaNanos;
+    private long lastUpdateNanos;
+    private int outstanding;
+    private int consecutiveFailures;
+    private long ejectedUntilNanos;
+
+    InstanceStats(long initialRttNanos, long now) {
+        this.ewmaNanos = initialRttNanos;
+        this.lastUpdateNanos = now;
+    }
+
+    synchronized void start() {
+        outstanding++;
+    }
+
+    synchronized void finish() {
+        outstanding = Math.max(0, outstanding - 1);
+    }
+
+    /**
+     * 응답 시간 반영
+     * 평균보다 느린 응답은 바로 반영하고(peak), 빠른 응답은 경과 시간에 따라 천천히 반영
+     */
+    synchronized void observe(long rttNanos, long now, double decayNanos) {
+        if (rttNanos > ewmaNanos) {
+            ewmaNanos = rttNanos;
+        } else {
+            double weight = Math.exp(-(now - lastUpdateNanos) / decayNanos);
+            ewmaNanos = ewmaNanos * weight + rttNanos * (1 - weight);
+        }
+        lastUpdateNanos = now;
+        consecutiveFailures = 0;
+    }
+
+    // 연속 실패가 기준을 넘으면 일정 시간 동안 선택에서 제외
+    synchronized void failure(long now, int failureThreshold, long ejectionNanos) {
+        consecutiveFailures++;
+        if (consecutiveFailures >= failureThreshold) {
+            ejectedUntilNanos = now + ejectionNanos;
+            consecutiveFailures = 0;
+        }
+    }
+
+    synchronized boolean isEjected(long now) {
+        return now - ejectedUntilNanos < 0;
+    }
+
+    // 진행 중인 요청이 많을수록 비용이 커짐
+    synchronized double cost() {
+        return ewmaNanos * (outstanding + 1);
+    }
+}
@@ -0,0 +1,176 @@
+package com.alphaka.blogservice.client.loadbalancer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.*;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 시간 기반 로드밸런서 (Power of Two Choices + Peak EWMA)
+ * - 무작위로 고른 두 인스턴스 중 비용(EWMA 응답 시간 x (진행 중 요청 수 + 1))이 낮은 인스턴스 선택
+ * - GC 중이거나 과부하인 인스턴스는 응답 시간과 진행 중 요청 수가 늘어 자연스럽게 덜 선택됨
+ * - 연속으로 실패한 인스턴스는 일정 시간 동안 제외 (모두 제외된 경우에는 전체에서 선택)
+ * - LoadBalancerLifecycle 로 요청 시작과 완료를 전달받아 통계를 갱신
+ */
+@Slf4j
+public class PeakEwmaLoadBalancer implements ReactorServiceInstanceLoadBalancer,
+        LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    private final String serviceId;
+    private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+    private final long initialRttNanos;
+    private final double decayNanos;
+    private final int failureThreshold;
+    private final long ejectionNanos;
+
+    private final Map<String, InstanceStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * @param serviceId - 서비스 이름
+     * @param serviceInstanceListSupplierProvider - 인스턴스 목록 제공자
+     * @param initialRttMillis - 처음 보는 인스턴스의 응답 시간 추정값
+     * @param decayMillis - EWMA 감쇠 시간
+     * @param failureThreshold - 제외 기준 연속 실패 수
+     * @param ejectionMillis - 제외 시간
+     */
+    public PeakEwmaLoadBalancer(String serviceId,
+                                ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+                                long initialRttMillis, long decayMillis, int failureThreshold, long ejectionMillis) {
+        this.serviceId = serviceId;
+        this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+        this.initialRttNanos = TimeUnit.MILLISECONDS.toNanos(initialRttMillis);
+        this.decayNanos = TimeUnit.MILLISECONDS.toNanos(decayMillis);
+        this.failureThreshold = failureThreshold;
+        this.ejectionNanos = TimeUnit.MILLISECONDS.toNanos(ejectionMillis);
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = serviceInstanceListSupplierProvider
+                .getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::choose);
+    }
+
+    Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            log.warn("사용 가능한 인스턴스가 없습니다 - Service: {}", serviceId);
+            return new EmptyResponse();
+        }
+        removeStaleStats(instances);
+
+        long now = System.nanoTime();
+        List<ServiceInstance> candidates = instances.stream()
+                .filter(instance -> !statsFor(instance).isEjected(now))
+                .toList();
+        if (candidates.isEmpty()) {
+            candidates = instances;
+        }
+        if (candidates.size() == 1) {
+            return new DefaultResponse(candidates.get(0));
+        }
+
+        // 서로 다른 두 인스턴스를 무작위로 골라 비용이 낮은 쪽 선택
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = candidates.get(first);
+        ServiceInstance b = candidates.get(second);
+        return new DefaultResponse(statsFor(a).cost() <= statsFor(b).cost() ? a : b);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        if (request.getContext() instanceof TimedRequestContext context) {
+            context.setRequestStartTime(System.nanoTime());
+        }
+        if (lbResponse.hasServer()) {
+            statsFor(lbResponse.getServer()).start();
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        ServiceInstance instance = lbResponse.getServer();
+        InstanceStats instanceStats = statsFor(instance);
+        instanceStats.finish();
+
+        if (completionContext.status() == CompletionContext.Status.DISCARD) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (isFailure(completionContext)) {
+            recordFailure(instance, now);
+            return;
+        }
+
+        Object context = completionContext.getLoadBalancerRequest() != null
+                ? completionContext.getLoadBalancerRequest().getContext() : null;
+        if (context instanceof TimedRequestContext timed && timed.getRequestStartTime() > 0) {
+            recordSuccess(instance, now - timed.getRequestStartTime(), now);
+        }
+    }
+
+    void recordSuccess(ServiceInstance instance, long rttNanos, long now) {
+        statsFor(instance).observe(rttNanos, now, decayNanos);
+    }
+
+    void recordFailure(ServiceInstance instance, long now) {
+        statsFor(instance).failure(now, failureThreshold, ejectionNanos);
+        if (statsFor(instance).isEjected(now)) {
+            log.warn("연속 실패로 인스턴스를 일시 제외합니다 - Service: {}, Instance: {}:{}",
+                    serviceId, instance.getHost(), instance.getPort());
+        }
+    }
+
+    // 예외가 발생했거나 5xx 응답이면 실패
+    private boolean isFailure(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        if (completionContext.status() == CompletionContext.Status.FAILED) {
+            return true;
+        }
+        ResponseData response = completionContext.getClientResponse();
+        return response != null && response.getHttpStatus() != null && response.getHttpStatus().is5xxServerError();
+    }
+
+    private InstanceStats statsFor(ServiceInstance instance) {
+        return stats.computeIfAbsent(key(instance), key -> new InstanceStats(initialRttNanos, System.nanoTime()));
+    }
+
+    // 목록에서 사라진 인스턴스의 통계 삭제
+    private void removeStaleStats(List<ServiceInstance> instances) {
+        if (stats.size() <= instances.size()) {
+            return;
+        }
+        Set<String> keys = new HashSet<>();
+        instances.forEach(instance -> keys.add(key(instance)));
+        stats.keySet().retainAll(keys);
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getInstanceId() != null
+                ? instance.getInstanceId()
+                : instance.getHost() + ":" + instance.getPort();
+    }
+}
@@ -26,6 +26,10 @@ public class CommentResponse {
     @JsonProperty("isPublic")
     private boolean isPublic;
 
+    // 삭제된 댓글 (대댓글이 남아 있어 자리만 표시)
+    @JsonProperty("isDeleted")
+    private boolean isDeleted;
+
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime createdAt;
 
@@ -45,4 +49,11 @@ public class CommentResponse {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
+
+    public CommentResponse(Long commentId, Long parentId, Long authorId, String content, Long likeCount,
+                           boolean isLiked, boolean isPublic, LocalDateTime createdAt, LocalDateTime updatedAt,
+                           boolean isDeleted) {
+        this(commentId, parentId, authorId, content, likeCount, isLiked, isPublic, createdAt, updatedAt);
+        this.isDeleted = isDeleted;
+    }
 }
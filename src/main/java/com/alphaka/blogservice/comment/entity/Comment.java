@@ -1,6 +1,7 @@
 package com.alphaka.blogservice.comment.entity;
 
 import com.alphaka.blogservice.common.entity.DeleteBaseEntity;
+import com.alphaka.blogservice.common.id.Tsid;
 import com.alphaka.blogservice.like.entity.Like;
 import com.alphaka.blogservice.post.entity.Post;
 import com.alphaka.blogservice.report.entity.Report;
@@ -12,13 +13,13 @@ import java.util.List;
 
 @Entity
 @Getter
-@Table(name = "comments")
+@Table(name = "comments", indexes = @Index(name = "idx_comments_deleted_at", columnList = "deleted_at"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 public class Comment extends DeleteBaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     private Long id;
 
     @Column(nullable = false)
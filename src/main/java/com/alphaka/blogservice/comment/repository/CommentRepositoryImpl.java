@@ -45,7 +45,8 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
                         isLiked,
                         comment.isPublic,
                         comment.createdAt,
-                        comment.updatedAt
+                        comment.updatedAt,
+                        comment.deletedAt.isNotNull()
                 ))
                 .from(comment)
                 .where(comment.post.id.eq(postId))
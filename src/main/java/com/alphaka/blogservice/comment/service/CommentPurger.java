@@ -0,0 +1,113 @@
+package com.alphaka.blogservice.comment.service;
+
+import com.alphaka.blogservice.shard.ShardContext;
+import com.alphaka.blogservice.shard.ShardMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 삭제된 댓글 정리
+ * - 삭제 표시 후 유예 시간이 지났고 대댓글이 없는 댓글을 좋아요, 신고와 함께 일정 개수씩 삭제
+ * - 대댓글을 먼저 정리하면 부모 댓글이 다음 배치에서 대상이 되므로, 모두 삭제된 대댓글 트리는 아래부터 차례로 정리
+ * - 살아 있는 대댓글이 있는 댓글은 "삭제된 댓글" 자리로 남음
+ * 여러 인스턴스가 동시에 실행해도 같은 행을 지울 뿐이므로 안전
+ * 공용 스케줄러(SchedulingConfig)에서 실행되며, 종료 시 진행 중인 정리가 끝날 때까지 기다림
+ */
+@Slf4j
+@Component
+public class CommentPurger {
+
+    private static final String PURGEABLE_COMMENTS = "SELECT c.id FROM comments c WHERE c.deleted_at < ? "
+            + "AND NOT EXISTS (SELECT 1 FROM comments child WHERE child.parent_id = c.id) LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardMap shardMap;
+
+    @Value("${blog.comment.purge.enabled:true}")
+    private boolean enabled;
+
+    @Value("${blog.comment.purge.grace-period-ms:600000}")
+    private long gracePeriodMillis;
+
+    @Value("${blog.comment.purge.batch-size:500}")
+    private int batchSize;
+
+    @Value("${blog.comment.purge.max-batches:20}")
+    private int maxBatches;
+
+    public CommentPurger(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, ShardMap shardMap) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardMap = shardMap;
+    }
+
+    @Scheduled(initialDelayString = "${blog.comment.purge.interval-ms:60000}",
+            fixedDelayString = "${blog.comment.purge.interval-ms:60000}")
+    public void scheduledPurge() {
+        if (enabled) {
+            purgeAllShards();
+        }
+    }
+
+    /**
+     * 모든 샤드의 삭제된 댓글 정리
+     * @return int - 삭제한 댓글 수
+     */
+    public int purgeAllShards() {
+        int purged = 0;
+        for (String shard : shardMap.shards()) {
+            try {
+                ShardContext.bind(shard);
+                purged += purge(LocalDateTime.now().minus(Duration.ofMillis(gracePeriodMillis)));
+            } catch (RuntimeException e) {
+                log.error("삭제된 댓글 정리 실패 - Shard: {}", shard, e);
+            } finally {
+                ShardContext.clear();
+            }
+        }
+        return purged;
+    }
+
+    /**
+     * 현재 샤드에서 기준 시각 이전에 삭제된 댓글 정리 (배치마다 별도 트랜잭션)
+     * @param deletedBefore - 기준 시각
+     * @return int - 삭제한 댓글 수
+     */
+    int purge(LocalDateTime deletedBefore) {
+        int purged = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer deleted = transactionTemplate.execute(status -> purgeBatch(deletedBefore));
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            purged += deleted;
+        }
+        if (purged > 0) {
+            log.info("삭제된 댓글 정리 완료 - Shard: {}, Purged: {}", ShardContext.current(), purged);
+        }
+        return purged;
+    }
+
+    private int purgeBatch(LocalDateTime deletedBefore) {
+        List<Long> ids = jdbcTemplate.queryForList(PURGEABLE_COMMENTS, Long.class, deletedBefore, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        Object[] args = ids.toArray();
+        jdbcTemplate.update("DELETE FROM reports WHERE comment_id IN (" + placeholders + ")", args);
+        jdbcTemplate.update("DELETE FROM likes WHERE comment_id IN (" + placeholders + ")", args);
+        return jdbcTemplate.update("DELETE FROM comments WHERE id IN (" + placeholders + ")", args);
+    }
+}
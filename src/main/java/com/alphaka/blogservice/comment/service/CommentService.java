@@ -1,6 +1,5 @@
 package com.alphaka.blogservice.comment.service;
 
-import com.alphaka.blogservice.client.feign.UserClient;
 import com.alphaka.blogservice.comment.dto.CommentCreateRequest;
 import com.alphaka.blogservice.comment.dto.CommentResponse;
 import com.alphaka.blogservice.comment.dto.CommentUpdateRequest;
@@ -8,10 +7,16 @@ import com.alphaka.blogservice.comment.entity.Comment;
 import com.alphaka.blogservice.comment.repository.CommentRepository;
 import com.alphaka.blogservice.common.dto.CurrentUser;
 import com.alphaka.blogservice.common.dto.UserDTO;
+import com.alphaka.blogservice.common.event.CommentEvent;
 import com.alphaka.blogservice.exception.custom.*;
-import com.alphaka.blogservice.post.entity.Post;
+import com.alphaka.blogservice.outbox.entity.OutboxEventType;
+import com.alphaka.blogservice.outbox.service.OutboxService;
+import com.alphaka.blogservice.post.dto.PostSummary;
 import com.alphaka.blogservice.post.repository.PostRepository;
+import com.alphaka.blogservice.shard.ShardMap;
+import com.alphaka.blogservice.user.service.UserDirectoryService;
 import com.alphaka.blogservice.util.CacheUtils;
+import com.alphaka.blogservice.util.ExistenceGuard;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -29,9 +34,12 @@ import java.util.stream.Collectors;
 public class CommentService {
 
     private final CacheUtils cacheUtils;
-    private final UserClient userClient;
+    private final ExistenceGuard existenceGuard;
+    private final UserDirectoryService userDirectoryService;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
+    private final ShardMap shardMap;
+    private final OutboxService outboxService;
 
     /**
      * 댓글 작성
@@ -43,8 +51,8 @@ public class CommentService {
     public Long createComment(CurrentUser currentUser, CommentCreateRequest request) {
         log.info("댓글 작성 요청 - Post ID: {}", request.getPostId());
 
-        // 댓글을 작성하려는 게시글 존재 확인
-        Post post = postRepository.findById(request.getPostId()).orElseThrow(PostNotFoundException::new);
+        // 댓글을 작성하려는 게시글 존재 확인 (본문은 읽지 않음)
+        PostSummary post = postRepository.findSummaryById(request.getPostId()).orElseThrow(PostNotFoundException::new);
 
         // 게시글에 댓글 작성 가능한 상태인지 검증
         if (!post.isCommentable()) {
@@ -55,13 +63,13 @@ public class CommentService {
         // 부모 댓글이 있을 경우 확인
         Comment parentComment = null;
         if (request.getParentId() != null) {
-            parentComment = validateParentComment(request.getParentId(), post);
+            parentComment = validateParentComment(request.getParentId(), post.getId());
         }
 
-        // 댓글 생성
+        // 댓글 생성 (게시글은 조회 없이 참조만 연결)
         Comment comment = Comment.builder()
                 .userId(currentUser.getUserId())
-                .post(post)
+                .post(postRepository.getReferenceById(post.getId()))
                 .content(request.getContent())
                 .parent(parentComment)
                 .isPublic(request.isPublic())
@@ -70,8 +78,14 @@ public class CommentService {
 
         log.info("댓글 작성 완료 - Comment ID: {}", comment.getId());
 
+        // 댓글 ID 로 요청되는 수정, 삭제, 좋아요가 같은 샤드로 가도록 샤드 맵에 등록
+        Long blogId = post.getBlogId();
+        shardMap.recordComment(comment.getId(), blogId);
+
+        // 댓글 작성 이벤트를 같은 트랜잭션에서 아웃박스에 저장
+        outboxService.append(OutboxEventType.COMMENT_CREATED, post.getId(), commentEvent(comment, post.getId()));
+
         // 댓글 작성 후, 댓글 캐시와 블로그 게시글 목록 캐시 무효화
-        Long blogId = post.getBlog().getId();
         cacheUtils.evictCommentsAndPostListAndDetailsCache(blogId, post.getId(), currentUser.getUserId());
 
         return comment.getId();
@@ -87,7 +101,7 @@ public class CommentService {
         log.info("댓글 수정을 위한 정보 조회 - Comment ID: {}", commentId);
 
         // 댓글을 작성하려는 게시글 존재 확인
-        Post post = postRepository.findByCommentsId(commentId).orElseThrow(PostNotFoundException::new);
+        PostSummary post = postRepository.findSummaryByCommentId(commentId).orElseThrow(PostNotFoundException::new);
 
         // 댓글 작성 가능 여부 확인
         if (!post.isCommentable()) {
@@ -123,7 +137,7 @@ public class CommentService {
         Comment comment = validateCommentOwnership(commentId, currentUser.getUserId());
 
         // 댓글을 작성하려는 게시글 존재 확인
-        Post post = postRepository.findByCommentsId(commentId).orElseThrow(PostNotFoundException::new);
+        PostSummary post = postRepository.findSummaryByCommentId(commentId).orElseThrow(PostNotFoundException::new);
 
         // 댓글 작성 가능 여부 확인
         if (!post.isCommentable()) {
@@ -136,8 +150,11 @@ public class CommentService {
         commentRepository.save(comment);
         log.info("댓글 수정 완료 - Comment ID: {}", comment.getId());
 
+        // 댓글 수정 이벤트를 같은 트랜잭션에서 아웃박스에 저장
+        outboxService.append(OutboxEventType.COMMENT_UPDATED, post.getId(), commentEvent(comment, post.getId()));
+
         // 댓글 수정 후, 댓글 캐시와 블로그 게시글 목록 캐시 무효화 (블로그 ID 사용)
-        Long blogId = post.getBlog().getId();
+        Long blogId = post.getBlogId();
         cacheUtils.evictCommentsAndPostListAndDetailsCache(blogId, post.getId(), currentUser.getUserId());
 
         return comment.getId();
@@ -155,14 +172,23 @@ public class CommentService {
         // 댓글 존재와 삭제 권한 확인
         Comment comment = validateCommentOwnership(commentId, currentUser.getUserId());
 
-        // 댓글 삭제
-        commentRepository.delete(comment);
+        // 댓글 삭제 표시 (대댓글은 그대로 두고, 대댓글까지 모두 삭제된 댓글은 CommentPurger 가 정리)
+        comment.delete();
         log.info("댓글 삭제 완료 - Comment ID: {}", commentId);
 
+        // 댓글 삭제 이벤트를 같은 트랜잭션에서 아웃박스에 저장 (게시글 프록시의 ID 만 읽으므로 게시글은 조회하지 않음)
+        Long postId = comment.getPost().getId();
+        outboxService.append(OutboxEventType.COMMENT_DELETED, postId, commentEvent(comment, postId));
+
         // 댓글 삭제 후, 댓글 캐시와 블로그 게시글 목록 캐시 무효화 (블로그 ID 사용)
-        Post post = comment.getPost();
-        Long blogId = post.getBlog().getId();
-        cacheUtils.evictCommentsAndPostListAndDetailsCache(blogId, post.getId(), currentUser.getUserId());
+        Long blogId = postRepository.findSummaryById(postId).orElseThrow(PostNotFoundException::new).getBlogId();
+        cacheUtils.evictCommentsAndPostListAndDetailsCache(blogId, postId, currentUser.getUserId());
+    }
+
+    // 댓글 이벤트 객체 생성
+    private CommentEvent commentEvent(Comment comment, Long postId) {
+        Long parentId = comment.getParent() != null ? comment.getParent().getId() : null;
+        return new CommentEvent(comment.getId(), postId, parentId, comment.getUserId());
     }
 
     /**
@@ -172,7 +198,9 @@ public class CommentService {
      * @return Comment - 댓글 정보
      */
     private Comment validateCommentOwnership(Long commentId, Long userId) {
-        Comment comment = commentRepository.findById(commentId).orElseThrow(CommentNotFoundException::new);
+        Comment comment = commentRepository.findById(commentId)
+                .filter(found -> !found.isDeleted())
+                .orElseThrow(CommentNotFoundException::new);
 
         if (!comment.getUserId().equals(userId)) {
             log.error("댓글 작성자가 아닙니다 - Comment ID: {}, User ID: {}", comment.getId(), userId);
@@ -188,12 +216,18 @@ public class CommentService {
      * @param postId - 게시글 ID
      * @return List<CommentDetailResponse> - 댓글 목록
      */
-    @Cacheable(value = "blogService:cache:comments", key = "'post:' + #postId", unless = "#result == null")
+    @Cacheable(value = "blogService:cache:comments", key = "'post:' + #postId", sync = true)
     public List<CommentResponse> getCommentsForPost(CurrentUser currentUser, Long postId) {
         log.info("특정 게시글의 댓글 조회 - Post ID: {}", postId);
 
+        // 존재하지 않는 게시글이 확실하면 DB 조회 없이 거절
+        existenceGuard.checkPost(postId);
+
         // 게시글 존재 여부 및 게시글 소유주 확인
-        Post post = postRepository.findById(postId).orElseThrow(PostNotFoundException::new);
+        PostSummary post = postRepository.findSummaryById(postId).orElseThrow(() -> {
+            existenceGuard.markPostMissing(postId);
+            return new PostNotFoundException();
+        });
         Long userId = currentUser != null ? currentUser.getUserId() : null;
 
         // 모든 댓글 조회
@@ -204,6 +238,17 @@ public class CommentService {
         log.info("비공개 댓글 처리 및 사용자 ID 수집");
         Set<Long> authorIds = new HashSet<>();
         for (CommentResponse comment : comments) {
+            // 삭제된 댓글은 대댓글이 남아 있는 경우에만 자리 표시
+            if (comment.isDeleted()) {
+                comment.setAuthorId(null);
+                comment.setAuthor(null);
+                comment.setAuthorProfileImage(null);
+                comment.setContent("삭제된 댓글입니다.");
+                comment.setLikeCount(0L);
+                comment.setLiked(false);
+                continue;
+            }
+
             // 비공개 댓글 처리
             if (!comment.isPublic()) {
                 // 댓글 작성자나 게시글 작성자가 아닌 경우 내용 대체
@@ -225,14 +270,12 @@ public class CommentService {
             }
         }
 
-        // 사용자 정보 조회
+        // 사용자 정보 조회 (로컬 디렉터리에 없는 작성자만 다른 요청과 함께 user-service 에서 일괄 조회)
         log.info("사용자 정보 조회");
-        List<UserDTO> userDTOs = Collections.emptyList();
+        Map<Long, UserDTO> userMap = Collections.emptyMap();
         if (!authorIds.isEmpty()) {
-            userDTOs = userClient.getUsersById(authorIds).getData();
+            userMap = userDirectoryService.getUsers(authorIds);
         }
-        Map<Long, UserDTO> userMap = userDTOs.stream()
-                .collect(Collectors.toMap(UserDTO::getUserId, Function.identity()));
 
         // 사용자 정보 매핑
         log.info("사용자 정보 매핑");
@@ -256,17 +299,19 @@ public class CommentService {
     /**
      * 부모 댓글 검증
      * @param parentId - 부모 댓글 ID
-     * @param post - 게시글 정보
+     * @param postId - 게시글 ID
      * @return Comment - 부모 댓글 정보
      */
-    private Comment validateParentComment(Long parentId, Post post) {
+    private Comment validateParentComment(Long parentId, Long postId) {
         // 부모 댓글 존재 확인
-        Comment parentComment = commentRepository.findById(parentId).orElseThrow(ParentCommentNotFoundException::new);
+        Comment parentComment = commentRepository.findById(parentId)
+                .filter(found -> !found.isDeleted())
+                .orElseThrow(ParentCommentNotFoundException::new);
 
         // 부모 댓글이 작성하려는 게시글과 같은 게시글에 속해 있는지 검증
-        if (!parentComment.getPost().getId().equals(post.getId())) {
+        if (!parentComment.getPost().getId().equals(postId)) {
             log.error("부모 댓글이 작성하려는 게시글과 다릅니다 - Parent Comment ID: {}, Parent Post ID: {}, Current Post ID: {}",
-                    parentComment.getId(), parentComment.getPost().getId(), post.getId());
+                    parentComment.getId(), parentComment.getPost().getId(), postId);
             throw new InvalidParentCommentException();
         }
 
@@ -307,6 +352,19 @@ public class CommentService {
             }
         }
 
+        // 남은 대댓글이 없는 삭제된 댓글 제외
+        removeDeletedLeaves(rootComments);
         return rootComments;
     }
+
+    /**
+     * 대댓글이 모두 삭제되었거나 없는 삭제된 댓글 제거 (하위 댓글부터 확인)
+     * @param comments - 같은 부모의 댓글 목록
+     */
+    private void removeDeletedLeaves(List<CommentResponse> comments) {
+        comments.removeIf(comment -> {
+            removeDeletedLeaves(comment.getChildren());
+            return comment.isDeleted() && comment.getChildren().isEmpty();
+        });
+    }
 }
@@ -18,4 +18,14 @@ public class DeleteBaseEntity extends UpdateBaseEntity {
     public void delete() {
         this.deletedAt = LocalDateTime.now();
     }
+
+    /* 논리적 삭제 취소 */
+    public void restore() {
+        this.deletedAt = null;
+    }
+
+    /* 논리적 삭제 여부 */
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
 }
@@ -0,0 +1,18 @@
+package com.alphaka.blogservice.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 댓글 작성, 수정, 삭제 이벤트 객체 (blog-comment-events)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentEvent {
+    private Long commentId;
+    private Long postId;
+    private Long parentId;
+    private Long userId;
+}
@@ -0,0 +1,18 @@
+package com.alphaka.blogservice.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글, 댓글 좋아요 추가 및 취소 이벤트 객체 (blog-like-events)
+ * 게시글 좋아요는 commentId 가 null
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeEvent {
+    private Long postId;
+    private Long commentId;
+    private Long userId;
+}
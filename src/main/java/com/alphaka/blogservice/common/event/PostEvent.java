@@ -0,0 +1,20 @@
+package com.alphaka.blogservice.common.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 작성, 수정, 삭제 이벤트 객체 (blog-post-events)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostEvent {
+    private Long postId;
+    private Long blogId;
+    private Long userId;
+    @JsonProperty("isPublic")
+    private boolean isPublic;
+}
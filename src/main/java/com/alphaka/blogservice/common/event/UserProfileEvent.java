@@ -0,0 +1,22 @@
+package com.alphaka.blogservice.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 사용자 정보(닉네임, 프로필 이미지) 생성 및 변경 이벤트 객체
+ * version 은 user-service 에서의 변경 시각(epoch millis)으로, 순서가 뒤바뀐 이벤트를 무시하는 데 사용
+ * user-service 가 user-profile-updated 토픽으로 발행할 메시지 형식 (발행 계약은 UserDirectoryConsumer 참고)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProfileEvent {
+    private Long userId;
+    private String nickname;
+    private String profileImage;
+    private Long version;
+}
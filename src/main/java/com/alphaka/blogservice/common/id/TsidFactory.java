@@ -0,0 +1,78 @@
+package com.alphaka.blogservice.common.id;
+
+import java.time.Instant;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순으로 증가하는 ID 생성기 (Snowflake / TSID 방식)
+ * - 41비트: 기준 시각(2024-01-01T00:00:00Z) 이후 밀리초 (약 69년)
+ * - 6비트: 노드 번호 (0 ~ 63)
+ * - 6비트: 같은 밀리초 안의 순번 (노드당 밀리초마다 64개)
+ * 웹 클라이언트(JavaScript)가 숫자 그대로 다룰 수 있도록 53비트 이내로 생성
+ * 기존 AUTO_INCREMENT ID 보다 항상 크므로 ID 순 정렬은 작성 순서를 유지
+ * 순번이 모자라거나 시계가 뒤로 가면 직전 시각을 이어서 사용하여, 한 노드 안에서는 항상 증가
+ * 애플리케이션에서는 IdGeneratorConfig 가 blog.id.node 설정으로 하나만 만들어 Hibernate 에 전달
+ */
+public class TsidFactory {
+
+    static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 6;
+    static final int SEQUENCE_BITS = 6;
+    static final int MAX_NODE = (1 << NODE_BITS) - 1;
+    private static final int MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+
+    private final long node;
+    private final LongSupplier clock;
+    private long lastMillis = -1;
+    private long sequence;
+
+    /**
+     * @param node - 노드 번호 (0 ~ 63)
+     * @param clock - 현재 시각(밀리초)
+     */
+    public TsidFactory(int node, LongSupplier clock) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("노드 번호는 0 ~ " + MAX_NODE + " 사이여야 합니다: " + node);
+        }
+        this.node = node;
+        this.clock = clock;
+    }
+
+    public synchronized long next() {
+        long now = clock.getAsLong() - EPOCH_MILLIS;
+        if (now > lastMillis) {
+            lastMillis = now;
+            sequence = 0;
+        } else if (sequence < MAX_SEQUENCE) {
+            sequence++;
+        } else {
+            lastMillis++;
+            sequence = 0;
+        }
+        return (lastMillis << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * 설정된 노드 번호 검증 (지정되지 않았거나 숫자가 아니거나 범위를 벗어나면 예외 발생)
+     * 노드 번호가 겹치면 같은 밀리초에 같은 ID 가 만들어지므로 임의 값, 잘라낸 값, 호스트 이름에서 추측한 값으로 대신하지 않음
+     * @param configured - blog.id.node 설정 값
+     * @return int - 노드 번호
+     */
+    public static int parseNode(String configured) {
+        if (configured == null || configured.isBlank()) {
+            throw new IllegalStateException("ID 생성 노드 번호(blog.id.node, BLOG_ID_NODE)가 지정되지 않았습니다. "
+                    + "인스턴스마다 겹치지 않는 0 ~ " + MAX_NODE + " 사이의 값을 지정해야 합니다.");
+        }
+
+        int node;
+        try {
+            node = Integer.parseInt(configured.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("ID 생성 노드 번호(blog.id.node)가 숫자가 아닙니다: " + configured, e);
+        }
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalStateException("ID 생성 노드 번호(blog.id.node)는 0 ~ " + MAX_NODE + " 사이여야 합니다: " + node);
+        }
+        return node;
+    }
+}
@@ -0,0 +1,37 @@
+package com.alphaka.blogservice.common.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+
+/**
+ * 엔티티 ID 를 INSERT 전에 애플리케이션에서 생성
+ * IDENTITY 방식과 달리 INSERT 결과를 기다리지 않아도 되므로 Hibernate JDBC 배치 삽입 가능
+ * 생성기는 Hibernate 설정(FACTORY_SETTING)으로 전달된 TsidFactory 를 사용하며,
+ * EntityManagerFactory 생성 시 만들어지므로 생성기가 전달되지 않으면 첫 INSERT 가 아닌 애플리케이션 시작 시 실패
+ */
+public class TsidGenerator implements IdentifierGenerator {
+
+    // IdGeneratorConfig 가 TsidFactory 를 넣어 두는 Hibernate 설정 이름
+    public static final String FACTORY_SETTING = "blog.id.tsid-factory";
+
+    private final TsidFactory factory;
+
+    public TsidGenerator(Tsid config, Member member, CustomIdGeneratorCreationContext context) {
+        Object factory = context.getServiceRegistry().getService(ConfigurationService.class)
+                .getSettings().get(FACTORY_SETTING);
+        if (!(factory instanceof TsidFactory tsidFactory)) {
+            throw new IllegalStateException("Hibernate 설정에 TsidFactory(" + FACTORY_SETTING + ")가 없습니다 - "
+                    + member.getDeclaringClass().getSimpleName());
+        }
+        this.factory = tsidFactory;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return factory.next();
+    }
+}
@@ -1,55 +1,231 @@
 package com.alphaka.blogservice.config;
 
+import com.alphaka.blogservice.blog.dto.BlogHomeResponse;
+import com.alphaka.blogservice.cache.CacheEntry;
+import com.alphaka.blogservice.cache.CacheKeyIndex;
+import com.alphaka.blogservice.cache.CompactCacheSerializerFactory;
+import com.alphaka.blogservice.cache.DistributedCacheLock;
+import com.alphaka.blogservice.cache.KeyIndexedCache;
+import com.alphaka.blogservice.cache.SingleFlightCache;
+import com.alphaka.blogservice.cache.SingleFlightCacheManager;
+import com.alphaka.blogservice.cache.StaleWhileRevalidateCache;
+import com.alphaka.blogservice.comment.dto.CommentResponse;
+import com.alphaka.blogservice.common.dto.PageResponse;
+import com.alphaka.blogservice.post.dto.PostListResponse;
+import com.alphaka.blogservice.post.dto.PostResponse;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
-@EnableCaching
+// 비동기 갱신 시에도 트랜잭션이 적용되도록 캐시 인터셉터를 트랜잭션 인터셉터보다 바깥에 배치
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
 @RequiredArgsConstructor
 public class CacheConfig {
 
+    // 기본 캐시 만료 시간
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(30);
+
+    // 블로그 / 게시글 단위로 무효화하는 캐시 (저장한 키를 색인에 기록하여 CacheUtils 가 SCAN 없이 삭제)
+    private static final Set<String> KEY_INDEXED_CACHES = Set.of(
+            "blogService:cache:postList",
+            "blogService:cache:blogHome",
+            "blogService:cache:tagList",
+            "blogService:cache:postDetails");
+
     private final GenericJackson2JsonRedisSerializer genericSerializer;
+    private final CompactCacheSerializerFactory compactSerializerFactory;
+
+    // 바이너리(Smile + LZ4) 형식으로 저장할 캐시 목록 (나머지는 JSON)
+    @Value("${blog.cache.codec.binary-caches:}")
+    private Set<String> binaryCaches;
+
+    // 동일 키의 계산 결과를 기다리는 최대 시간
+    @Value("${blog.cache.single-flight.wait-timeout-ms:3000}")
+    private long singleFlightWaitTimeoutMs;
+
+    // 인스턴스 간 캐시 계산 합치기 사용 여부
+    @Value("${blog.cache.single-flight.distributed.enabled:false}")
+    private boolean distributedSingleFlightEnabled;
+
+    // 인스턴스 간 캐시 계산 락 유지 시간
+    @Value("${blog.cache.single-flight.distributed.lock-ttl-ms:10000}")
+    private long distributedLockTtlMs;
+
+    // 소프트 만료 이후 이전 값을 반환하며 비동기로 갱신할 캐시 목록
+    @Value("${blog.cache.stale-while-revalidate.caches:}")
+    private Set<String> staleWhileRevalidateCaches;
+
+    // 소프트 만료 시간 (이후 조회 시 비동기 갱신)
+    @Value("${blog.cache.stale-while-revalidate.soft-ttl-ms:1800000}")
+    private long softTtlMs;
+
+    // 소프트 만료 이후 이전 값을 반환할 수 있는 시간 (하드 만료 = 소프트 만료 + 이 값)
+    @Value("${blog.cache.stale-while-revalidate.stale-ttl-ms:600000}")
+    private long staleTtlMs;
+
+    // 조기 갱신 가중치 (클수록 만료 전에 일찍 갱신)
+    @Value("${blog.cache.stale-while-revalidate.beta:1.0}")
+    private double refreshBeta;
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     ThreadPoolTaskExecutor cacheRefreshExecutor,
+                                     CacheKeyIndex cacheKeyIndex) {
         // 기본 캐시 설정
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(genericSerializer))
-                .entryTtl(Duration.ofMinutes(30)) // 기본 캐시 만료 시간
+                .entryTtl(DEFAULT_TTL) // 기본 캐시 만료 시간
                 .disableCachingNullValues(); // null 값 캐싱 비활성화
 
         // 특정 캐시에 대한 설정
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
 
         // 게시글 상세 조회 캐시
-        cacheConfigurations.put("blogService:cache:postDetails", defaultConfig);
+        cacheConfigurations.put("blogService:cache:postDetails", configFor("blogService:cache:postDetails", defaultConfig));
 
         // 게시글 목록 조회 캐시
-        cacheConfigurations.put("blogService:cache:postList", defaultConfig);
+        cacheConfigurations.put("blogService:cache:postList", configFor("blogService:cache:postList", defaultConfig));
 
         // 태그 목록 조회 캐시
-        cacheConfigurations.put("blogService:cache:tagList", defaultConfig);
+        cacheConfigurations.put("blogService:cache:tagList", configFor("blogService:cache:tagList", defaultConfig));
 
         // 댓글 목록 조회 캐시
-        cacheConfigurations.put("blogService:cache:comments", defaultConfig);
+        cacheConfigurations.put("blogService:cache:comments", configFor("blogService:cache:comments", defaultConfig));
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        // 블로그 홈 조회 캐시
+        cacheConfigurations.put("blogService:cache:blogHome", configFor("blogService:cache:blogHome", defaultConfig));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+        redisCacheManager.initializeCaches(); // 빈으로 등록되지 않으므로 초기 캐시를 직접 생성
+
+        DistributedCacheLock distributedLock = distributedSingleFlightEnabled
+                ? new DistributedCacheLock(stringRedisTemplate, Duration.ofMillis(distributedLockTtlMs))
+                : null;
+        Duration waitTimeout = Duration.ofMillis(singleFlightWaitTimeoutMs);
+        Duration softTtl = Duration.ofMillis(softTtlMs);
+
+        // 캐시 미스 시 동시 계산을 합치고, 설정된 캐시는 소프트 만료 이후 비동기로 갱신
+        return new SingleFlightCacheManager(redisCacheManager,
+                cache -> decorate(cache, distributedLock, waitTimeout, softTtl, cacheRefreshExecutor, cacheKeyIndex));
+    }
+
+    /**
+     * 캐시 비동기 갱신용 Executor
+     * 큐가 가득 차면 갱신을 건너뛰고 이전 값을 계속 반환
+     * 갱신을 일으킨 요청의 샤드, 주 DB 고정 여부, MDC 를 그대로 전달 (없으면 기본 샤드를 조회해 다른 샤드 블로그의 값이 틀어짐)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setTaskDecorator(new RequestContextTaskDecorator());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 게시글 상세 캐시는 계산 시 조회수를 기록하므로 비동기 갱신 대상에서 제외해야 함
+    private Cache decorate(Cache cache, DistributedCacheLock distributedLock, Duration waitTimeout,
+                           Duration softTtl, ThreadPoolTaskExecutor refreshExecutor, CacheKeyIndex cacheKeyIndex) {
+        if (KEY_INDEXED_CACHES.contains(cache.getName())) {
+            cache = new KeyIndexedCache(cache, cacheKeyIndex, ttlFor(cache.getName()));
+        }
+        if (staleWhileRevalidateCaches.contains(cache.getName())) {
+            return new StaleWhileRevalidateCache(cache, distributedLock, CacheConfig::isStorable, waitTimeout,
+                    softTtl, refreshBeta, refreshExecutor);
+        }
+        return new SingleFlightCache(cache, distributedLock, CacheConfig::isStorable, waitTimeout);
+    }
+
+    /**
+     * 캐시별 설정
+     * - 바이너리 캐시는 값 직렬화기를 교체
+     * - Stale-While-Revalidate 캐시는 이전 값을 반환할 수 있도록 하드 만료를 소프트 만료보다 길게 설정
+     * @param cacheName - 캐시 이름
+     * @param defaultConfig - 기본 캐시 설정
+     * @return RedisCacheConfiguration - 캐시 설정
+     */
+    private RedisCacheConfiguration configFor(String cacheName, RedisCacheConfiguration defaultConfig) {
+        RedisCacheConfiguration config = defaultConfig;
+        if (binaryCaches.contains(cacheName)) {
+            config = config.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                    compactSerializerFactory.create(storedType(cacheName))));
+        }
+        return config.entryTtl(ttlFor(cacheName));
+    }
+
+    // 캐시 항목의 만료 시간 (Stale-While-Revalidate 캐시는 소프트 만료 + 이전 값 반환 시간)
+    private Duration ttlFor(String cacheName) {
+        return staleWhileRevalidateCaches.contains(cacheName)
+                ? Duration.ofMillis(softTtlMs + staleTtlMs)
+                : DEFAULT_TTL;
+    }
+
+    /**
+     * 바이너리 캐시에 저장되는 값 타입 (바이너리 형식은 타입 정보를 저장하지 않으므로 캐시마다 지정)
+     * Stale-While-Revalidate 캐시는 값을 CacheEntry 로 감싸서 저장
+     * @param cacheName - 캐시 이름
+     * @return JavaType - 저장되는 값 타입
+     */
+    private JavaType storedType(String cacheName) {
+        TypeFactory types = compactSerializerFactory.getTypeFactory();
+        JavaType valueType = switch (cacheName) {
+            case "blogService:cache:postDetails" -> types.constructType(PostResponse.class);
+            case "blogService:cache:postList" -> types.constructParametricType(PageResponse.class, PostListResponse.class);
+            case "blogService:cache:comments" -> types.constructCollectionType(List.class, CommentResponse.class);
+            case "blogService:cache:blogHome" -> types.constructType(BlogHomeResponse.class);
+            default -> throw new IllegalStateException("값 타입이 지정되지 않은 캐시는 바이너리 형식을 사용할 수 없습니다: " + cacheName);
+        };
+        return staleWhileRevalidateCaches.contains(cacheName)
+                ? types.constructParametricType(CacheEntry.class, valueType)
+                : valueType;
+    }
+
+    /**
+     * 계산된 값을 캐시에 저장할지 여부
+     * '@Cacheable(sync = true)'는 unless 조건을 지원하지 않으므로 저장 조건을 여기서 판단
+     * @param value - 계산된 값
+     * @return boolean - 빈 페이지, 빈 목록이나 일부 정보가 빠진 게시글 상세가 아니면 true
+     */
+    private static boolean isStorable(Object value) {
+        if (value instanceof PostResponse post && post.isPartial()) {
+            return false;
+        }
+        if (value instanceof Collection<?> collection && collection.isEmpty()) {
+            return false;
+        }
+        return !(value instanceof PageResponse<?> page && page.isEmpty());
     }
 }
@@ -0,0 +1,120 @@
+package com.alphaka.blogservice.config;
+
+import com.alphaka.blogservice.datasource.ReadYourWritesFilter;
+import com.alphaka.blogservice.datasource.ReplicaLagMonitor;
+import com.alphaka.blogservice.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.TaskScheduler;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주 DB / 복제 DB 분리 설정 (blog.datasource.replica.enabled=true 인 경우에만 적용)
+ * - 읽기 전용 트랜잭션은 복제 DB, 그 외는 주 DB 로 보냄 (ReplicaRoutingDataSource)
+ * - 쓰기 직후의 사용자 요청은 주 DB 로 고정 (ReadYourWritesFilter)
+ * 사용하지 않는 경우에는 Spring Boot 기본 DataSource 를 그대로 사용
+ * 샤딩(blog.sharding.enabled=true)을 사용하면 적용하지 않음 (샤드별 복제 DB 는 샤드 URL 에서 구성)
+ */
+@Configuration
+@ConditionalOnExpression("${blog.datasource.replica.enabled:false} and !${blog.sharding.enabled:false}")
+public class DataSourceConfig {
+
+    @Value("#{'${blog.datasource.replica.urls:}'.split(',')}")
+    private List<String> replicaUrls;
+
+    @Value("${blog.datasource.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${blog.datasource.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${blog.datasource.replica.maximum-pool-size:10}")
+    private int replicaMaximumPoolSize;
+
+    @Value("${blog.datasource.replica.max-lag-seconds:2}")
+    private long maxLagSeconds;
+
+    @Value("${blog.datasource.replica.lag-check-interval-ms:1000}")
+    private long lagCheckIntervalMillis;
+
+    @Value("${blog.datasource.read-your-writes.window-ms:5000}")
+    private long readYourWritesWindowMillis;
+
+    /**
+     * 주 DB 커넥션 풀 (spring.datasource 설정 사용)
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * 복제 DB 커넥션 풀 (빈으로 등록하지 않으므로 커넥션 풀 메트릭은 직접 등록)
+     */
+    private Map<String, DataSource> replicaDataSources(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setMaximumPoolSize(replicaMaximumPoolSize);
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(replica.getPoolName(), replica);
+        }
+        return replicas;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(HikariDataSource primaryDataSource, DataSourceProperties properties,
+                                                      MeterRegistry meterRegistry, TaskScheduler taskScheduler) {
+        Map<String, DataSource> replicas = replicaDataSources(properties, meterRegistry);
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replicas, maxLagSeconds, meterRegistry);
+        lagMonitor.start(taskScheduler, lagCheckIntervalMillis);
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, lagMonitor, meterRegistry);
+    }
+
+    /**
+     * JPA, JdbcTemplate 이 사용하는 DataSource
+     * 트랜잭션 시작 시점이 아닌 첫 쿼리 시점에 커넥션을 얻어, 읽기 전용 여부가 정해진 뒤 주 DB / 복제 DB 를 선택하도록 함
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(StringRedisTemplate stringRedisTemplate) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(stringRedisTemplate, Duration.ofMillis(readYourWritesWindowMillis)));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
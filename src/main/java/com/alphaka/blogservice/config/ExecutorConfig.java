@@ -0,0 +1,104 @@
+package com.alphaka.blogservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 요청 처리 중 병렬로 실행하는 작업용 Executor 설정
+ */
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${blog.post-detail.executor.core-size:8}")
+    private int postDetailCoreSize;
+
+    @Value("${blog.post-detail.executor.max-size:32}")
+    private int postDetailMaxSize;
+
+    @Value("${blog.post-detail.executor.queue-capacity:200}")
+    private int postDetailQueueCapacity;
+
+    @Value("${blog.blog-home.executor.core-size:4}")
+    private int blogHomeCoreSize;
+
+    @Value("${blog.blog-home.executor.max-size:16}")
+    private int blogHomeMaxSize;
+
+    @Value("${blog.blog-home.executor.queue-capacity:100}")
+    private int blogHomeQueueCapacity;
+
+    @Value("${blog.sharding.executor.core-size:8}")
+    private int shardQueryCoreSize;
+
+    @Value("${blog.sharding.executor.max-size:32}")
+    private int shardQueryMaxSize;
+
+    @Value("${blog.sharding.executor.queue-capacity:200}")
+    private int shardQueryQueueCapacity;
+
+    @Value("${blog.user-loader.executor.core-size:4}")
+    private int userLoaderCoreSize;
+
+    @Value("${blog.user-loader.executor.max-size:8}")
+    private int userLoaderMaxSize;
+
+    @Value("${blog.user-loader.executor.queue-capacity:100}")
+    private int userLoaderQueueCapacity;
+
+    /**
+     * 게시글 상세 조회의 작성자 조회와 조회수 기록용 Executor
+     * 포화 상태에서 요청 스레드가 대신 실행하면 제한 시간을 지킬 수 없으므로 거절하고, 호출 측에서 해당 정보를 제외
+     */
+    @Bean
+    public ThreadPoolTaskExecutor postDetailExecutor() {
+        return executor("post-detail-", postDetailCoreSize, postDetailMaxSize, postDetailQueueCapacity,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 블로그 홈 구성 요소(게시글 목록, 태그 목록) 병렬 조회용 Executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor blogHomeExecutor() {
+        return executor("blog-home-", blogHomeCoreSize, blogHomeMaxSize, blogHomeQueueCapacity,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 전체 게시글 목록, 검색의 샤드별 병렬 조회용 Executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor shardQueryExecutor() {
+        return executor("shard-query-", shardQueryCoreSize, shardQueryMaxSize, shardQueryQueueCapacity,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 모인 사용자 ID 의 user-service 일괄 조회용 Executor (UserBatchLoader)
+     * 포화 상태에서는 거절하고, 대기 중인 요청에 예외를 전달 (조회를 모으는 스케줄러 스레드에서 대신 실행하지 않도록)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor userLoaderExecutor() {
+        return executor("user-loader-", userLoaderCoreSize, userLoaderMaxSize, userLoaderQueueCapacity,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 큐가 가득 찼을 때의 처리는 rejectedHandler 로 지정 (CallerRunsPolicy: 요청 스레드에서 직접 실행하여 작업이 유실되지 않도록 함)
+    private ThreadPoolTaskExecutor executor(String threadNamePrefix, int coreSize, int maxSize, int queueCapacity,
+                                            RejectedExecutionHandler rejectedHandler) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setTaskDecorator(new RequestContextTaskDecorator());
+        executor.setRejectedExecutionHandler(rejectedHandler);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,5 +1,6 @@
 package com.alphaka.blogservice.config;
 
+import com.alphaka.blogservice.client.UserStaleCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.codec.Decoder;
 import lombok.RequiredArgsConstructor;
@@ -15,11 +16,19 @@ import org.springframework.http.converter.json.MappingJackson2HttpMessageConvert
 public class FeignConfig {
 
     private final ObjectMapper objectMapper;
+    private final UserStaleCache userStaleCache;
 
     @Bean
     public Decoder feignDecoder() {
         ObjectFactory<HttpMessageConverters> messageConverters =
                 () -> new HttpMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper));
-        return new SpringDecoder(messageConverters);
+        Decoder decoder = new SpringDecoder(messageConverters);
+
+        // 정상 응답의 사용자 정보를 기록하여 user-service 장애 시 fallback 에서 사용
+        return (response, type) -> {
+            Object decoded = decoder.decode(response, type);
+            userStaleCache.record(decoded);
+            return decoded;
+        };
     }
 }
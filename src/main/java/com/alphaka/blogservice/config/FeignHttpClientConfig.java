@@ -0,0 +1,86 @@
+package com.alphaka.blogservice.config;
+
+import com.alphaka.blogservice.client.feign.InstrumentedConnectionManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.IdleConnectionEvictor;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Feign HTTP 클라이언트 설정 (Apache HttpClient 5 커넥션 풀)
+ * - 전체, 경로(인스턴스)별 최대 커넥션 수와 커넥션 수명(TTL)을 제한
+ * - 응답 압축(gzip, deflate)은 HttpClient 가 요청 헤더 추가와 해제를 처리
+ * - 연결, 응답 타임아웃은 Feign 클라이언트 설정(spring.cloud.openfeign.client.config)을 따름
+ * - 풀 사용량(leased, available, pending)과 커넥션 대기, 연결 시간을 메트릭으로 노출
+ */
+@Configuration
+public class FeignHttpClientConfig {
+
+    private static final String CLIENT_NAME = "feign";
+
+    @Value("${blog.feign.http-client.max-connections:200}")
+    private int maxConnections;
+
+    @Value("${blog.feign.http-client.max-connections-per-route:50}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${blog.feign.http-client.time-to-live-ms:60000}")
+    private long timeToLiveMillis;
+
+    @Value("${blog.feign.http-client.idle-timeout-ms:30000}")
+    private long idleTimeoutMillis;
+
+    @Value("${blog.feign.http-client.validate-after-inactivity-ms:2000}")
+    private long validateAfterInactivityMillis;
+
+    @Value("${blog.feign.http-client.connection-request-timeout-ms:500}")
+    private long connectionRequestTimeoutMillis;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager feignConnectionManager(MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                // 최근 사용한 커넥션부터 재사용하여 남는 커넥션이 유휴 만료로 정리되도록 함
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setTimeToLive(TimeValue.ofMilliseconds(timeToLiveMillis))
+                        .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivityMillis))
+                        .build())
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, CLIENT_NAME).bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient feignHttpClient(PoolingHttpClientConnectionManager feignConnectionManager,
+                                               MeterRegistry meterRegistry) {
+        return HttpClients.custom()
+                .setConnectionManager(new InstrumentedConnectionManager(feignConnectionManager,
+                        Timeout.ofMilliseconds(connectionRequestTimeoutMillis), meterRegistry, CLIENT_NAME))
+                // 커넥션 매니저의 수명은 스프링이 관리
+                .setConnectionManagerShared(true)
+                .disableCookieManagement()
+                .build();
+    }
+
+    // 만료되었거나 오래 사용하지 않은 커넥션을 주기적으로 정리
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    public IdleConnectionEvictor feignIdleConnectionEvictor(PoolingHttpClientConnectionManager feignConnectionManager) {
+        return new IdleConnectionEvictor(feignConnectionManager,
+                TimeValue.ofMilliseconds(idleTimeoutMillis / 2), TimeValue.ofMilliseconds(idleTimeoutMillis));
+    }
+}
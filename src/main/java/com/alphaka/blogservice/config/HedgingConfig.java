@@ -0,0 +1,97 @@
+package com.alphaka.blogservice.config;
+
+import com.alphaka.blogservice.client.hedging.HedgeInstanceChooser;
+import com.alphaka.blogservice.client.hedging.HedgingClient;
+import feign.Capability;
+import feign.Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.cloud.openfeign.loadbalancer.FeignBlockingLoadBalancerClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Set;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * user-service 조회 헤징 설정 (기본 비활성화)
+ * 로드밸런서가 적용된 Feign Client 를 HedgingClient 로 감싸고, 인스턴스는 HedgingClient 가 골라 로드밸런서 아래의 Client 로 요청
+ * 로드밸런서를 거치지 않는 Client(url 지정)는 헤지 요청도 같은 곳으로 가므로 헤징하지 않음
+ */
+@Slf4j
+@Configuration
+public class HedgingConfig {
+
+    @Value("${blog.user-client.hedging.enabled:false}")
+    private boolean enabled;
+
+    @Value("${blog.user-client.hedging.targets:user-service}")
+    private Set<String> targets;
+
+    @Value("${blog.user-client.hedging.delay-percentile:95}")
+    private double delayPercentile;
+
+    @Value("${blog.user-client.hedging.window-size:1000}")
+    private int windowSize;
+
+    @Value("${blog.user-client.hedging.min-samples:100}")
+    private int minSamples;
+
+    @Value("${blog.user-client.hedging.initial-delay-ms:100}")
+    private long initialDelayMillis;
+
+    @Value("${blog.user-client.hedging.min-delay-ms:10}")
+    private long minDelayMillis;
+
+    @Value("${blog.user-client.hedging.max-delay-ms:1000}")
+    private long maxDelayMillis;
+
+    @Value("${blog.user-client.hedging.budget.ratio:0.1}")
+    private double budgetRatio;
+
+    @Value("${blog.user-client.hedging.budget.max-tokens:10}")
+    private double budgetMaxTokens;
+
+    @Bean
+    public Capability hedgingCapability(ThreadPoolTaskExecutor hedgingExecutor, MeterRegistry meterRegistry,
+                                        LoadBalancerClient loadBalancerClient, DiscoveryClient discoveryClient) {
+        HedgeInstanceChooser instanceChooser = new HedgeInstanceChooser(loadBalancerClient, discoveryClient);
+        HedgingClient.Properties properties = new HedgingClient.Properties(targets, delayPercentile, windowSize,
+                minSamples, initialDelayMillis, minDelayMillis, maxDelayMillis, budgetRatio, budgetMaxTokens);
+
+        return new Capability() {
+            @Override
+            public Client enrich(Client client) {
+                if (!enabled) {
+                    return client;
+                }
+                if (!(client instanceof FeignBlockingLoadBalancerClient loadBalanced)) {
+                    log.warn("로드밸런서를 거치지 않는 Feign Client 는 헤징하지 않음 - Client: {}", client.getClass().getSimpleName());
+                    return client;
+                }
+                return new HedgingClient(client, loadBalanced.getDelegate(), instanceChooser,
+                        hedgingExecutor.getThreadPoolExecutor(), meterRegistry, properties);
+            }
+        };
+    }
+
+    /**
+     * 헤징 요청 실행용 Executor
+     * 큐가 가득 차면 헤징 없이 호출 스레드에서 바로 요청
+     */
+    @Bean
+    public ThreadPoolTaskExecutor hedgingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(enabled ? 8 : 1);
+        executor.setMaxPoolSize(enabled ? 32 : 1);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("user-client-hedging-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,31 @@
+package com.alphaka.blogservice.config;
+
+import com.alphaka.blogservice.common.id.TsidFactory;
+import com.alphaka.blogservice.common.id.TsidGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 엔티티 ID 생성기(TsidFactory) 설정
+ * 노드 번호(blog.id.node)는 시작 시 한 번 검증하며, 지정되지 않았거나 잘못되면 애플리케이션을 시작하지 않음
+ * 생성한 TsidFactory 는 Hibernate 설정으로 TsidGenerator 에 전달
+ */
+@Slf4j
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public TsidFactory tsidFactory(@Value("${blog.id.node:}") String node) {
+        int parsed = TsidFactory.parseNode(node);
+        log.info("ID 생성 노드 번호 - Node: {}", parsed);
+        return new TsidFactory(parsed, System::currentTimeMillis);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer tsidHibernatePropertiesCustomizer(TsidFactory tsidFactory) {
+        return properties -> properties.put(TsidGenerator.FACTORY_SETTING, tsidFactory);
+    }
+}
@@ -1,10 +1,13 @@
 package com.alphaka.blogservice.config;
 
+import com.alphaka.blogservice.cache.CompactCacheSerializerFactory;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
@@ -20,14 +23,28 @@ public class JacksonConfig {
     // Redis용 ObjectMapper
     @Bean
     public GenericJackson2JsonRedisSerializer genericJackson2JsonRedisSerializer(ObjectMapper defaultObjectMapper) {
-        ObjectMapper redisMapper = configureObjectMapper(defaultObjectMapper.copy());
-        // Redis에서는 타입 정보를 포함해야 함
-        redisMapper.activateDefaultTyping(
-                redisMapper.getPolymorphicTypeValidator(),
+        ObjectMapper redisMapper = activateTyping(configureObjectMapper(defaultObjectMapper.copy()));
+        return new GenericJackson2JsonRedisSerializer(redisMapper);
+    }
+
+    // Redis 캐시용 바이너리 직렬화기 생성 (캐시별 값 타입으로 읽으므로 타입 정보 없이 저장, 이전 JSON 형식 값은 JSON 직렬화기로 읽음)
+    @Bean
+    public CompactCacheSerializerFactory compactCacheSerializerFactory(
+            GenericJackson2JsonRedisSerializer genericJackson2JsonRedisSerializer,
+            @Value("${blog.cache.codec.compression-threshold-bytes:1024}") int compressionThreshold,
+            @Value("${blog.cache.codec.max-value-bytes:16777216}") int maxValueBytes) {
+        ObjectMapper smileMapper = configureObjectMapper(new ObjectMapper(new SmileFactory()));
+        return new CompactCacheSerializerFactory(smileMapper, genericJackson2JsonRedisSerializer, compressionThreshold, maxValueBytes);
+    }
+
+    // Redis에서는 타입 정보를 포함해야 함
+    private ObjectMapper activateTyping(ObjectMapper mapper) {
+        mapper.activateDefaultTyping(
+                mapper.getPolymorphicTypeValidator(),
                 ObjectMapper.DefaultTyping.NON_FINAL,
                 JsonTypeInfo.As.PROPERTY
         );
-        return new GenericJackson2JsonRedisSerializer(redisMapper);
+        return mapper;
     }
 
     // 공통 ObjectMapper 설정 메서드
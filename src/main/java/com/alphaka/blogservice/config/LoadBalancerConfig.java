@@ -0,0 +1,33 @@
+package com.alphaka.blogservice.config;
+
+import com.alphaka.blogservice.client.loadbalancer.PeakEwmaLoadBalancer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClient;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * user-service 호출에 응답 시간 기반 로드밸런서 적용
+ * 인스턴스 목록은 기존 Kubernetes(또는 Eureka) 제공자를 그대로 사용하고, 선택 방식만 라운드 로빈에서 P2C 로 변경
+ */
+@Configuration
+@LoadBalancerClient(name = "user-service", configuration = LoadBalancerConfig.UserServiceLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+
+    // 로드밸런서 하위 컨텍스트에서만 사용되도록 @Configuration 을 붙이지 않음
+    static class UserServiceLoadBalancerConfiguration {
+
+        @Bean
+        public PeakEwmaLoadBalancer userServiceLoadBalancer(
+                ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+                @Value("${blog.user-client.load-balancer.initial-rtt-ms:50}") long initialRttMillis,
+                @Value("${blog.user-client.load-balancer.decay-ms:10000}") long decayMillis,
+                @Value("${blog.user-client.load-balancer.failure-threshold:5}") int failureThreshold,
+                @Value("${blog.user-client.load-balancer.ejection-ms:30000}") long ejectionMillis) {
+            return new PeakEwmaLoadBalancer("user-service", serviceInstanceListSupplierProvider,
+                    initialRttMillis, decayMillis, failureThreshold, ejectionMillis);
+        }
+    }
+}
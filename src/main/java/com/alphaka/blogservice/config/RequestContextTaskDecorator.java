@@ -0,0 +1,41 @@
+package com.alphaka.blogservice.config;
+
+import com.alphaka.blogservice.datasource.ReadYourWrites;
+import com.alphaka.blogservice.shard.ShardContext;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+
+/**
+ * 작업을 제출한 스레드의 요청 문맥을 작업 스레드로 전달
+ * - MDC(traceId 등), 주 DB 고정 여부(Read-your-writes), 샤드
+ * 요청 처리 중 병렬 작업(ExecutorConfig)과 캐시 비동기 갱신(CacheConfig)이 같은 샤드, 같은 DB 를 보도록 함께 사용
+ */
+public class RequestContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        boolean pinned = ReadYourWrites.isPinned();
+        String shard = ShardContext.current();
+        return () -> {
+            if (context != null) {
+                MDC.setContextMap(context);
+            }
+            if (pinned) {
+                ReadYourWrites.pin();
+            }
+            if (shard != null) {
+                ShardContext.bind(shard);
+            }
+            try {
+                runnable.run();
+            } finally {
+                MDC.clear();
+                ReadYourWrites.clear();
+                ShardContext.clear();
+            }
+        };
+    }
+}
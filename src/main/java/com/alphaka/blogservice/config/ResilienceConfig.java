@@ -0,0 +1,96 @@
+package com.alphaka.blogservice.config;
+
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4jBulkheadProvider;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.cloud.openfeign.CircuitBreakerNameResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * user-service 호출에 대한 서킷 브레이커와 벌크헤드 설정
+ * - UserClient 의 모든 메서드가 하나의 서킷 브레이커, 벌크헤드("user-service")를 공유
+ * - 벌크헤드는 세마포어 방식으로 동시 호출 수를 제한하여 user-service 가 느려져도 톰캣 스레드가 묶이지 않도록 함
+ * - 4xx 응답은 user-service 장애가 아니므로 실패로 집계하지 않음
+ */
+@Configuration
+public class ResilienceConfig {
+
+    public static final String USER_SERVICE = "user-service";
+
+    @Value("${blog.user-client.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${blog.user-client.circuit-breaker.slow-call-rate-threshold:50}")
+    private float slowCallRateThreshold;
+
+    @Value("${blog.user-client.circuit-breaker.slow-call-duration-ms:2000}")
+    private long slowCallDurationMillis;
+
+    @Value("${blog.user-client.circuit-breaker.sliding-window-size:50}")
+    private int slidingWindowSize;
+
+    @Value("${blog.user-client.circuit-breaker.minimum-number-of-calls:20}")
+    private int minimumNumberOfCalls;
+
+    @Value("${blog.user-client.circuit-breaker.wait-duration-in-open-state-ms:10000}")
+    private long waitDurationInOpenStateMillis;
+
+    @Value("${blog.user-client.circuit-breaker.permitted-calls-in-half-open-state:5}")
+    private int permittedCallsInHalfOpenState;
+
+    @Value("${blog.user-client.timeout-ms:3000}")
+    private long timeoutMillis;
+
+    @Value("${blog.user-client.bulkhead.max-concurrent-calls:20}")
+    private int maxConcurrentCalls;
+
+    @Value("${blog.user-client.bulkhead.max-wait-ms:50}")
+    private long maxWaitMillis;
+
+    // 메서드별로 나뉘지 않도록 Feign 클라이언트 이름을 서킷 브레이커 이름으로 사용
+    @Bean
+    public CircuitBreakerNameResolver circuitBreakerNameResolver() {
+        return (feignClientName, target, method) -> feignClientName;
+    }
+
+    @Bean
+    public Customizer<Resilience4JCircuitBreakerFactory> userServiceCircuitBreakerCustomizer() {
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMillis))
+                .waitDurationInOpenState(Duration.ofMillis(waitDurationInOpenStateMillis))
+                .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .ignoreExceptions(FeignException.FeignClientException.class)
+                .build();
+        TimeLimiterConfig timeLimiterConfig = TimeLimiterConfig.custom()
+                .timeoutDuration(Duration.ofMillis(timeoutMillis))
+                .build();
+
+        return factory -> factory.configure(builder -> builder
+                .circuitBreakerConfig(circuitBreakerConfig)
+                .timeLimiterConfig(timeLimiterConfig), USER_SERVICE);
+    }
+
+    @Bean
+    public Customizer<Resilience4jBulkheadProvider> userServiceBulkheadCustomizer() {
+        BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ofMillis(maxWaitMillis))
+                .build();
+
+        return provider -> provider.configure(builder -> builder.bulkheadConfig(bulkheadConfig), USER_SERVICE);
+    }
+}
@@ -0,0 +1,35 @@
+package com.alphaka.blogservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 주기 작업(@Scheduled)과 지연 작업용 공용 스케줄러 설정
+ * 애플리케이션 종료 시 실행 중인 작업이 끝날 때까지 기다린 뒤 종료
+ */
+@Slf4j
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Value("${blog.scheduler.pool-size:4}")
+    private int poolSize;
+
+    @Value("${blog.scheduler.await-termination-seconds:30}")
+    private int awaitTerminationSeconds;
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("blog-scheduler-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        scheduler.setErrorHandler(e -> log.error("예약 작업 실행 실패", e));
+        return scheduler;
+    }
+}
@@ -0,0 +1,135 @@
+package com.alphaka.blogservice.config;
+
+import com.alphaka.blogservice.shard.BlogShardRebalancer;
+import com.alphaka.blogservice.shard.ShardContext;
+import com.alphaka.blogservice.shard.ShardMap;
+import com.alphaka.blogservice.shard.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 샤드 DataSource 설정 (blog.sharding.enabled=true 인 경우에만 적용)
+ * - 기본 샤드(shard-0): spring.datasource 설정 사용, 공통 테이블(블로그, 사용자 디렉터리)과 샤드 맵의 원본
+ * - 추가 샤드(shard-1 ~): blog.sharding.urls 순서대로 이름 부여 (순서를 바꾸면 기존 블로그 위치가 달라지므로 뒤에만 추가)
+ * - 게시글, 댓글, 좋아요, 신고, 게시글 태그 ID 는 애플리케이션에서 생성(Tsid)하므로 샤드와 무관하게 유일
+ * - AUTO_INCREMENT 를 쓰는 태그 ID 도 샤드 간에 겹치지 않도록 샤드마다 시작값을 다르게 하고 간격(id-stride)을 둠
+ *   (간격은 최대 샤드 수 이상이어야 하며, 운영 중에는 바꾸지 않음)
+ * 주 DB / 복제 DB 분리(DataSourceConfig)와 함께 사용할 수 없음
+ */
+@Configuration
+@ConditionalOnProperty(name = "blog.sharding.enabled", havingValue = "true")
+public class ShardDataSourceConfig {
+
+    @Value("#{'${blog.sharding.urls:}'.split(',')}")
+    private List<String> shardUrls;
+
+    @Value("${blog.sharding.username:${spring.datasource.username:}}")
+    private String shardUsername;
+
+    @Value("${blog.sharding.password:${spring.datasource.password:}}")
+    private String shardPassword;
+
+    @Value("${blog.sharding.maximum-pool-size:10}")
+    private int shardMaximumPoolSize;
+
+    @Value("${blog.sharding.id-stride:16}")
+    private int idStride;
+
+    @Value("${blog.sharding.rebalance.drain-ms:2000}")
+    private long rebalanceDrainMillis;
+
+    /**
+     * 기본 샤드 커넥션 풀 (spring.datasource 설정 사용)
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource defaultShardDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(ShardContext.DEFAULT_SHARD);
+        dataSource.setConnectionInitSql(autoIncrementSql(0));
+        return dataSource;
+    }
+
+    /**
+     * 추가 샤드 커넥션 풀은 빈으로 등록하지 않으므로 커넥션 풀 메트릭은 직접 등록
+     */
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(HikariDataSource defaultShardDataSource,
+                                                         DataSourceProperties properties, MeterRegistry meterRegistry) {
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        shards.put(ShardContext.DEFAULT_SHARD, defaultShardDataSource);
+        for (String url : shardUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource shard = new HikariDataSource();
+            shard.setPoolName("shard-" + shards.size());
+            shard.setJdbcUrl(url.trim());
+            shard.setUsername(shardUsername);
+            shard.setPassword(shardPassword);
+            shard.setDriverClassName(properties.determineDriverClassName());
+            shard.setMaximumPoolSize(shardMaximumPoolSize);
+            shard.addDataSourceProperty("rewriteBatchedStatements", "true");
+            shard.setConnectionInitSql(autoIncrementSql(shards.size()));
+            shard.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            shards.put(shard.getPoolName(), shard);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    // 샤드 번호에 따라 AUTO_INCREMENT 시작값을 달리하여 샤드 간 ID 가 겹치지 않도록 함
+    private String autoIncrementSql(int shardIndex) {
+        if (shardIndex >= idStride) {
+            throw new IllegalStateException("샤드 수가 ID 간격(blog.sharding.id-stride)보다 많습니다: " + idStride);
+        }
+        return "SET SESSION auto_increment_increment = " + idStride + ", auto_increment_offset = " + (shardIndex + 1);
+    }
+
+    /**
+     * JPA, JdbcTemplate 이 사용하는 DataSource
+     * 트랜잭션 시작 시점이 아닌 첫 쿼리 시점에 커넥션을 얻어, 쿼리가 없는 트랜잭션(모든 샤드 조회를 감싸는 트랜잭션 등)은 커넥션을 쓰지 않도록 함
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    /**
+     * 스키마 마이그레이션을 모든 샤드에 적용 (기본 DataSource 는 기본 샤드로만 연결되므로 샤드마다 따로 실행)
+     * 한 샤드라도 실패하면 애플리케이션을 시작하지 않음
+     */
+    @Bean
+    public FlywayMigrationStrategy shardFlywayMigrationStrategy(ShardRoutingDataSource shardRoutingDataSource) {
+        return flyway -> {
+            for (String shard : shardRoutingDataSource.shardNames()) {
+                Flyway.configure()
+                        .configuration(flyway.getConfiguration())
+                        .dataSource(shardRoutingDataSource.shard(shard))
+                        .load()
+                        .migrate();
+            }
+        };
+    }
+
+    @Bean
+    public BlogShardRebalancer blogShardRebalancer(ShardRoutingDataSource shardRoutingDataSource, ShardMap shardMap) {
+        return new BlogShardRebalancer(shardRoutingDataSource, shardMap, rebalanceDrainMillis);
+    }
+}
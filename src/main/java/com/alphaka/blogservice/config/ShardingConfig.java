@@ -0,0 +1,50 @@
+package com.alphaka.blogservice.config;
+
+import com.alphaka.blogservice.shard.ReferenceTableReplicator;
+import com.alphaka.blogservice.shard.ShardContext;
+import com.alphaka.blogservice.shard.ShardMap;
+import com.alphaka.blogservice.shard.ShardRoutingDataSource;
+import com.alphaka.blogservice.shard.ShardTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+/**
+ * 블로그 ID 기준 샤딩 설정
+ * 샤드 DataSource(ShardDataSourceConfig)가 없으면 단일 샤드로 동작하여 기존과 같이 하나의 DB 만 사용
+ */
+@Configuration
+public class ShardingConfig {
+
+    @Value("${blog.sharding.placement-cache-ttl-ms:30000}")
+    private long placementCacheTtlMillis;
+
+    @Value("${blog.sharding.query-timeout-ms:3000}")
+    private long queryTimeoutMillis;
+
+    @Bean
+    public ShardMap shardMap(ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource) {
+        ShardRoutingDataSource routing = shardRoutingDataSource.getIfAvailable();
+        if (routing == null) {
+            return ShardMap.single();
+        }
+        return new ShardMap(routing.shardNames(), routing.shard(ShardContext.DEFAULT_SHARD),
+                Duration.ofMillis(placementCacheTtlMillis));
+    }
+
+    @Bean
+    public ShardTemplate shardTemplate(ShardMap shardMap, PlatformTransactionManager transactionManager,
+                                       ThreadPoolTaskExecutor shardQueryExecutor) {
+        return new ShardTemplate(shardMap, transactionManager, shardQueryExecutor, queryTimeoutMillis);
+    }
+
+    @Bean
+    public ReferenceTableReplicator referenceTableReplicator(ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource) {
+        return new ReferenceTableReplicator(shardRoutingDataSource.getIfAvailable());
+    }
+}
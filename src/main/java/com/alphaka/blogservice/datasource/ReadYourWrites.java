@@ -0,0 +1,26 @@
+package com.alphaka.blogservice.datasource;
+
+/**
+ * 현재 요청을 주 DB 로 고정할지 여부 (Read-your-writes)
+ * 방금 쓰기를 한 사용자의 조회가 복제 지연으로 이전 데이터를 보지 않도록, 요청 단위로 읽기 전용 트랜잭션도 주 DB 에서 처리
+ * 병렬 작업, 캐시 갱신 스레드로는 RequestContextTaskDecorator 가 전달
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinned() {
+        return Boolean.TRUE.equals(PINNED.get());
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+}
@@ -0,0 +1,93 @@
+package com.alphaka.blogservice.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 쓰기 직후의 조회를 주 DB 로 고정하는 필터 (Read-your-writes)
+ * - 로그인 사용자의 쓰기 요청(GET, HEAD, OPTIONS 외)이 성공하면 일정 시간 동안 사용자 ID 를 Redis 에 기록
+ * - 기록이 남아 있는 사용자의 요청은 읽기 전용 트랜잭션도 주 DB 에서 처리
+ * 인스턴스 간에 공유되도록 사용자 ID(게이트웨이가 전달한 토큰 정보) 기준으로 Redis 에 기록
+ */
+@Slf4j
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final String KEY_PREFIX = "blogService:read-your-writes:user:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration window;
+
+    /**
+     * @param stringRedisTemplate - Redis 템플릿
+     * @param window - 쓰기 이후 주 DB 로 고정하는 시간 (복제 지연 허용 범위보다 길게 설정)
+     */
+    public ReadYourWritesFilter(StringRedisTemplate stringRedisTemplate, Duration window) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String userId = userId(request);
+        if (userId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean write = isWrite(request);
+        if (write || isPinned(userId)) {
+            ReadYourWrites.pin();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+
+        if (write && response.getStatus() < 400) {
+            markWrite(userId);
+        }
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+    }
+
+    // Redis 조회에 실패하면 최신 데이터를 보장하도록 주 DB 사용
+    private boolean isPinned(String userId) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + userId));
+        } catch (DataAccessException e) {
+            log.warn("Read-your-writes 기록 조회 실패, 주 DB 사용 - User ID: {}", userId, e);
+            return true;
+        }
+    }
+
+    private void markWrite(String userId) {
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + userId, "1", window);
+        } catch (DataAccessException e) {
+            log.warn("Read-your-writes 기록 실패 - User ID: {}", userId, e);
+        }
+    }
+
+    // 게이트웨이가 전달한 사용자 ID (비로그인 또는 잘못된 값이면 null)
+    private static String userId(HttpServletRequest request) {
+        String userId = request.getHeader("X-User-Id");
+        if (userId == null || userId.isBlank() || !userId.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        return userId;
+    }
+}
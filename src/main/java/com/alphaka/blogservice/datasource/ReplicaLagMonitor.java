@@ -0,0 +1,135 @@
+package com.alphaka.blogservice.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 복제 DB 지연 확인
+ * - 주기적으로 각 복제 DB 에서 SHOW REPLICA STATUS 를 조회하여 지연 시간(Seconds_Behind_Source)을 확인
+ * - 지연이 허용 범위를 넘거나, 복제가 멈췄거나(NULL), 연결에 실패한 복제 DB 는 조회 대상에서 제외
+ * - 첫 확인 전에는 모든 복제 DB 를 제외 (주 DB 로 조회)
+ * 조회 계정에 REPLICATION CLIENT 권한이 필요
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    static final String LAG_METRIC = "blog.datasource.replica.lag";
+
+    private final Map<String, DataSource> replicas;
+    private final long maxLagSeconds;
+    private final Map<String, Long> lagSeconds = new ConcurrentHashMap<>();
+
+    private volatile List<String> healthyReplicas = List.of();
+    private volatile ScheduledFuture<?> task;
+
+    /**
+     * @param replicas - 복제 DB 이름별 DataSource
+     * @param maxLagSeconds - 조회 대상으로 허용하는 최대 지연 시간
+     * @param meterRegistry - 메트릭 레지스트리
+     */
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, long maxLagSeconds, MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.maxLagSeconds = maxLagSeconds;
+        // 확인 실패 시 -1
+        replicas.keySet().forEach(name -> Gauge.builder(LAG_METRIC, lagSeconds, lags -> lags.getOrDefault(name, -1L))
+                .tag("replica", name)
+                .baseUnit("seconds")
+                .register(meterRegistry));
+    }
+
+    /**
+     * 지연 확인 시작 (바로 한 번 확인한 뒤 주기적으로 확인)
+     * @param taskScheduler - 공용 스케줄러 (종료는 스프링이 관리)
+     * @param intervalMillis - 확인 주기
+     */
+    public void start(TaskScheduler taskScheduler, long intervalMillis) {
+        task = taskScheduler.scheduleWithFixedDelay(this::check, Duration.ofMillis(intervalMillis));
+    }
+
+    /**
+     * 조회 대상 복제 DB 이름 목록
+     * @return List<String> - 지연이 허용 범위 안인 복제 DB 이름
+     */
+    public List<String> healthyReplicas() {
+        return healthyReplicas;
+    }
+
+    // 모든 복제 DB 의 지연을 확인하고 조회 대상 목록 갱신
+    void check() {
+        List<String> healthy = replicas.entrySet().stream()
+                .filter(entry -> isHealthy(entry.getKey(), entry.getValue()))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+        if (!healthy.equals(healthyReplicas)) {
+            log.info("조회 대상 복제 DB 변경: {} -> {}", healthyReplicas, healthy);
+        }
+        healthyReplicas = healthy;
+    }
+
+    private boolean isHealthy(String name, DataSource replica) {
+        Long lag = readLag(name, replica);
+        if (lag == null) {
+            lagSeconds.remove(name);
+            return false;
+        }
+        lagSeconds.put(name, lag);
+        if (lag > maxLagSeconds) {
+            log.warn("복제 지연이 허용 범위를 넘어 조회 대상에서 제외 - Replica: {}, Lag: {}s", name, lag);
+            return false;
+        }
+        return true;
+    }
+
+    // 복제 지연 시간 조회 (복제 중이 아니거나 조회에 실패하면 null)
+    private Long readLag(String name, DataSource replica) {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!resultSet.next()) {
+                log.warn("복제 상태가 없는 DB 입니다 - Replica: {}", name);
+                return null;
+            }
+            // MySQL 8.0.22 이전 버전의 컬럼 이름도 지원
+            String column = hasColumn(resultSet.getMetaData(), "Seconds_Behind_Source")
+                    ? "Seconds_Behind_Source" : "Seconds_Behind_Master";
+            long lag = resultSet.getLong(column);
+            return resultSet.wasNull() ? null : lag;
+        } catch (SQLException e) {
+            log.warn("복제 지연 확인 실패 - Replica: {}", name, e);
+            return null;
+        }
+    }
+
+    private static boolean hasColumn(ResultSetMetaData metaData, String column) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (column.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 지연 확인 중지 (복제 DB 커넥션 풀을 닫기 전에 호출)
+    @Override
+    public void close() {
+        ScheduledFuture<?> current = task;
+        if (current != null) {
+            current.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.alphaka.blogservice.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션을 복제 DB 로 보내는 DataSource
+ * - 읽기 전용 트랜잭션: 지연이 허용 범위 안인 복제 DB 중 하나를 순서대로 선택
+ * - 쓰기 트랜잭션, 트랜잭션 밖의 조회, 주 DB 로 고정된 요청(ReadYourWrites), 사용 가능한 복제 DB 가 없는 경우: 주 DB
+ * 트랜잭션의 읽기 전용 여부가 정해진 뒤에 커넥션을 얻도록 LazyConnectionDataSourceProxy 로 감싸서 사용해야 함
+ * 캐시 무효화 직후 복제 DB 의 이전 데이터로 다시 채워진 캐시는 CacheUtils 의 두 번째 무효화로 제거
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+    static final String ROUTE_METRIC = "blog.datasource.route";
+
+    private final Map<String, DataSource> replicas;
+    private final ReplicaLagMonitor lagMonitor;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    private final Counter primaryWrite;
+    private final Counter primaryPinned;
+    private final Counter primaryFallback;
+    private final Counter replicaRead;
+
+    /**
+     * @param primary - 주 DB
+     * @param replicas - 복제 DB 이름별 DataSource
+     * @param lagMonitor - 복제 지연 확인
+     * @param meterRegistry - 메트릭 레지스트리
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.lagMonitor = lagMonitor;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        this.primaryWrite = counter(meterRegistry, PRIMARY, "write");
+        this.primaryPinned = counter(meterRegistry, PRIMARY, "read_your_writes");
+        this.primaryFallback = counter(meterRegistry, PRIMARY, "no_healthy_replica");
+        this.replicaRead = counter(meterRegistry, "replica", "read_only");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryWrite.increment();
+            return PRIMARY;
+        }
+        if (ReadYourWrites.isPinned()) {
+            primaryPinned.increment();
+            return PRIMARY;
+        }
+
+        List<String> healthy = lagMonitor.healthyReplicas();
+        if (healthy.isEmpty()) {
+            primaryFallback.increment();
+            return PRIMARY;
+        }
+        replicaRead.increment();
+        return healthy.get(Math.floorMod(sequence.getAndIncrement(), healthy.size()));
+    }
+
+    // 지연 확인과 복제 DB 커넥션 풀 종료 (주 DB 는 별도 빈으로 관리)
+    @Override
+    public void destroy() throws Exception {
+        lagMonitor.close();
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder(ROUTE_METRIC)
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,8 @@
+package com.alphaka.blogservice.exception.custom;
+
+public class BlogMovingException extends CustomException {
+
+    public BlogMovingException() {
+        super(ErrorCode.BLOG_MOVING);
+    }
+}
@@ -21,6 +21,7 @@ public enum ErrorCode {
     // 블로그 관련
     BLOG_NOT_FOUND(404, "BLG002", "존재하지 않는 블로그입니다."),
     BLOG_CREATION_FAILED(500, "BLG001", "블로그 생성 중 오류가 발생했습니다."),
+    BLOG_MOVING(503, "BLG003", "블로그 데이터를 이동하는 중입니다. 잠시 후 다시 시도해주세요."),
 
     // 게시글 관련
     POST_NOT_FOUND(404, "PST001", "존재하지 않는 포스트입니다."),
@@ -2,6 +2,7 @@ package com.alphaka.blogservice.like.entity;
 
 import com.alphaka.blogservice.comment.entity.Comment;
 import com.alphaka.blogservice.common.entity.CreateBaseEntity;
+import com.alphaka.blogservice.common.id.Tsid;
 import com.alphaka.blogservice.post.entity.Post;
 import jakarta.persistence.*;
 import lombok.*;
@@ -14,7 +15,7 @@ import lombok.*;
 public class Like extends CreateBaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     private Long id;
 
     @Column(nullable = false)
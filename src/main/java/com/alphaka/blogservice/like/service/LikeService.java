@@ -1,13 +1,17 @@
 package com.alphaka.blogservice.like.service;
 
 import com.alphaka.blogservice.common.dto.CurrentUser;
+import com.alphaka.blogservice.common.event.LikeEvent;
 import com.alphaka.blogservice.comment.entity.Comment;
 import com.alphaka.blogservice.like.entity.Like;
+import com.alphaka.blogservice.post.dto.PostSummary;
 import com.alphaka.blogservice.post.entity.Post;
 import com.alphaka.blogservice.exception.custom.CommentNotFoundException;
 import com.alphaka.blogservice.exception.custom.PostNotFoundException;
 import com.alphaka.blogservice.comment.repository.CommentRepository;
 import com.alphaka.blogservice.like.repository.LikeRepository;
+import com.alphaka.blogservice.outbox.entity.OutboxEventType;
+import com.alphaka.blogservice.outbox.service.OutboxService;
 import com.alphaka.blogservice.post.repository.PostRepository;
 import com.alphaka.blogservice.util.CacheUtils;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +31,7 @@ public class LikeService {
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final LikeRepository likeRepository;
+    private final OutboxService outboxService;
 
     /**
      * 게시글 좋아요 또는 좋아요 취소
@@ -37,8 +42,9 @@ public class LikeService {
     public void toggleLikeOnPost(CurrentUser currentUser, Long postId) {
         log.info("게시글 좋아요 토글 - Post ID: {}", postId);
 
-        // 게시글 존재 여부 확인
-        Post post = postRepository.findById(postId).orElseThrow(PostNotFoundException::new);
+        // 게시글 존재 여부 확인 (본문은 읽지 않고, 좋아요에는 조회 없이 참조만 연결)
+        PostSummary summary = postRepository.findSummaryById(postId).orElseThrow(PostNotFoundException::new);
+        Post post = postRepository.getReferenceById(postId);
         Long userId = currentUser.getUserId();
 
         // 좋아요 여부 확인
@@ -61,6 +67,10 @@ public class LikeService {
             log.info("게시글 좋아요 - Post ID: {}, User ID: {}", postId, userId);
         }
 
+        // 좋아요 변경 이벤트를 같은 트랜잭션에서 아웃박스에 저장
+        outboxService.append(existingLike.isPresent() ? OutboxEventType.LIKE_REMOVED : OutboxEventType.LIKE_ADDED,
+                postId, new LikeEvent(postId, null, userId));
+
         // 좋아요 변경 시, 관련 캐시 무효화
         cacheUtils.evictLikeCountForPost(postId);
         cacheUtils.evictUserLikeOnPost(userId, postId);
@@ -69,8 +79,7 @@ public class LikeService {
         cacheUtils.evictPostDetailsCache(postId, userId);
 
         // 좋아요 변경 시, 블로그 게시글 목록 캐시 삭제
-        Long blogId = post.getBlog().getId();
-        cacheUtils.evictPostListCache(blogId);
+        cacheUtils.evictPostListCache(summary.getBlogId());
     }
 
     /**
@@ -83,7 +92,9 @@ public class LikeService {
         log.info("댓글 좋아요 토글 - Comment ID: {}", commentId);
 
         // 댓글 존재 여부 확인
-        Comment comment = commentRepository.findById(commentId).orElseThrow(CommentNotFoundException::new);
+        Comment comment = commentRepository.findById(commentId)
+                .filter(found -> !found.isDeleted())
+                .orElseThrow(CommentNotFoundException::new);
         Long userId = currentUser.getUserId();
 
         // 좋아요 여부 확인
@@ -106,12 +117,16 @@ public class LikeService {
             log.info("댓글 좋아요 - Comment ID: {}, User ID: {}", commentId, userId);
         }
 
+        // 좋아요 변경 이벤트를 같은 트랜잭션에서 아웃박스에 저장
+        Post post = comment.getPost();
+        outboxService.append(existingLike.isPresent() ? OutboxEventType.LIKE_REMOVED : OutboxEventType.LIKE_ADDED,
+                post.getId(), new LikeEvent(post.getId(), commentId, userId));
+
         // 댓글 좋아요 변경 시, 관련 캐시 무효화
         cacheUtils.evictLikeCountForComment(commentId);
         cacheUtils.evictUserLikeOnComment(userId, commentId);
 
         // 댓글이 속한 게시글의 댓글 캐시 삭제
-        Post post = comment.getPost();
         cacheUtils.evictCommentsCache(post.getId());
     }
 }
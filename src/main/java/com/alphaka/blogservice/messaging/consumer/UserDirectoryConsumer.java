@@ -0,0 +1,64 @@
+package com.alphaka.blogservice.messaging.consumer;
+
+import com.alphaka.blogservice.common.event.UserProfileEvent;
+import com.alphaka.blogservice.user.service.UserDirectoryService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * User-Service의 사용자 정보 이벤트를 구독하여 로컬 사용자 디렉터리를 갱신하는 컨슈머
+ * 블로그 생성 컨슈머와 파티션을 나눠 갖지 않도록 별도 그룹으로 구독
+ *
+ * user-profile-updated 토픽은 user-service 가 발행해야 하는 토픽이며, 아직 user-service 에서 발행하지 않음 (계약 합의 전)
+ * - 발행 시점: 회원 가입, 닉네임 / 프로필 이미지 변경
+ * - 메시지 키: 사용자 ID (같은 사용자의 이벤트가 같은 파티션에 순서대로 쌓이도록)
+ * - 메시지 본문: UserProfileEvent JSON {"userId", "nickname", "profileImage", "version"}
+ * - version: user-service 에서의 변경 시각(epoch millis), 같은 사용자에 대해 증가해야 함
+ * 발행되기 전까지는 디렉터리가 시작 시 채운 정보와 user-withdrawal 로만 갱신되고, 디렉터리에 없는 사용자는 user-service 를 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserDirectoryConsumer {
+
+    private final UserDirectoryService userDirectoryService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 사용자 정보 생성 및 변경 이벤트를 수신하여 디렉터리에 반영
+     * @param message - UserProfileEvent JSON
+     */
+    @KafkaListener(topics = "user-profile-updated", groupId = "blog-service-user-directory")
+    public void consumeUserProfileEvent(String message) {
+        log.info("user-profile-updated 이벤트 수신: {}", message);
+        try {
+            UserProfileEvent event = objectMapper.readValue(message, UserProfileEvent.class);
+            if (event.getUserId() == null || event.getNickname() == null) {
+                log.error("잘못된 사용자 정보 이벤트: {}", message);
+                return;
+            }
+            userDirectoryService.upsert(event);
+        } catch (JsonProcessingException e) {
+            // 다시 처리해도 실패하므로 건너뜀
+            log.error("사용자 정보 이벤트 파싱 실패: {}", message, e);
+        }
+    }
+
+    /**
+     * 사용자 탈퇴 이벤트를 수신하여 디렉터리에서 삭제
+     * @param userId - 사용자 ID
+     */
+    @KafkaListener(topics = "user-withdrawal", groupId = "blog-service-user-directory")
+    public void consumeUserWithdrawalEvent(String userId) {
+        log.info("user-withdrawal 이벤트 수신: {}", userId);
+        try {
+            userDirectoryService.delete(Long.parseLong(userId.trim()));
+        } catch (NumberFormatException e) {
+            log.error("잘못된 사용자 ID: {}", userId, e);
+        }
+    }
+}
@@ -1,39 +1,121 @@
 package com.alphaka.blogservice.messaging.consumer;
 
-import com.alphaka.blogservice.exception.custom.BlogCreationFailedException;
 import com.alphaka.blogservice.blog.service.BlogService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 /**
  * User-Service에서 발생하는 이벤트를 구독하는 컨슈머
+ * 처리에 실패한 이벤트는 재시도 토픽(-retry-N)으로 보내 지수 백오프로 다시 처리하고, 끝내 실패하면 DLT(-dlt)로 보냄
+ * 실패한 이벤트가 원래 토픽의 파티션을 막지 않으며, DLT 의 이벤트는 DeadLetterReplayer 로 다시 보낼 수 있음
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class UserServiceConsumer {
 
+    static final String USER_SIGNUP_FALLBACK_TOPIC = "user-signup-fallback";
+    static final String RETRY_METRIC_NAME = "blog.kafka.retry";
+    static final String DEAD_LETTER_METRIC_NAME = "blog.kafka.dead_letter";
+    private static final long HANDOFF_TIMEOUT_SECONDS = 10;
+
     private final BlogService blogService;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 사용자 가입 이벤트를 묶음으로 수신하여 새로운 사용자들의 블로그를 일괄 생성
+     * 잘못된 사용자 ID 는 다시 처리해도 실패하므로 건너뜀
+     * 일괄 생성이 실패하면 묶음의 이벤트를 건별 처리 토픽으로 넘겨, 재시도 토픽에서 다시 처리 (묶음 리스너는 재시도 토픽을 지원하지 않음)
+     * @param userIds - 사용자 ID 목록
+     */
+    @KafkaListener(topics = "user-signup", groupId = "blog-service", batch = "true",
+            concurrency = "${blog.kafka.user-signup.concurrency:3}",
+            properties = "max.poll.records:${blog.kafka.user-signup.max-poll-records:1000}")
+    public void consumeUserSignupEvents(List<String> userIds) {
+        log.info("user-signup 이벤트 {}건 수신", userIds.size());
+        List<Long> parsedUserIds = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            if (userId == null) {
+                log.error("잘못된 사용자 ID: null");
+                continue;
+            }
+            try {
+                parsedUserIds.add(Long.parseLong(userId.trim()));
+            } catch (NumberFormatException e) {
+                log.error("잘못된 사용자 ID: {}", userId, e);
+            }
+        }
+
+        try {
+            int created = blogService.createBlogsForNewUsers(parsedUserIds);
+            log.info("블로그 일괄 생성 완료: {}건", created);
+        } catch (Exception e) {
+            log.error("블로그 일괄 생성 실패, 건별 처리 토픽으로 전달: {}건 - {}", parsedUserIds.size(), e.getMessage(), e);
+            handOff(parsedUserIds);
+        }
+    }
+
+    /**
+     * 일괄 생성에 실패한 가입 이벤트를 건별로 수신하여 블로그 생성 (일괄 생성과 같은 방식이므로 멱등)
+     * @param userId - 사용자 ID
+     * @param topic - 수신한 토픽 (재시도 토픽이면 재시도 횟수 기록)
+     */
+    @RetryableTopic(
+            attempts = "${blog.kafka.retry.attempts:4}",
+            backoff = @Backoff(delayExpression = "${blog.kafka.retry.delay-ms:1000}",
+                    multiplierExpression = "${blog.kafka.retry.multiplier:2}",
+                    maxDelayExpression = "${blog.kafka.retry.max-delay-ms:30000}"),
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            exclude = NumberFormatException.class)
+    @KafkaListener(topics = USER_SIGNUP_FALLBACK_TOPIC, groupId = "blog-service")
+    public void consumeUserSignupFallbackEvent(String userId, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+        log.info("{} 이벤트 수신: {}", topic, userId);
+        recordRetry(topic);
+        blogService.createBlogsForNewUsers(List.of(Long.parseLong(userId.trim())));
+    }
 
     /**
-     * 사용자 가입 이벤트를 수신하여 새로운 사용자의 블로그를 생성
+     * 사용자 탈퇴 이벤트를 수신하여 사용자의 블로그를 삭제
+     * 잘못된 사용자 ID 는 재시도 없이 바로 DLT 로 보냄
      * @param userId - 사용자 ID
+     * @param topic - 수신한 토픽 (재시도 토픽이면 재시도 횟수 기록)
      */
-    @KafkaListener(topics = "user-signup", groupId = "blog-service")
-    public void consumeUserSignupEvent(String userId) {
-        log.info("user-signup 이벤트 수신: {}", userId);
+    @RetryableTopic(
+            attempts = "${blog.kafka.retry.attempts:4}",
+            backoff = @Backoff(delayExpression = "${blog.kafka.retry.delay-ms:1000}",
+                    multiplierExpression = "${blog.kafka.retry.multiplier:2}",
+                    maxDelayExpression = "${blog.kafka.retry.max-delay-ms:30000}"),
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            exclude = NumberFormatException.class)
+    @KafkaListener(topics = "user-withdrawal", groupId = "blog-service")
+    public void consumeUserWithdrawalEvent(String userId, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+        log.info("{} 이벤트 수신: {}", topic, userId);
+        recordRetry(topic);
         try {
-            Long parsedUserId = Long.parseLong(userId);
-            blogService.createBlogForNewUser(parsedUserId);
-            log.info("블로그 생성 완료: User ID: {}", parsedUserId);
+            Long parsedUserId = Long.parseLong(userId.trim());
+            blogService.deleteBlogForUser(parsedUserId);
+            log.info("블로그 삭제 완료: User ID: {}", parsedUserId);
         } catch (NumberFormatException e) {
             log.error("잘못된 사용자 ID: {}", userId, e);
             throw e;
-        } catch (BlogCreationFailedException e) {
-            log.error("블로그 생성 실패: User ID: {} - {}", userId, e.getMessage(), e);
-            throw e;
         } catch (Exception e) {
             log.error("알 수 없는 오류 발생: User ID: {} - {}", userId, e.getMessage(), e);
             throw e;
@@ -41,22 +123,37 @@ public class UserServiceConsumer {
     }
 
     /**
-     * 사용자 탈퇴 이벤트를 수신하여 사용자의 블로그를 삭제
-     * @param userId - 사용자 ID
+     * 재시도를 모두 실패하여 DLT 로 보내진 이벤트 기록
+     * @param message - 이벤트
+     * @param topic - DLT 토픽
      */
-//    @KafkaListener(topics = "user-withdrawal", groupId = "blog-service")
-//    public void consumeUserWithdrawalEvent(String userId) {
-//        log.info("user-withdrawal 이벤트 수신: {}", userId);
-//        try {
-//            Long parsedUserId = Long.parseLong(userId);
-//            blogService.deleteBlogForUser(parsedUserId);
-//            log.info("블로그 삭제 완료: User ID: {}", parsedUserId);
-//        } catch (NumberFormatException e) {
-//            log.error("잘못된 사용자 ID: {}", userId, e);
-//            throw e;
-//        } catch (Exception e) {
-//            log.error("알 수 없는 오류 발생: User ID: {} - {}", userId, e.getMessage(), e);
-//            throw e;
-//        }
-//    }
-}
\ No newline at end of file
+    @DltHandler
+    public void handleDeadLetter(String message, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+        log.error("이벤트 처리 최종 실패, DLT 에 보관: {} - {}", topic, message);
+        meterRegistry.counter(DEAD_LETTER_METRIC_NAME, "topic", topic).increment();
+    }
+
+    // 묶음의 이벤트를 건별 처리 토픽으로 전달 (전달이 끝나야 묶음의 오프셋이 커밋되도록 대기)
+    private void handOff(List<Long> userIds) {
+        CompletableFuture<?>[] sends = userIds.stream()
+                .map(String::valueOf)
+                .map(userId -> kafkaTemplate.send(USER_SIGNUP_FALLBACK_TOPIC, userId, userId))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(sends).get(HANDOFF_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("가입 이벤트 전달이 중단되었습니다.", e);
+        } catch (ExecutionException | TimeoutException e) {
+            // 전달하지 못하면 묶음 전체를 다시 수신
+            throw new IllegalStateException("가입 이벤트를 건별 처리 토픽으로 전달하지 못했습니다.", e);
+        }
+    }
+
+    // 재시도 토픽에서 수신한 이벤트의 재시도 횟수 기록
+    private void recordRetry(String topic) {
+        if (topic.contains("-retry")) {
+            meterRegistry.counter(RETRY_METRIC_NAME, "topic", topic).increment();
+        }
+    }
+}
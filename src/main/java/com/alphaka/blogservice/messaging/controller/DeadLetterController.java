@@ -0,0 +1,26 @@
+package com.alphaka.blogservice.messaging.controller;
+
+import com.alphaka.blogservice.common.response.ApiResponse;
+import com.alphaka.blogservice.messaging.replay.DeadLetterReplayer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * DLT 이벤트 재처리 (운영용, 게이트웨이 외부 경로(/api)로 노출하지 않음)
+ */
+@RestController
+@RequestMapping("/internal/kafka/dlt")
+@RequiredArgsConstructor
+public class DeadLetterController {
+
+    private final DeadLetterReplayer deadLetterReplayer;
+
+    /**
+     * DLT 의 이벤트를 원래 토픽으로 다시 보냄 (최대 max 개, 남은 이벤트는 다시 요청)
+     */
+    @PostMapping("/{topic}/replay")
+    public ApiResponse<DeadLetterReplayer.Result> replay(@PathVariable("topic") String topic,
+                                                        @RequestParam(value = "max", defaultValue = "500") int max) {
+        return new ApiResponse<>(deadLetterReplayer.replay(topic, max));
+    }
+}
@@ -0,0 +1,143 @@
+package com.alphaka.blogservice.messaging.replay;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * DLT 에 보관된 이벤트를 원래 토픽으로 다시 보내는 재처리기 (운영용)
+ * - 전용 그룹의 커밋된 오프셋부터 일정 개수씩 읽어 원래 토픽으로 보내고, 전송이 끝난 묶음만 오프셋 커밋
+ * - 한 번에 최대 요청한 개수까지 보내고, 남은 이벤트는 다음 요청에서 이어서 재처리
+ * 컨슈머는 같은 이벤트를 다시 받아도 결과가 같으므로, 중간에 실패해 일부가 두 번 전송되어도 무해
+ */
+@Slf4j
+@Component
+public class DeadLetterReplayer {
+
+    static final String GROUP_ID = "blog-service-dlt-replay";
+    static final String METRIC_NAME = "blog.kafka.dead_letter.replayed";
+    private static final String DLT_SUFFIX = "-dlt";
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(2);
+    private static final long SEND_TIMEOUT_SECONDS = 10;
+
+    private final ConsumerFactory<String, String> consumerFactory;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+    private final List<String> topics;
+    private final int batchSize;
+
+    public DeadLetterReplayer(ConsumerFactory<String, String> consumerFactory,
+                              KafkaTemplate<String, String> kafkaTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${blog.kafka.dead-letter.topics:user-signup-fallback-dlt,user-withdrawal-dlt}") List<String> topics,
+                              @Value("${blog.kafka.dead-letter.replay-batch-size:100}") int batchSize) {
+        this.consumerFactory = consumerFactory;
+        this.kafkaTemplate = kafkaTemplate;
+        this.meterRegistry = meterRegistry;
+        this.topics = topics;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * DLT 의 이벤트를 원래 토픽으로 다시 보냄 (인스턴스 안에서는 한 번에 하나의 재처리만 실행)
+     * @param deadLetterTopic - DLT 토픽
+     * @param maxRecords - 최대 재처리 개수
+     * @return Result - 재처리 결과
+     */
+    public synchronized Result replay(String deadLetterTopic, int maxRecords) {
+        if (!topics.contains(deadLetterTopic)) {
+            throw new IllegalArgumentException("재처리할 수 없는 토픽입니다: " + deadLetterTopic);
+        }
+        if (maxRecords <= 0) {
+            throw new IllegalArgumentException("재처리 개수는 1 이상이어야 합니다: " + maxRecords);
+        }
+
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(Math.min(maxRecords, batchSize)));
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        overrides.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        int replayed = 0;
+        try (Consumer<String, String> consumer = consumerFactory.createConsumer(GROUP_ID, null, null, overrides)) {
+            consumer.assign(consumer.partitionsFor(deadLetterTopic).stream()
+                    .map(partition -> new TopicPartition(deadLetterTopic, partition.partition()))
+                    .toList());
+
+            while (replayed < maxRecords) {
+                ConsumerRecords<String, String> records = consumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    break;
+                }
+
+                // 요청한 개수까지만 보내고, 보낸 이벤트의 다음 위치를 커밋
+                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+                List<CompletableFuture<?>> sends = new ArrayList<>();
+                for (ConsumerRecord<String, String> record : records) {
+                    if (replayed >= maxRecords) {
+                        break;
+                    }
+                    sends.add(kafkaTemplate.send(originalTopic(record), record.key(), record.value()));
+                    offsets.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1));
+                    replayed++;
+                }
+                await(sends);
+                consumer.commitSync(offsets);
+            }
+        }
+
+        meterRegistry.counter(METRIC_NAME, "topic", deadLetterTopic).increment(replayed);
+        log.info("DLT 재처리 완료 - Topic: {}, Replayed: {}", deadLetterTopic, replayed);
+        return new Result(deadLetterTopic, replayed);
+    }
+
+    // DLT 로 보낼 때 기록된 원래 토픽 (헤더가 없으면 DLT 토픽 이름에서 유추)
+    private static String originalTopic(ConsumerRecord<String, String> record) {
+        Header header = record.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC);
+        if (header != null) {
+            return new String(header.value(), StandardCharsets.UTF_8);
+        }
+        return record.topic().substring(0, record.topic().length() - DLT_SUFFIX.length());
+    }
+
+    private static void await(List<CompletableFuture<?>> sends) {
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("DLT 재처리가 중단되었습니다.", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("DLT 이벤트를 원래 토픽으로 보내지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * DLT 재처리 결과
+     * @param topic - DLT 토픽
+     * @param replayed - 원래 토픽으로 다시 보낸 이벤트 수
+     */
+    public record Result(String topic, int replayed) {
+    }
+}
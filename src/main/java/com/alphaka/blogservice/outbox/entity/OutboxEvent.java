@@ -0,0 +1,44 @@
+package com.alphaka.blogservice.outbox.entity;
+
+import com.alphaka.blogservice.common.entity.CreateBaseEntity;
+import com.alphaka.blogservice.common.id.Tsid;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 아직 Kafka 로 발행하지 않은 도메인 이벤트 (게시글, 댓글, 좋아요 변경과 같은 트랜잭션에서 저장)
+ * 같은 메시지 키(게시글)의 이벤트는 순번(aggregateSequence) 순서로 발행, 발행이 끝난 이벤트는 OutboxRelay 가 삭제
+ */
+@Entity
+@Getter
+@Table(name = "outbox_events")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class OutboxEvent extends CreateBaseEntity {
+
+    @Id
+    @Tsid
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private OutboxEventType eventType;
+
+    @Column(nullable = false, length = 64)
+    private String messageKey;
+
+    @Column(nullable = false)
+    private Long aggregateSequence;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Builder
+    public OutboxEvent(OutboxEventType eventType, String messageKey, Long aggregateSequence, String payload) {
+        this.eventType = eventType;
+        this.messageKey = messageKey;
+        this.aggregateSequence = aggregateSequence;
+        this.payload = payload;
+    }
+}
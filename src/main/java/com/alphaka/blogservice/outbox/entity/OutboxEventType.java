@@ -0,0 +1,29 @@
+package com.alphaka.blogservice.outbox.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도메인 이벤트 종류와 발행할 토픽
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+
+    POST_CREATED(Topics.POST),
+    POST_UPDATED(Topics.POST),
+    POST_DELETED(Topics.POST),
+    COMMENT_CREATED(Topics.COMMENT),
+    COMMENT_UPDATED(Topics.COMMENT),
+    COMMENT_DELETED(Topics.COMMENT),
+    LIKE_ADDED(Topics.LIKE),
+    LIKE_REMOVED(Topics.LIKE);
+
+    private final String topic;
+
+    private static class Topics {
+        private static final String POST = "blog-post-events";
+        private static final String COMMENT = "blog-comment-events";
+        private static final String LIKE = "blog-like-events";
+    }
+}
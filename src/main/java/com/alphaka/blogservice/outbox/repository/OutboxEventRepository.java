@@ -0,0 +1,7 @@
+package com.alphaka.blogservice.outbox.repository;
+
+import com.alphaka.blogservice.outbox.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+}
@@ -0,0 +1,148 @@
+package com.alphaka.blogservice.outbox.service;
+
+import com.alphaka.blogservice.outbox.entity.OutboxEventType;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 아웃박스 이벤트 한 묶음 발행
+ * - ID 순으로 묶음을 읽고, 같은 메시지 키(게시글)의 이벤트는 순번 순서로 보냄
+ *   ID 는 INSERT 전에 만들어지므로 커밋 순서와 다를 수 있지만, 순번은 같은 키 안에서 커밋 순서와 같음
+ * - 같은 키의 앞선 순번 이벤트가 묶음 밖에 있으면 그 사이의 이벤트를 함께 조회하여 순번이 빠지지 않도록 함
+ * - 묶음의 이벤트를 한꺼번에 보내고 (프로듀서가 파티션별로 모아 압축 전송), 전송이 확인된 이벤트의 ID 만 삭제
+ * - 키마다 처음 실패한 이벤트부터는 삭제하지 않아, 다음 실행에서 그 이벤트부터 순서대로 다시 발행 (다른 키는 영향 없음)
+ * 전송 후 삭제 전에 중단되면 같은 이벤트가 다시 발행되므로 (at-least-once), 컨슈머는 eventId 헤더로 중복을 걸러야 함
+ */
+@Slf4j
+@Component
+public class OutboxPublisher {
+
+    public static final String EVENT_ID_HEADER = "eventId";
+    public static final String EVENT_TYPE_HEADER = "eventType";
+    private static final String COLUMNS = "SELECT id, event_type, message_key, aggregate_sequence, payload FROM outbox_events ";
+    private static final String PENDING_EVENTS = COLUMNS + "ORDER BY id LIMIT ?";
+    private static final String KEY_RANGE = COLUMNS + "WHERE message_key = ? AND aggregate_sequence BETWEEN ? AND ? "
+            + "ORDER BY aggregate_sequence";
+    private static final RowMapper<PendingEvent> PENDING_EVENT = (rs, rowNum) -> new PendingEvent(
+            rs.getLong("id"), rs.getString("event_type"), rs.getString("message_key"),
+            rs.getLong("aggregate_sequence"), rs.getString("payload"));
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final long sendTimeoutMillis;
+
+    public OutboxPublisher(KafkaTemplate<String, String> kafkaTemplate,
+                           @Value("${blog.outbox.relay.send-timeout-ms:10000}") long sendTimeoutMillis) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+    }
+
+    /**
+     * 아직 발행하지 않은 이벤트를 ID 순서대로 최대 batchSize 개 읽어, 키별 순번 순서로 발행
+     * @param session - 이벤트를 조회하고 삭제할 커넥션
+     * @param batchSize - 묶음 크기
+     * @return int - 발행한 이벤트 수
+     */
+    public int publishBatch(JdbcTemplate session, int batchSize) {
+        List<PendingEvent> batch = session.query(PENDING_EVENTS, PENDING_EVENT, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<PendingEvent> events = inSequenceOrder(session, batch);
+        List<CompletableFuture<?>> sends = events.stream().map(this::send).toList();
+        List<Long> published = awaitPerKey(events, sends);
+
+        // 전송이 확인된 이벤트만 삭제
+        if (!published.isEmpty()) {
+            String placeholders = String.join(", ", Collections.nCopies(published.size(), "?"));
+            session.update("DELETE FROM outbox_events WHERE id IN (" + placeholders + ")", published.toArray());
+        }
+        if (published.size() < events.size()) {
+            throw new IllegalStateException("아웃박스 이벤트 발행 실패 - " + (events.size() - published.size()) + "건");
+        }
+        return published.size();
+    }
+
+    // 키별로 순번 순서로 정렬 (묶음의 순번이 키의 첫 미발행 순번부터 이어지지 않으면 그 구간을 다시 조회)
+    private List<PendingEvent> inSequenceOrder(JdbcTemplate session, List<PendingEvent> batch) {
+        Map<String, List<PendingEvent>> byKey = new LinkedHashMap<>();
+        batch.forEach(event -> byKey.computeIfAbsent(event.messageKey(), key -> new ArrayList<>()).add(event));
+        Map<String, Long> firstSequences = firstPendingSequences(session, byKey.keySet());
+
+        List<PendingEvent> ordered = new ArrayList<>(batch.size());
+        byKey.forEach((key, events) -> {
+            events.sort(Comparator.comparingLong(PendingEvent::sequence));
+            long first = firstSequences.getOrDefault(key, events.get(0).sequence());
+            long last = events.get(events.size() - 1).sequence();
+            boolean contiguous = events.get(0).sequence() == first && last - first + 1 == events.size();
+            ordered.addAll(contiguous ? events : session.query(KEY_RANGE, PENDING_EVENT, key, first, last));
+        });
+        return ordered;
+    }
+
+    private Map<String, Long> firstPendingSequences(JdbcTemplate session, Set<String> keys) {
+        String placeholders = String.join(", ", Collections.nCopies(keys.size(), "?"));
+        Map<String, Long> firstSequences = new HashMap<>();
+        session.query("SELECT message_key, MIN(aggregate_sequence) AS first_sequence FROM outbox_events "
+                        + "WHERE message_key IN (" + placeholders + ") GROUP BY message_key",
+                (RowCallbackHandler) rs -> firstSequences.put(rs.getString("message_key"), rs.getLong("first_sequence")),
+                keys.toArray());
+        return firstSequences;
+    }
+
+    private CompletableFuture<?> send(PendingEvent event) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(
+                OutboxEventType.valueOf(event.eventType()).getTopic(), event.messageKey(), event.payload());
+        record.headers().add(EVENT_ID_HEADER, String.valueOf(event.id()).getBytes(StandardCharsets.UTF_8));
+        record.headers().add(EVENT_TYPE_HEADER, event.eventType().getBytes(StandardCharsets.UTF_8));
+        return kafkaTemplate.send(record);
+    }
+
+    // 앞에서부터 전송 결과를 확인하여, 키마다 처음 실패한 이벤트 앞까지의 ID 반환
+    private List<Long> awaitPerKey(List<PendingEvent> events, List<CompletableFuture<?>> sends) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        Set<String> failedKeys = new HashSet<>();
+        List<Long> published = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            PendingEvent event = events.get(i);
+            if (failedKeys.contains(event.messageKey())) {
+                continue;
+            }
+            try {
+                sends.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                published.add(event.id());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("아웃박스 이벤트 전송 실패 - Event ID: {}, Key: {}, {}", event.id(), event.messageKey(), e.getMessage());
+                failedKeys.add(event.messageKey());
+            }
+        }
+        return published;
+    }
+
+    private record PendingEvent(Long id, String eventType, String messageKey, long sequence, String payload) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.alphaka.blogservice.outbox.service;
+
+import com.alphaka.blogservice.shard.ShardContext;
+import com.alphaka.blogservice.shard.ShardMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아웃박스 이벤트를 Kafka 로 발행하는 릴레이
+ * - 샤드마다 아웃박스를 묶음 단위로 읽어 OutboxPublisher 로 발행 (한 번에 최대 max-batches 묶음)
+ * - 샤드마다 MySQL 네임드 락(GET_LOCK)을 잡은 인스턴스 하나만 발행하여, 여러 인스턴스가 같은 이벤트를 뒤섞어 보내지 않음
+ *   (락은 커넥션에 묶이므로 인스턴스가 죽으면 자동으로 풀림)
+ * - 공용 스케줄러(SchedulingConfig)에서 실행되며, 종료 시 발행 중인 묶음이 끝날 때까지 기다림
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String LOCK_PREFIX = "blog_outbox_relay:";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxPublisher outboxPublisher;
+    private final ShardMap shardMap;
+
+    @Value("${blog.outbox.relay.enabled:true}")
+    private boolean enabled;
+
+    @Value("${blog.outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${blog.outbox.relay.max-batches:20}")
+    private int maxBatches;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, OutboxPublisher outboxPublisher, ShardMap shardMap) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.outboxPublisher = outboxPublisher;
+        this.shardMap = shardMap;
+    }
+
+    @Scheduled(initialDelayString = "${blog.outbox.relay.interval-ms:200}",
+            fixedDelayString = "${blog.outbox.relay.interval-ms:200}")
+    public void scheduledRelay() {
+        if (enabled) {
+            relayAllShards();
+        }
+    }
+
+    /**
+     * 모든 샤드의 아웃박스 이벤트 발행
+     * @return int - 발행한 이벤트 수
+     */
+    public int relayAllShards() {
+        int relayed = 0;
+        for (String shard : shardMap.shards()) {
+            try {
+                ShardContext.bind(shard);
+                relayed += relay(shard);
+            } catch (RuntimeException e) {
+                log.error("아웃박스 이벤트 발행 실패 - Shard: {}", shard, e);
+            } finally {
+                ShardContext.clear();
+            }
+        }
+        return relayed;
+    }
+
+    // 락을 잡은 커넥션 하나로 현재 샤드의 아웃박스 발행 (다른 인스턴스가 발행 중이면 건너뜀)
+    private int relay(String shard) {
+        Integer relayed = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            String lockName = LOCK_PREFIX + shard;
+            Integer locked = session.queryForObject("SELECT GET_LOCK(?, 0)", Integer.class, lockName);
+            if (locked == null || locked != 1) {
+                return 0;
+            }
+            try {
+                int published = 0;
+                for (int batch = 0; batch < maxBatches; batch++) {
+                    int count = outboxPublisher.publishBatch(session, batchSize);
+                    published += count;
+                    if (count < batchSize) {
+                        break;
+                    }
+                }
+                return published;
+            } finally {
+                session.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, lockName);
+            }
+        });
+        return relayed == null ? 0 : relayed;
+    }
+}
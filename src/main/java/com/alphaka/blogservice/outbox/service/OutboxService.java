@@ -0,0 +1,77 @@
+package com.alphaka.blogservice.outbox.service;
+
+import com.alphaka.blogservice.outbox.entity.OutboxEvent;
+import com.alphaka.blogservice.outbox.entity.OutboxEventType;
+import com.alphaka.blogservice.outbox.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Collections;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    // 메시지 키의 다음 순번 (LAST_INSERT_ID(expr) 로 같은 커넥션에서 바로 읽음)
+    private static final String NEXT_SEQUENCE = "INSERT INTO outbox_sequences (message_key, last_sequence) "
+            + "VALUES (?, LAST_INSERT_ID(1)) ON DUPLICATE KEY UPDATE last_sequence = LAST_INSERT_ID(last_sequence + 1)";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 도메인 이벤트를 아웃박스에 저장 (변경과 같은 트랜잭션에서만 호출, 커밋된 변경의 이벤트만 발행됨)
+     * 같은 게시글의 이벤트가 같은 파티션에 순서대로 발행되도록 게시글 ID 를 메시지 키로 사용
+     * 게시글별 순번은 순번 행의 잠금을 커밋까지 유지하므로, 같은 게시글의 이벤트는 커밋 순서대로 순번을 받음
+     * 대신 같은 게시글의 게시글 / 댓글 / 좋아요 변경 트랜잭션은 이 잠금에서 직렬화되어,
+     * 게시글 하나에 몰리는 쓰기는 (이 호출부터 커밋까지의 시간)당 한 건으로 제한됨
+     * 잠금 시간을 줄이도록 변경을 모두 마친 뒤 트랜잭션의 마지막 쓰기로 호출
+     * @param eventType - 이벤트 종류
+     * @param postId - 게시글 ID (메시지 키)
+     * @param payload - 이벤트 객체
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType eventType, Long postId, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("도메인 이벤트 직렬화 실패: " + eventType, e);
+        }
+
+        String messageKey = String.valueOf(postId);
+        jdbcTemplate.update(NEXT_SEQUENCE, messageKey);
+        Long sequence = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(eventType)
+                .messageKey(messageKey)
+                .aggregateSequence(sequence)
+                .payload(json)
+                .build());
+    }
+
+    /**
+     * 삭제된 게시글의 순번 행 삭제 (게시글 삭제 이벤트를 저장한 뒤 같은 트랜잭션에서 호출)
+     * 이미 저장된 이벤트는 순번을 가지고 있으므로 발행 순서에는 영향이 없음
+     * @param postIds - 게시글 ID 목록
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void forgetSequences(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(postIds.size(), "?"));
+        jdbcTemplate.update("DELETE FROM outbox_sequences WHERE message_key IN (" + placeholders + ")",
+                postIds.stream().map(String::valueOf).toArray());
+    }
+}
@@ -1,6 +1,7 @@
 package com.alphaka.blogservice.post.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -40,6 +41,10 @@ public class PostResponse {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime updatedAt;
 
+    // 작성자나 태그 조회가 제한 시간 안에 끝나지 않아 일부 정보가 빠진 응답 (캐시하지 않음, 응답 본문에는 포함하지 않음)
+    @JsonIgnore
+    private boolean partial;
+
     // QueryDSL 프로젝션을 위해 author와 tags를 제외 (서비스 로직에서 별도로 추가)
     public PostResponse(Long postId, Long authorId, String title, String content, Long likeCount, Integer viewCount,
                         boolean isLike, boolean isPublic, boolean isCommentable, LocalDateTime createdAt, LocalDateTime updatedAt) {
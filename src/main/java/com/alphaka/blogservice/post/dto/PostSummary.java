@@ -0,0 +1,18 @@
+package com.alphaka.blogservice.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 존재, 작성자, 댓글 허용 여부 확인용 요약 정보
+ * 본문(LONGTEXT)을 읽지 않도록 필요한 컬럼만 조회
+ */
+@Getter
+@AllArgsConstructor
+public class PostSummary {
+    private Long id;
+    private Long userId;
+    private Long blogId;
+    private boolean isPublic;
+    private boolean isCommentable;
+}
@@ -3,6 +3,7 @@ package com.alphaka.blogservice.post.entity;
 import com.alphaka.blogservice.blog.entity.Blog;
 import com.alphaka.blogservice.comment.entity.Comment;
 import com.alphaka.blogservice.common.entity.DeleteBaseEntity;
+import com.alphaka.blogservice.common.id.Tsid;
 import com.alphaka.blogservice.like.entity.Like;
 import com.alphaka.blogservice.report.entity.Report;
 import com.alphaka.blogservice.tag.entity.PostTag;
@@ -20,7 +21,7 @@ import java.util.List;
 public class Post extends DeleteBaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     private Long id;
 
     @Column(nullable = false)
@@ -1,12 +1,15 @@
 package com.alphaka.blogservice.post.repository;
 
+import com.alphaka.blogservice.post.dto.PostSummary;
 import com.alphaka.blogservice.post.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,9 +20,25 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
     @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :postId")
     void increaseViewCount(@Param("postId") Long postId);
 
-    // 댓글 ID로 게시글 조회
-    Optional<Post> findByCommentsId(Long commentId);
+    // 게시글 요약 조회 (본문 제외)
+    @Query("SELECT new com.alphaka.blogservice.post.dto.PostSummary(p.id, p.userId, p.blog.id, p.isPublic, p.isCommentable) "
+            + "FROM Post p WHERE p.id = :postId")
+    Optional<PostSummary> findSummaryById(@Param("postId") Long postId);
 
-    // 모든 공개 게시글 수 조회
-    Long countByIsPublicTrue();
+    // 댓글 ID로 게시글 요약 조회 (본문 제외)
+    @Query("SELECT new com.alphaka.blogservice.post.dto.PostSummary(p.id, p.userId, p.blog.id, p.isPublic, p.isCommentable) "
+            + "FROM Comment c JOIN c.post p WHERE c.id = :commentId")
+    Optional<PostSummary> findSummaryByCommentId(@Param("commentId") Long commentId);
+
+    // 삭제되지 않은 블로그의 공개 게시글 수 조회 (전체 게시글 목록과 같은 조건)
+    @Query("SELECT COUNT(p) FROM Post p JOIN p.blog b WHERE p.isPublic = true AND b.deletedAt IS NULL")
+    Long countPublicPostsOfActiveBlogs();
+
+    // 블로그의 게시글 ID 목록 조회
+    @Query("SELECT p.id FROM Post p WHERE p.blog.id = :blogId")
+    List<Long> findIdsByBlogId(@Param("blogId") Long blogId);
+
+    // 주어진 ID 이후의 게시글 ID 목록 조회 (ID 순, 블룸 필터 채우기에 사용)
+    @Query("SELECT p.id FROM Post p WHERE p.id > :lastId ORDER BY p.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.alphaka.blogservice.post.repository;
 import com.alphaka.blogservice.post.dto.AllPostListResponse;
 import com.alphaka.blogservice.post.dto.PostListResponse;
 import com.alphaka.blogservice.post.dto.PostResponse;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
@@ -12,10 +13,10 @@ import java.util.Optional;
 @Repository
 public interface PostRepositoryCustom {
 
-    // 블로그 ID로 게시글 목록 조회 (페이징)
-    List<PostListResponse> getPostListResponse(Long blogId, boolean isOwner, Pageable pageable);
+    // 블로그 ID로 게시글 목록 조회 (페이징, 태그와 전체 게시글 수 포함)
+    Page<PostListResponse> getPostListResponse(Long blogId, boolean isOwner, Pageable pageable);
 
-    // 게시글 ID로 게시글 상세 조회
+    // 게시글 ID로 게시글 상세 조회 (태그 포함)
     Optional<PostResponse> getPostResponse(Long postId, Long userId);
 
     // 전체 게시글 키워드 검색 (페이징)
@@ -30,6 +31,9 @@ public interface PostRepositoryCustom {
     // 전체 공개 게시글 조회 (페이징)
     List<AllPostListResponse> findAllPublicPosts(Pageable pageable);
 
+    // 게시글과 게시글에 속한 댓글, 좋아요, 신고, 태그 연결 삭제 (삭제한 행 수 반환)
+    int purgePost(Long postId);
+
     // 전체 게시글 조회 (페이징) - 관리자용
 //    List<PostListResponse> getPosts(Pageable pageable);
 
@@ -7,18 +7,26 @@ import com.alphaka.blogservice.post.dto.PostListResponse;
 import com.alphaka.blogservice.post.dto.PostResponse;
 import com.alphaka.blogservice.post.entity.QPost;
 import com.alphaka.blogservice.util.QueryDslUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,101 +34,86 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class PostRepositoryImpl implements PostRepositoryCustom {
 
+    // 좋아요 수, 댓글 수, 태그 목록 (게시글 행마다 상관 서브쿼리로 계산하여 한 번의 쿼리로 조회)
+    private static final String LIKE_COUNT = "(SELECT COUNT(*) FROM likes l WHERE l.post_id = p.id)";
+    private static final String COMMENT_COUNT = "(SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id AND c.deleted_at IS NULL)";
+    private static final String TAG_NAMES = "(SELECT JSON_ARRAYAGG(t.tag_name) FROM post_tags pt "
+            + "JOIN tags t ON t.id = pt.tag_id WHERE pt.post_id = p.id)";
+    private static final TypeReference<List<String>> TAG_NAMES_TYPE = new TypeReference<>() {};
+
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
 
-    // 게시글 목록 조회
+    // 게시글 목록 조회 (좋아요 수, 댓글 수, 태그를 한 번의 쿼리로 조회)
+    // 인덱스만 읽어 페이지의 게시글 ID 를 먼저 고른 뒤 게시글과 조인하여, 본문(LONGTEXT)과 서브쿼리는 페이지 행에 대해서만 읽고 계산
     @Override
-    public List<PostListResponse> getPostListResponse(Long blogId, boolean isOwner, Pageable pageable) {
-        QPost post = QPost.post;
-        QLike like = QLike.like;
-        QComment comment = QComment.comment;
-
-        // 좋아요 수 서브쿼리
-        Expression<Long> likeCount = JPAExpressions
-                .select(like.count())
-                .from(like)
-                .where(like.post.id.eq(post.id));
-
-        // 댓글 수 서브쿼리
-        Expression<Long> commentCount = JPAExpressions
-                .select(comment.count())
-                .from(comment)
-                .where(comment.post.id.eq(post.id));
-
-        // 게시글 목록 조회
-        JPAQuery<PostListResponse> query = queryFactory
-                .select(Projections.constructor(PostListResponse.class,
-                        post.id.as("postId"),
-                        post.title,
-                        post.content,
-                        // 썸네일, 태그는 서비스에서 처리
-                        likeCount,
-                        commentCount,
-                        post.viewCount,
-                        post.createdAt,
-                        post.updatedAt
-                ))
-                .from(post)
-                .where(post.blog.id.eq(blogId));
-
-        // 블로그 소유자일 경우 비공개 게시글도 조회
-        if (!isOwner) {
-            query.where(post.isPublic.isTrue());
-        }
-
-        List<OrderSpecifier<?>> orderSpecifiers = QueryDslUtils.getAllOrderSpecifiers(pageable, "post");
-        if (!orderSpecifiers.isEmpty()) {
-            query.orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]));
-        }
-
-        // 페이징 적용
-        query.offset(pageable.getOffset());
-        query.limit(pageable.getPageSize());
-
-        // 결과 조회
-        return query.fetch();
+    public Page<PostListResponse> getPostListResponse(Long blogId, boolean isOwner, Pageable pageable) {
+        String orderBy = orderBy(pageable);
+        String sql = "SELECT p.id, p.title, p.content, p.view_count, p.created_at, p.updated_at, "
+                + LIKE_COUNT + " AS like_count, "
+                + COMMENT_COUNT + " AS comment_count, "
+                + TAG_NAMES + " AS tag_names "
+                + "FROM (SELECT p.id FROM posts p "
+                + "WHERE p.blog_id = ?"
+                + (isOwner ? "" : " AND p.is_public = TRUE") // 블로그 소유자일 경우 비공개 게시글도 조회
+                + orderBy
+                + " LIMIT ? OFFSET ?) page "
+                + "JOIN posts p ON p.id = page.id"
+                + orderBy;
+
+        List<PostListResponse> content = jdbcTemplate.query(sql, (rs, rowNum) -> {
+            PostListResponse response = new PostListResponse(
+                    rs.getLong("id"),
+                    rs.getString("title"),
+                    rs.getString("content"),
+                    rs.getLong("like_count"),
+                    rs.getLong("comment_count"),
+                    rs.getInt("view_count"),
+                    rs.getObject("created_at", LocalDateTime.class),
+                    rs.getObject("updated_at", LocalDateTime.class)
+            );
+            response.setTags(parseTagNames(rs.getString("tag_names")));
+            return response;
+        }, blogId, pageable.getPageSize(), pageable.getOffset());
+
+        // 전체 수는 인덱스만 읽는 COUNT 로 조회 (첫 페이지가 다 차지 않는 등 결과만으로 알 수 있으면 생략)
+        return PageableExecutionUtils.getPage(content, pageable, () -> countPostsByBlogId(blogId, isOwner));
     }
 
-    // 게시글 상세 조회
+    // 게시글 상세 조회 (좋아요 수, 좋아요 여부, 태그와 공개 여부 판단에 필요한 작성자, 공개 여부를 한 번의 쿼리로 조회)
     @Override
     public Optional<PostResponse> getPostResponse(Long postId, Long userId) {
-        QPost post = QPost.post;
-        QLike like = QLike.like;
-
-        // 좋아요 수 서브쿼리
-        Expression<Long> likeCount = JPAExpressions
-                .select(like.count())
-                .from(like)
-                .where(like.post.id.eq(post.id));
-
-        // 현재 사용자의 좋아요 여부 서브쿼리
-        Expression<Boolean> isLiked = (userId == null)
-                ? Expressions.asBoolean(false)  // 비로그인 상태에서는 false로 설정
-                : JPAExpressions.select(like.count().gt(0))
-                .from(like)
-                .where(like.post.id.eq(post.id).and(like.userId.eq(userId)))
-                .exists();
-
-        // 게시글 상세 조회
-        PostResponse postResponse = queryFactory
-                .select(Projections.constructor(PostResponse.class,
-                        post.id.as("postId"),
-                        post.userId.as("authorId"),
-                        post.title,
-                        post.content,
-                        likeCount,
-                        post.viewCount,
-                        isLiked,
-                        post.isPublic,
-                        post.isCommentable,
-                        post.createdAt,
-                        post.updatedAt
-                ))
-                .from(post)
-                .where(post.id.eq(postId))
-                .fetchOne();
-
-        return Optional.ofNullable(postResponse);
+        String sql = "SELECT p.id, p.user_id, p.title, p.content, p.view_count, p.is_public, p.is_commentable, "
+                + "p.created_at, p.updated_at, "
+                + LIKE_COUNT + " AS like_count, "
+                // 비로그인 상태(userId = null)에서는 항상 false
+                + "EXISTS (SELECT 1 FROM likes l WHERE l.post_id = p.id AND l.user_id = ?) AS is_liked, "
+                + TAG_NAMES + " AS tag_names "
+                + "FROM posts p "
+                // 삭제된 블로그(탈퇴한 사용자)의 게시글 제외
+                + "JOIN blogs b ON b.id = p.blog_id AND b.deleted_at IS NULL "
+                + "WHERE p.id = ?";
+
+        List<PostResponse> results = jdbcTemplate.query(sql, (rs, rowNum) -> {
+            PostResponse response = new PostResponse(
+                    rs.getLong("id"),
+                    rs.getLong("user_id"),
+                    rs.getString("title"),
+                    rs.getString("content"),
+                    rs.getLong("like_count"),
+                    rs.getInt("view_count"),
+                    rs.getBoolean("is_liked"),
+                    rs.getBoolean("is_public"),
+                    rs.getBoolean("is_commentable"),
+                    rs.getObject("created_at", LocalDateTime.class),
+                    rs.getObject("updated_at", LocalDateTime.class)
+            );
+            response.setTags(parseTagNames(rs.getString("tag_names")));
+            return response;
+        }, userId, postId);
+
+        return results.stream().findFirst();
     }
 
     // 전체 공개 게시글 조회 (페이징)
@@ -136,11 +129,11 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                 .from(like)
                 .where(like.post.id.eq(post.id));
 
-        // 댓글 수 서브쿼리
+        // 댓글 수 서브쿼리 (삭제된 댓글 제외)
         Expression<Long> commentCount = JPAExpressions
                 .select(comment.count())
                 .from(comment)
-                .where(comment.post.id.eq(post.id));
+                .where(comment.post.id.eq(post.id), comment.deletedAt.isNull());
 
         // 게시글 목록 조회
         JPAQuery<AllPostListResponse> query = queryFactory
@@ -157,7 +150,7 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                         post.updatedAt
                 ))
                 .from(post)
-                .where(post.isPublic.isTrue());
+                .where(post.isPublic.isTrue(), post.blog.deletedAt.isNull());
 
         // 정렬 조건 적용
         List<OrderSpecifier<?>> orderSpecifiers = QueryDslUtils.getAllOrderSpecifiers(pageable, "post");
@@ -167,6 +160,9 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
             // 기본 정렬 조건 설정 (정렬 조건이 없을 때)
             query.orderBy(post.createdAt.desc());
         }
+        // 같은 값이면 첫 정렬 방향의 ID 순으로 순서 확정 (샤드별 결과 병합 순서와 일치)
+        boolean ascending = !orderSpecifiers.isEmpty() && orderSpecifiers.get(0).isAscending();
+        query.orderBy(ascending ? post.id.asc() : post.id.desc());
 
         // 페이징 적용
         query.offset(pageable.getOffset());
@@ -189,11 +185,11 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                 .from(like)
                 .where(like.post.id.eq(post.id));
 
-        // 댓글 수 서브쿼리
+        // 댓글 수 서브쿼리 (삭제된 댓글 제외)
         Expression<Long> commentCount = JPAExpressions
                 .select(comment.count())
                 .from(comment)
-                .where(comment.post.id.eq(post.id));
+                .where(comment.post.id.eq(post.id), comment.deletedAt.isNull());
 
         // 키워드 검색 조건 추가 (제목은 대소문자 구분 없이, 내용은 대소문자 구분하여 검색)
         BooleanExpression keywordCondition = post.title.containsIgnoreCase(keyword)
@@ -212,18 +208,23 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                         post.updatedAt
                 ))
                 .from(post)
-                .where(keywordCondition);
+                .where(keywordCondition, post.blog.deletedAt.isNull());
 
         // 비공개 게시글 필터링 (소유자가 아닐 경우)
         if (!isOwner) {
             query.where(post.isPublic.isTrue());
         }
 
-        // 정렬 적용
+        // 정렬 적용 (정렬 조건이 없으면 최신순)
         List<OrderSpecifier<?>> orderSpecifiers = QueryDslUtils.getAllOrderSpecifiers(pageable, "post");
         if (!orderSpecifiers.isEmpty()) {
             query.orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]));
+        } else {
+            query.orderBy(post.createdAt.desc());
         }
+        // 같은 값이면 첫 정렬 방향의 ID 순으로 순서 확정 (샤드별 결과 병합 순서와 일치)
+        boolean ascending = !orderSpecifiers.isEmpty() && orderSpecifiers.get(0).isAscending();
+        query.orderBy(ascending ? post.id.asc() : post.id.desc());
 
         // 페이징 적용
         query.offset(pageable.getOffset());
@@ -264,7 +265,7 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
         JPAQuery<Long> query = queryFactory
                 .select(post.count())
                 .from(post)
-                .where(keywordCondition);
+                .where(keywordCondition, post.blog.deletedAt.isNull());
 
         // 비공개 게시글 필터링 (소유자가 아닐 경우)
         if (!isOwner) {
@@ -275,6 +276,53 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
         return query.fetchOne();
     }
 
+    // 게시글과 게시글에 속한 댓글, 좋아요, 신고, 태그 연결 삭제 (행 수와 관계없이 고정된 수의 DELETE 문으로 삭제)
+    @Override
+    public int purgePost(Long postId) {
+        // 게시글 / 댓글 조건을 OR 로 묶으면 인덱스를 쓰지 못하므로 나누어 삭제
+        int deleted = jdbcTemplate.update("DELETE r FROM reports r JOIN comments c ON c.id = r.comment_id WHERE c.post_id = ?", postId);
+        deleted += jdbcTemplate.update("DELETE FROM reports WHERE post_id = ?", postId);
+        deleted += jdbcTemplate.update("DELETE l FROM likes l JOIN comments c ON c.id = l.comment_id WHERE c.post_id = ?", postId);
+        deleted += jdbcTemplate.update("DELETE FROM likes WHERE post_id = ?", postId);
+        // ID 순서는 작성 순서를 보장하지 않으므로 부모 참조를 먼저 끊은 뒤 삭제
+        jdbcTemplate.update("UPDATE comments SET parent_id = NULL WHERE post_id = ? AND parent_id IS NOT NULL", postId);
+        deleted += jdbcTemplate.update("DELETE FROM comments WHERE post_id = ?", postId);
+        deleted += jdbcTemplate.update("DELETE FROM post_tags WHERE post_id = ?", postId);
+        deleted += jdbcTemplate.update("DELETE FROM posts WHERE id = ?", postId);
+        return deleted;
+    }
+
+    // 정렬 조건을 네이티브 쿼리의 ORDER BY 절로 변환 (같은 값일 때 페이지 간 순서가 바뀌지 않도록 마지막에 ID 정렬 추가)
+    private static String orderBy(Pageable pageable) {
+        List<String> orders = new ArrayList<>();
+        boolean ascending = true;
+        for (Sort.Order order : pageable.getSort()) {
+            if (orders.isEmpty()) {
+                ascending = order.isAscending();
+            }
+            String column = switch (order.getProperty()) {
+                case "createdAt" -> "p.created_at";
+                case "viewCount" -> "p.view_count";
+                default -> throw new IllegalArgumentException("지원하지 않는 정렬 필드입니다: " + order.getProperty());
+            };
+            orders.add(column + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        orders.add("p.id" + (ascending ? " ASC" : " DESC"));
+        return " ORDER BY " + String.join(", ", orders);
+    }
+
+    // JSON_ARRAYAGG 결과를 태그 목록으로 변환 (태그가 없으면 NULL)
+    private List<String> parseTagNames(String tagNames) {
+        if (tagNames == null) {
+            return new ArrayList<>();
+        }
+        try {
+            return objectMapper.readValue(tagNames, TAG_NAMES_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("태그 목록을 읽을 수 없습니다: " + tagNames, e);
+        }
+    }
+
 //    @Override
 //    public List<PostListResponse> getPosts(Pageable pageable) {
 //        QPost post = QPost.post;
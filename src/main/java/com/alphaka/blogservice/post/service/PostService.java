@@ -2,38 +2,54 @@ package com.alphaka.blogservice.post.service;
 
 import com.alphaka.blogservice.blog.entity.Blog;
 import com.alphaka.blogservice.blog.repository.BlogRepository;
-import com.alphaka.blogservice.client.feign.UserClient;
 import com.alphaka.blogservice.common.dto.CurrentUser;
 import com.alphaka.blogservice.common.dto.PageResponse;
 import com.alphaka.blogservice.common.dto.UserDTO;
+import com.alphaka.blogservice.common.event.PostEvent;
 import com.alphaka.blogservice.exception.custom.BlogNotFoundException;
 import com.alphaka.blogservice.exception.custom.PostNotFoundException;
 import com.alphaka.blogservice.exception.custom.UnauthorizedException;
+import com.alphaka.blogservice.exception.custom.UserNotFoundException;
+import com.alphaka.blogservice.outbox.entity.OutboxEventType;
+import com.alphaka.blogservice.outbox.service.OutboxService;
 import com.alphaka.blogservice.post.dto.AllPostListResponse;
 import com.alphaka.blogservice.post.dto.PostListResponse;
 import com.alphaka.blogservice.post.dto.PostRequest;
 import com.alphaka.blogservice.post.dto.PostResponse;
+import com.alphaka.blogservice.post.dto.PostSummary;
 import com.alphaka.blogservice.post.entity.Post;
 import com.alphaka.blogservice.post.repository.PostRepository;
+import com.alphaka.blogservice.shard.ShardMap;
+import com.alphaka.blogservice.shard.ShardTemplate;
 import com.alphaka.blogservice.tag.service.TagService;
+import com.alphaka.blogservice.user.service.UserDirectoryService;
 import com.alphaka.blogservice.util.CacheUtils;
+import com.alphaka.blogservice.util.ExistenceGuard;
+import feign.FeignException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -43,11 +59,20 @@ import java.util.stream.Collectors;
 public class PostService {
 
     private final CacheUtils cacheUtils;
+    private final ExistenceGuard existenceGuard;
     private final TagService tagService;
-    private final UserClient userClient;
+    private final UserDirectoryService userDirectoryService;
     private final BlogRepository blogRepository;
     private final PostRepository postRepository;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final Executor postDetailExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardMap shardMap;
+    private final ShardTemplate shardTemplate;
+    private final OutboxService outboxService;
+
+    @Value("${blog.post-detail.deadline-ms:1000}")
+    private long detailDeadlineMillis;
 
     /**
      * 게시글 작성
@@ -72,6 +97,10 @@ public class PostService {
                 .build();
         postRepository.save(post);
 
+        // 존재 여부 필터와 샤드 맵에 등록
+        existenceGuard.registerPost(post.getId());
+        shardMap.recordPost(post.getId(), blog.getId());
+
         // 태그 연결
         if (!request.getTagNames().isEmpty()) {
             tagService.addTagsToPost(post, request.getTagNames());
@@ -79,8 +108,12 @@ public class PostService {
 
         log.info("게시글 작성 완료 - Post ID: {}", post.getId());
 
-        // 게시글 작성 후, 블로그의 postList와 tagList 캐시 무효화
+        // 게시글 작성 이벤트를 같은 트랜잭션에서 아웃박스에 저장
         Long blogId = blog.getId();
+        outboxService.append(OutboxEventType.POST_CREATED, post.getId(),
+                new PostEvent(post.getId(), blogId, post.getUserId(), post.isPublic()));
+
+        // 게시글 작성 후, 블로그의 postList와 tagList 캐시 무효화
         cacheUtils.evictPostListAndTagListCache(blogId);
 
         return post.getId();
@@ -133,8 +166,12 @@ public class PostService {
 
         log.info("게시글 수정 완료 - Post ID: {}", post.getId());
 
-        // 게시글 수정 후, 블로그의 postList와 tagList 캐시 무효화 및 해당 게시글의 postDetails 캐시 무효화
+        // 게시글 수정 이벤트를 같은 트랜잭션에서 아웃박스에 저장
         Long blogId = post.getBlog().getId();
+        outboxService.append(OutboxEventType.POST_UPDATED, postId,
+                new PostEvent(postId, blogId, post.getUserId(), post.isPublic()));
+
+        // 게시글 수정 후, 블로그의 postList와 tagList 캐시 무효화 및 해당 게시글의 postDetails 캐시 무효화
         cacheUtils.evictPostListAndTagListCache(blogId);
         cacheUtils.evictPostDetailsCache(postId, currentUser.getUserId());
 
@@ -150,13 +187,19 @@ public class PostService {
     public void deletePost(CurrentUser currentUser, Long postId) {
         log.info("게시글 삭제 요청 - Post ID: {}", postId);
 
-        Post post = validatePostOwnership(postId, currentUser.getUserId());  // 게시글 작성자 확인
+        PostSummary post = validatePostSummaryOwnership(postId, currentUser.getUserId());  // 게시글 작성자 확인
+
+        // 연관 엔티티를 영속성 컨텍스트에 올려 한 건씩 삭제하지 않고, 테이블별 DELETE 문으로 삭제
+        int deleted = postRepository.purgePost(postId);
+        log.info("게시글 삭제 완료 - Post ID: {}, Deleted rows: {}", post.getId(), deleted);
 
-        postRepository.delete(post);
-        log.info("게시글 삭제 완료 - Post ID: {}", post.getId());
+        // 게시글 삭제 이벤트를 같은 트랜잭션에서 아웃박스에 저장 (이후 이벤트가 없으므로 게시글의 순번 행은 삭제)
+        Long blogId = post.getBlogId();
+        outboxService.append(OutboxEventType.POST_DELETED, postId,
+                new PostEvent(postId, blogId, post.getUserId(), post.isPublic()));
+        outboxService.forgetSequences(List.of(postId));
 
         // 게시글 삭제 후, 블로그의 postList와 tagList 캐시 무효화 및 해당 게시글의 postDetails 캐시 무효화
-        Long blogId = post.getBlog().getId();
         cacheUtils.evictCommentsCache(postId);
         cacheUtils.evictPostListAndTagListCache(blogId);
         cacheUtils.evictPostDetailsCache(postId, currentUser.getUserId());
@@ -169,36 +212,45 @@ public class PostService {
      * @param postId - 게시글 ID
      * @return PostDetailResponse - 게시글 상세 정보
      */
-    @Transactional
     @Cacheable(value = "blogService:cache:postDetails",
             key = "'post:' + #postId + ':user:' + (#currentUser != null ? #currentUser.userId : 'anonymous')",
-            unless = "#result == null || (!#result.isPublic && (#currentUser == null || #currentUser.userId != #result.authorId))")
+            sync = true)
     public PostResponse getPostResponse(HttpServletRequest request, CurrentUser currentUser, Long postId) {
         log.info("게시글 상세 조회 요청 - Post ID: {}", postId);
 
-        // 게시글 조회
-        Post post = postRepository.findById(postId).orElseThrow(PostNotFoundException::new);
+        // 존재하지 않는 게시글이 확실하면 DB 조회 없이 거절
+        existenceGuard.checkPost(postId);
+
+        // 게시글 상세 정보 조회 (태그, 공개 여부 판단에 필요한 작성자와 공개 여부를 한 번의 쿼리로 조회)
+        PostResponse postResponse = postRepository.getPostResponse(postId, currentUser != null ? currentUser.getUserId() : null)
+                .orElseThrow(() -> {
+                    existenceGuard.markPostMissing(postId);
+                    return new PostNotFoundException();
+                });
 
         // 비공개 게시글 접근 권한 확인
-        if (!post.isPublic()) {
-            if (currentUser == null || !currentUser.getUserId().equals(post.getUserId())) {
+        if (!postResponse.isPublic()) {
+            if (currentUser == null || !currentUser.getUserId().equals(postResponse.getAuthorId())) {
                 throw new UnauthorizedException();
             }
         }
 
-        // 게시글 상세 정보 조회
-        PostResponse postResponse = postRepository.getPostResponse(postId, currentUser != null ? currentUser.getUserId() : null)
-                .orElseThrow(PostNotFoundException::new);
-
-        // 게시글 작성자 정보 설정
-        postResponse.setAuthor(userClient.findUserById(postResponse.getAuthorId()).getData().getNickname());
-
-        // 게시글 태그 정보 설정
-        List<String> tags = tagService.findTagsByPostId(postId);
-        postResponse.setTags(tags);
+        // 게시글 작성자 정보 설정 (로컬 디렉터리에 없는 경우에만 user-service 조회, 제한 시간 안에 끝나지 않으면 제외하고 응답)
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(detailDeadlineMillis);
+        FutureTask<UserDTO> authorTask = new FutureTask<>(() -> userDirectoryService.getUser(postResponse.getAuthorId()));
+        UserDTO author = submitPart(authorTask, postResponse, "작성자") ? awaitPart(authorTask, deadline, postResponse, "작성자") : null;
+        if (author != null) {
+            postResponse.setAuthor(author.getNickname());
+        } else if (!postResponse.isPartial()) {
+            // 조회는 끝났지만 사용자가 없는 경우
+            throw new UserNotFoundException();
+        }
+        if (postResponse.getTags() == null) {
+            postResponse.setTags(new ArrayList<>());
+        }
 
-        // 조회수 증가
-        increaseViewCount(postId, request);
+        // 조회수 증가 (응답을 기다리게 하지 않도록 비동기로 기록)
+        recordViewAsync(postId, getClientIp(request));
 
         log.info("게시글 상세 조회 완료 - Post ID: {}", postId);
         return postResponse;
@@ -215,26 +267,32 @@ public class PostService {
             key = "'blog:' + @postService.getBlogIdByNickname(#nickname) + ':page:' + #pageable.pageNumber + ':size:' + " +
                     "#pageable.pageSize + ':sort:' + #pageable.sort.toString() + " +
                     "':user:' + (#currentUser != null ? #currentUser.userId : 'anonymous')",
-            unless = "#result == null || #result.content.isEmpty()"
+            sync = true
     )
     public PageResponse<PostListResponse> getPostListResponse(CurrentUser currentUser, String nickname, Pageable pageable) {
         log.info("블로그 게시글 목록 조회 요청 - Nickname: {}", nickname);
 
         // 블로그 존재 여부 확인
-        UserDTO user = userClient.findUserByNickname(nickname).getData();
-        Blog blog = blogRepository.findByUserId(user.getUserId()).orElseThrow(BlogNotFoundException::new);
+        Blog blog = findBlogByNickname(nickname);
 
         // 현재 사용자가 블로그 주인인지 확인
         boolean isOwner = currentUser != null && currentUser.getUserId().equals(blog.getUserId());
         log.info("현재 사용자가 블로그 주인인지 확안: {}", isOwner);
 
-        // 게시글 목록 조회
-        List<PostListResponse> postListResponses = postRepository.getPostListResponse(blog.getId(), isOwner, pageable);
+        return getPostPage(blog.getId(), isOwner, pageable);
+    }
 
-        // 게시글 ID 목록 추출
-        List<Long> postIds = postListResponses.stream()
-                .map(PostListResponse::getPostId)
-                .collect(Collectors.toList());
+    /**
+     * 블로그 ID로 게시글 목록 한 페이지 조회 (블로그 확인이 끝난 경우 사용, 캐시하지 않음)
+     * @param blogId - 블로그 ID
+     * @param isOwner - 블로그 주인 여부 (비공개 게시글 포함 여부)
+     * @param pageable - 페이징 정보
+     * @return PageResponse<PostListResponse> - 게시글 목록과 페이지 정보
+     */
+    public PageResponse<PostListResponse> getPostPage(Long blogId, boolean isOwner, Pageable pageable) {
+        // 게시글 목록 조회 (태그와 전체 게시글 수를 한 번의 쿼리로 조회)
+        Page<PostListResponse> page = postRepository.getPostListResponse(blogId, isOwner, pageable);
+        List<PostListResponse> postListResponses = page.getContent();
 
         // 게시글 내용에서 대표 이미지와 요약 추출
         for (PostListResponse postResponse : postListResponses) {
@@ -242,18 +300,13 @@ public class PostService {
             postResponse.setRepresentativeImage(representativeImage);
             String contentSnippet = extractContentSnippet(postResponse.getContentSnippet());
             postResponse.setContentSnippet(contentSnippet);
-        }
-
-        // 태그를 한 번에 조회하여 매핑
-        Map<Long, List<String>> postTagsMap = tagService.findTagsByPostIds(postIds);
-
-        for (PostListResponse postResponse : postListResponses) {
-            List<String> tags = postTagsMap.get(postResponse.getPostId());
-            postResponse.setTags(tags != null ? tags : new ArrayList<>());
+            if (postResponse.getTags() == null) {
+                postResponse.setTags(new ArrayList<>());
+            }
         }
 
         // 전체 페이지 수와 총 아이템 수 계산
-        long totalElements = postRepository.countPostsByBlogId(blog.getId(), isOwner);
+        long totalElements = page.getTotalElements();
         int totalPages = (int) Math.ceil((double) totalElements / pageable.getPageSize());
 
         // 페이지네이션 정보를 포함한 응답 반환
@@ -262,20 +315,33 @@ public class PostService {
 
     /**
      * 전체 게시글 목록 조회
+     * 샤딩을 사용하면 모든 샤드에서 조회하여 정렬 순서로 병합
      * @param currentUser - 현재 사용자 정보
      * @param pageable - 페이징 정보
      */
     public PageResponse<AllPostListResponse> getAllPostListResponse(CurrentUser currentUser, Pageable pageable) {
         log.info("전체 게시글 목록 조회 요청");
 
-        List<AllPostListResponse> postListResponses = postRepository.findAllPublicPosts(pageable);
-
-        // 게시글 ID 목록 추출
-        List<Long> postIds = postListResponses.stream()
-                .map(AllPostListResponse::getPostId)
-                .collect(Collectors.toList());
+        Page<AllPostListResponse> page = shardTemplate.queryPage(pageable,
+                postOrder(pageable.getSort(), AllPostListResponse::getCreatedAt, AllPostListResponse::getViewCount,
+                        AllPostListResponse::getPostId),
+                shardPageable -> {
+                    List<AllPostListResponse> posts = postRepository.findAllPublicPosts(shardPageable);
+
+                    // 태그를 한 번에 조회하여 매핑 (태그는 게시글과 같은 샤드에 있음)
+                    Map<Long, List<String>> postTagsMap = tagService.findTagsByPostIds(posts.stream()
+                            .map(AllPostListResponse::getPostId)
+                            .collect(Collectors.toList()));
+                    for (AllPostListResponse postResponse : posts) {
+                        List<String> tags = postTagsMap.get(postResponse.getPostId());
+                        postResponse.setTags(tags != null ? tags : new ArrayList<>());
+                    }
+                    return posts;
+                },
+                postRepository::countPublicPostsOfActiveBlogs);
 
         // 게시글 내용에서 대표 이미지와 요약 추출
+        List<AllPostListResponse> postListResponses = page.getContent();
         for (AllPostListResponse postResponse : postListResponses) {
             String representativeImage = extractFirstImage(postResponse.getContentSnippet());
             postResponse.setRepresentativeImage(representativeImage);
@@ -283,23 +349,11 @@ public class PostService {
             postResponse.setContentSnippet(contentSnippet);
         }
 
-        // 태그를 한 번에 조회하여 매핑
-        Map<Long, List<String>> postTagsMap = tagService.findTagsByPostIds(postIds);
-
-        for (AllPostListResponse postResponse : postListResponses) {
-            List<String> tags = postTagsMap.get(postResponse.getPostId());
-            postResponse.setTags(tags != null ? tags : new ArrayList<>());
-        }
-
-        // 전체 페이지 수와 총 아이템 수 계산
-        long totalElements = postRepository.countByIsPublicTrue();
-        int totalPages = (int) Math.ceil((double) totalElements / pageable.getPageSize());
-
         // 페이지네이션 정보를 포함한 응답 반환
         return PageResponse.<AllPostListResponse>builder()
                 .content(postListResponses)
-                .totalPages(totalPages)
-                .totalElements(totalElements)
+                .totalPages(page.getTotalPages())
+                .totalElements(page.getTotalElements())
                 .currentPage(pageable.getPageNumber() + 1)
                 .pageSize(pageable.getPageSize())
                 .build();
@@ -307,6 +361,7 @@ public class PostService {
 
     /**
      * 전체 게시글 키워드 검색 (페이징, 정렬 default: 최신순)
+     * 샤딩을 사용하면 모든 샤드에서 검색하여 정렬 순서로 병합
      * @param currentUser - 현재 사용자 정보
      * @param keyword     - 검색 키워드
      * @param pageable    - 페이징 정보
@@ -318,14 +373,26 @@ public class PostService {
         boolean isOwner = currentUser != null;
 
         // 게시글 검색
-        List<PostListResponse> postListResponses = postRepository.searchPosts(keyword, isOwner, pageable);
-
-        // 게시글 ID 목록 추출
-        List<Long> postIds = postListResponses.stream()
-                .map(PostListResponse::getPostId)
-                .collect(Collectors.toList());
+        Page<PostListResponse> page = shardTemplate.queryPage(pageable,
+                postOrder(pageable.getSort(), PostListResponse::getCreatedAt, PostListResponse::getViewCount,
+                        PostListResponse::getPostId),
+                shardPageable -> {
+                    List<PostListResponse> posts = postRepository.searchPosts(keyword, isOwner, shardPageable);
+
+                    // 태그를 한 번에 조회하여 매핑 (태그는 게시글과 같은 샤드에 있음)
+                    Map<Long, List<String>> postTagsMap = tagService.findTagsByPostIds(posts.stream()
+                            .map(PostListResponse::getPostId)
+                            .collect(Collectors.toList()));
+                    for (PostListResponse postResponse : posts) {
+                        List<String> tags = postTagsMap.get(postResponse.getPostId());
+                        postResponse.setTags(tags != null ? tags : new ArrayList<>());
+                    }
+                    return posts;
+                },
+                () -> postRepository.countPostsByKeyword(keyword, isOwner));
 
         // 게시글 내용에서 대표 이미지와 요약 추출
+        List<PostListResponse> postListResponses = page.getContent();
         for (PostListResponse postResponse : postListResponses) {
             // 대표 이미지 추출
             String representativeImage = extractFirstImage(postResponse.getContentSnippet());
@@ -336,26 +403,12 @@ public class PostService {
             postResponse.setContentSnippet(contentSnippet);
         }
 
-        // 태그를 한 번에 조회하여 매핑
-        Map<Long, List<String>> postTagsMap = tagService.findTagsByPostIds(postIds);
-
-        for (PostListResponse postResponse : postListResponses) {
-            List<String> tags = postTagsMap.get(postResponse.getPostId());
-            postResponse.setTags(tags != null ? tags : new ArrayList<>());
-        }
-
-        // 총 게시글 수 조회
-        long totalElements = postRepository.countPostsByKeyword(keyword, isOwner);
-
-        // 전체 페이지 수 계산
-        int totalPages = (int) Math.ceil((double) totalElements / pageable.getPageSize());
-
         // 페이징 정보를 포함한 PageResponse 생성
         log.info("전체 게시글 키워드 검색 완료 - Keyword: {}", keyword);
         return PageResponse.<PostListResponse>builder()
                 .content(postListResponses)
-                .totalPages(totalPages)
-                .totalElements(totalElements)
+                .totalPages(page.getTotalPages())
+                .totalElements(page.getTotalElements())
                 .currentPage(pageable.getPageNumber() + 1)  // 1-based index for currentPage
                 .pageSize(pageable.getPageSize())
                 .build();
@@ -368,17 +421,86 @@ public class PostService {
      */
     @Transactional
     public void increaseViewCount(Long postId, HttpServletRequest httpRequest) {
-        String ipAddress = getClientIp(httpRequest);
+        if (isNewView(postId, getClientIp(httpRequest))) {
+            postRepository.increaseViewCount(postId);  // 조회수 증가
+        }
+    }
+
+    /**
+     * 조회수 비동기 기록
+     * 요청 스레드의 트랜잭션과 분리되므로 별도 트랜잭션으로 증가시키고, 실패해도 응답에는 영향을 주지 않음
+     * @param postId - 게시글 ID
+     * @param ipAddress - 클라이언트 IP
+     */
+    // Executor 가 포화 상태이면 요청 스레드에서 기록하지 않고 건너뜀 (조회 응답 지연 방지)
+    private void recordViewAsync(Long postId, String ipAddress) {
+        try {
+            postDetailExecutor.execute(() -> {
+                try {
+                    if (isNewView(postId, ipAddress)) {
+                        transactionTemplate.executeWithoutResult(status -> postRepository.increaseViewCount(postId));
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("조회수 기록 실패 - Post ID: {}", postId, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("조회수 기록 작업이 거절되어 건너뜀 - Post ID: {}", postId);
+        }
+    }
+
+    // 같은 IP의 하루 한 번 조회만 집계
+    private boolean isNewView(Long postId, String ipAddress) {
         String redisKey = "post:viewCount:" + postId + ":" + ipAddress; // Redis 키 구성
         ValueOperations<String, Object> ops = redisTemplate.opsForValue();
 
         // Redis에 조회수 증가 여부 확인
         Boolean isNewView = ops.setIfAbsent(redisKey, "1", 1, TimeUnit.DAYS);
-        if (Boolean.TRUE.equals(isNewView)) {
-            postRepository.increaseViewCount(postId);  // 조회수 증가
+        return Boolean.TRUE.equals(isNewView);
+    }
+
+    /**
+     * 게시글 상세 구성 요소 조회 작업을 Executor 에 제출
+     * Executor 가 포화 상태라 거절되면 일부 정보가 빠진 응답으로 표시 (요청 스레드에서 대신 실행하지 않음)
+     * @return boolean - 제출 여부
+     */
+    private boolean submitPart(FutureTask<?> task, PostResponse response, String part) {
+        try {
+            postDetailExecutor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("게시글 {} 조회 작업 거절, 제외하고 응답 - Post ID: {}", part, response.getPostId());
+            response.setPartial(true);
+            return false;
         }
     }
 
+    /**
+     * 병렬로 실행한 게시글 상세 구성 요소의 결과 대기
+     * 제한 시간을 넘기거나 실패하면 일부 정보가 빠진 응답으로 표시하고 null 반환
+     * 제한 시간을 넘긴 작업은 취소하여 대기 중이면 실행되지 않고, 실행 중이면 인터럽트됨
+     * @param future - 조회 작업
+     * @param deadlineNanos - 요청 단위 제한 시각
+     * @param response - 게시글 상세 응답
+     * @param part - 구성 요소 이름 (로그용)
+     * @return T - 조회 결과
+     */
+    private <T> T awaitPart(Future<T> future, long deadlineNanos, PostResponse response, String part) {
+        try {
+            return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("게시글 {} 조회 시간 초과, 제외하고 응답 - Post ID: {}", part, response.getPostId());
+        } catch (ExecutionException e) {
+            log.warn("게시글 {} 조회 실패, 제외하고 응답 - Post ID: {}", part, response.getPostId(), e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        response.setPartial(true);
+        return null;
+    }
+
     /**
      * 게시글 소유권 확인
      * @param postId - 게시글 ID
@@ -387,14 +509,28 @@ public class PostService {
      */
     private Post validatePostOwnership(Long postId, Long userId) {
         Post post = postRepository.findById(postId).orElseThrow(PostNotFoundException::new);
+        validateAuthor(post.getId(), post.getUserId(), userId);
+        return post;
+    }
+
+    /**
+     * 게시글 소유권 확인 (본문이 필요 없는 경우)
+     * @param postId - 게시글 ID
+     * @param userId - 사용자 ID
+     * @return PostSummary - 게시글 요약 정보
+     */
+    private PostSummary validatePostSummaryOwnership(Long postId, Long userId) {
+        PostSummary post = postRepository.findSummaryById(postId).orElseThrow(PostNotFoundException::new);
+        validateAuthor(post.getId(), post.getUserId(), userId);
+        return post;
+    }
 
-        // 게시글 작성자와 현재 사용자 ID가 같은지 확인
-        if (!post.getUserId().equals(userId)) {
-            log.error("게시글 작성자가 아닙니다 - Post ID: {}, User ID: {}", post.getId(), userId);
+    // 게시글 작성자와 현재 사용자 ID가 같은지 확인
+    private void validateAuthor(Long postId, Long authorId, Long userId) {
+        if (!authorId.equals(userId)) {
+            log.error("게시글 작성자가 아닙니다 - Post ID: {}, User ID: {}", postId, userId);
             throw new UnauthorizedException();
         }
-
-        return post;
     }
 
     /**
@@ -442,17 +578,65 @@ public class PostService {
         return text.length() > 50 ? text.substring(0, 50).trim() + "..." : text;
     }
 
+    /**
+     * 샤드별 게시글 목록 병합 순서 (PostRepository 의 정렬과 같은 순서, 같은 값이면 첫 정렬 방향의 게시글 ID 순)
+     * @param sort - 정렬 조건 (createdAt, viewCount, 없으면 최신순)
+     */
+    private static <T> Comparator<T> postOrder(Sort sort, Function<T, LocalDateTime> createdAt,
+                                               Function<T, Integer> viewCount, Function<T, Long> postId) {
+        Sort effective = sort.isSorted() ? sort : Sort.by(Sort.Direction.DESC, "createdAt");
+        Comparator<T> order = null;
+        for (Sort.Order sortOrder : effective) {
+            Comparator<T> next = switch (sortOrder.getProperty()) {
+                case "createdAt" -> Comparator.comparing(createdAt, Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "viewCount" -> Comparator.comparing(viewCount, Comparator.nullsFirst(Comparator.naturalOrder()));
+                default -> throw new IllegalArgumentException("지원하지 않는 정렬 필드입니다: " + sortOrder.getProperty());
+            };
+            next = sortOrder.isAscending() ? next : next.reversed();
+            order = order == null ? next : order.thenComparing(next);
+        }
+        Comparator<Long> idOrder = effective.iterator().next().isAscending()
+                ? Comparator.naturalOrder() : Comparator.reverseOrder();
+        return order.thenComparing(postId, idOrder);
+    }
+
     /**
      * 닉네임을 통해 블로그 ID를 조회하는 메서드
      * @param nickname - 블로그 주인의 닉네임
      * @return 블로그 ID
      */
     public Long getBlogIdByNickname(String nickname) {
+        return findBlogByNickname(nickname).getId();
+    }
+
+    /**
+     * 닉네임으로 블로그 조회
+     * 존재하지 않는 닉네임은 음성 캐시에 기록하여 이후 요청은 user-service, DB 조회 없이 거절
+     * @param nickname - 블로그 주인의 닉네임
+     * @return Blog - 블로그
+     */
+    private Blog findBlogByNickname(String nickname) {
+        existenceGuard.checkNickname(nickname);
+
         // 닉네임을 통해 사용자 정보를 조회
-        UserDTO user = userClient.findUserByNickname(nickname).getData();
+        UserDTO user;
+        try {
+            user = userDirectoryService.findByNickname(nickname);
+        } catch (FeignException.NotFound e) {
+            UserNotFoundException notFound = new UserNotFoundException();
+            existenceGuard.markNicknameMissing(nickname, notFound);
+            throw notFound;
+        }
+        // 응답이 비어 있는 경우는 user-service 장애(fallback)일 수 있으므로 음성 캐시에 기록하지 않음
+        if (user == null) {
+            throw new UserNotFoundException();
+        }
+
         // 사용자 ID를 통해 블로그 정보를 조회
-        Blog blog = blogRepository.findByUserId(user.getUserId())
-                .orElseThrow(BlogNotFoundException::new);
-        return blog.getId();
+        return blogRepository.findByUserId(user.getUserId()).orElseThrow(() -> {
+            BlogNotFoundException notFound = new BlogNotFoundException();
+            existenceGuard.markNicknameMissing(nickname, notFound);
+            return notFound;
+        });
     }
 }
\ No newline at end of file
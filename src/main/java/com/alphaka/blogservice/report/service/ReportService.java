@@ -5,7 +5,7 @@ import com.alphaka.blogservice.common.dto.CurrentUser;
 import com.alphaka.blogservice.common.dto.UserDTO;
 import com.alphaka.blogservice.report.dto.ReportRequest;
 import com.alphaka.blogservice.comment.entity.Comment;
-import com.alphaka.blogservice.post.entity.Post;
+import com.alphaka.blogservice.post.dto.PostSummary;
 import com.alphaka.blogservice.report.entity.Report;
 import com.alphaka.blogservice.exception.custom.InvalidReportTargetException;
 import com.alphaka.blogservice.comment.repository.CommentRepository;
@@ -69,8 +69,8 @@ public class ReportService {
     public void reportPost(CurrentUser currentUser, ReportRequest request) {
         log.info("게시글 신고. 신고자: {}, 신고 대상: {}", currentUser.getUserId(), request.getTargetId());
 
-        // 신고할 게시글 정보 확인
-        Post post = postRepository.findById(request.getTargetId()).orElseThrow(InvalidReportTargetException::new);
+        // 신고할 게시글 정보 확인 (본문은 읽지 않음)
+        PostSummary post = postRepository.findSummaryById(request.getTargetId()).orElseThrow(InvalidReportTargetException::new);
 
         if (post == null) {
             log.warn("신고 대상 게시글이 존재하지 않습니다.");
@@ -83,10 +83,10 @@ public class ReportService {
             throw new InvalidReportTargetException();
         }
 
-        // 신고 생성
+        // 신고 생성 (게시글은 조회 없이 참조만 연결)
         Report report = Report.reportPost(
                 currentUser.getUserId(),
-                post,
+                postRepository.getReferenceById(post.getId()),
                 request.getReason(),
                 request.getDetails()
         );
@@ -103,7 +103,9 @@ public class ReportService {
         log.info("댓글 신고. 신고자: {}, 신고 대상: {}", currentUser.getUserId(), request.getTargetId());
 
         // 신고 대상 확인
-        Comment comment = commentRepository.findById(request.getTargetId()).orElseThrow(InvalidReportTargetException::new);
+        Comment comment = commentRepository.findById(request.getTargetId())
+                .filter(found -> !found.isDeleted())
+                .orElseThrow(InvalidReportTargetException::new);
 
         if (comment == null) {
             log.warn("신고 대상 댓글이 존재하지 않습니다.");
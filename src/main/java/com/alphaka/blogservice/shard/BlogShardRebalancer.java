@@ -0,0 +1,178 @@
+package com.alphaka.blogservice.shard;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 블로그를 다른 샤드로 재배치
+ * 1. 샤드 맵에 없는 게시글, 댓글 위치 기록 후 재배치 중 표시 (이후 해당 블로그의 쓰기 요청은 거절)
+ * 2. 진행 중인 쓰기가 끝나도록 잠시 대기한 뒤, 대상 샤드에 한 트랜잭션으로 게시글, 태그 연결, 댓글, 좋아요, 신고 복사
+ *    (태그는 샤드마다 ID 가 다르므로 태그 이름으로 대상 샤드의 태그에 다시 연결)
+ * 3. 샤드 맵의 블로그, 게시글, 댓글 위치를 대상 샤드로 변경하고 재배치 중 표시 해제
+ * 4. 원본 샤드의 데이터 삭제
+ * 다른 인스턴스의 위치 캐시가 만료되기 전(blog.sharding.placement-cache-ttl-ms)까지는 해당 블로그 조회가 원본 샤드로 가서 찾지 못할 수 있음
+ * 원본 삭제에 실패하면 purge 로 다시 삭제 (블로그가 위치하지 않은 샤드만 삭제 가능)
+ */
+@Slf4j
+public class BlogShardRebalancer {
+
+    private static final String BLOG_POSTS = "SELECT id FROM posts WHERE blog_id = ?";
+    private static final String BLOG_COMMENTS = "SELECT c.id FROM comments c JOIN posts p ON p.id = c.post_id WHERE p.blog_id = ?";
+    // 아웃박스 순번 행의 메시지 키는 게시글 ID 문자열
+    private static final String BLOG_SEQUENCE_KEYS = "SELECT CAST(id AS CHAR) FROM posts WHERE blog_id = ?";
+
+    private final ShardRoutingDataSource routingDataSource;
+    private final ShardMap shardMap;
+    private final long drainMillis;
+
+    /**
+     * @param routingDataSource - 샤드 DataSource
+     * @param shardMap - 샤드 맵
+     * @param drainMillis - 재배치 중 표시 후 진행 중인 쓰기를 기다리는 시간
+     */
+    public BlogShardRebalancer(ShardRoutingDataSource routingDataSource, ShardMap shardMap, long drainMillis) {
+        this.routingDataSource = routingDataSource;
+        this.shardMap = shardMap;
+        this.drainMillis = drainMillis;
+    }
+
+    /**
+     * @param blogId - 블로그 ID
+     * @param target - 대상 샤드
+     * @return Result - 재배치 결과
+     */
+    public Result move(Long blogId, String target) {
+        String source = shardMap.placementOf(blogId, true).shard();
+        if (source.equals(target)) {
+            throw new IllegalArgumentException("이미 대상 샤드에 있는 블로그입니다: " + target);
+        }
+        JdbcTemplate sourceJdbc = new JdbcTemplate(routingDataSource.shard(source));
+        DataSource targetDataSource = routingDataSource.shard(target);
+        log.info("블로그 재배치 시작 - Blog ID: {}, {} -> {}", blogId, source, target);
+
+        shardMap.recordExisting(blogId, source,
+                sourceJdbc.queryForList(BLOG_POSTS, Long.class, blogId),
+                sourceJdbc.queryForList(BLOG_COMMENTS, Long.class, blogId));
+        shardMap.markMoving(blogId, true);
+
+        int copied;
+        try {
+            drain();
+            copied = transaction(targetDataSource).execute(status ->
+                    copyBlog(sourceJdbc, new JdbcTemplate(targetDataSource), blogId));
+            shardMap.completeMove(blogId, target);
+        } catch (RuntimeException e) {
+            log.error("블로그 재배치 실패, 원본 샤드 유지 - Blog ID: {}", blogId, e);
+            shardMap.markMoving(blogId, false);
+            try {
+                purge(blogId, target);
+            } catch (RuntimeException purgeFailure) {
+                log.error("대상 샤드에 복사된 데이터 삭제 실패 - Blog ID: {}, Shard: {}", blogId, target, purgeFailure);
+            }
+            throw e;
+        }
+
+        int purged = purge(blogId, source);
+        log.info("블로그 재배치 완료 - Blog ID: {}, {} -> {}, Copied: {}, Purged: {}", blogId, source, target, copied, purged);
+        return new Result(blogId, source, target, copied, purged);
+    }
+
+    /**
+     * 블로그가 위치하지 않은 샤드에 남은 블로그 데이터 삭제
+     * @param blogId - 블로그 ID
+     * @param shard - 삭제할 샤드
+     * @return int - 삭제한 행 수
+     */
+    public int purge(Long blogId, String shard) {
+        if (shardMap.placementOf(blogId, true).shard().equals(shard)) {
+            throw new IllegalArgumentException("블로그가 위치한 샤드는 삭제할 수 없습니다: " + shard);
+        }
+        DataSource dataSource = routingDataSource.shard(shard);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        return transaction(dataSource).execute(status -> {
+            int deleted = jdbc.update("DELETE FROM reports WHERE post_id IN (" + BLOG_POSTS + ") " +
+                    "OR comment_id IN (" + BLOG_COMMENTS + ")", blogId, blogId);
+            deleted += jdbc.update("DELETE FROM likes WHERE post_id IN (" + BLOG_POSTS + ") " +
+                    "OR comment_id IN (" + BLOG_COMMENTS + ")", blogId, blogId);
+            // ID 순서는 작성 순서를 보장하지 않으므로 부모 참조를 먼저 끊은 뒤 삭제
+            jdbc.update("UPDATE comments SET parent_id = NULL WHERE post_id IN (" + BLOG_POSTS + ") AND parent_id IS NOT NULL", blogId);
+            deleted += jdbc.update("DELETE FROM comments WHERE post_id IN (" + BLOG_POSTS + ")", blogId);
+            deleted += jdbc.update("DELETE FROM post_tags WHERE post_id IN (" + BLOG_POSTS + ")", blogId);
+            deleted += jdbc.update("DELETE FROM outbox_sequences WHERE message_key IN (" + BLOG_SEQUENCE_KEYS + ")", blogId);
+            deleted += jdbc.update("DELETE FROM posts WHERE blog_id = ?", blogId);
+            return deleted;
+        });
+    }
+
+    // 외래 키 순서대로 복사
+    private int copyBlog(JdbcTemplate source, JdbcTemplate target, Long blogId) {
+        List<String> tagNames = source.queryForList("SELECT DISTINCT t.tag_name FROM tags t " +
+                "JOIN post_tags pt ON pt.tag_id = t.id JOIN posts p ON p.id = pt.post_id WHERE p.blog_id = ?", String.class, blogId);
+        target.batchUpdate("INSERT IGNORE INTO tags (tag_name, created_at) VALUES (?, NOW(6))",
+                tagNames.stream().map(tagName -> new Object[]{tagName}).toList());
+
+        int copied = RowCopier.copy(source, target, "posts", "blog_id = ? ORDER BY id", blogId);
+
+        List<Object[]> postTags = source.query("SELECT pt.id, pt.post_id, pt.created_at, pt.updated_at, pt.deleted_at, t.tag_name " +
+                        "FROM post_tags pt JOIN tags t ON t.id = pt.tag_id JOIN posts p ON p.id = pt.post_id WHERE p.blog_id = ?",
+                (rs, rowNum) -> new Object[]{rs.getLong("id"), rs.getLong("post_id"), rs.getObject("created_at"),
+                        rs.getObject("updated_at"), rs.getObject("deleted_at"), rs.getString("tag_name")}, blogId);
+        target.batchUpdate("INSERT INTO post_tags (id, post_id, tag_id, created_at, updated_at, deleted_at) " +
+                "SELECT ?, ?, t.id, ?, ?, ? FROM tags t WHERE t.tag_name = ? " +
+                "ON DUPLICATE KEY UPDATE deleted_at = VALUES(deleted_at)", postTags);
+        copied += postTags.size();
+
+        copied += copyComments(source, target, blogId);
+        copied += RowCopier.copy(source, target, "likes", "post_id IN (" + BLOG_POSTS + ") " +
+                "OR comment_id IN (" + BLOG_COMMENTS + ")", blogId, blogId);
+        copied += RowCopier.copy(source, target, "reports", "post_id IN (" + BLOG_POSTS + ") " +
+                "OR comment_id IN (" + BLOG_COMMENTS + ")", blogId, blogId);
+        // 대상 샤드에서 게시글 이벤트의 순번이 이어지도록 순번 행도 복사
+        copied += RowCopier.copy(source, target, "outbox_sequences", "message_key IN (" + BLOG_SEQUENCE_KEYS + ")", blogId);
+        return copied;
+    }
+
+    // 부모 댓글이 먼저 복사되도록 최상위 댓글부터 깊이 순으로 복사 (ID 순서는 작성 순서를 보장하지 않음)
+    private int copyComments(JdbcTemplate source, JdbcTemplate target, Long blogId) {
+        String roots = "post_id IN (" + BLOG_POSTS + ") AND parent_id IS NULL";
+        int copied = RowCopier.copy(source, target, "comments", roots, blogId);
+        List<Long> parentIds = source.queryForList("SELECT id FROM comments WHERE " + roots, Long.class, blogId);
+        while (!parentIds.isEmpty()) {
+            String parents = "parent_id IN (" + String.join(", ", Collections.nCopies(parentIds.size(), "?")) + ")";
+            Object[] args = parentIds.toArray();
+            copied += RowCopier.copy(source, target, "comments", parents, args);
+            parentIds = source.queryForList("SELECT id FROM comments WHERE " + parents, Long.class, args);
+        }
+        return copied;
+    }
+
+    private void drain() {
+        try {
+            Thread.sleep(drainMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("블로그 재배치가 중단되었습니다.", e);
+        }
+    }
+
+    private static TransactionTemplate transaction(DataSource dataSource) {
+        return new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    /**
+     * 재배치 결과
+     * @param blogId - 블로그 ID
+     * @param source - 원본 샤드
+     * @param target - 대상 샤드
+     * @param copied - 복사한 행 수
+     * @param purged - 원본에서 삭제한 행 수
+     */
+    public record Result(Long blogId, String source, String target, int copied, int purged) {
+    }
+}
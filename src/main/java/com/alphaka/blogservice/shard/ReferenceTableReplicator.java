@@ -0,0 +1,147 @@
+package com.alphaka.blogservice.shard;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 공통 테이블(블로그, 사용자 디렉터리) 복제
+ * 샤드의 게시글 조회가 블로그, 작성자 정보와 같은 트랜잭션에서 조인, 조회되도록 공통 테이블은 모든 샤드에 같은 ID 로 둠
+ * - 원본은 기본 샤드이며, 기본 샤드의 트랜잭션이 커밋된 뒤 나머지 샤드에 같은 행을 덮어씀 (원본에서 삭제된 행은 삭제)
+ * - 복제에 실패한 행은 다음 변경 또는 애플리케이션 시작 시 전체 동기화에서 반영
+ */
+@Slf4j
+public class ReferenceTableReplicator {
+
+    public static final String BLOGS = "blogs";
+    public static final String USER_DIRECTORY = "user_directory";
+
+    private static final Map<String, String> KEY_COLUMNS = Map.of(BLOGS, "id", USER_DIRECTORY, "user_id");
+    private static final int CHUNK_SIZE = 500;
+
+    private final JdbcTemplate source;
+    private final Map<String, JdbcTemplate> targets;
+
+    /**
+     * @param routingDataSource - 샤드 DataSource (샤딩을 사용하지 않으면 null)
+     */
+    public ReferenceTableReplicator(ShardRoutingDataSource routingDataSource) {
+        if (routingDataSource == null) {
+            this.source = null;
+            this.targets = Map.of();
+            return;
+        }
+        this.source = new JdbcTemplate(routingDataSource.shard(ShardContext.DEFAULT_SHARD));
+        this.targets = routingDataSource.shardNames().stream()
+                .filter(shard -> !ShardContext.DEFAULT_SHARD.equals(shard))
+                .collect(Collectors.toMap(shard -> shard, shard -> new JdbcTemplate(routingDataSource.shard(shard))));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 복제 (트랜잭션 밖이면 바로 복제)
+     * @param table - 공통 테이블 (BLOGS, USER_DIRECTORY)
+     * @param keys - 변경된 행의 키
+     */
+    public void replicateAfterCommit(String table, Collection<Long> keys) {
+        if (targets.isEmpty() || keys.isEmpty()) {
+            return;
+        }
+        List<Long> changed = new ArrayList<>(keys);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            replicate(table, changed);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                replicate(table, changed);
+            }
+        });
+    }
+
+    /**
+     * 애플리케이션 시작 시 공통 테이블 전체 동기화 (이전 복제 실패분 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resync() {
+        if (targets.isEmpty()) {
+            return;
+        }
+        for (String table : KEY_COLUMNS.keySet()) {
+            try {
+                String key = KEY_COLUMNS.get(table);
+                targets.forEach((shard, target) -> {
+                    int copied = RowCopier.copy(source, target, table, "1 = 1");
+                    log.info("공통 테이블 동기화 - Table: {}, Shard: {}, Rows: {}", table, shard, copied);
+                });
+                deleteMissing(table, key);
+            } catch (RuntimeException e) {
+                log.error("공통 테이블 동기화 실패 - Table: {}", table, e);
+            }
+        }
+    }
+
+    private void replicate(String table, List<Long> keys) {
+        String key = KEY_COLUMNS.get(table);
+        for (int from = 0; from < keys.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = keys.subList(from, Math.min(from + CHUNK_SIZE, keys.size()));
+            String in = key + " IN (" + placeholders(chunk.size()) + ")";
+            Object[] args = chunk.toArray();
+            List<Long> removed = removedFromSource(table, key, chunk);
+
+            targets.forEach((shard, target) -> {
+                try {
+                    RowCopier.copy(source, target, table, in, args);
+                    delete(target, table, key, removed);
+                } catch (RuntimeException e) {
+                    log.error("공통 테이블 복제 실패 - Table: {}, Shard: {}, Keys: {}", table, shard, chunk, e);
+                }
+            });
+        }
+    }
+
+    // 원본에 없는 행 삭제 (대상 샤드의 키를 청크 단위로 확인)
+    private void deleteMissing(String table, String key) {
+        targets.forEach((shard, target) -> {
+            long lastKey = 0L;
+            List<Long> keys;
+            do {
+                keys = target.queryForList("SELECT " + key + " FROM " + table + " WHERE " + key + " > ? ORDER BY " + key
+                        + " LIMIT " + CHUNK_SIZE, Long.class, lastKey);
+                if (!keys.isEmpty()) {
+                    delete(target, table, key, removedFromSource(table, key, keys));
+                    lastKey = keys.get(keys.size() - 1);
+                }
+            } while (keys.size() == CHUNK_SIZE);
+        });
+    }
+
+    // 키 목록 중 원본에 없는 키
+    private List<Long> removedFromSource(String table, String key, List<Long> keys) {
+        Set<Long> existing = new HashSet<>(source.queryForList("SELECT " + key + " FROM " + table + " WHERE " + key + " IN ("
+                + placeholders(keys.size()) + ")", Long.class, keys.toArray()));
+        return keys.stream().filter(id -> !existing.contains(id)).toList();
+    }
+
+    private static void delete(JdbcTemplate target, String table, String key, List<Long> keys) {
+        if (!keys.isEmpty()) {
+            target.update("DELETE FROM " + table + " WHERE " + key + " IN (" + placeholders(keys.size()) + ")", keys.toArray());
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.alphaka.blogservice.shard;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 샤드 간 행 복사 (공통 테이블 복제, 블로그 재배치에서 사용)
+ * 원본 행을 모든 컬럼 그대로 대상 샤드에 쓰며, 같은 키의 행이 있으면 덮어씀
+ */
+final class RowCopier {
+
+    private static final int BATCH_SIZE = 500;
+
+    private RowCopier() {
+    }
+
+    /**
+     * @param source - 원본 샤드
+     * @param target - 대상 샤드
+     * @param table - 테이블 이름
+     * @param condition - 복사할 행 조건 (WHERE 이후, ORDER BY 포함 가능)
+     * @param args - 조건 파라미터
+     * @return int - 복사한 행 수
+     */
+    static int copy(JdbcTemplate source, JdbcTemplate target, String table, String condition, Object... args) {
+        List<Object[]> batch = new ArrayList<>();
+        String[] upsert = new String[1];
+        int[] copied = new int[1];
+
+        source.query("SELECT * FROM " + table + " WHERE " + condition, rs -> {
+            ResultSetMetaData metaData = rs.getMetaData();
+            if (upsert[0] == null) {
+                upsert[0] = upsertSql(table, metaData);
+            }
+            Object[] row = new Object[metaData.getColumnCount()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = rs.getObject(i + 1);
+            }
+            batch.add(row);
+            if (batch.size() == BATCH_SIZE) {
+                target.batchUpdate(upsert[0], batch);
+                copied[0] += batch.size();
+                batch.clear();
+            }
+        }, args);
+
+        if (!batch.isEmpty()) {
+            target.batchUpdate(upsert[0], batch);
+            copied[0] += batch.size();
+        }
+        return copied[0];
+    }
+
+    // INSERT ... ON DUPLICATE KEY UPDATE (키가 같으면 모든 컬럼 갱신)
+    private static String upsertSql(String table, ResultSetMetaData metaData) throws SQLException {
+        StringJoiner columns = new StringJoiner(", ");
+        StringJoiner values = new StringJoiner(", ");
+        StringJoiner updates = new StringJoiner(", ");
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            String column = "`" + metaData.getColumnName(i) + "`";
+            columns.add(column);
+            values.add("?");
+            updates.add(column + " = VALUES(" + column + ")");
+        }
+        return "INSERT INTO " + table + " (" + columns + ") VALUES (" + values + ") ON DUPLICATE KEY UPDATE " + updates;
+    }
+}
@@ -0,0 +1,31 @@
+package com.alphaka.blogservice.shard;
+
+/**
+ * 현재 요청이 사용할 샤드
+ * 요청 단위로 ShardRoutingInterceptor 가 지정하며, 지정되지 않으면 기본 샤드(블로그, 사용자 디렉터리 등 공통 테이블 원본) 사용
+ * 병렬 작업, 캐시 갱신 스레드로는 RequestContextTaskDecorator 가 전달
+ */
+public final class ShardContext {
+
+    public static final String DEFAULT_SHARD = "shard-0";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static void bind(String shard) {
+        CURRENT.set(shard);
+    }
+
+    /**
+     * @return String - 지정된 샤드 (없으면 null)
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,252 @@
+package com.alphaka.blogservice.shard;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 블로그 ID 기준 샤드 맵
+ * - blog_shards: 블로그가 위치한 샤드와 재배치 중 여부
+ * - post_shards, comment_shards: 게시글 / 댓글 ID 만 전달되는 요청의 샤드 확인용 위치 정보
+ * 샤드 맵은 기본 샤드에 두고, 요청의 트랜잭션과 분리된 별도 커넥션으로 조회 (샤드 맵 기록이 요청 트랜잭션의 롤백에 묶이지 않음)
+ * 샤드 맵 테이블은 마이그레이션(V6__shard_directory)으로 생성
+ * 샤드 맵에 없는 블로그, 게시글, 댓글은 기본 샤드에 있는 것으로 판단 (샤딩 도입 이전 데이터)
+ * 조회 결과는 로컬 캐시에 두고, 쓰기 요청은 캐시를 거치지 않고 최신 위치를 확인
+ */
+public class ShardMap {
+
+    private final List<String> shards;
+    private final JdbcTemplate directory;
+    private final TransactionTemplate directoryTransaction;
+    private final Cache<Long, Placement> blogCache;
+    private final Cache<Long, Placement> postCache;
+    private final Cache<Long, Placement> commentCache;
+
+    /**
+     * @param shards - 샤드 이름 목록 (기본 샤드가 첫 번째)
+     * @param directoryDataSource - 샤드 맵이 있는 기본 샤드 DataSource (라우팅을 거치지 않는 DataSource, 단일 샤드면 null)
+     * @param cacheTtl - 위치 캐시 유지 시간
+     */
+    public ShardMap(List<String> shards, DataSource directoryDataSource, Duration cacheTtl) {
+        this.shards = List.copyOf(shards);
+        this.directory = directoryDataSource != null ? new JdbcTemplate(directoryDataSource) : null;
+        this.directoryTransaction = directoryDataSource != null
+                ? new TransactionTemplate(new DataSourceTransactionManager(directoryDataSource)) : null;
+        this.blogCache = Caffeine.newBuilder().maximumSize(100_000).expireAfterWrite(cacheTtl).build();
+        this.postCache = Caffeine.newBuilder().maximumSize(500_000).expireAfterWrite(cacheTtl).build();
+        this.commentCache = Caffeine.newBuilder().maximumSize(500_000).expireAfterWrite(cacheTtl).build();
+    }
+
+    /**
+     * 샤딩을 사용하지 않는 경우의 샤드 맵 (모든 데이터가 기본 샤드, 기록은 무시)
+     */
+    public static ShardMap single() {
+        return new ShardMap(List.of(ShardContext.DEFAULT_SHARD), null, Duration.ZERO);
+    }
+
+    public boolean isSharded() {
+        return directory != null;
+    }
+
+    public List<String> shards() {
+        return shards;
+    }
+
+    /**
+     * 블로그 위치 조회
+     * @param blogId - 블로그 ID
+     * @param fresh - 캐시를 거치지 않고 조회 (쓰기 요청, 재배치)
+     */
+    public Placement placementOf(Long blogId, boolean fresh) {
+        if (!isSharded() || blogId == null) {
+            return Placement.DEFAULT;
+        }
+        if (fresh) {
+            Placement placement = loadPlacement(blogId);
+            blogCache.put(blogId, placement);
+            return placement;
+        }
+        return blogCache.get(blogId, this::loadPlacement);
+    }
+
+    /**
+     * 게시글 위치 조회 (게시글이 속한 블로그의 재배치 중 여부 포함)
+     * @param postId - 게시글 ID
+     * @param fresh - 캐시를 거치지 않고 조회
+     */
+    public Placement placementOfPost(Long postId, boolean fresh) {
+        return locate(postCache, "SELECT l.shard, COALESCE(b.moving, FALSE) AS moving FROM post_shards l " +
+                "LEFT JOIN blog_shards b ON b.blog_id = l.blog_id WHERE l.post_id = ?", postId, fresh);
+    }
+
+    /**
+     * 댓글 위치 조회 (댓글이 속한 블로그의 재배치 중 여부 포함)
+     * @param commentId - 댓글 ID
+     * @param fresh - 캐시를 거치지 않고 조회
+     */
+    public Placement placementOfComment(Long commentId, boolean fresh) {
+        return locate(commentCache, "SELECT l.shard, COALESCE(b.moving, FALSE) AS moving FROM comment_shards l " +
+                "LEFT JOIN blog_shards b ON b.blog_id = l.blog_id WHERE l.comment_id = ?", commentId, fresh);
+    }
+
+    /**
+     * 새 블로그의 샤드 배정 (블로그 ID 해시 기준, 이미 배정된 블로그는 유지)
+     * @param blogId - 블로그 ID
+     * @return String - 배정된 샤드
+     */
+    public String assignBlog(Long blogId) {
+        if (!isSharded()) {
+            return ShardContext.DEFAULT_SHARD;
+        }
+        String shard = shards.get(Math.floorMod(Long.hashCode(blogId), shards.size()));
+        directory.update("INSERT IGNORE INTO blog_shards (blog_id, shard) VALUES (?, ?)", blogId, shard);
+        blogCache.invalidate(blogId);
+        return placementOf(blogId, true).shard();
+    }
+
+    /**
+     * 새 블로그 여러 개의 샤드 배정 (이미 배정된 블로그는 유지)
+     * @param blogIds - 블로그 ID 목록
+     */
+    public void assignBlogs(List<Long> blogIds) {
+        if (!isSharded() || blogIds.isEmpty()) {
+            return;
+        }
+        directory.batchUpdate("INSERT IGNORE INTO blog_shards (blog_id, shard) VALUES (?, ?)",
+                blogIds.stream()
+                        .map(blogId -> new Object[]{blogId, shards.get(Math.floorMod(Long.hashCode(blogId), shards.size()))})
+                        .toList());
+        blogCache.invalidateAll(blogIds);
+    }
+
+    /**
+     * 현재 샤드에 작성된 게시글 위치 기록
+     * 게시글 트랜잭션 커밋 전에 기록하여, 커밋 직후의 요청도 위치를 찾을 수 있도록 함 (롤백된 게시글의 위치는 조회되지 않으므로 무해)
+     * @param postId - 게시글 ID
+     * @param blogId - 블로그 ID
+     */
+    public void recordPost(Long postId, Long blogId) {
+        if (!isSharded()) {
+            return;
+        }
+        String shard = currentShard();
+        directory.update("INSERT IGNORE INTO post_shards (post_id, blog_id, shard) VALUES (?, ?, ?)", postId, blogId, shard);
+        postCache.put(postId, new Placement(shard, false));
+    }
+
+    /**
+     * 현재 샤드에 작성된 댓글 위치 기록
+     * @param commentId - 댓글 ID
+     * @param blogId - 블로그 ID
+     */
+    public void recordComment(Long commentId, Long blogId) {
+        if (!isSharded()) {
+            return;
+        }
+        String shard = currentShard();
+        directory.update("INSERT IGNORE INTO comment_shards (comment_id, blog_id, shard) VALUES (?, ?, ?)", commentId, blogId, shard);
+        commentCache.put(commentId, new Placement(shard, false));
+    }
+
+    /**
+     * 재배치 시작 / 취소 표시 (재배치 중인 블로그의 쓰기 요청은 거절)
+     * @param blogId - 블로그 ID
+     * @param moving - 재배치 중 여부
+     */
+    public void markMoving(Long blogId, boolean moving) {
+        String shard = placementOf(blogId, true).shard();
+        directory.update("INSERT INTO blog_shards (blog_id, shard, moving) VALUES (?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE moving = VALUES(moving)", blogId, shard, moving);
+        blogCache.invalidate(blogId);
+    }
+
+    /**
+     * 재배치 완료 - 블로그와 게시글, 댓글 위치를 대상 샤드로 변경하고 재배치 중 표시 해제
+     * @param blogId - 블로그 ID
+     * @param target - 대상 샤드
+     */
+    public void completeMove(Long blogId, String target) {
+        directoryTransaction.executeWithoutResult(status -> {
+            directory.update("UPDATE blog_shards SET shard = ?, moving = FALSE WHERE blog_id = ?", target, blogId);
+            directory.update("UPDATE post_shards SET shard = ? WHERE blog_id = ?", target, blogId);
+            directory.update("UPDATE comment_shards SET shard = ? WHERE blog_id = ?", target, blogId);
+        });
+        blogCache.invalidate(blogId);
+        postCache.invalidateAll();
+        commentCache.invalidateAll();
+    }
+
+    /**
+     * 삭제된 블로그의 위치 정보 삭제 (블로그 데이터를 모두 정리한 뒤 사용)
+     * @param blogId - 블로그 ID
+     */
+    public void forgetBlog(Long blogId) {
+        if (!isSharded()) {
+            return;
+        }
+        directoryTransaction.executeWithoutResult(status -> {
+            directory.update("DELETE FROM comment_shards WHERE blog_id = ?", blogId);
+            directory.update("DELETE FROM post_shards WHERE blog_id = ?", blogId);
+            directory.update("DELETE FROM blog_shards WHERE blog_id = ?", blogId);
+        });
+        blogCache.invalidate(blogId);
+        postCache.invalidateAll();
+        commentCache.invalidateAll();
+    }
+
+    /**
+     * 샤드 맵에 기록되지 않은 게시글, 댓글 위치 기록 (샤딩 도입 이전 데이터를 재배치하기 전에 사용)
+     * @param blogId - 블로그 ID
+     * @param shard - 현재 샤드
+     * @param postIds - 게시글 ID 목록
+     * @param commentIds - 댓글 ID 목록
+     */
+    public void recordExisting(Long blogId, String shard, List<Long> postIds, List<Long> commentIds) {
+        directory.batchUpdate("INSERT IGNORE INTO post_shards (post_id, blog_id, shard) VALUES (?, ?, ?)",
+                postIds.stream().map(postId -> new Object[]{postId, blogId, shard}).toList());
+        directory.batchUpdate("INSERT IGNORE INTO comment_shards (comment_id, blog_id, shard) VALUES (?, ?, ?)",
+                commentIds.stream().map(commentId -> new Object[]{commentId, blogId, shard}).toList());
+    }
+
+    private Placement loadPlacement(Long blogId) {
+        return load("SELECT shard, moving FROM blog_shards WHERE blog_id = ?", blogId);
+    }
+
+    private Placement locate(Cache<Long, Placement> cache, String sql, Long id, boolean fresh) {
+        if (!isSharded() || id == null) {
+            return Placement.DEFAULT;
+        }
+        if (!fresh) {
+            return cache.get(id, key -> load(sql, key));
+        }
+        Placement placement = load(sql, id);
+        cache.put(id, placement);
+        return placement;
+    }
+
+    private Placement load(String sql, Long id) {
+        List<Placement> found = directory.query(sql,
+                (rs, rowNum) -> new Placement(rs.getString("shard"), rs.getBoolean("moving")), id);
+        return found.isEmpty() ? Placement.DEFAULT : found.get(0);
+    }
+
+    private static String currentShard() {
+        String shard = ShardContext.current();
+        return shard != null ? shard : ShardContext.DEFAULT_SHARD;
+    }
+
+    /**
+     * 블로그 위치
+     * @param shard - 블로그가 있는 샤드
+     * @param moving - 재배치 중 여부
+     */
+    public record Placement(String shard, boolean moving) {
+        static final Placement DEFAULT = new Placement(ShardContext.DEFAULT_SHARD, false);
+    }
+}
@@ -0,0 +1,54 @@
+package com.alphaka.blogservice.shard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 샤드별로 정렬된 조회 결과를 하나의 페이지로 병합
+ * 각 샤드에서 (offset + size) 개를 같은 정렬로 조회한 뒤, k-way 병합으로 앞의 offset 개를 건너뛰고 size 개를 반환
+ * 뒤 페이지일수록 샤드마다 조회하는 행이 늘어나므로 깊은 페이지 조회는 제한하는 것이 좋음
+ */
+public final class ShardPages {
+
+    private ShardPages() {
+    }
+
+    /**
+     * @param shardResults - 샤드별 결과 (각각 comparator 순서로 정렬)
+     * @param comparator - 정렬 기준 (동일 값이 없도록 ID 등으로 순서를 확정해야 함)
+     * @param offset - 건너뛸 개수
+     * @param size - 페이지 크기
+     * @return List - 병합된 페이지
+     */
+    public static <T> List<T> merge(List<List<T>> shardResults, Comparator<? super T> comparator, long offset, int size) {
+        PriorityQueue<Cursor<T>> heads = new PriorityQueue<>((a, b) -> comparator.compare(a.current(), b.current()));
+        for (List<T> result : shardResults) {
+            if (!result.isEmpty()) {
+                heads.add(new Cursor<>(result, 0));
+            }
+        }
+
+        List<T> page = new ArrayList<>(size);
+        long skipped = 0;
+        while (!heads.isEmpty() && page.size() < size) {
+            Cursor<T> head = heads.poll();
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                page.add(head.current());
+            }
+            if (head.index() + 1 < head.rows().size()) {
+                heads.add(new Cursor<>(head.rows(), head.index() + 1));
+            }
+        }
+        return page;
+    }
+
+    private record Cursor<T>(List<T> rows, int index) {
+        T current() {
+            return rows.get(index);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.alphaka.blogservice.shard;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 현재 요청의 샤드(ShardContext)로 커넥션을 보내는 DataSource
+ * - 지정된 샤드가 없으면 기본 샤드 사용
+ * 트랜잭션 시작 이후 첫 쿼리 시점에 샤드를 선택하도록 LazyConnectionDataSourceProxy 로 감싸서 사용
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private final Map<String, DataSource> shards;
+
+    /**
+     * @param shards - 샤드 이름별 DataSource (기본 샤드 포함)
+     */
+    public ShardRoutingDataSource(Map<String, DataSource> shards) {
+        if (!shards.containsKey(ShardContext.DEFAULT_SHARD)) {
+            throw new IllegalArgumentException("기본 샤드가 없습니다: " + ShardContext.DEFAULT_SHARD);
+        }
+        this.shards = shards;
+        setTargetDataSources(new HashMap<>(shards));
+        setDefaultTargetDataSource(shards.get(ShardContext.DEFAULT_SHARD));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String shard = ShardContext.current();
+        return shard != null ? shard : ShardContext.DEFAULT_SHARD;
+    }
+
+    /**
+     * 샤드 이름 목록 (기본 샤드가 첫 번째)
+     */
+    public List<String> shardNames() {
+        return new ArrayList<>(shards.keySet());
+    }
+
+    /**
+     * 트랜잭션, 라우팅과 무관하게 특정 샤드에 직접 접근할 때 사용 (샤드 맵, 공통 테이블 복제, 재배치)
+     * @param shard - 샤드 이름
+     */
+    public DataSource shard(String shard) {
+        DataSource dataSource = shards.get(shard);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("존재하지 않는 샤드입니다: " + shard);
+        }
+        return dataSource;
+    }
+
+    // 기본 샤드 외 커넥션 풀 종료 (기본 샤드는 별도 빈으로 관리)
+    @Override
+    public void destroy() throws Exception {
+        for (Map.Entry<String, DataSource> entry : shards.entrySet()) {
+            if (!ShardContext.DEFAULT_SHARD.equals(entry.getKey()) && entry.getValue() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
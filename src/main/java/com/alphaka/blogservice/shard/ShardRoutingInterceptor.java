@@ -0,0 +1,130 @@
+package com.alphaka.blogservice.shard;
+
+import com.alphaka.blogservice.blog.repository.BlogRepository;
+import com.alphaka.blogservice.comment.dto.CommentCreateRequest;
+import com.alphaka.blogservice.exception.custom.BlogMovingException;
+import com.alphaka.blogservice.post.service.PostService;
+import com.alphaka.blogservice.report.dto.ReportRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * 요청을 처리할 샤드 지정
+ * - 경로 변수: nickname(블로그), postId(게시글), commentId(댓글) 순으로 확인하여 해당 샤드 지정
+ * - 게시글 작성: 현재 사용자의 블로그 샤드
+ * - 요청 본문의 게시글 / 댓글 ID(댓글 작성, 신고): 본문을 읽은 직후, 서비스 트랜잭션이 시작되기 전에 지정
+ * - 그 외(전체 게시글 목록, 검색 등)는 지정하지 않음 (기본 샤드 또는 ShardTemplate 으로 모든 샤드 조회)
+ * 쓰기 요청은 캐시를 거치지 않고 최신 위치를 확인하며, 재배치 중인 블로그의 쓰기 요청은 거절
+ * 샤딩을 사용하지 않으면 아무것도 하지 않음
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class ShardRoutingInterceptor extends RequestBodyAdviceAdapter implements HandlerInterceptor {
+
+    private final ShardMap shardMap;
+    private final PostService postService;
+    private final BlogRepository blogRepository;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!shardMap.isSharded()) {
+            return true;
+        }
+
+        boolean write = isWrite(request);
+        ShardMap.Placement placement = resolve(request, write);
+        if (placement != null) {
+            bind(placement, write);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ShardContext.clear();
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return shardMap.isSharded()
+                && (targetType == CommentCreateRequest.class || targetType == ReportRequest.class);
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                Class<? extends HttpMessageConverter<?>> converterType) {
+        if (body instanceof CommentCreateRequest request && request.getPostId() != null) {
+            bind(shardMap.placementOfPost(request.getPostId(), true), true);
+        } else if (body instanceof ReportRequest request && request.getTargetId() != null) {
+            String uri = currentRequestUri();
+            if (uri.endsWith("/posts")) {
+                bind(shardMap.placementOfPost(request.getTargetId(), true), true);
+            } else if (uri.endsWith("/comments")) {
+                bind(shardMap.placementOfComment(request.getTargetId(), true), true);
+            }
+        }
+        return body;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ShardMap.Placement resolve(HttpServletRequest request, boolean write) {
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables != null && variables.containsKey("nickname")) {
+            return shardMap.placementOf(postService.getBlogIdByNickname(variables.get("nickname")), write);
+        }
+        if (variables != null && variables.containsKey("postId")) {
+            return shardMap.placementOfPost(parseId(variables.get("postId")), write);
+        }
+        if (variables != null && variables.containsKey("commentId")) {
+            return shardMap.placementOfComment(parseId(variables.get("commentId")), write);
+        }
+        if (write && "/api/posts".equals(request.getRequestURI())) {
+            Long userId = parseId(request.getHeader("X-User-Id"));
+            return userId == null ? null : blogRepository.findByUserId(userId)
+                    .map(blog -> shardMap.placementOf(blog.getId(), true))
+                    .orElse(null);
+        }
+        return null;
+    }
+
+    private static void bind(ShardMap.Placement placement, boolean write) {
+        if (write && placement.moving()) {
+            throw new BlogMovingException();
+        }
+        ShardContext.bind(placement.shard());
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+    }
+
+    // 형식이 잘못된 ID 는 기본 샤드로 보내고, 검증은 컨트롤러에 맡김
+    private static Long parseId(String value) {
+        if (value == null || value.isBlank() || !value.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        return Long.valueOf(value);
+    }
+
+    private static String currentRequestUri() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest().getRequestURI();
+        }
+        return "";
+    }
+}
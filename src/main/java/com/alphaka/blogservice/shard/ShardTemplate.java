@@ -0,0 +1,116 @@
+package com.alphaka.blogservice.shard;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 모든 샤드에 같은 조회를 실행 (Scatter-gather)
+ * - 샤드마다 작업 스레드에서 해당 샤드로 지정한 읽기 전용 트랜잭션을 새로 열어 병렬 실행
+ * - 한 샤드라도 실패하거나 시간 안에 끝나지 않으면 예외 (일부 샤드만의 결과로 페이지를 만들지 않음)
+ * 샤딩을 사용하지 않으면 현재 스레드, 현재 트랜잭션에서 한 번만 실행
+ */
+public class ShardTemplate {
+
+    private final ShardMap shardMap;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Executor executor;
+    private final long timeoutMillis;
+
+    /**
+     * @param shardMap - 샤드 맵
+     * @param transactionManager - 트랜잭션 매니저
+     * @param executor - 샤드별 조회 실행용 Executor
+     * @param timeoutMillis - 전체 샤드 조회 제한 시간
+     */
+    public ShardTemplate(ShardMap shardMap, PlatformTransactionManager transactionManager, Executor executor,
+                         long timeoutMillis) {
+        this.shardMap = shardMap;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * @param query - 샤드마다 실행할 조회
+     * @return List - 샤드별 결과 (샤드 순서)
+     */
+    public <T> List<T> queryAll(Supplier<T> query) {
+        if (!shardMap.isSharded()) {
+            return List.of(query.get());
+        }
+
+        List<CompletableFuture<T>> futures = shardMap.shards().stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> inShard(shard, query), executor))
+                .toList();
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                    .join();
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("샤드 조회에 실패했습니다.", e.getCause());
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * 모든 샤드에서 페이지 조회 후 병합
+     * 샤드마다 첫 페이지부터 요청 페이지 끝까지 조회하여 정렬 순서로 병합하고, 전체 개수는 샤드별 개수의 합
+     * @param pageable - 페이징 정보
+     * @param order - 조회 결과의 정렬 순서 (content 조회의 ORDER BY 와 같아야 함)
+     * @param content - 샤드에서 실행할 목록 조회
+     * @param count - 샤드에서 실행할 개수 조회
+     * @return Page - 병합된 페이지
+     */
+    public <T> Page<T> queryPage(Pageable pageable, Comparator<? super T> order,
+                                 Function<Pageable, List<T>> content, Supplier<Long> count) {
+        if (!shardMap.isSharded()) {
+            return new PageImpl<>(content.apply(pageable), pageable, count.get());
+        }
+
+        Pageable shardPageable = PageRequest.of(0, Math.toIntExact(pageable.getOffset() + pageable.getPageSize()),
+                pageable.getSort());
+        List<ShardResult<T>> results = queryAll(() -> new ShardResult<>(content.apply(shardPageable), count.get()));
+
+        List<T> merged = ShardPages.merge(results.stream().map(ShardResult::content).toList(), order,
+                pageable.getOffset(), pageable.getPageSize());
+        long total = results.stream().mapToLong(ShardResult::total).sum();
+        return new PageImpl<>(merged, pageable, total);
+    }
+
+    private <T> T inShard(String shard, Supplier<T> query) {
+        String previous = ShardContext.current();
+        ShardContext.bind(shard);
+        try {
+            return readOnlyTransaction.execute(status -> query.get());
+        } finally {
+            if (previous != null) {
+                ShardContext.bind(previous);
+            } else {
+                ShardContext.clear();
+            }
+        }
+    }
+
+    private record ShardResult<T>(List<T> content, long total) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.alphaka.blogservice.tag.entity;
 
 import com.alphaka.blogservice.common.entity.DeleteBaseEntity;
+import com.alphaka.blogservice.common.id.Tsid;
 import com.alphaka.blogservice.post.entity.Post;
 import jakarta.persistence.*;
 import lombok.*;
@@ -14,7 +15,7 @@ import lombok.*;
 public class PostTag extends DeleteBaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
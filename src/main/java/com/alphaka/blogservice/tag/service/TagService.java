@@ -2,7 +2,6 @@ package com.alphaka.blogservice.tag.service;
 
 import com.alphaka.blogservice.blog.entity.Blog;
 import com.alphaka.blogservice.blog.repository.BlogRepository;
-import com.alphaka.blogservice.client.feign.UserClient;
 import com.alphaka.blogservice.common.dto.UserDTO;
 import com.alphaka.blogservice.exception.custom.BlogNotFoundException;
 import com.alphaka.blogservice.exception.custom.UserNotFoundException;
@@ -12,7 +11,9 @@ import com.alphaka.blogservice.tag.entity.PostTag;
 import com.alphaka.blogservice.tag.entity.Tag;
 import com.alphaka.blogservice.tag.repository.PostTagRepository;
 import com.alphaka.blogservice.tag.repository.TagRepository;
+import com.alphaka.blogservice.user.service.UserDirectoryService;
 import com.alphaka.blogservice.util.CacheUtils;
+import com.alphaka.blogservice.util.ExistenceGuard;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -28,7 +29,8 @@ import java.util.stream.Collectors;
 public class TagService {
 
     private final CacheUtils cacheUtils;
-    private final UserClient userClient;
+    private final ExistenceGuard existenceGuard;
+    private final UserDirectoryService userDirectoryService;
     private final TagRepository tagRepository;
     private final PostTagRepository postTagRepository;
     private final BlogRepository blogRepository;
@@ -41,33 +43,48 @@ public class TagService {
     public List<TagListResponse> getTagListForBlog(String nickname) {
         log.info("블로그의 태그 목록 조회 시작 - Nickname: {}", nickname);
 
+        // 존재하지 않는 것으로 기록된 닉네임이면 바로 거절
+        existenceGuard.checkNickname(nickname);
+
         // 요청 받은 닉네임의 사용자 ID 조회
-        UserDTO user = userClient.findUserByNickname(nickname).getData();
+        UserDTO user = userDirectoryService.findByNickname(nickname);
         if (user == null) {
             log.error("사용자를 찾을 수 없음 - Nickname: {}", nickname);
             throw new UserNotFoundException();
         }
 
         // 해당 사용자의 블로그 조회
-        Blog blog = blogRepository.findByUserId(user.getUserId()).orElseThrow(BlogNotFoundException::new);
+        Blog blog = blogRepository.findByUserId(user.getUserId()).orElseThrow(() -> {
+            BlogNotFoundException notFound = new BlogNotFoundException();
+            existenceGuard.markNicknameMissing(nickname, notFound);
+            return notFound;
+        });
         log.info("블로그 조회 완료 - Blog ID: {}, User ID: {}", blog.getId(), blog.getUserId());
 
+        List<TagListResponse> tagList = getTagListByBlogId(blog.getId());
+        log.info("블로그의 태그 목록 조회 완료 - Nickname: {}", nickname);
+        return tagList;
+    }
+
+    /**
+     * 블로그 ID로 태그 목록 조회 (블로그 확인이 끝난 경우 사용)
+     * @param blogId - 블로그 ID
+     * @return List<TagListResponse> - 태그 목록과 목록별 게시글 수
+     */
+    public List<TagListResponse> getTagListByBlogId(Long blogId) {
         // 해당 블로그에 등록된 태그 목록 조회
-        List<Tag> tags = postTagRepository.findTagsByBlogId(blog.getId());
-        log.info("블로그의 태그 목록 조회 완료 - Blog ID: {}, Tag Count: {}", blog.getId(), tags.size());
+        List<Tag> tags = postTagRepository.findTagsByBlogId(blogId);
+        log.info("블로그의 태그 목록 조회 완료 - Blog ID: {}, Tag Count: {}", blogId, tags.size());
 
         // 태그별 게시글 수 계산하여 태그 목록과 함께 반환 (해당 블로그의 게시글로 한정)
-        List<TagListResponse> tagList = tags.stream()
+        return tags.stream()
                 .map(tag -> {
                     // 특정 블로그에서 해당 태그가 달린 게시글 수 계산
                     log.info("태그별 게시글 수 계산 - Tag ID: {}", tag.getId());
-                    int postCount = postTagRepository.countByBlogIdAndTagId(blog.getId(), tag.getId());
+                    int postCount = postTagRepository.countByBlogIdAndTagId(blogId, tag.getId());
                     return new TagListResponse(tag.getTagName(), postCount);
                 })
                 .toList();
-
-        log.info("블로그의 태그 목록 조회 완료 - Nickname: {}", nickname);
-        return tagList;
     }
 
     /**
@@ -94,7 +111,7 @@ public class TagService {
                         .build())
                 .toList();
 
-        postTagRepository.batchInsert(postTags);
+        postTagRepository.saveAll(postTags);
         log.info("게시글 생성 시 태그 추가 완료 - Post ID: {}", post.getId());
 
         // 태그 추가 시, 관련 캐시 무효화 (블로그의 태그 목록)
@@ -235,7 +252,7 @@ public class TagService {
                         .tag(tag)
                         .build())
                 .toList();
-        postTagRepository.batchInsert(newPostTags);
+        postTagRepository.saveAll(newPostTags);
         log.info("태그 추가 완료 - Post ID: {}, Tags: {}", post.getId(), tagsAdded);
     }
 
@@ -0,0 +1,77 @@
+package com.alphaka.blogservice.user.entity;
+
+import com.alphaka.blogservice.common.dto.UserDTO;
+import com.alphaka.blogservice.common.entity.DeleteBaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * user-service 사용자 정보의 로컬 사본
+ * user-service 이벤트로 갱신되며, 작성자 정보 조회 시 user-service 호출 없이 사용
+ * 이벤트가 엇갈려 도착하면 잠시 같은 닉네임이 둘 이상 있을 수 있으므로 닉네임은 유일하지 않음
+ * 탈퇴한 사용자는 닉네임, 프로필 이미지를 지운 삭제 표시로 남겨 탈퇴 이전 버전의 이벤트를 무시
+ */
+@Entity
+@Getter
+@Table(name = "user_directory", indexes = {
+        @Index(name = "idx_user_directory_nickname", columnList = "nickname, version"),
+        @Index(name = "idx_user_directory_deleted_at", columnList = "deleted_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class UserProfile extends DeleteBaseEntity {
+
+    // user-service 의 사용자 ID를 그대로 사용
+    @Id
+    private Long userId;
+
+    // 탈퇴한 사용자는 null
+    @Column(length = 50)
+    private String nickname;
+
+    @Column(length = 500)
+    private String profileImage;
+
+    // 이벤트 순서 역전 방지를 위한 버전 (user-service 에서의 변경 시각)
+    @Column(nullable = false)
+    private Long version;
+
+    @Builder
+    public UserProfile(Long userId, String nickname, String profileImage, Long version) {
+        this.userId = userId;
+        this.nickname = nickname;
+        this.profileImage = profileImage;
+        this.version = version;
+    }
+
+    /**
+     * 사용자 정보 갱신 (이미 반영된 버전보다 오래된 변경은 무시)
+     * 탈퇴한 사용자는 탈퇴 시점의 버전 이하인 변경을 무시하고, 그보다 새로운 변경이 오면 다시 반영
+     * @return boolean - 갱신 여부
+     */
+    public boolean update(String nickname, String profileImage, Long version) {
+        if (version < this.version || (isDeleted() && version <= this.version)) {
+            return false;
+        }
+        this.nickname = nickname;
+        this.profileImage = profileImage;
+        this.version = version;
+        restore();
+        return true;
+    }
+
+    /**
+     * 탈퇴 처리 (닉네임, 프로필 이미지를 지우고 삭제 표시)
+     * @param version - 탈퇴 반영 시각 (이미 반영된 버전보다 작으면 기존 버전 유지)
+     */
+    public void withdraw(long version) {
+        this.nickname = null;
+        this.profileImage = null;
+        this.version = Math.max(this.version != null ? this.version : 0L, version);
+        delete();
+    }
+
+    public UserDTO toUserDTO() {
+        return new UserDTO(userId, nickname, profileImage);
+    }
+}
@@ -0,0 +1,19 @@
+package com.alphaka.blogservice.user.repository;
+
+import com.alphaka.blogservice.user.entity.UserProfile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserProfileRepository extends JpaRepository<UserProfile, Long> {
+
+    // 닉네임으로 사용자 조회 (같은 닉네임이 둘 이상이면 가장 최근에 반영된 사용자)
+    Optional<UserProfile> findFirstByNicknameOrderByVersionDesc(String nickname);
+
+    // 사용자 ID 목록으로 사용자 조회
+    List<UserProfile> findByUserIdIn(Collection<Long> userIds);
+}
@@ -0,0 +1,98 @@
+package com.alphaka.blogservice.user.service;
+
+import com.alphaka.blogservice.shard.ReferenceTableReplicator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 탈퇴한 사용자의 삭제 표시 정리
+ * - 보존 기간이 지난 삭제 표시를 일정 개수씩 삭제하고, 다른 샤드의 복제본에도 반영
+ * - 보존 기간은 탈퇴 이전 이벤트가 늦게 도착할 수 있는 시간(컨슈머 지연, 재처리)보다 길어야 함
+ * 여러 인스턴스가 동시에 실행해도 같은 행을 지울 뿐이므로 안전
+ * 공용 스케줄러(SchedulingConfig)에서 실행
+ */
+@Slf4j
+@Component
+public class UserDirectoryPurger {
+
+    private static final String PURGEABLE_USERS = "SELECT user_id FROM user_directory WHERE deleted_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ReferenceTableReplicator referenceTableReplicator;
+
+    @Value("${blog.user-directory.tombstone.purge.enabled:true}")
+    private boolean enabled;
+
+    @Value("${blog.user-directory.tombstone.retention-ms:604800000}")
+    private long retentionMillis;
+
+    @Value("${blog.user-directory.tombstone.purge.batch-size:500}")
+    private int batchSize;
+
+    @Value("${blog.user-directory.tombstone.purge.max-batches:20}")
+    private int maxBatches;
+
+    public UserDirectoryPurger(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                               ReferenceTableReplicator referenceTableReplicator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.referenceTableReplicator = referenceTableReplicator;
+    }
+
+    @Scheduled(initialDelayString = "${blog.user-directory.tombstone.purge.interval-ms:3600000}",
+            fixedDelayString = "${blog.user-directory.tombstone.purge.interval-ms:3600000}")
+    public void scheduledPurge() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            purge(LocalDateTime.now().minus(Duration.ofMillis(retentionMillis)));
+        } catch (RuntimeException e) {
+            log.error("탈퇴한 사용자 삭제 표시 정리 실패", e);
+        }
+    }
+
+    /**
+     * 기준 시각 이전에 탈퇴한 사용자의 삭제 표시 정리 (배치마다 별도 트랜잭션)
+     * @param deletedBefore - 기준 시각
+     * @return int - 삭제한 사용자 수
+     */
+    public int purge(LocalDateTime deletedBefore) {
+        int purged = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer deleted = transactionTemplate.execute(status -> purgeBatch(deletedBefore));
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            purged += deleted;
+        }
+        if (purged > 0) {
+            log.info("탈퇴한 사용자 삭제 표시 정리 완료 - Purged: {}", purged);
+        }
+        return purged;
+    }
+
+    private int purgeBatch(LocalDateTime deletedBefore) {
+        List<Long> ids = jdbcTemplate.queryForList(PURGEABLE_USERS, Long.class, deletedBefore, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        // 조회 이후 새 버전 이벤트로 다시 가입 처리된 사용자는 지우지 않음
+        int deleted = jdbcTemplate.update("DELETE FROM user_directory WHERE user_id IN (" + placeholders + ") "
+                + "AND deleted_at IS NOT NULL", ids.toArray());
+        referenceTableReplicator.replicateAfterCommit(ReferenceTableReplicator.USER_DIRECTORY, ids);
+        return deleted;
+    }
+}
@@ -0,0 +1,246 @@
+package com.alphaka.blogservice.user.service;
+
+import com.alphaka.blogservice.blog.repository.BlogRepository;
+import com.alphaka.blogservice.client.UserBatchLoader;
+import com.alphaka.blogservice.client.feign.UserClient;
+import com.alphaka.blogservice.common.dto.UserDTO;
+import com.alphaka.blogservice.common.event.UserProfileEvent;
+import com.alphaka.blogservice.common.response.ApiResponse;
+import com.alphaka.blogservice.shard.ReferenceTableReplicator;
+import com.alphaka.blogservice.user.entity.UserProfile;
+import com.alphaka.blogservice.user.repository.UserProfileRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 로컬 사용자 디렉터리
+ * - user-service 이벤트로 채워진 user_directory 테이블에서 작성자 정보를 조회
+ * - 디렉터리에 없는 사용자만 user-service 로 조회 (이벤트 유실, 반영 지연 대비)
+ * - 디렉터리가 비어 있으면 시작 시 블로그 주인 정보를 user-service 에서 한 번에 가져와 채움
+ * - 탈퇴한 사용자는 삭제 표시로 남겨 탈퇴 이전 이벤트를 무시하고, 조회 시 존재하지 않는 사용자로 처리 (UserDirectoryPurger 가 정리)
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class UserDirectoryService {
+
+    static final String BOOTSTRAP_LOCK_KEY = "blogService:lock:user-directory:bootstrap";
+
+    private static final int BOOTSTRAP_CHUNK_SIZE = 100;
+    private static final long BOOTSTRAP_VERSION = 0L;
+
+    private final UserProfileRepository userProfileRepository;
+    private final BlogRepository blogRepository;
+    private final UserClient userClient;
+    private final UserBatchLoader userBatchLoader;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ReferenceTableReplicator referenceTableReplicator;
+    private final boolean bootstrapEnabled;
+
+    public UserDirectoryService(UserProfileRepository userProfileRepository,
+                                BlogRepository blogRepository,
+                                UserClient userClient,
+                                UserBatchLoader userBatchLoader,
+                                StringRedisTemplate stringRedisTemplate,
+                                ReferenceTableReplicator referenceTableReplicator,
+                                @Value("${blog.user-directory.bootstrap.enabled:true}") boolean bootstrapEnabled) {
+        this.userProfileRepository = userProfileRepository;
+        this.blogRepository = blogRepository;
+        this.userClient = userClient;
+        this.userBatchLoader = userBatchLoader;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.referenceTableReplicator = referenceTableReplicator;
+        this.bootstrapEnabled = bootstrapEnabled;
+    }
+
+    /**
+     * 사용자 한 명 조회
+     * @param userId - 사용자 ID
+     * @return UserDTO - 사용자 정보 (존재하지 않으면 null)
+     */
+    public UserDTO getUser(Long userId) {
+        Optional<UserProfile> profile = userProfileRepository.findById(userId);
+        if (profile.isPresent()) {
+            return profile.get().isDeleted() ? null : profile.get().toUserDTO();
+        }
+        return userBatchLoader.getUser(userId);
+    }
+
+    /**
+     * 여러 사용자 조회
+     * 디렉터리에서 한 번에 조회하고, 없는 사용자만 user-service 에서 조회
+     * @param userIds - 사용자 ID 목록
+     * @return Map<Long, UserDTO> - 사용자 ID 별 사용자 정보 (존재하지 않는 사용자, 탈퇴한 사용자는 제외)
+     */
+    public Map<Long, UserDTO> getUsers(Collection<Long> userIds) {
+        Set<Long> ids = new LinkedHashSet<>(userIds);
+        if (ids.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Map<Long, UserDTO> result = new HashMap<>();
+        for (UserProfile profile : userProfileRepository.findByUserIdIn(ids)) {
+            // 탈퇴한 사용자는 결과에서 제외하고 user-service 에도 조회하지 않음
+            ids.remove(profile.getUserId());
+            if (!profile.isDeleted()) {
+                result.put(profile.getUserId(), profile.toUserDTO());
+            }
+        }
+
+        if (!ids.isEmpty()) {
+            log.debug("사용자 디렉터리에 없는 사용자 user-service 조회 - Count: {}", ids.size());
+            result.putAll(userBatchLoader.getUsers(ids));
+        }
+        return result;
+    }
+
+    /**
+     * 닉네임으로 사용자 조회
+     * 디렉터리에 없으면 user-service 에서 조회 (존재하지 않으면 FeignException.NotFound 발생)
+     * 탈퇴한 사용자는 닉네임이 지워져 있으므로 디렉터리에서 찾지 않음
+     * @param nickname - 사용자 닉네임
+     * @return UserDTO - 사용자 정보 (user-service 장애 시 null)
+     */
+    public UserDTO findByNickname(String nickname) {
+        Optional<UserProfile> profile = userProfileRepository.findFirstByNicknameOrderByVersionDesc(nickname);
+        if (profile.isPresent()) {
+            return profile.get().toUserDTO();
+        }
+
+        log.debug("사용자 디렉터리에 없는 닉네임 user-service 조회 - Nickname: {}", nickname);
+        ApiResponse<UserDTO> response = userClient.findUserByNickname(nickname);
+        return response != null ? response.getData() : null;
+    }
+
+    /**
+     * 사용자 정보 생성 및 변경 반영 (이미 반영된 버전보다 오래된 이벤트는 무시)
+     * 사용자 ID 기준으로만 반영하며, 닉네임 교환 중 다른 사용자의 이전 닉네임과 겹쳐도 그대로 저장
+     * 탈퇴한 사용자는 탈퇴 시점보다 새로운 버전의 이벤트만 반영 (버전이 없는 이벤트는 순서를 알 수 없으므로 무시)
+     * @param event - 사용자 정보 이벤트
+     */
+    @Transactional
+    public void upsert(UserProfileEvent event) {
+        long version = event.getVersion() != null ? event.getVersion() : System.currentTimeMillis();
+        Optional<UserProfile> existing = userProfileRepository.findById(event.getUserId());
+
+        if (existing.isPresent()) {
+            if (existing.get().isDeleted() && event.getVersion() == null) {
+                log.info("탈퇴한 사용자의 버전 없는 정보 이벤트 무시 - User ID: {}", event.getUserId());
+                return;
+            }
+            if (!existing.get().update(event.getNickname(), event.getProfileImage(), version)) {
+                log.info("오래된 사용자 정보 이벤트 무시 - User ID: {}, Version: {}", event.getUserId(), version);
+                return;
+            }
+        } else {
+            userProfileRepository.save(UserProfile.builder()
+                    .userId(event.getUserId())
+                    .nickname(event.getNickname())
+                    .profileImage(event.getProfileImage())
+                    .version(version)
+                    .build());
+        }
+
+        // 로더에 남아 있는 이전 정보가 디렉터리 미스 시 사용되지 않도록 삭제
+        userBatchLoader.evict(event.getUserId());
+        referenceTableReplicator.replicateAfterCommit(ReferenceTableReplicator.USER_DIRECTORY, List.of(event.getUserId()));
+        log.info("사용자 디렉터리 갱신 - User ID: {}", event.getUserId());
+    }
+
+    /**
+     * 탈퇴한 사용자를 삭제 표시로 남김
+     * 행을 지우면 늦게 도착한 탈퇴 이전 이벤트가 사용자를 다시 만들기 때문에, 디렉터리에 없던 사용자도 삭제 표시를 저장
+     * 탈퇴 이벤트에는 버전이 없으므로 처리 시각을 버전으로 사용 (user-service 와 시계가 크게 어긋나지 않는다고 가정)
+     * @param userId - 사용자 ID
+     */
+    @Transactional
+    public void delete(Long userId) {
+        long version = System.currentTimeMillis();
+        UserProfile profile = userProfileRepository.findById(userId)
+                .orElseGet(() -> UserProfile.builder().userId(userId).version(version).build());
+        profile.withdraw(version);
+        userProfileRepository.save(profile);
+        userBatchLoader.evict(userId);
+        referenceTableReplicator.replicateAfterCommit(ReferenceTableReplicator.USER_DIRECTORY, List.of(userId));
+        log.info("사용자 디렉터리 삭제 표시 - User ID: {}", userId);
+    }
+
+    /**
+     * 디렉터리가 비어 있으면 블로그 주인 정보를 user-service 에서 일괄 조회하여 채움
+     * 여러 인스턴스가 동시에 시작해도 한 인스턴스만 수행
+     * 메서드 전체는 트랜잭션 없이 실행되며, 청크마다 saveAll 이 자체 트랜잭션으로 저장 (실패 시 이전 청크는 유지)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void bootstrap() {
+        if (!bootstrapEnabled) {
+            return;
+        }
+
+        try {
+            if (userProfileRepository.count() > 0) {
+                log.info("사용자 디렉터리가 이미 채워져 있습니다.");
+                return;
+            }
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(BOOTSTRAP_LOCK_KEY, "bootstrapping", Duration.ofMinutes(10));
+            if (!Boolean.TRUE.equals(acquired)) {
+                log.info("다른 인스턴스가 사용자 디렉터리를 채우는 중입니다.");
+                return;
+            }
+
+            long lastUserId = 0L;
+            long count = 0;
+            List<Long> userIds;
+            do {
+                userIds = blogRepository.findUserIdsAfter(lastUserId, PageRequest.ofSize(BOOTSTRAP_CHUNK_SIZE));
+                if (userIds.isEmpty()) {
+                    break;
+                }
+                count += saveMissing(userIds);
+                lastUserId = userIds.get(userIds.size() - 1);
+            } while (userIds.size() == BOOTSTRAP_CHUNK_SIZE);
+
+            stringRedisTemplate.delete(BOOTSTRAP_LOCK_KEY);
+            log.info("사용자 디렉터리 채우기 완료 - Count: {}", count);
+        } catch (RuntimeException e) {
+            // 디렉터리가 비어 있어도 user-service 조회로 동작하므로 요청은 정상 처리됨
+            log.error("사용자 디렉터리 채우기 실패", e);
+        }
+    }
+
+    // user-service 에서 조회한 사용자 중 디렉터리에 없는 사용자만 저장 (이벤트로 먼저 반영된 정보를 덮어쓰지 않음)
+    private int saveMissing(List<Long> userIds) {
+        ApiResponse<List<UserDTO>> response = userClient.getUsersById(new HashSet<>(userIds));
+        if (response == null || response.getData() == null) {
+            throw new IllegalStateException("user-service 에서 사용자 정보를 조회하지 못했습니다.");
+        }
+
+        Set<Long> existing = new HashSet<>();
+        userProfileRepository.findByUserIdIn(userIds).forEach(profile -> existing.add(profile.getUserId()));
+
+        List<UserProfile> profiles = response.getData().stream()
+                .filter(user -> !existing.contains(user.getUserId()))
+                .map(user -> UserProfile.builder()
+                        .userId(user.getUserId())
+                        .nickname(user.getNickname())
+                        .profileImage(user.getProfileImage())
+                        .version(BOOTSTRAP_VERSION)
+                        .build())
+                .toList();
+        userProfileRepository.saveAll(profiles);
+        referenceTableReplicator.replicateAfterCommit(ReferenceTableReplicator.USER_DIRECTORY,
+                profiles.stream().map(UserProfile::getUserId).toList());
+        return profiles.size();
+    }
+}
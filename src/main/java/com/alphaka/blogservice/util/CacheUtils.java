@@ -1,88 +1,139 @@
 package com.alphaka.blogservice.util;
 
-import lombok.RequiredArgsConstructor;
+import com.alphaka.blogservice.cache.CacheKeyIndex;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
+/**
+ * 캐시 무효화 유틸리티
+ * - 트랜잭션 안에서 요청된 무효화는 모아 두었다가 커밋 이후 한 번에 처리
+ *   커밋 전에 삭제하면 동시 조회가 커밋 전 데이터로 캐시를 다시 채울 수 있기 때문
+ * - 롤백 시에는 데이터가 바뀌지 않았으므로 무효화하지 않음
+ * - 트랜잭션 밖에서는 즉시 처리
+ * - 복제 DB 를 사용하면 복제 지연 시간 뒤에 한 번 더 무효화
+ *   무효화 직후의 조회가 아직 반영되지 않은 복제 DB 의 데이터(음성 캐시 포함)로 캐시를 다시 채울 수 있기 때문
+ * - 블로그 / 게시글 단위 무효화는 키 공간을 SCAN 하지 않고 저장 시 기록한 키 색인(CacheKeyIndex)으로 찾아 삭제
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CacheUtils {
 
-    private final RedisTemplate<String, Object> redisTemplate;
     private static final String PREFIX = "blogService:cache";
 
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheKeyIndex cacheKeyIndex;
+    private final TaskScheduler taskScheduler;
+    private final Duration secondEvictionDelay;
+    private final RetryTemplate retryTemplate;
+
     /**
-     * Redis 키 패턴에 따라 키를 삭제하는 공통 메서드
-     * @param pattern - 삭제할 키 패턴
-     * @param logMessage - 로그 메시지
-     * @param args - 로그 메시지 인자
+     * @param stringRedisTemplate - Redis 템플릿
+     * @param cacheKeyIndex - 블로그 / 게시글 단위 캐시 키 색인
+     * @param taskScheduler - 두 번째 무효화 예약용 스케줄러
+     * @param replicaEnabled - 복제 DB 사용 여부 (사용하지 않으면 두 번째 무효화 생략)
+     * @param secondEvictionDelayMs - 두 번째 무효화까지의 시간 (복제 지연 허용 범위보다 길게 설정)
      */
-    private void deleteKeysByPattern(String pattern, String logMessage, Object... args) {
-        log.info("삭제할 키 패턴: {}", pattern);
-        Set<String> keys = redisTemplate.keys(pattern);
-        if (keys != null && !keys.isEmpty()) {
-            redisTemplate.delete(keys);
-            log.info(logMessage, args);
-        } else {
-            log.warn("삭제할 키가 없습니다. 패턴: {}", pattern);
-        }
+    public CacheUtils(StringRedisTemplate stringRedisTemplate,
+                      CacheKeyIndex cacheKeyIndex,
+                      TaskScheduler taskScheduler,
+                      @Value("${blog.datasource.replica.enabled:false}") boolean replicaEnabled,
+                      @Value("${blog.cache.second-eviction-delay-ms:${blog.datasource.read-your-writes.window-ms:5000}}") long secondEvictionDelayMs) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cacheKeyIndex = cacheKeyIndex;
+        this.taskScheduler = taskScheduler;
+        this.secondEvictionDelay = replicaEnabled && secondEvictionDelayMs > 0 ? Duration.ofMillis(secondEvictionDelayMs) : null;
+        // Redis 가 일시적으로 실패하는 경우 재시도
+        this.retryTemplate = RetryTemplate.builder()
+                .maxAttempts(3)
+                .exponentialBackoff(50, 2, 500)
+                .retryOn(DataAccessException.class)
+                .build();
     }
 
-    // 특정 블로그의 게시글 목록 캐시 무효화
+    // 특정 블로그의 게시글 목록 캐시 무효화 (게시글 목록을 포함하는 블로그 홈 캐시도 함께 무효화)
     public void evictPostListCache(Long blogId) {
-        String pattern = String.format("%s:postList::blog:%d:page*", PREFIX, blogId);
-        deleteKeysByPattern(pattern, "블로그 ID {}의 게시글 목록 캐시가 초기화 되었습니다.", blogId);
+        evictIndexed("postList", "blog:" + blogId);
+        evictIndexed("blogHome", "blog:" + blogId);
+        log.info("블로그 ID {}의 게시글 목록 캐시 무효화를 요청했습니다.", blogId);
     }
 
-    // 특정 블로그 태그 목록 캐시 무효화
+    // 특정 블로그 태그 목록 캐시 무효화 (태그 목록을 포함하는 블로그 홈 캐시도 함께 무효화)
     public void evictTagListCache(Long blogId) {
-        String pattern = String.format("%s:tagList::blog:%d:*", PREFIX, blogId);
-        deleteKeysByPattern(pattern, "블로그 ID {}의 태그 목록 캐시가 초기화 되었습니다.", blogId);
+        evictIndexed("tagList", "blog:" + blogId);
+        evictIndexed("blogHome", "blog:" + blogId);
+        log.info("블로그 ID {}의 태그 목록 캐시 무효화를 요청했습니다.", blogId);
     }
 
     // 특정 게시글의 댓글 캐시 무효화
     public void evictCommentsCache(Long postId) {
-        String pattern = String.format("%s:comments::post:%d", PREFIX, postId);
-        deleteKeysByPattern(pattern, "게시글 ID {}의 댓글 캐시가 초기화 되었습니다.", postId);
+        evictKey(String.format("%s:comments::post:%d", PREFIX, postId));
+        log.info("게시글 ID {}의 댓글 캐시 무효화를 요청했습니다.", postId);
     }
 
     // 특정 게시글 상세 조회 캐시 무효화
     public void evictPostDetailsCache(Long postId, Long userId) {
-        String key = String.format("%s:postDetails::post:%d:user:%d", PREFIX, postId, userId);
-        redisTemplate.delete(key);
-        log.info("게시글 ID {}의 상세 정보 캐시가 초기화 되었습니다.", postId);
+        evictKey(String.format("%s:postDetails::post:%d:user:%d", PREFIX, postId, userId));
+        log.info("게시글 ID {}의 상세 정보 캐시 무효화를 요청했습니다.", postId);
     }
 
     // 특정 게시글의 좋아요 수 캐시 무효화
     public void evictLikeCountForPost(Long postId) {
-        String key = String.format("%s:likeCount::post:%d", PREFIX, postId);
-        redisTemplate.delete(key);
-        log.info("게시글 ID {}의 좋아요 수 캐시가 초기화 되었습니다.", postId);
+        evictKey(String.format("%s:likeCount::post:%d", PREFIX, postId));
+        log.info("게시글 ID {}의 좋아요 수 캐시 무효화를 요청했습니다.", postId);
     }
 
     // 특정 댓글의 좋아요 수 캐시 무효화
     public void evictLikeCountForComment(Long commentId) {
-        String key = String.format("%s:likeCount::comment:%d", PREFIX, commentId);
-        redisTemplate.delete(key);
-        log.info("댓글 ID {}의 좋아요 수 캐시가 초기화 되었습니다.", commentId);
+        evictKey(String.format("%s:likeCount::comment:%d", PREFIX, commentId));
+        log.info("댓글 ID {}의 좋아요 수 캐시 무효화를 요청했습니다.", commentId);
     }
 
     // 특정 게시글의 사용자 좋아요 여부 캐시 무효화
     public void evictUserLikeOnPost(Long userId, Long postId) {
-        String key = String.format("%s:like::post:%d:userId:%d", PREFIX, postId, userId);
-        redisTemplate.delete(key);
-        log.info("사용자 ID {}의 게시글 ID {} 좋아요 여부 캐시가 삭제되었습니다.", userId, postId);
+        evictKey(String.format("%s:like::post:%d:userId:%d", PREFIX, postId, userId));
+        log.info("사용자 ID {}의 게시글 ID {} 좋아요 여부 캐시 무효화를 요청했습니다.", userId, postId);
     }
 
     // 특정 댓글의 사용자 좋아요 여부 캐시 무효화
     public void evictUserLikeOnComment(Long userId, Long commentId) {
-        String key = String.format("%s:like::comment:%d:userId:%d", PREFIX, commentId, userId);
-        redisTemplate.delete(key);
-        log.info("사용자 ID {}의 댓글 ID {} 좋아요 여부 캐시가 삭제되었습니다.", userId, commentId);
+        evictKey(String.format("%s:like::comment:%d:userId:%d", PREFIX, commentId, userId));
+        log.info("사용자 ID {}의 댓글 ID {} 좋아요 여부 캐시 무효화를 요청했습니다.", userId, commentId);
+    }
+
+    // 삭제된 게시글의 캐시 무효화 (모든 사용자의 상세 조회, 댓글, 좋아요 수)
+    public void evictDeletedPostCache(Long postId) {
+        evictIndexed("postDetails", "post:" + postId);
+        evictKey(String.format("%s:comments::post:%d", PREFIX, postId));
+        evictKey(String.format("%s:likeCount::post:%d", PREFIX, postId));
+        log.info("삭제된 게시글 ID {}의 캐시 무효화를 요청했습니다.", postId);
+    }
+
+    // 삭제된 블로그의 캐시 무효화 (블로그 홈, 게시글 목록, 태그 목록과 블로그 게시글의 상세 조회, 댓글, 좋아요 수)
+    public void evictDeletedBlogCache(Long blogId, List<Long> postIds) {
+        evictPostListAndTagListCache(blogId);
+        postIds.forEach(this::evictDeletedPostCache);
+        log.info("삭제된 블로그 ID {}의 캐시 무효화를 요청했습니다. 게시글 수: {}", blogId, postIds.size());
+    }
+
+    // 특정 게시글의 음성 캐시(존재하지 않음) 무효화
+    public void evictMissingPost(Long postId) {
+        evictKey(String.format("%s:negative::post:%d", PREFIX, postId));
+        log.info("게시글 ID {}의 음성 캐시 무효화를 요청했습니다.", postId);
     }
 
     // 특정 블로그의 게시글 목록 및 태그 목록 캐시 무효화
@@ -103,4 +154,103 @@ public class CacheUtils {
         evictPostListCache(blogId); // 게시글 목록 캐시 삭제
         evictPostDetailsCache(postId, userId); // 게시글 상세 캐시 삭제
     }
+
+    private void evictKey(String key) {
+        EvictionBatch batch = currentBatch();
+        batch.keys.add(key);
+        flushIfNoTransaction(batch);
+    }
+
+    // 캐시 키 색인에 기록된 블로그 / 게시글 단위의 키 삭제
+    private void evictIndexed(String cache, String group) {
+        EvictionBatch batch = currentBatch();
+        batch.indexes.add(CacheKeyIndex.indexKey(PREFIX + ":" + cache, group));
+        flushIfNoTransaction(batch);
+    }
+
+    // 트랜잭션이 진행 중이면 트랜잭션에 묶인 배치를, 아니면 새 배치를 반환
+    private EvictionBatch currentBatch() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new EvictionBatch(false);
+        }
+
+        EvictionBatch batch = (EvictionBatch) TransactionSynchronizationManager.getResource(this);
+        if (batch == null) {
+            EvictionBatch newBatch = new EvictionBatch(true);
+            TransactionSynchronizationManager.bindResource(this, newBatch);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    flush(newBatch);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CacheUtils.this);
+                }
+            });
+            batch = newBatch;
+        }
+        return batch;
+    }
+
+    private void flushIfNoTransaction(EvictionBatch batch) {
+        if (!batch.transactional) {
+            flush(batch);
+        }
+    }
+
+    /**
+     * 모아 둔 키와 색인의 키를 삭제하고, 복제 DB 를 사용하면 같은 대상의 두 번째 무효화 예약
+     * 커밋 이후 호출되므로 실패하더라도 예외를 던지지 않고, 남은 캐시는 TTL 로 만료됨
+     * @param batch - 삭제할 키와 색인
+     */
+    private void flush(EvictionBatch batch) {
+        if (batch.keys.isEmpty() && batch.indexes.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(batch.keys);
+        List<String> indexes = new ArrayList<>(batch.indexes);
+        evict(keys, indexes);
+        if (secondEvictionDelay != null) {
+            try {
+                taskScheduler.schedule(() -> evict(keys, indexes), Instant.now().plus(secondEvictionDelay));
+            } catch (RuntimeException e) {
+                log.warn("두 번째 캐시 무효화 예약에 실패했습니다. 키: {}, 색인: {}", keys, indexes, e);
+            }
+        }
+    }
+
+    // 키는 한 번의 UNLINK 로, 색인의 키는 모든 색인을 묶어 한 번에 삭제 (실패한 호출만 재시도)
+    private void evict(List<String> keys, List<String> indexes) {
+        try {
+            long deleted = retryTemplate.execute(context -> unlink(keys));
+            if (!indexes.isEmpty()) {
+                deleted += retryTemplate.execute(context -> cacheKeyIndex.unlinkIndexed(indexes));
+            }
+            log.info("캐시 {}건이 초기화 되었습니다. 키: {}, 색인: {}", deleted, keys, indexes);
+        } catch (DataAccessException e) {
+            log.error("캐시 초기화에 실패했습니다. 키: {}, 색인: {}", keys, indexes, e);
+        }
+    }
+
+    private long unlink(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long deleted = stringRedisTemplate.unlink(keys);
+        return deleted != null ? deleted : 0;
+    }
+
+    // 트랜잭션 단위로 모은 무효화 대상
+    private static class EvictionBatch {
+        private final boolean transactional;
+        private final Set<String> keys = new LinkedHashSet<>();
+        private final Set<String> indexes = new LinkedHashSet<>();
+
+        private EvictionBatch(boolean transactional) {
+            this.transactional = transactional;
+        }
+    }
 }
@@ -0,0 +1,206 @@
+package com.alphaka.blogservice.util;
+
+import com.alphaka.blogservice.cache.RedisBloomFilter;
+import com.alphaka.blogservice.exception.custom.BlogNotFoundException;
+import com.alphaka.blogservice.exception.custom.CustomException;
+import com.alphaka.blogservice.exception.custom.PostNotFoundException;
+import com.alphaka.blogservice.exception.custom.UserNotFoundException;
+import com.alphaka.blogservice.post.repository.PostRepository;
+import com.alphaka.blogservice.shard.ShardContext;
+import com.alphaka.blogservice.shard.ShardMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 존재하지 않는 게시글, 닉네임 요청을 DB 와 user-service 조회 전에 거절
+ * - 게시글: 블룸 필터에 없으면 존재하지 않는 것이 확실하므로 바로 거절
+ * - 게시글, 닉네임: 조회 결과 존재하지 않으면 짧은 TTL 의 음성 캐시를 저장
+ *   (닉네임은 이 서비스에 저장되지 않으므로 음성 캐시만 사용)
+ */
+@Slf4j
+@Service
+public class ExistenceGuard {
+
+    static final String POST_FILTER_KEY = "blogService:bloom:post";
+    static final String POST_FILTER_WARM_UP_LOCK_KEY = "blogService:lock:bloom:post";
+    static final String NEGATIVE_PREFIX = "blogService:cache:negative";
+
+    private static final String REASON_POST = "post";
+    private static final String REASON_USER = "user";
+    private static final String REASON_BLOG = "blog";
+    private static final int WARM_UP_CHUNK_SIZE = 1000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheUtils cacheUtils;
+    private final PostRepository postRepository;
+    private final ShardMap shardMap;
+    private final RedisBloomFilter postFilter;
+    private final Duration negativeTtl;
+
+    public ExistenceGuard(StringRedisTemplate stringRedisTemplate,
+                          CacheUtils cacheUtils,
+                          PostRepository postRepository,
+                          ShardMap shardMap,
+                          @Value("${blog.existence.bloom.expected-insertions:1000000}") long expectedInsertions,
+                          @Value("${blog.existence.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+                          @Value("${blog.existence.negative-ttl-ms:60000}") long negativeTtlMs) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cacheUtils = cacheUtils;
+        this.postRepository = postRepository;
+        this.shardMap = shardMap;
+        this.postFilter = new RedisBloomFilter(stringRedisTemplate, POST_FILTER_KEY, expectedInsertions, falsePositiveRate);
+        this.negativeTtl = Duration.ofMillis(negativeTtlMs);
+    }
+
+    /**
+     * 게시글이 존재하지 않는 것이 확실하면 예외 발생
+     * @param postId - 게시글 ID
+     */
+    public void checkPost(Long postId) {
+        if (!postFilter.mightContain(String.valueOf(postId))) {
+            log.info("블룸 필터에 없는 게시글 요청 - Post ID: {}", postId);
+            throw new PostNotFoundException();
+        }
+        if (getNegative(postKey(postId)) != null) {
+            log.info("존재하지 않는 게시글 요청 (음성 캐시) - Post ID: {}", postId);
+            throw new PostNotFoundException();
+        }
+    }
+
+    /**
+     * 게시글이 존재하지 않음을 기록
+     * @param postId - 게시글 ID
+     */
+    public void markPostMissing(Long postId) {
+        setNegative(postKey(postId), REASON_POST);
+    }
+
+    /**
+     * 새로 작성된 게시글 등록
+     * 롤백되더라도 블룸 필터에 남는 것은 오탐일 뿐이므로 커밋 전에 추가하고, 음성 캐시는 커밋 이후 삭제
+     * @param postId - 게시글 ID
+     */
+    public void registerPost(Long postId) {
+        postFilter.add(String.valueOf(postId));
+        cacheUtils.evictMissingPost(postId);
+    }
+
+    /**
+     * 닉네임에 해당하는 사용자나 블로그가 없는 것으로 기록되어 있으면 예외 발생
+     * @param nickname - 닉네임
+     */
+    public void checkNickname(String nickname) {
+        String reason = getNegative(nicknameKey(nickname));
+        if (REASON_USER.equals(reason)) {
+            log.info("존재하지 않는 사용자 요청 (음성 캐시) - Nickname: {}", nickname);
+            throw new UserNotFoundException();
+        }
+        if (REASON_BLOG.equals(reason)) {
+            log.info("존재하지 않는 블로그 요청 (음성 캐시) - Nickname: {}", nickname);
+            throw new BlogNotFoundException();
+        }
+    }
+
+    /**
+     * 닉네임 조회 실패를 기록 (사용자 없음, 블로그 없음을 구분하여 이후 같은 예외를 던짐)
+     * 블로그 생성 이벤트에는 닉네임이 없으므로 음성 캐시는 TTL 로만 만료됨
+     * @param nickname - 닉네임
+     * @param e - 조회 실패 예외
+     */
+    public void markNicknameMissing(String nickname, CustomException e) {
+        if (e instanceof UserNotFoundException) {
+            setNegative(nicknameKey(nickname), REASON_USER);
+        } else if (e instanceof BlogNotFoundException) {
+            setNegative(nicknameKey(nickname), REASON_BLOG);
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 게시글 블룸 필터 채우기
+     * 이미 채워져 있으면 건너뛰고, 여러 인스턴스가 동시에 시작해도 락을 획득한 한 인스턴스만 채움
+     * 채우는 동안에는 준비 완료 비트가 없으므로 필터로 거절하지 않음
+     * 게시글은 여러 샤드에 나뉘어 있으므로 모든 샤드를 채운 뒤에만 준비 완료 표시 (일부 샤드만 채우면 나머지 샤드의 게시글을 거절함)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpPostFilter() {
+        try {
+            if (postFilter.isReady()) {
+                log.info("게시글 블룸 필터가 이미 채워져 있습니다.");
+                return;
+            }
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(POST_FILTER_WARM_UP_LOCK_KEY, "warming", Duration.ofMinutes(10));
+            if (!Boolean.TRUE.equals(acquired)) {
+                log.info("다른 인스턴스가 게시글 블룸 필터를 채우는 중입니다.");
+                return;
+            }
+
+            long count = 0;
+            for (String shard : shardMap.shards()) {
+                try {
+                    ShardContext.bind(shard);
+                    count += addPostIds();
+                } finally {
+                    ShardContext.clear();
+                }
+            }
+
+            postFilter.markReady();
+            stringRedisTemplate.delete(POST_FILTER_WARM_UP_LOCK_KEY);
+            log.info("게시글 블룸 필터 채우기 완료 - Count: {}", count);
+        } catch (RuntimeException e) {
+            // 준비 완료 비트가 없으면 필터로 거절하지 않으므로 요청은 정상 처리됨 (다음 시작 시 다시 채움)
+            log.error("게시글 블룸 필터 채우기 실패", e);
+        }
+    }
+
+    // 현재 샤드의 모든 게시글 ID 를 ID 순으로 나누어 블룸 필터에 추가
+    private long addPostIds() {
+        long lastId = 0L;
+        long count = 0;
+        List<Long> ids;
+        do {
+            ids = postRepository.findIdsAfter(lastId, PageRequest.ofSize(WARM_UP_CHUNK_SIZE));
+            postFilter.addAll(ids.stream().map(String::valueOf).toList());
+            count += ids.size();
+            if (!ids.isEmpty()) {
+                lastId = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == WARM_UP_CHUNK_SIZE);
+        return count;
+    }
+
+    // Redis 장애 시 음성 캐시가 없는 것으로 처리
+    private String getNegative(String key) {
+        try {
+            return stringRedisTemplate.opsForValue().get(key);
+        } catch (RuntimeException e) {
+            log.warn("음성 캐시 조회 실패 - Key: {}", key, e);
+            return null;
+        }
+    }
+
+    private void setNegative(String key, String reason) {
+        try {
+            stringRedisTemplate.opsForValue().set(key, reason, negativeTtl);
+        } catch (RuntimeException e) {
+            log.warn("음성 캐시 저장 실패 - Key: {}", key, e);
+        }
+    }
+
+    static String postKey(Long postId) {
+        return NEGATIVE_PREFIX + "::post:" + postId;
+    }
+
+    static String nicknameKey(String nickname) {
+        return NEGATIVE_PREFIX + "::nickname:" + nickname;
+    }
+}
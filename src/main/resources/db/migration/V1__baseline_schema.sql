@@ -0,0 +1,93 @@
+-- 기준 스키마: Flyway 도입 이전 ddl-auto: update 가 엔티티로부터 만든 스키마와 같은 구조
+-- 기존 DB 는 이 버전을 기준선으로 기록하고 건너뛰므로, 이후에 추가되는 테이블, 컬럼, 제약 조건은 모두 V2 부터의 마이그레이션에 둠
+-- 제약 조건 이름은 기존 DB(Hibernate 가 만든 이름)와 다르므로, 이후 마이그레이션에서 V1 의 제약 조건을 이름으로 참조하지 않음
+-- ID 는 기존 DB 와 같이 AUTO_INCREMENT 로 두며, 애플리케이션에서 ID 를 만드는 테이블은 값을 직접 넣음
+
+CREATE TABLE blogs (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    deleted_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE posts (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id        BIGINT       NOT NULL,
+    blog_id        BIGINT       NOT NULL,
+    title          VARCHAR(100) NOT NULL,
+    content        LONGTEXT     NOT NULL,
+    is_public      BIT          NOT NULL,
+    is_commentable BIT          NOT NULL,
+    view_count     INTEGER      NOT NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    updated_at     DATETIME(6),
+    deleted_at     DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_posts_blog FOREIGN KEY (blog_id) REFERENCES blogs (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE comments (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT       NOT NULL,
+    post_id    BIGINT       NOT NULL,
+    parent_id  BIGINT,
+    content    VARCHAR(500) NOT NULL,
+    is_public  BIT          NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    updated_at DATETIME(6),
+    deleted_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES posts (id),
+    CONSTRAINT fk_comments_parent FOREIGN KEY (parent_id) REFERENCES comments (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE likes (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT      NOT NULL,
+    post_id    BIGINT,
+    comment_id BIGINT,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_likes_post FOREIGN KEY (post_id) REFERENCES posts (id),
+    CONSTRAINT fk_likes_comment FOREIGN KEY (comment_id) REFERENCES comments (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE tags (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    tag_name   VARCHAR(20) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_tags_tag_name UNIQUE (tag_name)
+) ENGINE = InnoDB;
+
+CREATE TABLE post_tags (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    post_id    BIGINT      NOT NULL,
+    tag_id     BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    deleted_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_post_tags_post_tag UNIQUE (post_id, tag_id),
+    CONSTRAINT fk_post_tags_post FOREIGN KEY (post_id) REFERENCES posts (id),
+    CONSTRAINT fk_post_tags_tag FOREIGN KEY (tag_id) REFERENCES tags (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE reports (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    reporter_id BIGINT      NOT NULL,
+    reported_id BIGINT,
+    post_id     BIGINT,
+    comment_id  BIGINT,
+    reason      ENUM ('SPAM_ADVERTISEMENT', 'OBSCENE_CONTENT', 'ILLEGAL_INFORMATION', 'HATE_SPEECH',
+                      'VIOLATION_OF_PRIVACY', 'FALSE_INFORMATION', 'INAPPROPRIATE_NICKNAME',
+                      'INAPPROPRIATE_PROFILE', 'INAPPROPRIATE_BIO', 'OTHER') NOT NULL,
+    details     LONGTEXT,
+    status      ENUM ('PENDING', 'IN_PROGRESS', 'COMPLETED', 'REJECTED') NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_reports_post FOREIGN KEY (post_id) REFERENCES posts (id),
+    CONSTRAINT fk_reports_comment FOREIGN KEY (comment_id) REFERENCES comments (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,2 @@
+-- 삭제 표시된 댓글 정리 대상 조회 (CommentPurger, 삭제 시각 기준)
+CREATE INDEX idx_comments_deleted_at ON comments (deleted_at);
@@ -0,0 +1,13 @@
+-- user-service 사용자 정보의 로컬 사본 (UserDirectoryService)
+-- 닉네임 교환처럼 여러 사용자의 변경 이벤트가 엇갈려 도착하면 잠시 같은 닉네임을 가진 행이 둘 이상 생길 수 있음
+-- 유일성은 user-service 가 보장하므로 사용자 ID 기준으로만 반영하고, 닉네임 조회는 가장 최근 버전을 사용
+CREATE TABLE user_directory (
+    user_id       BIGINT       NOT NULL,
+    nickname      VARCHAR(50)  NOT NULL,
+    profile_image VARCHAR(500),
+    version       BIGINT       NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6),
+    PRIMARY KEY (user_id),
+    INDEX idx_user_directory_nickname (nickname, version)
+) ENGINE = InnoDB;
@@ -0,0 +1,20 @@
+-- 아직 Kafka 로 발행하지 않은 도메인 이벤트 (OutboxService, OutboxRelay)
+-- ID 는 INSERT 전에 만들어지므로 커밋 순서와 다를 수 있어, 같은 메시지 키(게시글)의 이벤트 순서는 순번으로 정함
+CREATE TABLE outbox_events (
+    id                 BIGINT      NOT NULL,
+    event_type         ENUM ('POST_CREATED', 'POST_UPDATED', 'POST_DELETED', 'COMMENT_CREATED', 'COMMENT_UPDATED',
+                             'COMMENT_DELETED', 'LIKE_ADDED', 'LIKE_REMOVED') NOT NULL,
+    message_key        VARCHAR(64) NOT NULL,
+    aggregate_sequence BIGINT      NOT NULL,
+    payload            TEXT        NOT NULL,
+    created_at         DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_outbox_events_key_sequence (message_key, aggregate_sequence)
+) ENGINE = InnoDB;
+
+-- 메시지 키별 마지막 순번 (행 잠금으로 같은 키의 이벤트는 커밋 순서대로 순번을 받음)
+CREATE TABLE outbox_sequences (
+    message_key   VARCHAR(64) NOT NULL,
+    last_sequence BIGINT      NOT NULL,
+    PRIMARY KEY (message_key)
+) ENGINE = InnoDB;
@@ -0,0 +1,25 @@
+-- 조회 경로별 복합 인덱스
+-- InnoDB 보조 인덱스는 끝에 기본 키(id)를 포함하므로, "정렬 컬럼, id" 순의 ORDER BY 도 인덱스 순서로 읽음
+
+-- 블로그 게시글 목록 (방문자: 공개 게시글만, 최신순 / 조회수순)
+CREATE INDEX idx_posts_blog_public_created ON posts (blog_id, is_public, created_at);
+CREATE INDEX idx_posts_blog_public_views ON posts (blog_id, is_public, view_count);
+
+-- 블로그 게시글 목록 (소유자: 비공개 포함, 최신순)
+CREATE INDEX idx_posts_blog_created ON posts (blog_id, created_at);
+
+-- 전체 공개 게시글 목록 (최신순)
+CREATE INDEX idx_posts_public_created ON posts (is_public, created_at);
+
+-- 게시글 댓글 목록 (작성순) 과 댓글 수
+CREATE INDEX idx_comments_post_created ON comments (post_id, created_at);
+
+-- 게시글 / 댓글 좋아요 수와 사용자 좋아요 여부 (인덱스만 읽고 끝남)
+CREATE INDEX idx_likes_post_user ON likes (post_id, user_id);
+CREATE INDEX idx_likes_comment_user ON likes (comment_id, user_id);
+
+-- 블로그의 태그별 게시글 수 (태그에서 게시글로 찾아감, 게시글에서 태그는 uk_post_tags_post_tag 사용)
+CREATE INDEX idx_post_tags_tag_post ON post_tags (tag_id, post_id);
+
+-- 삭제된 블로그 정리 대상 조회 (삭제 순)
+CREATE INDEX idx_blogs_deleted_at ON blogs (deleted_at);
@@ -0,0 +1,30 @@
+-- 샤드 맵 (ShardMap)
+-- 샤드 맵은 기본 샤드의 테이블만 사용하지만, 마이그레이션은 모든 샤드에 같은 버전으로 적용하므로 다른 샤드에는 빈 테이블로 남음
+-- 이 마이그레이션 이전에는 애플리케이션이 시작 시 만들었으므로, 이미 있는 환경을 위해 IF NOT EXISTS 로 생성
+
+-- 블로그가 위치한 샤드와 재배치 중 여부
+CREATE TABLE IF NOT EXISTS blog_shards (
+    blog_id    BIGINT      NOT NULL,
+    shard      VARCHAR(32) NOT NULL,
+    moving     BOOLEAN     NOT NULL DEFAULT FALSE,
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (blog_id)
+) ENGINE = InnoDB;
+
+-- 게시글 ID 만 전달되는 요청의 샤드 확인용 위치 정보
+CREATE TABLE IF NOT EXISTS post_shards (
+    post_id BIGINT      NOT NULL,
+    blog_id BIGINT      NOT NULL,
+    shard   VARCHAR(32) NOT NULL,
+    PRIMARY KEY (post_id),
+    INDEX idx_post_shards_blog_id (blog_id)
+) ENGINE = InnoDB;
+
+-- 댓글 ID 만 전달되는 요청의 샤드 확인용 위치 정보
+CREATE TABLE IF NOT EXISTS comment_shards (
+    comment_id BIGINT      NOT NULL,
+    blog_id    BIGINT      NOT NULL,
+    shard      VARCHAR(32) NOT NULL,
+    PRIMARY KEY (comment_id),
+    INDEX idx_comment_shards_blog_id (blog_id)
+) ENGINE = InnoDB;
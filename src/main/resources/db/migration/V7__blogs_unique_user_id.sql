@@ -0,0 +1,29 @@
+-- 사용자당 블로그 하나 (user-signup 이벤트 일괄 처리의 ON DUPLICATE KEY UPDATE 가 이 키로 중복 생성을 막음)
+-- 키가 없던 기존 DB 에는 이벤트 재전송으로 같은 사용자의 블로그가 둘 이상 있을 수 있으므로, 키를 추가하기 전에 정리
+-- 사용자마다 삭제되지 않은 블로그 중 가장 먼저 만든 블로그를 남기고, 나머지 블로그의 게시글과 위치 정보는 남기는 블로그로 옮김
+
+CREATE TABLE blog_duplicates (
+    duplicate_id BIGINT NOT NULL,
+    keep_id      BIGINT NOT NULL,
+    PRIMARY KEY (duplicate_id)
+) ENGINE = InnoDB;
+
+INSERT INTO blog_duplicates (duplicate_id, keep_id)
+SELECT b.id, k.keep_id
+FROM blogs b
+    JOIN (SELECT user_id, id AS keep_id
+          FROM (SELECT user_id, id,
+                       ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY deleted_at IS NOT NULL, id) AS rn
+                FROM blogs) ranked
+          WHERE rn = 1) k ON k.user_id = b.user_id
+WHERE b.id <> k.keep_id;
+
+UPDATE posts p JOIN blog_duplicates d ON d.duplicate_id = p.blog_id SET p.blog_id = d.keep_id;
+UPDATE post_shards s JOIN blog_duplicates d ON d.duplicate_id = s.blog_id SET s.blog_id = d.keep_id;
+UPDATE comment_shards s JOIN blog_duplicates d ON d.duplicate_id = s.blog_id SET s.blog_id = d.keep_id;
+DELETE s FROM blog_shards s JOIN blog_duplicates d ON d.duplicate_id = s.blog_id;
+DELETE b FROM blogs b JOIN blog_duplicates d ON d.duplicate_id = b.id;
+
+DROP TABLE blog_duplicates;
+
+ALTER TABLE blogs ADD CONSTRAINT uk_blogs_user_id UNIQUE (user_id);
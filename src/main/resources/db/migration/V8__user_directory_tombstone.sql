@@ -0,0 +1,8 @@
+-- 탈퇴한 사용자는 행을 지우지 않고 삭제 표시(tombstone)로 남김 (UserDirectoryService.delete)
+-- 탈퇴 이후 늦게 도착한 이전 버전의 사용자 정보 이벤트가 사용자를 다시 만들지 않도록 하기 위함이며,
+-- 보존 기간이 지난 삭제 표시는 UserDirectoryPurger 가 삭제
+-- 탈퇴 시 닉네임과 프로필 이미지는 지우므로 닉네임은 NULL 허용 (NULL 은 닉네임 조회에 걸리지 않음)
+ALTER TABLE user_directory
+    MODIFY nickname VARCHAR(50) NULL,
+    ADD COLUMN deleted_at DATETIME(6) NULL,
+    ADD INDEX idx_user_directory_deleted_at (deleted_at);
@@ -0,0 +1,6 @@
+-- 삭제된 게시글의 아웃박스 순번 행 정리
+-- 이후로는 게시글을 삭제할 때 순번 행도 함께 지우므로 (OutboxService.forgetSequences), 그 전에 쌓인 행만 한 번 삭제
+DELETE s
+FROM outbox_sequences s
+         LEFT JOIN posts p ON p.id = CAST(s.message_key AS UNSIGNED)
+WHERE p.id IS NULL;
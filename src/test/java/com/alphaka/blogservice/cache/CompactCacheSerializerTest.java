@@ -0,0 +1,228 @@
+package com.alphaka.blogservice.cache;
+
+import com.alphaka.blogservice.common.dto.PageResponse;
+import com.alphaka.blogservice.post.dto.PostListResponse;
+import com.alphaka.blogservice.post.dto.PostResponse;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactCacheSerializerTest {
+
+    private static final int MAX_VALUE_SIZE = 1024 * 1024;
+
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+    private CompactCacheSerializerFactory factory;
+    private CompactCacheSerializer compactSerializer;
+
+    @BeforeEach
+    void setUp() {
+        jsonSerializer = new GenericJackson2JsonRedisSerializer(activateTyping(configure(new ObjectMapper())));
+        factory = new CompactCacheSerializerFactory(configure(new ObjectMapper(new SmileFactory())), jsonSerializer, 1024, MAX_VALUE_SIZE);
+        compactSerializer = factory.create(factory.getTypeFactory().constructType(PostResponse.class));
+    }
+
+    @Test
+    @DisplayName("게시글 상세 응답을 바이너리로 직렬화 후 동일하게 복원")
+    void serialize_postResponse_roundTrip() {
+        // given
+        PostResponse post = postResponse(1L);
+
+        // when
+        byte[] bytes = compactSerializer.serialize(post);
+        Object restored = compactSerializer.deserialize(bytes);
+
+        // then
+        assertThat(bytes[0]).isEqualTo(CompactCacheSerializer.MAGIC);
+        assertThat(bytes[2] & CompactCacheSerializer.FLAG_LZ4).isNotZero();
+        assertThat(restored).isInstanceOf(PostResponse.class);
+        assertThat(restored).usingRecursiveComparison().isEqualTo(post);
+    }
+
+    @Test
+    @DisplayName("값 타입으로 읽으므로 클래스 이름을 저장하지 않음")
+    void serialize_noClassNames() {
+        // given
+        CompactCacheSerializer pageSerializer = factory.create(
+                factory.getTypeFactory().constructParametricType(PageResponse.class, PostListResponse.class));
+        PageResponse<PostListResponse> page = postPage(2);
+
+        // when
+        byte[] bytes = pageSerializer.serialize(page);
+        Object restored = pageSerializer.deserialize(bytes);
+
+        // then
+        assertThat(new String(bytes, StandardCharsets.ISO_8859_1)).doesNotContain("com.alphaka", "java.util");
+        assertThat(restored).usingRecursiveComparison().isEqualTo(page);
+    }
+
+    @Test
+    @DisplayName("기준 크기 미만의 값은 압축하지 않음")
+    void serialize_smallValue_notCompressed() {
+        // given
+        JavaType tags = factory.getTypeFactory().constructCollectionType(List.class, String.class);
+        CompactCacheSerializer entrySerializer = factory.create(
+                factory.getTypeFactory().constructParametricType(CacheEntry.class, tags));
+        CacheEntry<List<String>> entry = new CacheEntry<>(new ArrayList<>(List.of("java", "spring")), 1000L, 5L);
+
+        // when
+        byte[] bytes = entrySerializer.serialize(entry);
+        Object restored = entrySerializer.deserialize(bytes);
+
+        // then
+        assertThat(bytes[2] & CompactCacheSerializer.FLAG_LZ4).isZero();
+        assertThat(restored).usingRecursiveComparison().isEqualTo(entry);
+    }
+
+    @Test
+    @DisplayName("이전 JSON 형식으로 저장된 값도 읽을 수 있음")
+    void deserialize_legacyJson_fallback() {
+        // given
+        PageResponse<PostListResponse> page = postPage(5);
+        byte[] legacy = jsonSerializer.serialize(page);
+        CompactCacheSerializer pageSerializer = factory.create(
+                factory.getTypeFactory().constructParametricType(PageResponse.class, PostListResponse.class));
+
+        // when
+        Object restored = pageSerializer.deserialize(legacy);
+
+        // then
+        assertThat(restored).isInstanceOf(PageResponse.class);
+        assertThat(restored).usingRecursiveComparison().isEqualTo(page);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 버전의 값은 캐시 미스로 처리")
+    void deserialize_unknownVersion_returnNull() {
+        // given
+        byte[] bytes = compactSerializer.serialize(postResponse(1L));
+        bytes[1] = (byte) (CompactCacheSerializer.VERSION + 1);
+
+        // when & then
+        assertThat(compactSerializer.deserialize(bytes)).isNull();
+    }
+
+    @Test
+    @DisplayName("압축된 값 헤더의 원본 길이가 음수이거나 최대 크기를 넘으면 읽지 않음")
+    void deserialize_invalidOriginalLength_throwException() {
+        // given
+        byte[] bytes = compactSerializer.serialize(postResponse(1L));
+        byte[] negative = bytes.clone();
+        ByteBuffer.wrap(negative).putInt(3, -1);
+        byte[] tooLarge = bytes.clone();
+        ByteBuffer.wrap(tooLarge).putInt(3, MAX_VALUE_SIZE + 1);
+
+        // when & then
+        assertThatThrownBy(() -> compactSerializer.deserialize(negative)).isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> compactSerializer.deserialize(tooLarge)).isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("JSON 대비 바이너리 직렬화 크기 및 속도 비교")
+    void benchmark_jsonVsCompact() {
+        List<Object> samples = List.of(postResponse(1L), postPage(10), postPage(50));
+        for (Object sample : samples) {
+            Result json = measure(jsonSerializer, sample);
+            Result compact = measure(factory.create(factory.getTypeFactory().constructType(sample.getClass())), sample);
+
+            System.out.printf("%-14s json: %7d bytes, enc %6.1f us, dec %6.1f us | compact: %7d bytes, enc %6.1f us, dec %6.1f us%n",
+                    sample.getClass().getSimpleName(), json.size, json.encodeMicros, json.decodeMicros,
+                    compact.size, compact.encodeMicros, compact.decodeMicros);
+            assertThat(compact.size).isLessThan(json.size);
+        }
+    }
+
+    private record Result(int size, double encodeMicros, double decodeMicros) {
+    }
+
+    private Result measure(RedisSerializer<Object> serializer, Object value) {
+        int warmup = 2_000;
+        int iterations = 5_000;
+        byte[] bytes = serializer.serialize(value);
+        for (int i = 0; i < warmup; i++) {
+            serializer.deserialize(serializer.serialize(value));
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            bytes = serializer.serialize(value);
+        }
+        double encode = (System.nanoTime() - start) / 1_000.0 / iterations;
+
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            serializer.deserialize(bytes);
+        }
+        double decode = (System.nanoTime() - start) / 1_000.0 / iterations;
+        return new Result(bytes.length, encode, decode);
+    }
+
+    // JacksonConfig 의 공통 ObjectMapper 설정
+    private ObjectMapper configure(ObjectMapper mapper) {
+        mapper.registerModule(new JavaTimeModule());
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return mapper;
+    }
+
+    // JacksonConfig 의 Redis JSON 직렬화기와 동일하게 타입 정보 포함
+    private ObjectMapper activateTyping(ObjectMapper mapper) {
+        mapper.activateDefaultTyping(mapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        return mapper;
+    }
+
+    // 에디터에서 작성된 게시글과 비슷한 HTML 본문
+    private PostResponse postResponse(Long postId) {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 30; i++) {
+            content.append("<h2>섹션 ").append(i).append("</h2>")
+                    .append("<p>스프링 부트에서 Redis 캐시를 사용할 때 직렬화 형식은 네트워크 전송량과 응답 시간에 영향을 줍니다. ")
+                    .append("<strong>JSON</strong>은 사람이 읽기 쉽지만 타입 정보가 함께 저장되어 크기가 커집니다.</p>")
+                    .append("<p><img src=\"https://bucket.s3.amazonaws.com/images/").append(postId).append('/').append(i)
+                    .append(".png\" alt=\"image\"></p>");
+        }
+        LocalDateTime now = LocalDateTime.of(2024, 10, 1, 12, 30, 0);
+        PostResponse post = new PostResponse(postId, 10L, "Redis 캐시 직렬화 형식 비교", content.toString(),
+                12L, 345, false, true, true, now, now);
+        post.setAuthor("alphaka");
+        post.setTags(new ArrayList<>(List.of("redis", "cache", "spring")));
+        return post;
+    }
+
+    private PageResponse<PostListResponse> postPage(int size) {
+        List<PostListResponse> content = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.of(2024, 10, 1, 12, 30, 0);
+        for (long i = 1; i <= size; i++) {
+            PostListResponse post = new PostListResponse(i, "게시글 제목 " + i,
+                    "스프링 부트에서 Redis 캐시를 사용할 때 직렬화 형식은 네트워크 전송량과 응답 시간에 영향을 줍니다. " +
+                            "JSON은 사람이 읽기 쉽지만 타입 정보가 함께 저장되어 크기가 커집니다.",
+                    3L, 2L, 100, now, now);
+            post.setRepresentativeImage("https://bucket.s3.amazonaws.com/images/" + i + "/0.png");
+            post.setTags(new ArrayList<>(List.of("redis", "cache")));
+            content.add(post);
+        }
+        return new PageResponse<>(content, 10, 10L * size, 0, size);
+    }
+}
@@ -0,0 +1,84 @@
+package com.alphaka.blogservice.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KeyIndexedCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    @Mock
+    private Cache delegate;
+
+    @Mock
+    private CacheKeyIndex keyIndex;
+
+    private KeyIndexedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(delegate.getName()).thenReturn("blogService:cache:postList");
+        cache = new KeyIndexedCache(delegate, keyIndex, TTL);
+    }
+
+    @Test
+    @DisplayName("저장한 키는 색인에 기록")
+    void put_registerKey() {
+        // when
+        cache.put("blog:1:page:0", "value");
+
+        // then
+        verify(delegate).put("blog:1:page:0", "value");
+        verify(keyIndex).register("blogService:cache:postList", "blog:1:page:0", TTL);
+    }
+
+    @Test
+    @DisplayName("이미 값이 있어 저장하지 않았으면 색인에 기록하지 않음")
+    void putIfAbsent_existing_notRegistered() {
+        // given
+        when(delegate.putIfAbsent("blog:1:page:0", "value")).thenReturn(new SimpleValueWrapper("old"));
+
+        // when
+        Cache.ValueWrapper existing = cache.putIfAbsent("blog:1:page:0", "value");
+
+        // then
+        assertThat(existing.get()).isEqualTo("old");
+        verifyNoInteractions(keyIndex);
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 계산한 값을 저장하고 색인에 기록")
+    void getWithLoader_miss_storeAndRegister() {
+        // when
+        String value = cache.get("blog:1:page:0", () -> "loaded");
+
+        // then
+        assertThat(value).isEqualTo("loaded");
+        verify(delegate).put("blog:1:page:0", "loaded");
+        verify(keyIndex).register("blogService:cache:postList", "blog:1:page:0", TTL);
+        verify(delegate, never()).get(any(), any(Callable.class));
+    }
+
+    @Test
+    @DisplayName("캐시 키는 앞 두 부분(blog:{id}, post:{id}) 단위로 묶음")
+    void group_firstTwoSegments() {
+        assertThat(CacheKeyIndex.group("blog:1:page:0:size:10:sort:createdAt: DESC")).isEqualTo("blog:1");
+        assertThat(CacheKeyIndex.group("post:2:user:anonymous")).isEqualTo("post:2");
+        assertThat(CacheKeyIndex.indexKey("blogService:cache:postDetails", "post:2"))
+                .isEqualTo("blogService:cache:postDetails:keys::post:2");
+    }
+}
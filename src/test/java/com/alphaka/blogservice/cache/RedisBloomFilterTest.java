@@ -0,0 +1,91 @@
+package com.alphaka.blogservice.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.BitFieldSubCommands;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisBloomFilterTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RedisBloomFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RedisBloomFilter(stringRedisTemplate, "blogService:bloom:post", 1_000_000, 0.01);
+    }
+
+    @Test
+    @DisplayName("예상 원소 수와 오탐률로 비트 수와 해시 수 계산")
+    void constructor_optimalSize() {
+        // 100만 건, 1% 기준 약 958만 비트, 해시 7개
+        assertThat(filter.getBitSize()).isBetween(9_500_000L, 9_700_000L);
+        assertThat(filter.getHashCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("같은 값은 항상 같은 위치, 위치는 비트 범위 안")
+    void offsets_deterministicAndInRange() {
+        for (long id = 1; id <= 1000; id++) {
+            long[] offsets = filter.offsets(String.valueOf(id));
+            assertThat(offsets).containsExactly(filter.offsets(String.valueOf(id)));
+            assertThat(offsets).allMatch(offset -> offset >= 0 && offset < filter.getBitSize());
+        }
+    }
+
+    @Test
+    @DisplayName("준비 완료 상태에서 비트가 하나라도 비어 있으면 존재하지 않음")
+    void mightContain_ready_missingBit() {
+        // given
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        List<Long> bits = new ArrayList<>(Collections.nCopies(filter.getHashCount() + 1, 1L));
+        bits.set(3, 0L);
+        when(valueOperations.bitField(anyString(), any(BitFieldSubCommands.class))).thenReturn(bits);
+
+        // when & then
+        assertThat(filter.mightContain("42")).isFalse();
+    }
+
+    @Test
+    @DisplayName("준비 완료 비트가 없으면 (채우는 중이거나 키 유실) 존재하는 것으로 처리")
+    void mightContain_notReady_failOpen() {
+        // given
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        List<Long> bits = new ArrayList<>(Collections.nCopies(filter.getHashCount() + 1, 0L));
+        when(valueOperations.bitField(anyString(), any(BitFieldSubCommands.class))).thenReturn(bits);
+
+        // when & then
+        assertThat(filter.mightContain("42")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 존재하는 것으로 처리")
+    void mightContain_redisFailure_failOpen() {
+        // given
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.bitField(anyString(), any(BitFieldSubCommands.class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when & then
+        assertThat(filter.mightContain("42")).isTrue();
+    }
+}
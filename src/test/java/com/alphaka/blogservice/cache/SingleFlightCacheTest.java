@@ -0,0 +1,133 @@
+package com.alphaka.blogservice.cache;
+
+import com.alphaka.blogservice.common.dto.PageResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightCacheTest {
+
+    private static final int CONCURRENT_REQUESTS = 50;
+
+    private ConcurrentMapCache delegate;
+    private SingleFlightCache cache;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new ConcurrentMapCache("blogService:cache:postDetails");
+        cache = new SingleFlightCache(delegate, null,
+                value -> !(value instanceof PageResponse<?> page && page.isEmpty()),
+                Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("캐시 만료 시 동시 요청은 한 번만 계산")
+    void get_concurrentMisses_loadOnce() throws Exception {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        Callable<String> loader = () -> {
+            loadCount.incrementAndGet();
+            Thread.sleep(200); // DB, user-service 호출 지연 가정
+            return "post";
+        };
+
+        // when
+        List<Object> results = runConcurrently(() -> cache.get("post:1:user:anonymous", loader));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(results).hasSize(CONCURRENT_REQUESTS).containsOnly("post");
+        assertThat(delegate.get("post:1:user:anonymous")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("계산 중 예외 발생 시 대기 중인 요청도 같은 예외를 받음")
+    void get_loaderFails_shareException() throws Exception {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        Callable<String> loader = () -> {
+            loadCount.incrementAndGet();
+            Thread.sleep(200);
+            throw new IllegalStateException("not found");
+        };
+
+        // when
+        List<Object> results = runConcurrently(() -> {
+            try {
+                return cache.get("post:2:user:anonymous", loader);
+            } catch (Cache.ValueRetrievalException e) {
+                return e.getCause();
+            }
+        });
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(results).hasSize(CONCURRENT_REQUESTS).allMatch(IllegalStateException.class::isInstance);
+        assertThat(delegate.get("post:2:user:anonymous")).isNull();
+    }
+
+    @Test
+    @DisplayName("빈 페이지는 캐시에 저장하지 않음")
+    void get_emptyPage_notStored() {
+        // given
+        PageResponse<String> emptyPage = new PageResponse<>(Collections.emptyList(), 0, 0, 1, 5);
+
+        // when
+        Object result = cache.get("blog:1:page:0", () -> emptyPage);
+
+        // then
+        assertThat(result).isSameAs(emptyPage);
+        assertThat(delegate.get("blog:1:page:0")).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 계산하지 않음")
+    void get_hit_noLoad() {
+        // given
+        delegate.put("post:3:user:anonymous", "cached");
+
+        // when & then
+        assertThat(cache.get("post:3:user:anonymous", () -> {
+            throw new AssertionError("should not load");
+        })).isEqualTo("cached");
+        assertThatThrownBy(() -> cache.get("post:4:user:anonymous", () -> {
+            throw new IllegalArgumentException();
+        })).isInstanceOf(Cache.ValueRetrievalException.class);
+    }
+
+    // 동시에 여러 요청을 실행하고 결과를 수집
+    private List<Object> runConcurrently(Callable<Object> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+
+            List<Object> results = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
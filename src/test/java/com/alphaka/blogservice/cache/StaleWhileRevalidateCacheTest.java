@@ -0,0 +1,107 @@
+package com.alphaka.blogservice.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StaleWhileRevalidateCacheTest {
+
+    private ConcurrentMapCache delegate;
+    private List<Runnable> pendingRefreshes;
+    private StaleWhileRevalidateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new ConcurrentMapCache("blogService:cache:postList");
+        pendingRefreshes = new CopyOnWriteArrayList<>();
+        cache = new StaleWhileRevalidateCache(delegate, null, value -> true, Duration.ofSeconds(5),
+                Duration.ofMinutes(30), 1.0, pendingRefreshes::add);
+    }
+
+    @Test
+    @DisplayName("소프트 만료된 값은 즉시 반환하고 비동기로 갱신")
+    void get_softExpired_returnStaleAndRefresh() {
+        // given
+        delegate.put("blog:1:page:0", new CacheEntry("old", System.currentTimeMillis() - 1, 10));
+
+        // when
+        Object result = cache.get("blog:1:page:0", () -> "new");
+
+        // then
+        assertThat(result).isEqualTo("old");
+        assertThat(pendingRefreshes).hasSize(1);
+
+        pendingRefreshes.get(0).run();
+        assertThat(cache.get("blog:1:page:0").get()).isEqualTo("new");
+        assertThat(((CacheEntry) delegate.get("blog:1:page:0").get()).getSoftExpireAt())
+                .isGreaterThan(System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("소프트 만료 전이고 계산 비용이 작으면 갱신하지 않음")
+    void get_fresh_noRefresh() {
+        // given
+        delegate.put("blog:1:page:0", new CacheEntry("cached", System.currentTimeMillis() + 60_000, 0));
+
+        // when
+        Object result = cache.get("blog:1:page:0", () -> {
+            throw new AssertionError("should not load");
+        });
+
+        // then
+        assertThat(result).isEqualTo("cached");
+        assertThat(pendingRefreshes).isEmpty();
+    }
+
+    @Test
+    @DisplayName("소프트 만료된 키에 동시 요청이 몰려도 갱신은 한 번만 실행")
+    void get_concurrentStaleReads_refreshOnce() throws Exception {
+        // given
+        delegate.put("post:1", new CacheEntry("old", System.currentTimeMillis() - 1, 10));
+        AtomicInteger loadCount = new AtomicInteger();
+        Callable<String> loader = () -> {
+            loadCount.incrementAndGet();
+            return "new";
+        };
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                futures.add(executor.submit(() -> cache.get("post:1", loader)));
+            }
+            for (Future<Object> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("old");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        pendingRefreshes.forEach(Runnable::run);
+
+        // then
+        assertThat(pendingRefreshes).hasSize(1);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 계산 시간과 소프트 만료 시각을 함께 저장")
+    void get_miss_storeEntry() {
+        // when
+        Object result = cache.get("comments:1", () -> "loaded");
+
+        // then
+        assertThat(result).isEqualTo("loaded");
+        assertThat(delegate.get("comments:1").get()).isInstanceOf(CacheEntry.class);
+        assertThat(cache.get("comments:1", String.class)).isEqualTo("loaded");
+    }
+}
@@ -0,0 +1,210 @@
+package com.alphaka.blogservice.client;
+
+import com.alphaka.blogservice.client.feign.UserClient;
+import com.alphaka.blogservice.client.hedging.HedgeInstanceChooser;
+import com.alphaka.blogservice.client.hedging.HedgingClient;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HedgingClientTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final ServiceInstance first = new DefaultServiceInstance("user-1", "user-service", "user-1", 8080, false);
+    private final ServiceInstance second = new DefaultServiceInstance("user-2", "user-service", "user-2", 8080, false);
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoadBalancerClient loadBalancerClient;
+    private DiscoveryClient discoveryClient;
+    private AtomicInteger calls;
+    private List<String> hosts;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loadBalancerClient = mock(LoadBalancerClient.class);
+        discoveryClient = mock(DiscoveryClient.class);
+        when(loadBalancerClient.choose("user-service")).thenReturn(first);
+        when(discoveryClient.getInstances("user-service")).thenReturn(List.of(first, second));
+        calls = new AtomicInteger();
+        hosts = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 응답하면 헤지 요청을 보내지 않음")
+    void execute_fast_noHedge() throws IOException {
+        // given
+        HedgingClient client = hedgingClient(delayed(0, 0), 1.0);
+
+        // when
+        Response response = client.execute(request(Request.HttpMethod.GET), options());
+
+        // then
+        assertThat(response.status()).isEqualTo(200);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("원 요청이 느리면 다른 인스턴스로 헤지 요청을 보내고 먼저 끝난 응답 사용")
+    void execute_slow_hedgeWins() throws IOException {
+        // given - 첫 번째 호출만 느림
+        HedgingClient client = hedgingClient(delayed(1000, 0), 1.0);
+
+        // when
+        long start = System.nanoTime();
+        Response response = client.execute(request(Request.HttpMethod.GET), options());
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertThat(response.reason()).isEqualTo("call-2");
+        assertThat(elapsed).isLessThan(1000);
+        assertThat(hosts).containsExactly("user-1", "user-2");
+        assertThat(meterRegistry.get("blog.user_client.hedging").tag("result", "hedge_won").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("원 요청 인스턴스 외에 다른 인스턴스가 없으면 헤징하지 않음")
+    void execute_singleInstance_noHedge() throws IOException {
+        // given
+        when(discoveryClient.getInstances("user-service")).thenReturn(List.of(first));
+        HedgingClient client = hedgingClient(delayed(200, 0), 1.0);
+
+        // when
+        Response response = client.execute(request(Request.HttpMethod.GET), options());
+
+        // then
+        assertThat(response.reason()).isEqualTo("call-1");
+        assertThat(hosts).containsExactly("user-1");
+    }
+
+    @Test
+    @DisplayName("헤지 요청의 5xx 응답이 먼저 와도 사용하지 않고 원 요청의 성공 응답 사용")
+    void execute_hedgeServerError_primaryWins() throws IOException {
+        // given - 헤지 요청은 바로 503 응답
+        HedgingClient client = hedgingClient(responding(new long[]{300, 0}, 200, 503), 1.0);
+
+        // when
+        Response response = client.execute(request(Request.HttpMethod.GET), options());
+
+        // then
+        assertThat(response.status()).isEqualTo(200);
+        assertThat(response.reason()).isEqualTo("call-1");
+    }
+
+    @Test
+    @DisplayName("두 요청 모두 5xx 응답이면 나중에 끝난 응답 사용")
+    void execute_bothServerError_lastResponse() throws IOException {
+        // given
+        HedgingClient client = hedgingClient(responding(new long[]{300, 0}, 503, 503), 1.0);
+
+        // when
+        Response response = client.execute(request(Request.HttpMethod.GET), options());
+
+        // then
+        assertThat(response.status()).isEqualTo(503);
+        assertThat(response.reason()).isEqualTo("call-1");
+    }
+
+    @Test
+    @DisplayName("헤징 예산이 없으면 원 요청만 기다림")
+    void execute_budgetExhausted_noHedge() throws IOException {
+        // given
+        HedgingClient client = hedgingClient(delayed(200, 0), 0.0);
+
+        // when
+        Response response = client.execute(request(Request.HttpMethod.GET), options());
+
+        // then
+        assertThat(response.reason()).isEqualTo("call-1");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("blog.user_client.hedging").tag("result", "budget_exhausted").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("GET 이 아닌 요청은 헤징하지 않음")
+    void execute_notGet_noHedge() throws IOException {
+        // given
+        HedgingClient client = hedgingClient(delayed(200, 0), 1.0);
+
+        // when
+        client.execute(request(Request.HttpMethod.POST), options());
+
+        // then
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    private HedgingClient hedgingClient(Client delegate, double budgetRatio) {
+        HedgingClient.Properties properties = new HedgingClient.Properties(Set.of("user-service"), 95, 100, 10,
+                50, 10, 1000, budgetRatio, 10);
+        return new HedgingClient(delegate, delegate, new HedgeInstanceChooser(loadBalancerClient, discoveryClient),
+                executor, meterRegistry, properties);
+    }
+
+    // n 번째 호출마다 지정된 시간만큼 지연 후 200 응답
+    private Client delayed(long... delays) {
+        return responding(delays, 200);
+    }
+
+    // n 번째 호출마다 지정된 시간만큼 지연 후 지정된 상태 코드로 응답 (요청한 인스턴스 호스트 기록)
+    private Client responding(long[] delays, int... statuses) {
+        return (request, options) -> {
+            int call = calls.incrementAndGet();
+            hosts.add(URI.create(request.url()).getHost());
+            try {
+                Thread.sleep(delays[Math.min(call - 1, delays.length - 1)]);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Response.builder()
+                    .status(statuses[Math.min(call - 1, statuses.length - 1)])
+                    .reason("call-" + call)
+                    .request(request)
+                    .headers(new HashMap<>())
+                    .body("{}", StandardCharsets.UTF_8)
+                    .build();
+        };
+    }
+
+    private Request request(Request.HttpMethod method) {
+        RequestTemplate template = new RequestTemplate();
+        template.feignTarget(new Target.HardCodedTarget<>(UserClient.class, "user-service", "http://user-service"));
+        return Request.create(method, "http://user-service/users/info?userId=1", new HashMap<>(), null,
+                StandardCharsets.UTF_8, template);
+    }
+
+    private Request.Options options() {
+        return new Request.Options(1, TimeUnit.SECONDS, 3, TimeUnit.SECONDS, true);
+    }
+}
@@ -0,0 +1,92 @@
+package com.alphaka.blogservice.client;
+
+import com.alphaka.blogservice.client.feign.InstrumentedConnectionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.ConnectException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InstrumentedConnectionManagerTest {
+
+    @Mock
+    private HttpClientConnectionManager delegate;
+
+    @Mock
+    private LeaseRequest leaseRequest;
+
+    @Mock
+    private ConnectionEndpoint endpoint;
+
+    @Mock
+    private HttpContext context;
+
+    private final HttpRoute route = new HttpRoute(new HttpHost("10.0.0.1", 8080));
+    private SimpleMeterRegistry meterRegistry;
+    private InstrumentedConnectionManager connectionManager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        connectionManager = new InstrumentedConnectionManager(delegate, Timeout.ofMilliseconds(500), meterRegistry, "feign");
+    }
+
+    @Test
+    @DisplayName("커넥션 대기 시간을 측정하고, 상한보다 긴 대기 시간은 제한")
+    void lease_recordAndCap() throws Exception {
+        // given
+        when(delegate.lease(any(), eq(route), any(), any())).thenReturn(leaseRequest);
+        when(leaseRequest.get(Timeout.ofMilliseconds(500))).thenReturn(endpoint);
+
+        // when
+        ConnectionEndpoint result = connectionManager.lease("id", route, Timeout.ofMinutes(3), null).get(Timeout.ofMinutes(3));
+
+        // then
+        assertThat(result).isSameAs(endpoint);
+        assertThat(meterRegistry.get("blog.feign.http_client.lease").tag("result", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커넥션 대기 시간 초과 기록")
+    void lease_timeout() throws Exception {
+        // given
+        when(delegate.lease(any(), eq(route), any(), any())).thenReturn(leaseRequest);
+        when(leaseRequest.get(any(Timeout.class))).thenThrow(new TimeoutException("pool exhausted"));
+
+        // when & then
+        assertThatThrownBy(() -> connectionManager.lease("id", route, Timeout.ofMilliseconds(100), null)
+                .get(Timeout.ofMilliseconds(100)))
+                .isInstanceOf(TimeoutException.class);
+        assertThat(meterRegistry.get("blog.feign.http_client.lease").tag("result", "timeout").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("연결 실패 시간 기록")
+    void connect_failure() throws Exception {
+        // given
+        doThrow(new ConnectException("connection refused")).when(delegate).connect(endpoint, TimeValue.ofSeconds(1), context);
+
+        // when & then
+        assertThatThrownBy(() -> connectionManager.connect(endpoint, TimeValue.ofSeconds(1), context))
+                .isInstanceOf(ConnectException.class);
+        assertThat(meterRegistry.get("blog.feign.http_client.connect").tag("result", "failure").timer().count()).isEqualTo(1);
+    }
+}
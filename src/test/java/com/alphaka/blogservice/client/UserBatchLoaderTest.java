@@ -0,0 +1,146 @@
+package com.alphaka.blogservice.client;
+
+import com.alphaka.blogservice.client.feign.UserClient;
+import com.alphaka.blogservice.common.dto.UserDTO;
+import com.alphaka.blogservice.common.response.ApiResponse;
+import com.alphaka.blogservice.config.RequestContextTaskDecorator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserBatchLoaderTest {
+
+    @Mock
+    private UserClient userClient;
+
+    private ThreadPoolTaskScheduler taskScheduler;
+    private ThreadPoolTaskExecutor userLoaderExecutor;
+    private UserBatchLoader userBatchLoader;
+
+    @BeforeEach
+    void setUp() {
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.initialize();
+        userLoaderExecutor = new ThreadPoolTaskExecutor();
+        userLoaderExecutor.setCorePoolSize(2);
+        userLoaderExecutor.setTaskDecorator(new RequestContextTaskDecorator());
+        userLoaderExecutor.initialize();
+        // 동시 요청이 한 번에 모이도록 window 를 넉넉하게 설정
+        userBatchLoader = new UserBatchLoader(userClient, taskScheduler, userLoaderExecutor, 50, 100, 3000, 1000, 60000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskScheduler.shutdown();
+        userLoaderExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("여러 요청의 사용자 조회를 모아 한 번에 조회")
+    @SuppressWarnings("unchecked")
+    void getUser_concurrentRequests_batchedIntoOneCall() throws Exception {
+        // given
+        when(userClient.getUsersById(anySet())).thenAnswer(invocation -> {
+            Set<Long> ids = invocation.getArgument(0);
+            return new ApiResponse<>(ids.stream().map(id -> new UserDTO(id, "user" + id, null)).toList());
+        });
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(30);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<UserDTO>> futures = new ArrayList<>();
+            for (int i = 0; i < 30; i++) {
+                long userId = i % 3 + 1; // 같은 작성자 3명을 30개 요청이 조회
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return userBatchLoader.getUser(userId);
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < futures.size(); i++) {
+                assertThat(futures.get(i).get(5, TimeUnit.SECONDS).getNickname()).isEqualTo("user" + (i % 3 + 1));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        ArgumentCaptor<Set<Long>> captor = ArgumentCaptor.forClass(Set.class);
+        verify(userClient, times(1)).getUsersById(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("캐시된 사용자는 user-service 를 호출하지 않음")
+    void getUsers_cached_noCall() {
+        // given
+        when(userClient.getUsersById(anySet())).thenReturn(new ApiResponse<>(List.of(new UserDTO(1L, "tester", null))));
+        userBatchLoader.getUser(1L);
+
+        // when
+        Map<Long, UserDTO> users = userBatchLoader.getUsers(List.of(1L));
+
+        // then
+        assertThat(users.get(1L).getNickname()).isEqualTo("tester");
+        verify(userClient, times(1)).getUsersById(anySet());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 결과에서 제외")
+    void getUsers_missingUser_excluded() {
+        // given
+        when(userClient.getUsersById(anySet())).thenReturn(new ApiResponse<>(List.of(new UserDTO(1L, "tester", null))));
+
+        // when
+        Map<Long, UserDTO> users = userBatchLoader.getUsers(List.of(1L, 2L));
+
+        // then
+        assertThat(users).containsOnlyKeys(1L);
+        assertThat(userBatchLoader.getUser(2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("user-service 호출 실패 시 대기 중인 요청에 예외 전달")
+    void getUser_clientFails_propagate() {
+        // given
+        when(userClient.getUsersById(anySet())).thenThrow(new IllegalStateException("user-service unavailable"));
+
+        // when & then
+        assertThatThrownBy(() -> userBatchLoader.getUser(1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("user-service unavailable");
+    }
+
+    @Test
+    @DisplayName("조회 Executor 가 포화 상태로 거절하면 대기 중인 요청에 예외 전달")
+    void getUser_executorRejects_propagate() {
+        // given
+        userBatchLoader = new UserBatchLoader(userClient, taskScheduler,
+                task -> { throw new TaskRejectedException("user-loader saturated"); }, 50, 100, 3000, 1000, 60000);
+
+        // when & then
+        assertThatThrownBy(() -> userBatchLoader.getUser(1L))
+                .isInstanceOf(TaskRejectedException.class);
+        verifyNoInteractions(userClient);
+    }
+}
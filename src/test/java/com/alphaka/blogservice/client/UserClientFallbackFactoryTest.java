@@ -0,0 +1,111 @@
+package com.alphaka.blogservice.client;
+
+import com.alphaka.blogservice.client.feign.UserClient;
+import com.alphaka.blogservice.client.feign.UserClientFallbackFactory;
+import com.alphaka.blogservice.common.dto.UserDTO;
+import com.alphaka.blogservice.common.response.ApiResponse;
+import feign.FeignException;
+import feign.Request;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserClientFallbackFactoryTest {
+
+    private UserStaleCache userStaleCache;
+    private SimpleMeterRegistry meterRegistry;
+    private UserClientFallbackFactory fallbackFactory;
+
+    @BeforeEach
+    void setUp() {
+        userStaleCache = new UserStaleCache(1000, 60000);
+        meterRegistry = new SimpleMeterRegistry();
+        fallbackFactory = new UserClientFallbackFactory(userStaleCache, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("정상 응답으로 기록된 사용자 정보로 응답")
+    void findUserById_recorded_servedStale() {
+        // given
+        userStaleCache.record(new ApiResponse<>(new UserDTO(1L, "tester", "image")));
+        UserClient fallback = fallbackFactory.create(circuitOpen());
+
+        // when
+        ApiResponse<UserDTO> response = fallback.findUserById(1L);
+
+        // then
+        assertThat(response.getData().getNickname()).isEqualTo("tester");
+        assertThat(meterRegistry.get("blog.user_client.fallback")
+                .tags("method", "findUserById", "reason", "circuit_open", "result", "stale")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("기록된 정보가 없으면 data 가 null 인 응답")
+    void findUserByNickname_notRecorded_nullData() {
+        // given
+        UserClient fallback = fallbackFactory.create(new RuntimeException("connection refused"));
+
+        // when
+        ApiResponse<UserDTO> response = fallback.findUserByNickname("tester");
+
+        // then
+        assertThat(response.getData()).isNull();
+        assertThat(response.getStatus()).isEqualTo(503);
+    }
+
+    @Test
+    @DisplayName("닉네임이 변경된 사용자는 이전 닉네임으로 응답하지 않음")
+    void findUserByNickname_renamed_nullData() {
+        // given
+        userStaleCache.put(new UserDTO(1L, "before", null));
+        userStaleCache.put(new UserDTO(1L, "after", null));
+        UserClient fallback = fallbackFactory.create(new RuntimeException("connection refused"));
+
+        // when & then
+        assertThat(fallback.findUserByNickname("before").getData()).isNull();
+        assertThat(fallback.findUserByNickname("after").getData().getUserId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("여러 사용자 조회는 기록된 사용자만 응답")
+    void getUsersById_partial() {
+        // given
+        userStaleCache.record(new ApiResponse<>(List.of(new UserDTO(1L, "a", null))));
+        UserClient fallback = fallbackFactory.create(new RuntimeException("read timed out"));
+
+        // when
+        ApiResponse<List<UserDTO>> response = fallback.getUsersById(Set.of(1L, 2L));
+
+        // then
+        assertThat(response.getData()).extracting(UserDTO::getUserId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 fallback 으로 감추지 않고 그대로 전달")
+    void create_clientError_rethrow() {
+        // given
+        Request request = Request.create(Request.HttpMethod.GET, "/users/info", new HashMap<>(), null,
+                StandardCharsets.UTF_8, null);
+        FeignException.NotFound notFound = new FeignException.NotFound("not found", request, null, null);
+
+        // when & then
+        assertThatThrownBy(() -> fallbackFactory.create(notFound))
+                .isSameAs(notFound);
+    }
+
+    private CallNotPermittedException circuitOpen() {
+        return CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("user-service"));
+    }
+}
@@ -0,0 +1,95 @@
+package com.alphaka.blogservice.client.loadbalancer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PeakEwmaLoadBalancerTest {
+
+    private final ServiceInstance fast = new DefaultServiceInstance("fast", "user-service", "10.0.0.1", 8080, false);
+    private final ServiceInstance slow = new DefaultServiceInstance("slow", "user-service", "10.0.0.2", 8080, false);
+
+    private PeakEwmaLoadBalancer loadBalancer;
+
+    @BeforeEach
+    void setUp() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        loadBalancer = new PeakEwmaLoadBalancer("user-service",
+                beanFactory.getBeanProvider(ServiceInstanceListSupplier.class), 50, 10000, 3, 30000);
+    }
+
+    @Test
+    @DisplayName("두 인스턴스 중 응답 시간이 짧은 인스턴스 선택")
+    void choose_preferFaster() {
+        // given
+        long now = System.nanoTime();
+        loadBalancer.recordSuccess(fast, TimeUnit.MILLISECONDS.toNanos(10), now);
+        loadBalancer.recordSuccess(slow, TimeUnit.MILLISECONDS.toNanos(500), now);
+
+        // when
+        Map<String, Integer> chosen = chooseMany(List.of(fast, slow), 100);
+
+        // then - 후보가 둘이면 항상 두 인스턴스를 비교하므로 빠른 인스턴스만 선택
+        assertThat(chosen).containsOnlyKeys("fast");
+    }
+
+    @Test
+    @DisplayName("연속으로 실패한 인스턴스는 일시 제외")
+    void choose_ejectFailing() {
+        // given - fast 가 더 빠르지만 연속 실패
+        long now = System.nanoTime();
+        loadBalancer.recordSuccess(fast, TimeUnit.MILLISECONDS.toNanos(10), now);
+        loadBalancer.recordSuccess(slow, TimeUnit.MILLISECONDS.toNanos(500), now);
+        for (int i = 0; i < 3; i++) {
+            loadBalancer.recordFailure(fast, System.nanoTime());
+        }
+
+        // when
+        Map<String, Integer> chosen = chooseMany(List.of(fast, slow), 100);
+
+        // then
+        assertThat(chosen).containsOnlyKeys("slow");
+    }
+
+    @Test
+    @DisplayName("모든 인스턴스가 제외되면 전체에서 선택")
+    void choose_allEjected_fallbackToAll() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            loadBalancer.recordFailure(fast, System.nanoTime());
+            loadBalancer.recordFailure(slow, System.nanoTime());
+        }
+
+        // when
+        Response<ServiceInstance> response = loadBalancer.choose(List.of(fast, slow));
+
+        // then
+        assertThat(response.hasServer()).isTrue();
+    }
+
+    @Test
+    @DisplayName("인스턴스가 없으면 빈 응답")
+    void choose_noInstances_empty() {
+        assertThat(loadBalancer.choose(List.<ServiceInstance>of()).hasServer()).isFalse();
+    }
+
+    private Map<String, Integer> chooseMany(List<ServiceInstance> instances, int times) {
+        Map<String, Integer> chosen = new HashMap<>();
+        for (int i = 0; i < times; i++) {
+            chosen.merge(loadBalancer.choose(instances).getServer().getInstanceId(), 1, Integer::sum);
+        }
+        return chosen;
+    }
+}
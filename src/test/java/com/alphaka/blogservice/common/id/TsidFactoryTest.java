@@ -0,0 +1,98 @@
+package com.alphaka.blogservice.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TsidFactoryTest {
+
+    private static final long NOW = TsidFactory.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    @DisplayName("같은 밀리초 안에서도 순번으로 증가하고, 순번이 모자라면 다음 밀리초를 사용")
+    void next_sameMillisecond() {
+        // given
+        TsidFactory factory = new TsidFactory(5, () -> NOW);
+
+        // when
+        long previous = factory.next();
+        for (int i = 0; i < 200; i++) {
+            long id = factory.next();
+
+            // then
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 ID 는 감소하지 않음")
+    void next_clockMovesBackwards() {
+        // given
+        AtomicLong clock = new AtomicLong(NOW);
+        TsidFactory factory = new TsidFactory(5, clock::get);
+        long before = factory.next();
+
+        // when
+        clock.set(NOW - 10_000);
+        long after = factory.next();
+
+        // then
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("노드 번호가 다르면 같은 시각에도 ID 가 겹치지 않고, JavaScript 안전 정수 범위 이내")
+    void next_nodeAndRange() {
+        // given
+        TsidFactory node1 = new TsidFactory(1, () -> NOW);
+        TsidFactory node2 = new TsidFactory(2, () -> NOW);
+
+        // when
+        long id1 = node1.next();
+        long id2 = node2.next();
+
+        // then
+        assertThat(id1).isNotEqualTo(id2);
+        assertThat(new TsidFactory(TsidFactory.MAX_NODE, () -> TsidFactory.EPOCH_MILLIS + (1L << 41) - 1).next())
+                .isLessThanOrEqualTo((1L << 53) - 1);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 번호는 거부")
+    void constructor_invalidNode() {
+        assertThatThrownBy(() -> new TsidFactory(TsidFactory.MAX_NODE + 1, System::currentTimeMillis))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("설정된 노드 번호 사용 (앞뒤 공백 무시)")
+    void parseNode() {
+        assertThat(TsidFactory.parseNode(" 7 ")).isEqualTo(7);
+        assertThat(TsidFactory.parseNode("0")).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어나거나 숫자가 아닌 노드 번호는 잘라내지 않고 시작 실패")
+    void parseNode_invalid() {
+        assertThatThrownBy(() -> TsidFactory.parseNode("64"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> TsidFactory.parseNode("-1"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> TsidFactory.parseNode("node-1"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("노드 번호가 지정되지 않으면 임의 값이나 호스트 이름 대신 시작 실패")
+    void parseNode_missing() {
+        assertThatThrownBy(() -> TsidFactory.parseNode(null))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> TsidFactory.parseNode(" "))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,63 @@
+package com.alphaka.blogservice.config;
+
+import com.alphaka.blogservice.datasource.ReadYourWrites;
+import com.alphaka.blogservice.shard.ShardContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestContextTaskDecoratorTest {
+
+    private final RequestContextTaskDecorator decorator = new RequestContextTaskDecorator();
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        ReadYourWrites.clear();
+        ShardContext.clear();
+    }
+
+    @Test
+    @DisplayName("작업을 제출한 스레드의 샤드, 주 DB 고정 여부, MDC 를 작업 스레드로 전달하고 끝나면 정리")
+    void decorate_propagatesContext() throws Exception {
+        // given
+        ShardContext.bind("shard-2");
+        ReadYourWrites.pin();
+        MDC.put("traceId", "trace-1");
+
+        AtomicReference<String> shard = new AtomicReference<>();
+        AtomicBoolean pinned = new AtomicBoolean();
+        AtomicReference<String> traceId = new AtomicReference<>();
+        AtomicReference<String> shardAfter = new AtomicReference<>("unset");
+
+        Runnable task = decorator.decorate(() -> {
+            shard.set(ShardContext.current());
+            pinned.set(ReadYourWrites.isPinned());
+            traceId.set(MDC.get("traceId"));
+        });
+
+        // when
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(task).get(5, TimeUnit.SECONDS);
+            executor.submit(() -> shardAfter.set(ShardContext.current())).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(shard.get()).isEqualTo("shard-2");
+        assertThat(pinned.get()).isTrue();
+        assertThat(traceId.get()).isEqualTo("trace-1");
+        assertThat(shardAfter.get()).isNull();
+    }
+}
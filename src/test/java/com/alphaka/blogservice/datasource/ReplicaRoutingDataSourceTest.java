@@ -0,0 +1,121 @@
+package com.alphaka.blogservice.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica0;
+
+    @Mock
+    private DataSource replica1;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replica0);
+        replicas.put("replica-1", replica1);
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas, lagMonitor, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 주 DB 사용")
+    void route_write_primary() {
+        // when
+        Object key = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(key).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        verifyNoInteractions(lagMonitor);
+        assertThat(routeCount("primary", "write")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 사용 가능한 복제 DB 를 순서대로 사용")
+    void route_readOnly_replicaRoundRobin() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.healthyReplicas()).thenReturn(List.of("replica-0", "replica-1"));
+
+        // when
+        Object first = routingDataSource.determineCurrentLookupKey();
+        Object second = routingDataSource.determineCurrentLookupKey();
+        Object third = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(List.of(first, second, third)).containsExactly("replica-0", "replica-1", "replica-0");
+        assertThat(routeCount("replica", "read_only")).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("쓰기 직후의 요청은 읽기 전용 트랜잭션도 주 DB 사용")
+    void route_pinned_primary() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadYourWrites.pin();
+
+        // when
+        Object key = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(key).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        verifyNoInteractions(lagMonitor);
+        assertThat(routeCount("primary", "read_your_writes")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("지연이 허용 범위 안인 복제 DB 가 없으면 주 DB 사용")
+    void route_noHealthyReplica_primary() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.healthyReplicas()).thenReturn(List.of());
+
+        // when
+        Object key = routingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(key).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(routeCount("primary", "no_healthy_replica")).isEqualTo(1.0);
+    }
+
+    private double routeCount(String target, String reason) {
+        return meterRegistry.get(ReplicaRoutingDataSource.ROUTE_METRIC)
+                .tag("target", target)
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+}
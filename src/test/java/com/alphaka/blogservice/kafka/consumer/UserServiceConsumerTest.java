@@ -1,15 +1,21 @@
 package com.alphaka.blogservice.kafka.consumer;
 
-import com.alphaka.blogservice.exception.custom.BlogCreationFailedException;
 import com.alphaka.blogservice.blog.service.BlogService;
 import com.alphaka.blogservice.messaging.consumer.UserServiceConsumer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
@@ -19,51 +25,138 @@ class UserServiceConsumerTest {
 
     @Mock
     private BlogService blogService;
-    
-    @InjectMocks
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
     private UserServiceConsumer userServiceConsumer;
-    
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userServiceConsumer = new UserServiceConsumer(blogService, kafkaTemplate, meterRegistry);
+    }
+
     @Test
-    @DisplayName("UserSignup 이벤트 consume 성공")
-    void consumeUserSignupEvent_success() {
+    @DisplayName("UserSignup 이벤트 묶음 consume 성공")
+    void consumeUserSignupEvents_success() {
         // given
-        String userId = "1";
+        List<String> userIds = List.of("1", "2", "3");
+        when(blogService.createBlogsForNewUsers(List.of(1L, 2L, 3L))).thenReturn(3);
 
         // when
-        userServiceConsumer.consumeUserSignupEvent(userId);
+        userServiceConsumer.consumeUserSignupEvents(userIds);
 
         // then
-        verify(blogService, times(1)).createBlogForNewUser(1L);
+        verify(blogService, times(1)).createBlogsForNewUsers(List.of(1L, 2L, 3L));
+        verifyNoInteractions(kafkaTemplate);
     }
 
     @Test
-    @DisplayName("UserSignup 이벤트 consume 실패 - 잘못된 사용자 ID")
-    void consumeUserSignupEvent_fail_invalidUserId() {
+    @DisplayName("UserSignup 이벤트 묶음 consume - 잘못된 사용자 ID 는 건너뜀")
+    void consumeUserSignupEvents_invalidUserIdSkipped() {
         // given
-        String userId = "invalid";
+        List<String> userIds = Arrays.asList("1", "invalid", null, "2");
+
+        // when
+        userServiceConsumer.consumeUserSignupEvents(userIds);
+
+        // then
+        verify(blogService, times(1)).createBlogsForNewUsers(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("UserSignup 이벤트 묶음 consume - 블로그 일괄 생성 실패시 건별 처리 토픽으로 전달")
+    void consumeUserSignupEvents_fail_handOff() {
+        // given
+        doThrow(new RuntimeException("DB error")).when(blogService).createBlogsForNewUsers(List.of(2L, 3L));
+        when(kafkaTemplate.send(eq("user-signup-fallback"), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        userServiceConsumer.consumeUserSignupEvents(List.of("2", "3"));
+
+        // then
+        verify(kafkaTemplate).send("user-signup-fallback", "2", "2");
+        verify(kafkaTemplate).send("user-signup-fallback", "3", "3");
+    }
+
+    @Test
+    @DisplayName("UserSignup 이벤트 묶음 consume 실패 - 건별 처리 토픽 전달 실패시 묶음 전체를 다시 수신하도록 예외 전파")
+    void consumeUserSignupEvents_fail_handOffFailed() {
+        // given
+        doThrow(new RuntimeException("DB error")).when(blogService).createBlogsForNewUsers(List.of(2L));
+        when(kafkaTemplate.send("user-signup-fallback", "2", "2"))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker down")));
 
         // when & then
-        NumberFormatException exception = assertThrows(NumberFormatException.class, () -> {
-                    userServiceConsumer.consumeUserSignupEvent(userId);
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
+                    userServiceConsumer.consumeUserSignupEvents(List.of("2"));
                 });
 
         assertNotNull(exception);
-        verify(blogService, never()).createBlogForNewUser(anyLong());
     }
 
     @Test
-    @DisplayName("UserSignup 이벤트 consume 실패 - 블로그 생성 실패")
-    void consumeUserSignupEvent_fail_BlogCreationFailed() {
+    @DisplayName("UserSignup 건별 처리 토픽 consume - 재시도 토픽에서 수신하면 재시도 횟수 기록")
+    void consumeUserSignupFallbackEvent_retry() {
+        // when
+        userServiceConsumer.consumeUserSignupFallbackEvent("5", "user-signup-fallback-retry-0");
+
+        // then
+        verify(blogService).createBlogsForNewUsers(List.of(5L));
+        assertThat(meterRegistry.get("blog.kafka.retry").tag("topic", "user-signup-fallback-retry-0").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("UserWithdrawal 이벤트 consume 성공")
+    void consumeUserWithdrawalEvent_success() {
+        // given
+        String userId = "1";
+
+        // when
+        userServiceConsumer.consumeUserWithdrawalEvent(userId, "user-withdrawal");
+
+        // then
+        verify(blogService, times(1)).deleteBlogForUser(1L);
+        assertThat(meterRegistry.find("blog.kafka.retry").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("UserWithdrawal 이벤트 consume 실패 - 잘못된 사용자 ID")
+    void consumeUserWithdrawalEvent_fail_invalidUserId() {
+        // given
+        String userId = "invalid";
+
+        // when & then
+        assertThrows(NumberFormatException.class,
+                () -> userServiceConsumer.consumeUserWithdrawalEvent(userId, "user-withdrawal"));
+
+        verify(blogService, never()).deleteBlogForUser(anyLong());
+    }
+
+    @Test
+    @DisplayName("UserWithdrawal 이벤트 consume 실패 - 블로그 삭제 실패시 재시도 토픽으로 보내지도록 예외 전파")
+    void consumeUserWithdrawalEvent_fail_deleteFailed() {
         // given
-        String userId = "2";
-        doThrow(new BlogCreationFailedException()).when(blogService).createBlogForNewUser(2L);
+        doThrow(new RuntimeException("DB error")).when(blogService).deleteBlogForUser(3L);
 
         // when & then
-        BlogCreationFailedException exception = assertThrows(BlogCreationFailedException.class, () -> {
-                    userServiceConsumer.consumeUserSignupEvent(userId);
-                });
+        assertThrows(RuntimeException.class,
+                () -> userServiceConsumer.consumeUserWithdrawalEvent("3", "user-withdrawal"));
+    }
 
-        assertNotNull(exception);
-        verify(blogService, times(1)).createBlogForNewUser(2L);
+    @Test
+    @DisplayName("DLT 로 보내진 이벤트 수 기록")
+    void handleDeadLetter() {
+        // when
+        userServiceConsumer.handleDeadLetter("1", "user-withdrawal-dlt");
+
+        // then
+        assertThat(meterRegistry.get("blog.kafka.dead_letter").tag("topic", "user-withdrawal-dlt").counter().count())
+                .isEqualTo(1.0);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,104 @@
+package com.alphaka.blogservice.kafka.replay;
+
+import com.alphaka.blogservice.messaging.replay.DeadLetterReplayer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeadLetterReplayerTest {
+
+    private static final String DLT = "user-withdrawal-dlt";
+    private static final TopicPartition PARTITION = new TopicPartition(DLT, 0);
+
+    @Mock
+    private ConsumerFactory<String, String> consumerFactory;
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    private MockConsumer<String, String> consumer;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private DeadLetterReplayer deadLetterReplayer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.updatePartitions(DLT, List.of(new PartitionInfo(DLT, 0, Node.noNode(), new Node[0], new Node[0])));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        meterRegistry = new SimpleMeterRegistry();
+        deadLetterReplayer = new DeadLetterReplayer(consumerFactory, kafkaTemplate, meterRegistry,
+                List.of("user-signup-fallback-dlt", DLT), 100);
+    }
+
+    @Test
+    @DisplayName("DLT 의 이벤트를 원래 토픽으로 다시 보내고, 보낸 위치까지 오프셋 커밋")
+    void replay_success() {
+        // given
+        when(consumerFactory.createConsumer(anyString(), isNull(), isNull(), any(Properties.class))).thenReturn(consumer);
+        when(kafkaTemplate.send(eq("user-withdrawal"), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(deadLetter(0, "1"));
+            consumer.addRecord(deadLetter(1, "2"));
+            consumer.addRecord(deadLetter(2, "3"));
+        });
+
+        // when
+        DeadLetterReplayer.Result result = deadLetterReplayer.replay(DLT, 2);
+
+        // then
+        assertThat(result.replayed()).isEqualTo(2);
+        verify(kafkaTemplate).send("user-withdrawal", "1", "1");
+        verify(kafkaTemplate).send("user-withdrawal", "2", "2");
+        verify(kafkaTemplate, never()).send("user-withdrawal", "3", "3");
+        assertThat(consumer.committed(Set.of(PARTITION))).containsEntry(PARTITION, new OffsetAndMetadata(2));
+        assertThat(meterRegistry.get("blog.kafka.dead_letter.replayed").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("재처리할 수 없는 토픽이면 거절")
+    void replay_unknownTopic() {
+        assertThatThrownBy(() -> deadLetterReplayer.replay("user-signup", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(consumerFactory, kafkaTemplate);
+    }
+
+    private static ConsumerRecord<String, String> deadLetter(long offset, String userId) {
+        ConsumerRecord<String, String> record = new ConsumerRecord<>(DLT, 0, offset, userId, userId);
+        record.headers().add(KafkaHeaders.DLT_ORIGINAL_TOPIC, "user-withdrawal".getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+}
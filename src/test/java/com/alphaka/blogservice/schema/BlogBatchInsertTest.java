@@ -0,0 +1,77 @@
+package com.alphaka.blogservice.schema;
+
+import com.alphaka.blogservice.blog.repository.BlogRepositoryImpl;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * user-signup 일괄 처리의 블로그 삽입이 같은 배치를 다시 받아도 블로그를 중복 생성하지 않는지 실제 MySQL 에서 검증
+ * (마이그레이션으로 만든 uk_blogs_user_id 에 의존)
+ * Docker 가 없는 환경에서는 실행하지 않음
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class BlogBatchInsertTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static BlogRepositoryImpl blogRepository;
+
+    @BeforeAll
+    static void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        blogRepository = new BlogRepositoryImpl(jdbcTemplate);
+    }
+
+    @BeforeEach
+    void clear() {
+        jdbcTemplate.update("DELETE FROM blogs");
+    }
+
+    @Test
+    @DisplayName("같은 배치를 다시 처리해도 블로그를 새로 만들지 않음")
+    void insertIfAbsentForUsers_repeatedBatch_insertsNothing() {
+        // given
+        blogRepository.insertIfAbsentForUsers(List.of(1L, 2L, 3L));
+        List<Long> firstIds = blogIds();
+
+        // when
+        blogRepository.insertIfAbsentForUsers(List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(blogIds()).hasSize(3).isEqualTo(firstIds);
+    }
+
+    @Test
+    @DisplayName("이미 블로그가 있는 사용자와 새 사용자가 섞인 배치는 새 사용자의 블로그만 생성")
+    void insertIfAbsentForUsers_overlappingBatch_insertsOnlyNewUsers() {
+        // given
+        blogRepository.insertIfAbsentForUsers(List.of(1L, 2L));
+
+        // when
+        blogRepository.insertIfAbsentForUsers(List.of(2L, 3L, 3L));
+
+        // then
+        assertThat(jdbcTemplate.queryForList("SELECT user_id FROM blogs ORDER BY user_id", Long.class))
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    private List<Long> blogIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM blogs ORDER BY id", Long.class);
+    }
+}
@@ -0,0 +1,341 @@
+package com.alphaka.blogservice.schema;
+
+import com.alphaka.blogservice.blog.service.BlogPurger;
+import com.alphaka.blogservice.comment.entity.Comment;
+import com.alphaka.blogservice.comment.repository.CommentRepositoryImpl;
+import com.alphaka.blogservice.common.id.TsidFactory;
+import com.alphaka.blogservice.common.id.TsidGenerator;
+import com.alphaka.blogservice.like.repository.LikeRepository;
+import com.alphaka.blogservice.post.entity.Post;
+import com.alphaka.blogservice.post.repository.PostRepositoryImpl;
+import com.alphaka.blogservice.tag.repository.PostTagRepository;
+import com.alphaka.blogservice.tag.repository.TagRepositoryImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.flywaydb.core.Flyway;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마이그레이션으로 만든 스키마에서 주요 조회 쿼리의 실행 계획 검증
+ * - 각 Repository 를 실제로 호출하고, 보낸 SQL 과 바인딩 값을 DataSource 에서 기록해 그대로 EXPLAIN (쿼리를 옮겨 적지 않음)
+ * - 모든 쿼리: 전체 테이블 스캔(type = ALL) 없음
+ * - 페이지 목록: 정렬을 인덱스 순서로 처리하여 임시 테이블(Using temporary), 파일 정렬(Using filesort) 없음
+ * - 키워드 검색(LIKE '%키워드%')과 소유자의 조회수순 목록은 인덱스로 처리하지 않으므로 대상에서 제외
+ * Docker 가 없는 환경에서는 실행하지 않음
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class HotPathIndexTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static RecordingDataSource recorder;
+    private static LocalContainerEntityManagerFactoryBean entityManagerFactory;
+    private static EntityManager entityManager;
+
+    private static PostRepositoryImpl postRepository;
+    private static CommentRepositoryImpl commentRepository;
+    private static TagRepositoryImpl tagRepository;
+    private static PostTagRepository postTagRepository;
+    private static LikeRepository likeRepository;
+
+    @BeforeAll
+    static void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        seed();
+
+        // Repository 는 기록용 DataSource 를 사용하고, EXPLAIN 은 기록되지 않도록 원래 DataSource 로 실행
+        recorder = new RecordingDataSource(dataSource);
+        entityManagerFactory = entityManagerFactory(recorder);
+        entityManager = entityManagerFactory.getObject().createEntityManager();
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        JdbcTemplate recordingJdbcTemplate = new JdbcTemplate(recorder);
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(entityManager);
+
+        postRepository = new PostRepositoryImpl(queryFactory, recordingJdbcTemplate, new ObjectMapper());
+        commentRepository = new CommentRepositoryImpl(queryFactory);
+        tagRepository = new TagRepositoryImpl(recordingJdbcTemplate, queryFactory);
+        postTagRepository = repositoryFactory.getRepository(PostTagRepository.class);
+        likeRepository = repositoryFactory.getRepository(LikeRepository.class);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (entityManager != null) {
+            entityManager.close();
+        }
+        if (entityManagerFactory != null) {
+            entityManagerFactory.destroy();
+        }
+    }
+
+    // 애플리케이션과 같은 이름 규칙, ID 생성기 설정의 EntityManagerFactory (스키마는 Flyway 로 만들었으므로 건드리지 않음)
+    private static LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("com.alphaka.blogservice");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "none",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName(),
+                TsidGenerator.FACTORY_SETTING, new TsidFactory(0, System::currentTimeMillis)
+        ));
+        factory.afterPropertiesSet();
+        return factory;
+    }
+
+    // 옵티마이저가 작은 테이블이라 전체 스캔을 고르지 않도록 블로그 2,000개, 게시글 10,000개 규모로 채움
+    private static void seed() {
+        jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = 100000");
+        jdbcTemplate.update("INSERT INTO blogs (id, user_id, created_at, deleted_at) "
+                + "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 2000) "
+                + "SELECT n, n, NOW(6), IF(n % 200 = 0, NOW(6), NULL) FROM seq");
+        jdbcTemplate.update("INSERT INTO posts (id, user_id, blog_id, title, content, is_public, is_commentable, view_count, created_at) "
+                + "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 10000) "
+                + "SELECT n, n % 2000 + 1, n % 2000 + 1, CONCAT('title ', n), 'content', n % 10 <> 0, TRUE, n % 997, "
+                + "NOW(6) - INTERVAL n MINUTE FROM seq");
+        jdbcTemplate.update("INSERT INTO comments (id, user_id, post_id, content, is_public, created_at, deleted_at) "
+                + "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 30000) "
+                + "SELECT n, n % 500 + 1, n % 10000 + 1, 'comment', TRUE, NOW(6) - INTERVAL n MINUTE, "
+                + "IF(n % 50 = 0, NOW(6), NULL) FROM seq");
+        jdbcTemplate.update("INSERT INTO likes (id, user_id, post_id, comment_id, created_at) "
+                + "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 40000) "
+                + "SELECT n, n % 1000 + 1, IF(n % 2 = 0, n % 10000 + 1, NULL), IF(n % 2 = 1, n % 30000 + 1, NULL), NOW(6) FROM seq");
+        jdbcTemplate.update("INSERT INTO tags (id, tag_name, created_at) "
+                + "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 500) "
+                + "SELECT n, CONCAT('tag', n), NOW(6) FROM seq");
+        jdbcTemplate.update("INSERT INTO post_tags (id, post_id, tag_id, created_at) "
+                + "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 20000) "
+                + "SELECT n, (n - 1) % 10000 + 1, (n - 1) DIV 10000 * 250 + (n - 1) % 250 + 1, NOW(6) FROM seq");
+        jdbcTemplate.execute("ANALYZE TABLE blogs, posts, comments, likes, tags, post_tags");
+    }
+
+    @Test
+    @DisplayName("블로그 게시글 목록 (방문자, 최신순) - PostRepositoryImpl.getPostListResponse")
+    void postList_visitor_createdAt() {
+        // 페이지가 다 차도록 크기를 작게 하여 전체 수 조회(countPostsByBlogId)도 함께 검증
+        assertPagedPlan(() -> postRepository.getPostListResponse(7L, false, page(3, "createdAt")));
+    }
+
+    @Test
+    @DisplayName("블로그 게시글 목록 (방문자, 조회수순) - PostRepositoryImpl.getPostListResponse")
+    void postList_visitor_viewCount() {
+        assertPagedPlan(() -> postRepository.getPostListResponse(7L, false, page(3, "viewCount")));
+    }
+
+    @Test
+    @DisplayName("블로그 게시글 목록 (소유자, 최신순) - PostRepositoryImpl.getPostListResponse")
+    void postList_owner_createdAt() {
+        assertPagedPlan(() -> postRepository.getPostListResponse(7L, true, page(3, "createdAt")));
+    }
+
+    @Test
+    @DisplayName("게시글 상세 - PostRepositoryImpl.getPostResponse")
+    void postDetail() {
+        assertPlan(() -> postRepository.getPostResponse(1234L, 3L));
+    }
+
+    @Test
+    @DisplayName("전체 공개 게시글 목록 (최신순) - PostRepositoryImpl.findAllPublicPosts")
+    void allPublicPosts() {
+        assertPagedPlan(() -> postRepository.findAllPublicPosts(page(10, "createdAt")));
+    }
+
+    @Test
+    @DisplayName("블로그 게시글 수 - PostRepositoryImpl.countPostsByBlogId")
+    void countPostsByBlogId() {
+        assertPlan(() -> postRepository.countPostsByBlogId(7L, false));
+    }
+
+    @Test
+    @DisplayName("게시글 댓글 목록 - CommentRepositoryImpl.getParentCommentResponse")
+    void commentList() {
+        assertPlan(() -> commentRepository.getParentCommentResponse(1234L, 3L));
+    }
+
+    @Test
+    @DisplayName("게시글 ID 목록별 태그 - TagRepositoryImpl.findTagsByPostIds")
+    void tagsByPostIds() {
+        assertPlan(() -> tagRepository.findTagsByPostIds(List.of(1L, 2L, 3L, 4L, 5L)));
+    }
+
+    @Test
+    @DisplayName("블로그의 태그별 게시글 수 - PostTagRepository.countByBlogIdAndTagId")
+    void countByBlogIdAndTagId() {
+        assertPlan(() -> postTagRepository.countByBlogIdAndTagId(7L, 10L));
+    }
+
+    @Test
+    @DisplayName("사용자의 게시글 / 댓글 좋아요 - LikeRepository.findByUserIdAndPost / findByUserIdAndComment")
+    void likeByUser() {
+        assertPlan(() -> likeRepository.findByUserIdAndPost(3L, entityManager.getReference(Post.class, 1234L)));
+        assertPlan(() -> likeRepository.findByUserIdAndComment(3L, entityManager.getReference(Comment.class, 1234L)));
+    }
+
+    @Test
+    @DisplayName("삭제된 블로그 정리 대상 - BlogPurger")
+    void deletedBlogs() {
+        assertNoFullScan(new RecordedStatement(BlogPurger.DELETED_BLOGS, List.of(10)));
+        assertNoFullScan(new RecordedStatement(BlogPurger.BLOG_POSTS, List.of(7L, 100)));
+    }
+
+    // 내림차순 정렬 페이지
+    private static Pageable page(int size, String property) {
+        return PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, property));
+    }
+
+    // Repository 호출이 보낸 모든 쿼리에 전체 테이블 스캔이 없는지 확인
+    private static void assertPlan(Runnable call) {
+        for (RecordedStatement statement : record(call)) {
+            assertNoFullScan(statement);
+        }
+    }
+
+    // 페이지 목록 쿼리는 전체 테이블 스캔에 더해 임시 테이블, 파일 정렬도 없는지 확인
+    private static void assertPagedPlan(Runnable call) {
+        for (RecordedStatement statement : record(call)) {
+            assertNoFullScan(statement);
+            assertNoSort(statement);
+        }
+    }
+
+    private static List<RecordedStatement> record(Runnable call) {
+        recorder.statements.clear();
+        call.run();
+        List<RecordedStatement> statements = List.copyOf(recorder.statements);
+        assertThat(statements).as("기록된 쿼리").isNotEmpty();
+        return statements;
+    }
+
+    // 실행 계획의 모든 테이블 접근이 전체 테이블 스캔(type = ALL)이 아닌지 확인
+    // 파생 테이블(<derived2> 등)은 이미 걸러진 페이지 행을 읽는 것이므로 제외
+    private static void assertNoFullScan(RecordedStatement statement) {
+        for (Map<String, Object> row : explain(statement)) {
+            if (!isBaseTable(row)) {
+                continue;
+            }
+            assertThat(row.get("type"))
+                    .as("%s 테이블 전체 스캔 (key: %s)%n%s", row.get("table"), row.get("key"), statement.sql())
+                    .isNotEqualTo("ALL");
+        }
+    }
+
+    // 테이블을 읽으면서 임시 테이블, 파일 정렬을 쓰지 않는지 확인
+    // 파생 테이블의 정렬은 페이지 크기만큼의 행만 다시 정렬하는 것이므로 제외
+    private static void assertNoSort(RecordedStatement statement) {
+        for (Map<String, Object> row : explain(statement)) {
+            if (!isBaseTable(row)) {
+                continue;
+            }
+            assertThat(String.valueOf(row.get("Extra")))
+                    .as("%s 테이블 정렬 (key: %s)%n%s", row.get("table"), row.get("key"), statement.sql())
+                    .doesNotContain("Using temporary", "Using filesort");
+        }
+    }
+
+    private static List<Map<String, Object>> explain(RecordedStatement statement) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + statement.sql(), statement.parameters().toArray());
+        assertThat(plan).isNotEmpty();
+        return plan;
+    }
+
+    private static boolean isBaseTable(Map<String, Object> row) {
+        Object table = row.get("table");
+        return table != null && !table.toString().startsWith("<");
+    }
+
+    private record RecordedStatement(String sql, List<Object> parameters) {
+    }
+
+    // 실행된 PreparedStatement 의 SQL 과 바인딩 값을 기록하는 DataSource
+    private static final class RecordingDataSource extends DelegatingDataSource {
+
+        private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+
+        private RecordingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return recording(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return recording(super.getConnection(username, password));
+        }
+
+        private Connection recording(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                            return recording(statement, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private PreparedStatement recording(PreparedStatement statement, String sql) {
+            Map<Integer, Object> parameters = new TreeMap<>();
+            return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                            parameters.put(index, name.equals("setNull") ? null : args[1]);
+                        } else if (name.equals("clearParameters")) {
+                            parameters.clear();
+                        } else if (name.startsWith("execute")) {
+                            statements.add(new RecordedStatement(sql, new ArrayList<>(parameters.values())));
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
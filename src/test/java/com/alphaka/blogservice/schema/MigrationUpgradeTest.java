@@ -0,0 +1,145 @@
+package com.alphaka.blogservice.schema;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationState;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ddl-auto: update 로 만들어진 기존 DB 의 마이그레이션 검증
+ * - 기존 스키마(db/legacy/ddl_auto_schema.sql)를 V1 기준선으로 기록하고 V2 부터 적용
+ * - 빈 DB 에 V1 부터 적용한 스키마와 컬럼, 인덱스 구성이 같은지 확인 (제약 조건, 인덱스 이름은 환경마다 달라 비교하지 않음)
+ * Docker 가 없는 환경에서는 실행하지 않음
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MigrationUpgradeTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0").withUsername("root");
+
+    private static DataSource legacy;
+    private static DataSource fresh;
+
+    @BeforeAll
+    static void setUp() {
+        JdbcTemplate admin = new JdbcTemplate(dataSource(MYSQL.getDatabaseName()));
+        admin.execute("CREATE DATABASE legacy");
+        admin.execute("CREATE DATABASE fresh");
+        legacy = dataSource("legacy");
+        fresh = dataSource("fresh");
+
+        new ResourceDatabasePopulator(new ClassPathResource("db/legacy/ddl_auto_schema.sql")).execute(legacy);
+        seedLegacy(new JdbcTemplate(legacy));
+
+        migrate(legacy);
+        migrate(fresh);
+    }
+
+    // 운영 DB 처럼 데이터가 있는 상태에서 마이그레이션
+    // 유니크 키가 없던 시절 이벤트 재전송으로 생긴 중복 블로그(3: 사용자 10의 두 번째 블로그)와 그 게시글 포함
+    private static void seedLegacy(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO blogs (id, user_id, created_at) VALUES (1, 10, NOW(6)), (2, 20, NOW(6)), (3, 10, NOW(6))");
+        jdbcTemplate.update("INSERT INTO posts (id, user_id, blog_id, title, content, is_public, is_commentable, view_count, created_at) "
+                + "VALUES (1, 10, 1, 'title', 'content', TRUE, TRUE, 0, NOW(6)), "
+                + "(2, 10, 3, 'duplicate', 'content', TRUE, TRUE, 0, NOW(6))");
+        jdbcTemplate.update("INSERT INTO comments (id, user_id, post_id, content, is_public, created_at) "
+                + "VALUES (1, 20, 1, 'comment', TRUE, NOW(6))");
+    }
+
+    @Test
+    @DisplayName("기존 DB 는 V1 을 기준선으로 기록하고 이후 마이그레이션을 모두 적용")
+    void legacy_baselineThenMigrate() {
+        MigrationInfo[] applied = flyway(legacy).info().applied();
+
+        assertThat(applied[0].getVersion().getVersion()).isEqualTo("1");
+        assertThat(applied[0].getState()).isEqualTo(MigrationState.BASELINE);
+        assertThat(Arrays.stream(applied).skip(1)).isNotEmpty()
+                .allSatisfy(info -> assertThat(info.getState()).isEqualTo(MigrationState.SUCCESS));
+        assertThat(flyway(legacy).info().pending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기존 DB 를 마이그레이션한 스키마의 컬럼은 빈 DB 에 적용한 스키마와 같음")
+    void legacy_columnsMatchFresh() {
+        assertThat(columns(legacy)).containsExactlyElementsOf(columns(fresh));
+    }
+
+    @Test
+    @DisplayName("기존 DB 를 마이그레이션한 스키마의 인덱스 구성은 빈 DB 에 적용한 스키마와 같음")
+    void legacy_indexesMatchFresh() {
+        assertThat(indexes(legacy)).isEqualTo(indexes(fresh));
+    }
+
+    @Test
+    @DisplayName("기존 데이터는 마이그레이션 후에도 유지")
+    void legacy_dataPreserved() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(legacy);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts", Long.class)).isEqualTo(2L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comments", Long.class)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("중복 블로그는 먼저 만든 블로그로 합친 뒤 사용자 ID 유니크 키 추가")
+    void legacy_duplicateBlogsMerged() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(legacy);
+
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM blogs ORDER BY id", Long.class)).containsExactly(1L, 2L);
+        assertThat(jdbcTemplate.queryForObject("SELECT blog_id FROM posts WHERE id = 2", Long.class)).isEqualTo(1L);
+        assertThat(indexes(legacy)).contains("blogs|0|user_id");
+    }
+
+    private static void migrate(DataSource dataSource) {
+        flyway(dataSource).migrate();
+    }
+
+    // 애플리케이션 설정(spring.flyway)과 같은 기준선 설정
+    private static Flyway flyway(DataSource dataSource) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load();
+    }
+
+    // 테이블, 컬럼별 타입, NULL 허용 여부, 부가 속성
+    private static List<String> columns(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForList(
+                "SELECT CONCAT_WS('|', table_name, column_name, column_type, is_nullable, extra) FROM information_schema.columns "
+                        + "WHERE table_schema = DATABASE() AND table_name <> 'flyway_schema_history' "
+                        + "ORDER BY table_name, column_name", String.class);
+    }
+
+    // 테이블, 유일 여부, 컬럼 순서 (이름 제외)
+    private static Set<String> indexes(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForList(
+                "SELECT CONCAT_WS('|', table_name, non_unique, GROUP_CONCAT(column_name ORDER BY seq_in_index)) "
+                        + "FROM information_schema.statistics "
+                        + "WHERE table_schema = DATABASE() AND table_name <> 'flyway_schema_history' "
+                        + "GROUP BY table_name, index_name, non_unique", String.class)
+                .stream().collect(Collectors.toSet());
+    }
+
+    private static DataSource dataSource(String database) {
+        String url = "jdbc:mysql://" + MYSQL.getHost() + ":" + MYSQL.getMappedPort(MySQLContainer.MYSQL_PORT) + "/" + database;
+        return new DriverManagerDataSource(url, MYSQL.getUsername(), MYSQL.getPassword());
+    }
+}
@@ -0,0 +1,91 @@
+package com.alphaka.blogservice.service;
+
+import com.alphaka.blogservice.blog.dto.BlogHomeResponse;
+import com.alphaka.blogservice.blog.service.BlogHomeContentService;
+import com.alphaka.blogservice.common.dto.PageResponse;
+import com.alphaka.blogservice.post.dto.PostListResponse;
+import com.alphaka.blogservice.post.service.PostService;
+import com.alphaka.blogservice.tag.dto.TagListResponse;
+import com.alphaka.blogservice.tag.service.TagService;
+import com.alphaka.blogservice.util.TestUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlogHomeContentServiceTest {
+
+    @Mock
+    private PostService postService;
+
+    @Mock
+    private TagService tagService;
+
+    @InjectMocks
+    private BlogHomeContentService blogHomeContentService;
+
+    @BeforeEach
+    void setUp() {
+        // 병렬 작업은 호출 스레드에서 바로 실행
+        TestUtil.setField(blogHomeContentService, "blogHomeExecutor", (Executor) Runnable::run);
+    }
+
+    @Test
+    @DisplayName("블로그 홈 구성 요소 조회 성공 - 첫 페이지 게시글 목록과 태그 목록을 함께 조회하고 주인 프로필은 제외")
+    void getContent_success() {
+        // given
+        PostListResponse post = new PostListResponse(1L, "Test Post", "snippet", 3L, 1L, 10,
+                LocalDateTime.now(), LocalDateTime.now());
+        PageResponse<PostListResponse> posts = new PageResponse<>(List.of(post), 3, 12, 1, 5);
+        List<TagListResponse> tags = List.of(new TagListResponse("Spring", 2));
+
+        when(postService.getPostPage(eq(10L), eq(false), any(Pageable.class))).thenReturn(posts);
+        when(tagService.getTagListByBlogId(10L)).thenReturn(tags);
+
+        // when
+        BlogHomeResponse response = blogHomeContentService.getContent(10L, false, 5);
+
+        // then
+        assertThat(response.getBlogId()).isEqualTo(10L);
+        assertThat(response.getOwner()).isNull();
+        assertThat(response.getPostCount()).isEqualTo(12);
+        assertThat(response.getPosts().getContent()).containsExactly(post);
+        assertThat(response.getTags()).isEqualTo(tags);
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(postService, times(1)).getPostPage(eq(10L), eq(false), pageableCaptor.capture());
+        assertThat(pageableCaptor.getValue().getPageNumber()).isZero();
+        assertThat(pageableCaptor.getValue().getPageSize()).isEqualTo(5);
+        verify(tagService, times(1)).getTagListByBlogId(10L);
+        verifyNoMoreInteractions(postService, tagService);
+    }
+
+    @Test
+    @DisplayName("블로그 홈 구성 요소 조회 실패 - 태그 목록 조회 예외를 그대로 전달")
+    void getContent_fail_tagError() {
+        // given
+        when(postService.getPostPage(eq(10L), eq(true), any(Pageable.class)))
+                .thenReturn(new PageResponse<>(List.of(), 0, 0, 1, 5));
+        when(tagService.getTagListByBlogId(10L)).thenThrow(new IllegalStateException("tag error"));
+
+        // when & then
+        assertThatThrownBy(() -> blogHomeContentService.getContent(10L, true, 5))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("tag error");
+    }
+}
@@ -0,0 +1,136 @@
+package com.alphaka.blogservice.service;
+
+import com.alphaka.blogservice.blog.dto.BlogHomeResponse;
+import com.alphaka.blogservice.blog.entity.Blog;
+import com.alphaka.blogservice.blog.repository.BlogRepository;
+import com.alphaka.blogservice.blog.service.BlogHomeContentService;
+import com.alphaka.blogservice.blog.service.BlogHomeService;
+import com.alphaka.blogservice.common.dto.CurrentUser;
+import com.alphaka.blogservice.common.dto.PageResponse;
+import com.alphaka.blogservice.common.dto.UserDTO;
+import com.alphaka.blogservice.exception.custom.BlogNotFoundException;
+import com.alphaka.blogservice.post.dto.PostListResponse;
+import com.alphaka.blogservice.tag.dto.TagListResponse;
+import com.alphaka.blogservice.user.service.UserDirectoryService;
+import com.alphaka.blogservice.util.ExistenceGuard;
+import com.alphaka.blogservice.util.TestUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlogHomeServiceTest {
+
+    @Mock
+    private ExistenceGuard existenceGuard;
+
+    @Mock
+    private UserDirectoryService userDirectoryService;
+
+    @Mock
+    private BlogRepository blogRepository;
+
+    @Mock
+    private BlogHomeContentService blogHomeContentService;
+
+    @InjectMocks
+    private BlogHomeService blogHomeService;
+
+    private UserDTO owner;
+    private Blog blog;
+
+    @BeforeEach
+    void setUp() {
+        owner = new UserDTO(1L, "tester", "profileImage.png");
+        blog = Blog.builder()
+                .userId(owner.getUserId())
+                .build();
+        TestUtil.setField(blog, "id", 10L);
+    }
+
+    @Test
+    @DisplayName("블로그 홈 조회 성공 - 블로그를 한 번만 확인하고, 방문자용 구성 요소에 주인 프로필을 붙여 응답")
+    void getBlogHome_success() {
+        // given
+        CurrentUser visitor = new CurrentUser(2L, "visitor", "visitor.png", "ROLE_USER");
+        PostListResponse post = new PostListResponse(1L, "Test Post", "snippet", 3L, 1L, 10,
+                LocalDateTime.now(), LocalDateTime.now());
+        PageResponse<PostListResponse> posts = new PageResponse<>(List.of(post), 3, 12, 1, 5);
+        List<TagListResponse> tags = List.of(new TagListResponse("Spring", 2));
+        BlogHomeResponse content = BlogHomeResponse.builder()
+                .blogId(10L)
+                .postCount(12)
+                .posts(posts)
+                .tags(tags)
+                .build();
+
+        when(userDirectoryService.findByNickname("tester")).thenReturn(owner);
+        when(blogRepository.findByUserId(owner.getUserId())).thenReturn(Optional.of(blog));
+        when(blogHomeContentService.getContent(10L, false, 5)).thenReturn(content);
+
+        // when
+        BlogHomeResponse response = blogHomeService.getBlogHome(visitor, "tester", 5);
+
+        // then
+        assertThat(response.getBlogId()).isEqualTo(10L);
+        assertThat(response.getOwner().getNickname()).isEqualTo("tester");
+        assertThat(response.getPostCount()).isEqualTo(12);
+        assertThat(response.getPosts().getContent()).containsExactly(post);
+        assertThat(response.getTags()).isEqualTo(tags);
+        assertThat(content.getOwner()).isNull();
+
+        verify(userDirectoryService, times(1)).findByNickname("tester");
+        verify(blogRepository, times(1)).findByUserId(owner.getUserId());
+    }
+
+    @Test
+    @DisplayName("블로그 홈 조회 성공 - 블로그 주인은 주인용 구성 요소 사용")
+    void getBlogHome_success_owner() {
+        // given
+        CurrentUser currentUser = new CurrentUser(1L, "tester", "profileImage.png", "ROLE_USER");
+        BlogHomeResponse content = BlogHomeResponse.builder()
+                .blogId(10L)
+                .posts(new PageResponse<>(List.of(), 0, 0, 1, 5))
+                .tags(List.of())
+                .build();
+
+        when(userDirectoryService.findByNickname("tester")).thenReturn(owner);
+        when(blogRepository.findByUserId(owner.getUserId())).thenReturn(Optional.of(blog));
+        when(blogHomeContentService.getContent(10L, true, 5)).thenReturn(content);
+
+        // when
+        BlogHomeResponse response = blogHomeService.getBlogHome(currentUser, "tester", 5);
+
+        // then
+        assertThat(response.getPostCount()).isZero();
+        verify(blogHomeContentService, times(1)).getContent(10L, true, 5);
+    }
+
+    @Test
+    @DisplayName("블로그 홈 조회 실패 - 블로그를 찾을 수 없음")
+    void getBlogHome_fail_blogNotFound() {
+        // given
+        when(userDirectoryService.findByNickname("tester")).thenReturn(owner);
+        when(blogRepository.findByUserId(owner.getUserId())).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> blogHomeService.getBlogHome(null, "tester", 5))
+                .isInstanceOf(BlogNotFoundException.class);
+
+        verify(existenceGuard, times(1)).markNicknameMissing(eq("tester"), any(BlogNotFoundException.class));
+        verifyNoInteractions(blogHomeContentService);
+    }
+}
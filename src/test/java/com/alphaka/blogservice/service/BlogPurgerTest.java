@@ -0,0 +1,122 @@
+package com.alphaka.blogservice.service;
+
+import com.alphaka.blogservice.blog.service.BlogPurger;
+import com.alphaka.blogservice.outbox.entity.OutboxEventType;
+import com.alphaka.blogservice.outbox.service.OutboxService;
+import com.alphaka.blogservice.shard.ReferenceTableReplicator;
+import com.alphaka.blogservice.shard.ShardMap;
+import com.alphaka.blogservice.util.CacheUtils;
+import com.alphaka.blogservice.util.TestUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlogPurgerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ShardMap shardMap;
+
+    @Mock
+    private ReferenceTableReplicator referenceTableReplicator;
+
+    @Mock
+    private CacheUtils cacheUtils;
+
+    @Mock
+    private OutboxService outboxService;
+
+    private BlogPurger blogPurger;
+
+    @BeforeEach
+    void setUp() {
+        blogPurger = new BlogPurger(jdbcTemplate, transactionManager, shardMap, referenceTableReplicator, cacheUtils, outboxService);
+        TestUtil.setField(blogPurger, "blogsPerRun", 10);
+        TestUtil.setField(blogPurger, "chunkSize", 2);
+        TestUtil.setField(blogPurger, "maxChunksPerRun", 10);
+        TestUtil.setField(blogPurger, "throttleMillis", 0L);
+        lenient().when(shardMap.shards()).thenReturn(List.of("shard-0"));
+    }
+
+    @Test
+    @DisplayName("삭제된 블로그의 게시글을 묶음 단위로 삭제하고, 남은 게시글이 없으면 블로그와 위치 정보 삭제")
+    void purgeDeletedBlogs_success() {
+        // given
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM blogs"), eq(Long.class), eq(10)))
+                .thenReturn(List.of(1L));
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM posts"), eq(Long.class), eq(1L), eq(2)))
+                .thenReturn(List.of(100L, 101L), List.of(102L));
+
+        // when
+        int purged = blogPurger.purgeDeletedBlogs();
+
+        // then
+        assertThat(purged).isEqualTo(3);
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).update(startsWith("DELETE r FROM reports"), eq(100L), eq(101L));
+        inOrder.verify(jdbcTemplate).update(startsWith("UPDATE comments SET parent_id = NULL"), eq(100L), eq(101L));
+        inOrder.verify(jdbcTemplate).update(startsWith("DELETE FROM comments"), eq(100L), eq(101L));
+        inOrder.verify(jdbcTemplate).update(startsWith("DELETE FROM posts"), eq(100L), eq(101L));
+        inOrder.verify(jdbcTemplate).update(startsWith("DELETE FROM posts"), eq(102L));
+        inOrder.verify(jdbcTemplate).update(startsWith("DELETE FROM blogs"), eq(1L));
+        verify(cacheUtils, times(3)).evictDeletedPostCache(anyLong());
+        verify(outboxService, times(3)).append(eq(OutboxEventType.POST_DELETED), anyLong(), any());
+        verify(outboxService).forgetSequences(List.of(100L, 101L));
+        verify(outboxService).forgetSequences(List.of(102L));
+        verify(referenceTableReplicator).replicateAfterCommit(ReferenceTableReplicator.BLOGS, List.of(1L));
+        verify(shardMap).forgetBlog(1L);
+    }
+
+    @Test
+    @DisplayName("한 번에 정리할 묶음 수를 넘으면 블로그를 남겨두고 다음 실행에서 이어서 정리")
+    void purgeDeletedBlogs_chunkBudgetExhausted() {
+        // given
+        TestUtil.setField(blogPurger, "maxChunksPerRun", 1);
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM blogs"), eq(Long.class), eq(10)))
+                .thenReturn(List.of(1L));
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM posts"), eq(Long.class), eq(1L), eq(2)))
+                .thenReturn(List.of(100L, 101L));
+
+        // when
+        int purged = blogPurger.purgeDeletedBlogs();
+
+        // then
+        assertThat(purged).isEqualTo(2);
+        verify(jdbcTemplate, never()).update(startsWith("DELETE FROM blogs"), any(Object[].class));
+        verify(shardMap, never()).forgetBlog(anyLong());
+    }
+
+    @Test
+    @DisplayName("삭제된 블로그가 없으면 삭제하지 않음")
+    void purgeDeletedBlogs_nothingToPurge() {
+        // given
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(10))).thenReturn(List.of());
+
+        // when
+        int purged = blogPurger.purgeDeletedBlogs();
+
+        // then
+        assertThat(purged).isZero();
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+}
@@ -5,6 +5,12 @@ import com.alphaka.blogservice.blog.service.BlogService;
 import com.alphaka.blogservice.exception.custom.BlogCreationFailedException;
 import com.alphaka.blogservice.blog.repository.BlogRepository;
 import com.alphaka.blogservice.exception.custom.UserNotFoundException;
+import com.alphaka.blogservice.post.repository.PostRepository;
+import com.alphaka.blogservice.shard.ReferenceTableReplicator;
+import com.alphaka.blogservice.shard.ShardMap;
+import com.alphaka.blogservice.shard.ShardTemplate;
+import com.alphaka.blogservice.util.CacheUtils;
+import com.alphaka.blogservice.util.TestUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,6 +18,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -22,6 +34,21 @@ class BlogServiceTest {
     @Mock
     private BlogRepository blogRepository;
 
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private ShardMap shardMap;
+
+    @Mock
+    private ShardTemplate shardTemplate;
+
+    @Mock
+    private ReferenceTableReplicator referenceTableReplicator;
+
+    @Mock
+    private CacheUtils cacheUtils;
+
     @InjectMocks
     private BlogService blogService;
 
@@ -32,6 +59,7 @@ class BlogServiceTest {
         Long userId = 1L;
         when(blogRepository.existsByUserId(userId)).thenReturn(false);
         Blog savedBlog = Blog.builder().userId(1L).build();
+        TestUtil.setField(savedBlog, "id", 10L);
         when(blogRepository.save(any(Blog.class))).thenReturn(savedBlog);
 
         // when
@@ -40,6 +68,8 @@ class BlogServiceTest {
         // then
         verify(blogRepository, times(1)).existsByUserId(userId);
         verify(blogRepository, times(1)).save(any(Blog.class));
+        verify(shardMap).assignBlog(10L);
+        verify(referenceTableReplicator).replicateAfterCommit(ReferenceTableReplicator.BLOGS, List.of(10L));
     }
 
     @Test
@@ -100,4 +130,67 @@ class BlogServiceTest {
         verify(blogRepository, times(1)).existsByUserId(userId);
         verify(blogRepository, times(1)).save(any(Blog.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("가입 이벤트 묶음의 블로그 일괄 생성 성공 - 잘못된 ID 와 중복 ID 는 제외")
+    void createBlogsForNewUsers_success() {
+        // given
+        when(blogRepository.findIdsByUserIds(List.of(1L, 2L))).thenReturn(List.of(10L, 11L));
+
+        // when
+        int created = blogService.createBlogsForNewUsers(Arrays.asList(2L, 1L, null, -1L, 2L));
+
+        // then
+        assertThat(created).isEqualTo(2);
+        verify(blogRepository).insertIfAbsentForUsers(List.of(1L, 2L));
+        verify(shardMap).assignBlogs(List.of(10L, 11L));
+        verify(referenceTableReplicator).replicateAfterCommit(ReferenceTableReplicator.BLOGS, List.of(10L, 11L));
+    }
+
+    @Test
+    @DisplayName("가입 이벤트 묶음의 블로그 일괄 생성 - 유효한 사용자 ID 가 없으면 무시")
+    void createBlogsForNewUsers_noValidUserIds() {
+        // when
+        int created = blogService.createBlogsForNewUsers(Arrays.asList(null, 0L));
+
+        // then
+        assertThat(created).isZero();
+        verify(blogRepository, never()).insertIfAbsentForUsers(anyList());
+        verify(shardMap, never()).assignBlogs(anyList());
+    }
+
+    @Test
+    @DisplayName("사용자 탈퇴시 블로그 삭제 표시 성공")
+    void deleteBlogForUser_success() {
+        // given
+        Long userId = 1L;
+        Blog blog = Blog.builder().userId(userId).build();
+        TestUtil.setField(blog, "id", 10L);
+        when(blogRepository.findByUserId(userId)).thenReturn(Optional.of(blog));
+        when(shardTemplate.queryAll(any())).thenAnswer(invocation -> List.of(((Supplier<?>) invocation.getArgument(0)).get()));
+        when(postRepository.findIdsByBlogId(10L)).thenReturn(List.of(100L, 101L));
+
+        // when
+        blogService.deleteBlogForUser(userId);
+
+        // then
+        assertThat(blog.isDeleted()).isTrue();
+        verify(referenceTableReplicator).replicateAfterCommit(ReferenceTableReplicator.BLOGS, List.of(10L));
+        verify(cacheUtils).evictDeletedBlogCache(10L, List.of(100L, 101L));
+    }
+
+    @Test
+    @DisplayName("사용자 탈퇴시 블로그 삭제 - 이미 삭제되었거나 없는 블로그는 무시")
+    void deleteBlogForUser_blogNotFound() {
+        // given
+        Long userId = 2L;
+        when(blogRepository.findByUserId(userId)).thenReturn(Optional.empty());
+
+        // when
+        blogService.deleteBlogForUser(userId);
+
+        // then
+        verify(referenceTableReplicator, never()).replicateAfterCommit(anyString(), anyList());
+        verify(cacheUtils, never()).evictDeletedBlogCache(anyLong(), anyList());
+    }
+}
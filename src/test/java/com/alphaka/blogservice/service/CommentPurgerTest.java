@@ -0,0 +1,78 @@
+package com.alphaka.blogservice.service;
+
+import com.alphaka.blogservice.comment.service.CommentPurger;
+import com.alphaka.blogservice.shard.ShardMap;
+import com.alphaka.blogservice.util.TestUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommentPurgerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CommentPurger commentPurger;
+
+    @BeforeEach
+    void setUp() {
+        commentPurger = new CommentPurger(jdbcTemplate, transactionManager, ShardMap.single());
+        TestUtil.setField(commentPurger, "gracePeriodMillis", 600000L);
+        TestUtil.setField(commentPurger, "batchSize", 2);
+        TestUtil.setField(commentPurger, "maxBatches", 10);
+    }
+
+    @Test
+    @DisplayName("대댓글이 없는 삭제된 댓글을 좋아요, 신고와 함께 배치로 삭제하고, 대상이 없으면 중단")
+    void purgeAllShards_success() {
+        // given - 첫 배치에서 대댓글(3, 4)을 지우면 다음 배치에서 부모 댓글(1)이 대상이 됨
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(), eq(2)))
+                .thenReturn(List.of(3L, 4L), List.of(1L), List.of());
+        when(jdbcTemplate.update(startsWith("DELETE FROM comments"), any(Object[].class)))
+                .thenReturn(2, 1);
+
+        // when
+        int purged = commentPurger.purgeAllShards();
+
+        // then
+        assertThat(purged).isEqualTo(3);
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).update(startsWith("DELETE FROM reports"), eq(3L), eq(4L));
+        inOrder.verify(jdbcTemplate).update(startsWith("DELETE FROM likes"), eq(3L), eq(4L));
+        inOrder.verify(jdbcTemplate).update(startsWith("DELETE FROM comments"), eq(3L), eq(4L));
+        verify(jdbcTemplate, times(3)).queryForList(anyString(), eq(Long.class), any(), eq(2));
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    @DisplayName("정리할 댓글이 없으면 삭제하지 않음")
+    void purgeAllShards_nothingToPurge() {
+        // given
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(), eq(2))).thenReturn(List.of());
+
+        // when
+        int purged = commentPurger.purgeAllShards();
+
+        // then
+        assertThat(purged).isZero();
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+}
@@ -2,7 +2,6 @@ package com.alphaka.blogservice.service;
 
 import com.alphaka.blogservice.blog.entity.Blog;
 import com.alphaka.blogservice.blog.repository.BlogRepository;
-import com.alphaka.blogservice.client.feign.UserClient;
 import com.alphaka.blogservice.comment.dto.CommentCreateRequest;
 import com.alphaka.blogservice.comment.dto.CommentResponse;
 import com.alphaka.blogservice.comment.dto.CommentUpdateRequest;
@@ -11,11 +10,16 @@ import com.alphaka.blogservice.comment.repository.CommentRepository;
 import com.alphaka.blogservice.comment.service.CommentService;
 import com.alphaka.blogservice.common.dto.CurrentUser;
 import com.alphaka.blogservice.common.dto.UserDTO;
-import com.alphaka.blogservice.common.response.ApiResponse;
 import com.alphaka.blogservice.exception.custom.*;
+import com.alphaka.blogservice.outbox.entity.OutboxEventType;
+import com.alphaka.blogservice.outbox.service.OutboxService;
+import com.alphaka.blogservice.post.dto.PostSummary;
 import com.alphaka.blogservice.post.entity.Post;
 import com.alphaka.blogservice.post.repository.PostRepository;
+import com.alphaka.blogservice.shard.ShardMap;
+import com.alphaka.blogservice.user.service.UserDirectoryService;
 import com.alphaka.blogservice.util.CacheUtils;
+import com.alphaka.blogservice.util.ExistenceGuard;
 import com.alphaka.blogservice.util.TestUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -29,6 +33,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -43,7 +48,10 @@ class CommentServiceTest {
     private CacheUtils cacheUtils;
 
     @Mock
-    private UserClient userClient;
+    private ExistenceGuard existenceGuard;
+
+    @Mock
+    private UserDirectoryService userDirectoryService;
 
     @Mock
     private BlogRepository blogRepository;
@@ -54,6 +62,12 @@ class CommentServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private ShardMap shardMap;
+
+    @Mock
+    private OutboxService outboxService;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -88,7 +102,8 @@ class CommentServiceTest {
                 .isCommentable(true)
                 .build();
         TestUtil.setField(post, "id", 1L);
-        lenient().when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
+        lenient().when(postRepository.findSummaryById(post.getId())).thenReturn(Optional.of(summaryOf(post)));
+        lenient().when(postRepository.getReferenceById(post.getId())).thenReturn(post);
     }
 
     @Test
@@ -124,6 +139,8 @@ class CommentServiceTest {
         assertThat(capturedComment.getContent()).isEqualTo("This is a test comment.");
         assertThat(capturedComment.isPublic()).isTrue();
         assertThat(capturedComment.getParent()).isNull();
+        verify(postRepository, never()).findById(anyLong()); // 본문까지 읽는 전체 조회는 하지 않음
+        verify(outboxService, times(1)).append(eq(OutboxEventType.COMMENT_CREATED), eq(post.getId()), any());
 
         verify(cacheUtils, times(1)).evictCommentsAndPostListCache(post.getBlog().getId(), post.getId());
     }
@@ -333,13 +350,13 @@ class CommentServiceTest {
                 true
         );
 
-        when(postRepository.findById(noCommentPost.getId())).thenReturn(Optional.of(noCommentPost));
+        when(postRepository.findSummaryById(noCommentPost.getId())).thenReturn(Optional.of(summaryOf(noCommentPost)));
 
         // when & then
         assertThatThrownBy(() -> commentService.createComment(currentUser, request))
                 .isInstanceOf(PrivateParentCommentException.class);
 
-        verify(postRepository, times(1)).findById(noCommentPost.getId());
+        verify(postRepository, times(1)).findSummaryById(noCommentPost.getId());
         verify(commentRepository, never()).save(any(Comment.class));
         verify(cacheUtils, never()).evictCommentsAndPostListCache(anyLong(), anyLong());
     }
@@ -357,7 +374,7 @@ class CommentServiceTest {
         TestUtil.setField(comment, "id", 1L);
 
         when(commentRepository.findById(1L)).thenReturn(Optional.of(comment));
-        when(postRepository.findByCommentsId(1L)).thenReturn(Optional.of(post));
+        when(postRepository.findSummaryByCommentId(1L)).thenReturn(Optional.of(summaryOf(post)));
 
         // when
         CommentUpdateRequest updateRequest = commentService.getCommentUpdateData(currentUser, 1L);
@@ -367,7 +384,7 @@ class CommentServiceTest {
         assertThat(updateRequest.isPublic()).isTrue();
 
         verify(commentRepository, times(1)).findById(1L);
-        verify(postRepository, times(1)).findByCommentsId(1L);
+        verify(postRepository, times(1)).findSummaryByCommentId(1L);
     }
 
     @Test
@@ -377,14 +394,14 @@ class CommentServiceTest {
         Long commentId = 1L;
 
         when(commentRepository.findById(commentId)).thenReturn(Optional.empty());
-        when(postRepository.findByCommentsId(commentId)).thenReturn(Optional.of(post));
+        when(postRepository.findSummaryByCommentId(commentId)).thenReturn(Optional.of(summaryOf(post)));
 
         // when & then
         assertThatThrownBy(() -> commentService.getCommentUpdateData(currentUser, commentId))
                 .isInstanceOf(CommentNotFoundException.class);
 
         verify(commentRepository, times(1)).findById(commentId);
-        verify(postRepository, times(1)).findByCommentsId(commentId);
+        verify(postRepository, times(1)).findSummaryByCommentId(commentId);
     }
 
     @Test
@@ -393,14 +410,14 @@ class CommentServiceTest {
         // given
         Long commentId = 1L;
 
-        when(postRepository.findByCommentsId(commentId)).thenReturn(Optional.empty());
+        when(postRepository.findSummaryByCommentId(commentId)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> commentService.getCommentUpdateData(currentUser, commentId))
                 .isInstanceOf(PostNotFoundException.class);
 
         verify(commentRepository, never()).findById(commentId);
-        verify(postRepository, times(1)).findByCommentsId(commentId);
+        verify(postRepository, times(1)).findSummaryByCommentId(commentId);
     }
 
     @Test
@@ -419,14 +436,14 @@ class CommentServiceTest {
                 .build();
         TestUtil.setField(noCommentPost, "id", 2L);
 
-        when(postRepository.findByCommentsId(commentId)).thenReturn(Optional.of(noCommentPost));
+        when(postRepository.findSummaryByCommentId(commentId)).thenReturn(Optional.of(summaryOf(noCommentPost)));
 
         // when & then
         assertThatThrownBy(() -> commentService.getCommentUpdateData(currentUser, commentId))
                 .isInstanceOf(UnauthorizedException.class);
 
         verify(commentRepository, never()).findById(commentId);
-        verify(postRepository, times(1)).findByCommentsId(commentId);
+        verify(postRepository, times(1)).findSummaryByCommentId(commentId);
     }
 
     @Test
@@ -447,7 +464,7 @@ class CommentServiceTest {
         TestUtil.setField(comment, "id", 1L);
 
         when(commentRepository.findById(1L)).thenReturn(Optional.of(comment));
-        when(postRepository.findByCommentsId(1L)).thenReturn(Optional.of(post));
+        when(postRepository.findSummaryByCommentId(1L)).thenReturn(Optional.of(summaryOf(post)));
 
         // when
         Long updatedCommentId = commentService.updateComment(currentUser, 1L, request);
@@ -459,7 +476,7 @@ class CommentServiceTest {
 
         verify(commentRepository, times(1)).findById(1L);
         verify(commentRepository, times(1)).save(comment);
-        verify(postRepository, times(1)).findByCommentsId(1L);
+        verify(postRepository, times(1)).findSummaryByCommentId(1L);
         verify(cacheUtils, times(1)).evictCommentsAndPostListCache(post.getBlog().getId(), post.getId());
     }
 
@@ -480,7 +497,7 @@ class CommentServiceTest {
 
         verify(commentRepository, times(1)).findById(1L);
         verify(commentRepository, never()).save(any(Comment.class));
-        verify(postRepository, never()).findByCommentsId(1L);
+        verify(postRepository, never()).findSummaryByCommentId(1L);
         verify(cacheUtils, never()).evictCommentsAndPostListCache(anyLong(), anyLong());
     }
 
@@ -502,14 +519,14 @@ class CommentServiceTest {
         );
 
         when(commentRepository.findById(1L)).thenReturn(Optional.of(comment));
-        when(postRepository.findByCommentsId(1L)).thenReturn(Optional.empty());
+        when(postRepository.findSummaryByCommentId(1L)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> commentService.updateComment(currentUser, 1L, request))
                 .isInstanceOf(PostNotFoundException.class);
 
         verify(commentRepository, times(1)).findById(1L);
-        verify(postRepository, times(1)).findByCommentsId(1L);
+        verify(postRepository, times(1)).findSummaryByCommentId(1L);
         verify(commentRepository, never()).save(any(Comment.class));
         verify(cacheUtils, never()).evictCommentsAndPostListCache(anyLong(), anyLong());
     }
@@ -541,7 +558,7 @@ class CommentServiceTest {
         );
 
         when(commentRepository.findById(1L)).thenReturn(Optional.of(comment));
-        when(postRepository.findByCommentsId(1L)).thenReturn(Optional.of(noCommentPost));
+        when(postRepository.findSummaryByCommentId(1L)).thenReturn(Optional.of(summaryOf(noCommentPost)));
 
         // when & then
         assertThatThrownBy(() -> commentService.updateComment(currentUser, 1L, request))
@@ -549,7 +566,7 @@ class CommentServiceTest {
 
         verify(commentRepository, times(1)).findById(1L);
         verify(commentRepository, never()).save(any(Comment.class));
-        verify(postRepository, times(1)).findByCommentsId(1L);
+        verify(postRepository, times(1)).findSummaryByCommentId(1L);
         verify(cacheUtils, never()).evictCommentsAndPostListCache(anyLong(), anyLong());
     }
 
@@ -577,7 +594,7 @@ class CommentServiceTest {
                 .isInstanceOf(UnauthorizedException.class);
 
         verify(commentRepository, times(1)).findById(1L);
-        verify(postRepository, never()).findByCommentsId(1L);
+        verify(postRepository, never()).findSummaryByCommentId(1L);
         verify(commentRepository, never()).save(any(Comment.class));
         verify(cacheUtils, never()).evictCommentsAndPostListCache(anyLong(), anyLong());
     }
@@ -600,8 +617,9 @@ class CommentServiceTest {
         commentService.deleteComment(currentUser, 1L);
 
         // then
+        assertThat(comment.isDeleted()).isTrue();
         verify(commentRepository, times(1)).findById(1L);
-        verify(commentRepository, times(1)).delete(comment);
+        verify(commentRepository, never()).delete(any(Comment.class));
         verify(cacheUtils, times(1)).evictCommentsAndPostListCache(post.getBlog().getId(), post.getId());
     }
 
@@ -620,6 +638,26 @@ class CommentServiceTest {
         verify(cacheUtils, never()).evictCommentsAndPostListCache(anyLong(), anyLong());
     }
 
+    @Test
+    @DisplayName("댓글 삭제 실패 - 이미 삭제된 댓글")
+    void deleteComment_fail_alreadyDeleted() {
+        // given
+        Comment comment = Comment.builder()
+                .userId(currentUser.getUserId())
+                .post(post)
+                .content("This is a test comment.")
+                .isPublic(true)
+                .build();
+        TestUtil.setField(comment, "id", 1L);
+        comment.delete();
+
+        when(commentRepository.findById(1L)).thenReturn(Optional.of(comment));
+
+        // when & then
+        assertThatThrownBy(() -> commentService.deleteComment(currentUser, 1L))
+                .isInstanceOf(CommentNotFoundException.class);
+    }
+
     @Test
     @DisplayName("댓글 삭제 실패 - 댓글 작성자가 아님")
     void deleteComment_fail_userIsNotAuthor() {
@@ -675,7 +713,7 @@ class CommentServiceTest {
 
         List<CommentResponse> comments = Arrays.asList(commentResponse1, commentResponse2);
 
-        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
+        when(postRepository.findSummaryById(postId)).thenReturn(Optional.of(summaryOf(post)));
         when(commentRepository.getParentCommentResponse(postId, currentUser.getUserId())).thenReturn(comments);
 
         UserDTO userDTO = new UserDTO(
@@ -684,7 +722,7 @@ class CommentServiceTest {
                 currentUser.getProfileImage()
         );
 
-        when(userClient.getUsersById(anySet())).thenReturn(new ApiResponse<>(Collections.singletonList(userDTO)));
+        when(userDirectoryService.getUsers(anyCollection())).thenReturn(Map.of(userDTO.getUserId(), userDTO));
 
         // when
         List<CommentResponse> responses = commentService.getCommentsForPost(currentUser, postId);
@@ -702,9 +740,9 @@ class CommentServiceTest {
         assertThat(parentComment.getAuthor()).isEqualTo(userDTO.getNickname());
         assertThat(childComment.getAuthor()).isEqualTo(userDTO.getNickname());
 
-        verify(postRepository, times(1)).findById(postId);
+        verify(postRepository, times(1)).findSummaryById(postId);
         verify(commentRepository, times(1)).getParentCommentResponse(postId, currentUser.getUserId());
-        verify(userClient, times(1)).getUsersById(anySet());
+        verify(userDirectoryService, times(1)).getUsers(anyCollection());
     }
 
     @Test
@@ -713,15 +751,45 @@ class CommentServiceTest {
         // given
         Long postId = 999L;
 
-        when(postRepository.findById(postId)).thenReturn(Optional.empty());
+        when(postRepository.findSummaryById(postId)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> commentService.getCommentsForPost(currentUser, postId))
                 .isInstanceOf(PostNotFoundException.class);
 
-        verify(postRepository, times(1)).findById(postId);
+        verify(postRepository, times(1)).findSummaryById(postId);
         verify(commentRepository, never()).getParentCommentResponse(anyLong(), anyLong());
-        verify(userClient, never()).getUsersById(anySet());
+        verify(userDirectoryService, never()).getUsers(anyCollection());
+    }
+
+    @Test
+    @DisplayName("특정 게시글의 댓글 조회 성공 - 대댓글이 남은 삭제된 댓글만 자리 표시")
+    void getCommentsForPost_success_deletedComments() {
+        // given
+        Long postId = post.getId();
+        Long userId = currentUser.getUserId();
+
+        CommentResponse deletedParent = new CommentResponse(1L, null, userId, "Deleted parent", 3L, true, true, null, null, true);
+        CommentResponse reply = new CommentResponse(2L, 1L, userId, "Reply", 0L, false, true, null, null, false);
+        CommentResponse deletedReplyOfReply = new CommentResponse(4L, 2L, userId, "Deleted reply", 0L, false, true, null, null, true);
+        CommentResponse deletedLeaf = new CommentResponse(3L, null, userId, "Deleted leaf", 0L, false, true, null, null, true);
+
+        when(postRepository.findSummaryById(postId)).thenReturn(Optional.of(summaryOf(post)));
+        when(commentRepository.getParentCommentResponse(postId, userId))
+                .thenReturn(List.of(deletedParent, reply, deletedLeaf, deletedReplyOfReply));
+        when(userDirectoryService.getUsers(anyCollection())).thenReturn(Map.of());
+
+        // when
+        List<CommentResponse> responses = commentService.getCommentsForPost(currentUser, postId);
+
+        // then
+        assertThat(responses).extracting(CommentResponse::getCommentId).containsExactly(1L);
+        CommentResponse placeholder = responses.get(0);
+        assertThat(placeholder.getContent()).isEqualTo("삭제된 댓글입니다.");
+        assertThat(placeholder.getAuthorId()).isNull();
+        assertThat(placeholder.getLikeCount()).isZero();
+        assertThat(placeholder.getChildren()).extracting(CommentResponse::getCommentId).containsExactly(2L);
+        assertThat(placeholder.getChildren().get(0).getChildren()).isEmpty();
     }
 
     @Test
@@ -754,7 +822,7 @@ class CommentServiceTest {
 
         List<CommentResponse> comments = Collections.singletonList(privateComment);
 
-        when(postRepository.findById(postId)).thenReturn(Optional.of(newPost));
+        when(postRepository.findSummaryById(postId)).thenReturn(Optional.of(summaryOf(newPost)));
         when(commentRepository.getParentCommentResponse(postId, currentUser.getUserId())).thenReturn(comments);
 
         // when
@@ -767,7 +835,7 @@ class CommentServiceTest {
         assertThat(comment.getContent()).isEqualTo("비공개 댓글입니다.");
         assertThat(comment.getLikeCount()).isEqualTo(0L);
 
-        verify(postRepository, times(1)).findById(postId);
+        verify(postRepository, times(1)).findSummaryById(postId);
         verify(commentRepository, times(1)).getParentCommentResponse(postId, currentUser.getUserId());
     }
 
@@ -791,7 +859,7 @@ class CommentServiceTest {
 
         List<CommentResponse> comments = Collections.singletonList(privateComment);
 
-        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
+        when(postRepository.findSummaryById(postId)).thenReturn(Optional.of(summaryOf(post)));
         when(commentRepository.getParentCommentResponse(postId, currentUser.getUserId())).thenReturn(comments);
 
         UserDTO userDTO = new UserDTO(
@@ -800,7 +868,7 @@ class CommentServiceTest {
                 currentUser.getProfileImage()
         );
 
-        when(userClient.getUsersById(anySet())).thenReturn(new ApiResponse<>(Collections.singletonList(userDTO)));
+        when(userDirectoryService.getUsers(anyCollection())).thenReturn(Map.of(userDTO.getUserId(), userDTO));
 
         // when
         List<CommentResponse> responses = commentService.getCommentsForPost(currentUser, postId);
@@ -812,8 +880,13 @@ class CommentServiceTest {
         assertThat(comment.getContent()).isEqualTo("비공개 댓글");
         assertThat(comment.getLikeCount()).isEqualTo(5L);
 
-        verify(postRepository, times(1)).findById(postId);
+        verify(postRepository, times(1)).findSummaryById(postId);
         verify(commentRepository, times(1)).getParentCommentResponse(postId, currentUser.getUserId());
-        verify(userClient, times(1)).getUsersById(anySet());
+        verify(userDirectoryService, times(1)).getUsers(anyCollection());
+    }
+
+    // 게시글 요약 정보 생성
+    private static PostSummary summaryOf(Post post) {
+        return new PostSummary(post.getId(), post.getUserId(), post.getBlog().getId(), post.isPublic(), post.isCommentable());
     }
-}
\ No newline at end of file
+}
@@ -10,6 +10,9 @@ import com.alphaka.blogservice.exception.custom.PostNotFoundException;
 import com.alphaka.blogservice.like.entity.Like;
 import com.alphaka.blogservice.like.repository.LikeRepository;
 import com.alphaka.blogservice.like.service.LikeService;
+import com.alphaka.blogservice.outbox.entity.OutboxEventType;
+import com.alphaka.blogservice.outbox.service.OutboxService;
+import com.alphaka.blogservice.post.dto.PostSummary;
 import com.alphaka.blogservice.post.entity.Post;
 import com.alphaka.blogservice.post.repository.PostRepository;
 import com.alphaka.blogservice.util.CacheUtils;
@@ -47,12 +50,16 @@ class LikeServiceTest {
     @Mock
     private LikeRepository likeRepository;
 
+    @Mock
+    private OutboxService outboxService;
+
     @InjectMocks
     private LikeService likeService;
 
     private CurrentUser currentUser;
     private Blog blog;
     private Post post;
+    private PostSummary postSummary;
     private Comment comment;
 
     @BeforeEach
@@ -82,7 +89,9 @@ class LikeServiceTest {
                 .isCommentable(true)
                 .build();
         TestUtil.setField(post, "id", 1L);
-        lenient().when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
+        postSummary = new PostSummary(post.getId(), post.getUserId(), blog.getId(), true, true);
+        lenient().when(postRepository.findSummaryById(post.getId())).thenReturn(Optional.of(postSummary));
+        lenient().when(postRepository.getReferenceById(post.getId())).thenReturn(post);
 
         // 댓글 생성
         comment = Comment.builder()
@@ -99,7 +108,7 @@ class LikeServiceTest {
     @DisplayName("게시글 좋아요 성공 - 처음 좋아요 누름")
     void toggleLikeOnPost_success_like() {
         // given
-        when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
+        when(postRepository.findSummaryById(post.getId())).thenReturn(Optional.of(postSummary));
         when(likeRepository.findByUserIdAndPost(currentUser.getUserId(), post)).thenReturn(Optional.empty());
 
         ArgumentCaptor<Like> likeCaptor = ArgumentCaptor.forClass(Like.class);
@@ -115,9 +124,12 @@ class LikeServiceTest {
         assertThat(like.getUserId()).isEqualTo(currentUser.getUserId());
         assertThat(like.getPost()).isEqualTo(post);
         assertThat(like.getComment()).isNull();
+        verify(postRepository, never()).findById(anyLong()); // 본문까지 읽는 전체 조회는 하지 않음
+        verify(outboxService, times(1)).append(eq(OutboxEventType.LIKE_ADDED), eq(post.getId()), any());
 
         verify(cacheUtils, times(1)).evictLikeCountForPost(post.getId());
         verify(cacheUtils, times(1)).evictUserLikeOnPost(currentUser.getUserId(), post.getId());
+        verify(cacheUtils, times(1)).evictPostListCache(blog.getId());
     }
 
     @Test
@@ -130,7 +142,7 @@ class LikeServiceTest {
                 .build();
         TestUtil.setField(existingLike, "id", 1L);
 
-        when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
+        when(postRepository.findSummaryById(post.getId())).thenReturn(Optional.of(postSummary));
         when(likeRepository.findByUserIdAndPost(currentUser.getUserId(), post)).thenReturn(Optional.of(existingLike));
 
         // when
@@ -138,6 +150,7 @@ class LikeServiceTest {
 
         // then
         verify(likeRepository, times(1)).delete(existingLike);
+        verify(outboxService, times(1)).append(eq(OutboxEventType.LIKE_REMOVED), eq(post.getId()), any());
 
         verify(cacheUtils, times(1)).evictLikeCountForPost(post.getId());
         verify(cacheUtils, times(1)).evictUserLikeOnPost(currentUser.getUserId(), post.getId());
@@ -147,7 +160,7 @@ class LikeServiceTest {
     @DisplayName("게시글 좋아요 실패 - 게시글 없음")
     void toggleLikeOnPost_fail_postNotFound() {
         // given
-        when(postRepository.findById(post.getId())).thenReturn(Optional.empty());
+        when(postRepository.findSummaryById(post.getId())).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> likeService.toggleLikeOnPost(currentUser, post.getId()))
@@ -0,0 +1,159 @@
+package com.alphaka.blogservice.service;
+
+import com.alphaka.blogservice.outbox.service.OutboxPublisher;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxPublisherTest {
+
+    @Mock
+    private JdbcTemplate session;
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    private OutboxPublisher outboxPublisher;
+
+    @BeforeEach
+    void setUp() {
+        outboxPublisher = new OutboxPublisher(kafkaTemplate, 1000);
+    }
+
+    @Test
+    @DisplayName("이벤트를 토픽에 발행하고, 발행한 이벤트 삭제")
+    void publishBatch_success() throws Exception {
+        // given
+        givenBatch(new long[]{1L, 2L, 3L}, new String[]{"POST_CREATED", "COMMENT_CREATED", "LIKE_ADDED"},
+                new String[]{"10", "10", "10"}, new long[]{1L, 2L, 3L});
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        int published = outboxPublisher.publishBatch(session, 3);
+
+        // then
+        assertThat(published).isEqualTo(3);
+        List<ProducerRecord<String, String>> records = sentRecords(3);
+        assertThat(records).extracting(ProducerRecord::topic)
+                .containsExactly("blog-post-events", "blog-comment-events", "blog-like-events");
+        ProducerRecord<String, String> first = records.get(0);
+        assertThat(first.key()).isEqualTo("10");
+        assertThat(eventId(first)).isEqualTo("1");
+        verify(session).update(startsWith("DELETE FROM outbox_events"), eq(1L), eq(2L), eq(3L));
+    }
+
+    @Test
+    @DisplayName("같은 키의 이벤트는 ID 가 아닌 순번 순서로 발행")
+    void publishBatch_sequenceOrder() throws Exception {
+        // given
+        givenBatch(new long[]{1L, 2L}, new String[]{"POST_UPDATED", "POST_CREATED"},
+                new String[]{"10", "10"}, new long[]{2L, 1L});
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        outboxPublisher.publishBatch(session, 2);
+
+        // then
+        assertThat(sentRecords(2)).extracting(OutboxPublisherTest::eventId).containsExactly("2", "1");
+    }
+
+    @Test
+    @DisplayName("같은 키의 앞선 순번이 묶음 밖에 있으면 그 구간을 다시 조회하여 순서대로 발행")
+    void publishBatch_earlierSequenceOutsideBatch() throws Exception {
+        // given
+        givenBatch(new long[]{1L}, new String[]{"POST_UPDATED"}, new String[]{"10"}, new long[]{2L});
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            ResultSet first = mock(ResultSet.class);
+            when(first.getString("message_key")).thenReturn("10");
+            when(first.getLong("first_sequence")).thenReturn(1L);
+            handler.processRow(first);
+            return null;
+        }).when(session).query(startsWith("SELECT message_key, MIN"), any(RowCallbackHandler.class), any(Object[].class));
+        when(session.query(startsWith("SELECT id"), any(RowMapper.class), eq("10"), eq(1L), eq(2L)))
+                .thenAnswer(invocation -> rows(invocation.getArgument(1), new long[]{5L, 1L},
+                        new String[]{"POST_CREATED", "POST_UPDATED"}, new String[]{"10", "10"}, new long[]{1L, 2L}));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        int published = outboxPublisher.publishBatch(session, 1);
+
+        // then
+        assertThat(published).isEqualTo(2);
+        assertThat(sentRecords(2)).extracting(OutboxPublisherTest::eventId).containsExactly("5", "1");
+        verify(session).update(startsWith("DELETE FROM outbox_events"), eq(5L), eq(1L));
+    }
+
+    @Test
+    @DisplayName("이벤트 발행이 실패하면 그 키의 이후 이벤트는 남기고, 다른 키의 발행한 이벤트만 삭제한 뒤 예외 발생")
+    void publishBatch_partialFailure() throws Exception {
+        // given
+        givenBatch(new long[]{1L, 2L, 3L}, new String[]{"POST_CREATED", "POST_UPDATED", "POST_CREATED"},
+                new String[]{"10", "10", "20"}, new long[]{1L, 2L, 1L});
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(
+                CompletableFuture.failedFuture(new RuntimeException("broker down")),
+                CompletableFuture.completedFuture(null),
+                CompletableFuture.completedFuture(null));
+
+        // when & then
+        assertThatThrownBy(() -> outboxPublisher.publishBatch(session, 3))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(session).update(startsWith("DELETE FROM outbox_events"), eq(3L));
+    }
+
+    // ID 순으로 읽은 아웃박스 이벤트 묶음
+    private void givenBatch(long[] ids, String[] eventTypes, String[] messageKeys, long[] sequences) {
+        when(session.query(startsWith("SELECT id"), any(RowMapper.class), eq(ids.length)))
+                .thenAnswer(invocation -> rows(invocation.getArgument(1), ids, eventTypes, messageKeys, sequences));
+    }
+
+    private List<Object> rows(RowMapper<?> rowMapper, long[] ids, String[] eventTypes, String[] messageKeys,
+                              long[] sequences) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        List<Object> rows = new ArrayList<>();
+        for (int i = 0; i < ids.length; i++) {
+            when(rs.getLong("id")).thenReturn(ids[i]);
+            when(rs.getString("event_type")).thenReturn(eventTypes[i]);
+            when(rs.getString("message_key")).thenReturn(messageKeys[i]);
+            when(rs.getLong("aggregate_sequence")).thenReturn(sequences[i]);
+            when(rs.getString("payload")).thenReturn("{}");
+            rows.add(rowMapper.mapRow(rs, i));
+        }
+        return rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ProducerRecord<String, String>> sentRecords(int count) {
+        ArgumentCaptor<ProducerRecord<String, String>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(count)).send(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static String eventId(ProducerRecord<String, String> record) {
+        return new String(record.headers().lastHeader(OutboxPublisher.EVENT_ID_HEADER).value(), StandardCharsets.UTF_8);
+    }
+}
@@ -1,22 +1,29 @@
 package com.alphaka.blogservice.service;
 
-import com.alphaka.blogservice.client.feign.UserClient;
 import com.alphaka.blogservice.common.dto.CurrentUser;
+import com.alphaka.blogservice.common.dto.PageResponse;
 import com.alphaka.blogservice.common.dto.UserDTO;
-import com.alphaka.blogservice.common.response.ApiResponse;
+import com.alphaka.blogservice.outbox.entity.OutboxEventType;
+import com.alphaka.blogservice.outbox.service.OutboxService;
 import com.alphaka.blogservice.post.dto.PostRequest;
 import com.alphaka.blogservice.post.dto.PostListResponse;
 import com.alphaka.blogservice.post.dto.PostResponse;
 import com.alphaka.blogservice.blog.entity.Blog;
+import com.alphaka.blogservice.post.dto.PostSummary;
 import com.alphaka.blogservice.post.entity.Post;
 import com.alphaka.blogservice.exception.custom.BlogNotFoundException;
 import com.alphaka.blogservice.exception.custom.PostNotFoundException;
 import com.alphaka.blogservice.exception.custom.UnauthorizedException;
+import com.alphaka.blogservice.exception.custom.UserNotFoundException;
 import com.alphaka.blogservice.blog.repository.BlogRepository;
 import com.alphaka.blogservice.post.service.PostService;
 import com.alphaka.blogservice.post.repository.PostRepository;
+import com.alphaka.blogservice.shard.ShardMap;
+import com.alphaka.blogservice.shard.ShardTemplate;
 import com.alphaka.blogservice.tag.service.TagService;
+import com.alphaka.blogservice.user.service.UserDirectoryService;
 import com.alphaka.blogservice.util.CacheUtils;
+import com.alphaka.blogservice.util.ExistenceGuard;
 import com.alphaka.blogservice.util.TestUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,18 +31,25 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -48,11 +62,14 @@ class PostServiceTest {
     @Mock
     private CacheUtils cacheUtils;
 
+    @Mock
+    private ExistenceGuard existenceGuard;
+
     @Mock
     private TagService tagService;
 
     @Mock
-    private UserClient userClient;
+    private UserDirectoryService userDirectoryService;
 
     @Mock
     private BlogRepository blogRepository;
@@ -66,6 +83,18 @@ class PostServiceTest {
     @Mock
     private ValueOperations<String, Object> valueOperations;
 
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ShardMap shardMap;
+
+    @Mock
+    private ShardTemplate shardTemplate;
+
+    @Mock
+    private OutboxService outboxService;
+
     @InjectMocks
     private PostService postService;
 
@@ -79,6 +108,10 @@ class PostServiceTest {
                 "profileImage.png",
                 "ROLE_USER"
         );
+
+        // 병렬 작업은 호출 스레드에서 바로 실행
+        TestUtil.setField(postService, "postDetailExecutor", (Executor) Runnable::run);
+        TestUtil.setField(postService, "detailDeadlineMillis", 1000L);
     }
 
     @Test
@@ -124,6 +157,7 @@ class PostServiceTest {
         assertThat(capturedPost.getUserId()).isEqualTo(currentUser.getUserId());
 
         verify(tagService, times(1)).addTagsToPost(capturedPost, request.getTagNames()); // 다른 서비스 호출 검증
+        verify(outboxService, times(1)).append(eq(OutboxEventType.POST_CREATED), eq(postId), any()); // 아웃박스 이벤트 저장 검증
         verify(cacheUtils, times(1)).evictPostListAndTagListCache(blog.getId());
     }
 
@@ -424,32 +458,29 @@ class PostServiceTest {
     }
 
     @Test
-    @DisplayName("게시글 삭제 성공")
+    @DisplayName("게시글 삭제 성공 - 본문을 읽지 않고 요약 정보로 작성자 확인")
     void deletePost_success() {
         // given
         Long postId = 1L;
-        Blog blog = Blog.builder()
-                .userId(currentUser.getUserId())
-                .build();
-        TestUtil.setField(blog, "id", 1L);
+        Long blogId = 1L;
+        PostSummary post = new PostSummary(postId, currentUser.getUserId(), blogId, true, true);
 
-        Post post = Post.builder()
-                .userId(currentUser.getUserId())
-                .blog(blog)
-                .build();
-        TestUtil.setField(post, "id", postId);
-
-        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
-        doNothing().when(postRepository).delete(post);
+        when(postRepository.findSummaryById(postId)).thenReturn(Optional.of(post));
+        when(postRepository.purgePost(postId)).thenReturn(4);
 
         // when
         postService.deletePost(currentUser, postId);
 
         // then
-        verify(postRepository, times(1)).findById(postId);
-        verify(postRepository, times(1)).delete(post);
+        verify(postRepository, times(1)).findSummaryById(postId);
+        verify(postRepository, never()).findById(anyLong());
+        verify(postRepository, times(1)).purgePost(postId);
+        verify(postRepository, never()).delete(any(Post.class));
+        InOrder inOrder = inOrder(outboxService); // 삭제 이벤트를 저장한 뒤 순번 행 삭제
+        inOrder.verify(outboxService).append(eq(OutboxEventType.POST_DELETED), eq(postId), any());
+        inOrder.verify(outboxService).forgetSequences(List.of(postId));
         verify(cacheUtils, times(1)).evictCommentsCache(postId);
-        verify(cacheUtils, times(1)).evictPostListAndTagListCache(blog.getId());
+        verify(cacheUtils, times(1)).evictPostListAndTagListCache(blogId);
         verify(cacheUtils, times(1)).evictPostDetailsCache(postId);
     }
 
@@ -458,14 +489,14 @@ class PostServiceTest {
     void deletePost_fail_postNotFound() {
         // given
         Long postId = 1L;
-        when(postRepository.findById(postId)).thenReturn(Optional.empty());
+        when(postRepository.findSummaryById(postId)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> postService.deletePost(currentUser, postId))
                 .isInstanceOf(PostNotFoundException.class);
 
-        verify(postRepository, times(1)).findById(postId);
-        verify(postRepository, never()).delete(any(Post.class));
+        verify(postRepository, times(1)).findSummaryById(postId);
+        verify(postRepository, never()).purgePost(anyLong());
         verify(cacheUtils, never()).evictCommentsCache(anyLong());
         verify(cacheUtils, never()).evictPostListAndTagListCache(anyLong());
         verify(cacheUtils, never()).evictPostDetailsCache(anyLong());
@@ -476,25 +507,16 @@ class PostServiceTest {
     void deletePost_fail_unauthorized() {
         // given
         Long postId = 1L;
-        Blog blog = Blog.builder()
-                .userId(currentUser.getUserId())
-                .build();
-        TestUtil.setField(blog, "id", 1L);
-
-        Post post = Post.builder()
-                .userId(2L) // 다른 사용자 ID
-                .blog(blog)
-                .build();
-        TestUtil.setField(post, "id", postId);
+        PostSummary post = new PostSummary(postId, 2L, 1L, true, true); // 다른 사용자 ID
 
-        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
+        when(postRepository.findSummaryById(postId)).thenReturn(Optional.of(post));
 
         // when & then
         assertThatThrownBy(() -> postService.deletePost(currentUser, postId))
                 .isInstanceOf(UnauthorizedException.class);
 
-        verify(postRepository, times(1)).findById(postId);
-        verify(postRepository, never()).delete(any(Post.class));
+        verify(postRepository, times(1)).findSummaryById(postId);
+        verify(postRepository, never()).purgePost(anyLong());
         verify(cacheUtils, never()).evictCommentsCache(anyLong());
         verify(cacheUtils, never()).evictPostListAndTagListCache(anyLong());
         verify(cacheUtils, never()).evictPostDetailsCache(anyLong());
@@ -507,15 +529,6 @@ class PostServiceTest {
         Long postId = 1L;
         HttpServletRequest request = mock(HttpServletRequest.class);
 
-        Post post = Post.builder()
-                .userId(currentUser.getUserId())
-                .title("Test Post")
-                .content("<p>Test Content</p>")
-                .isPublic(true)
-                .isCommentable(true)
-                .build();
-        TestUtil.setField(post, "id", postId);
-
         PostResponse postResponse = new PostResponse(
                 postId,
                 currentUser.getUserId(),
@@ -530,22 +543,26 @@ class PostServiceTest {
                 LocalDateTime.now()
         );
 
+        postResponse.setTags(Arrays.asList("Spring", "Java")); // 태그는 게시글 상세 쿼리에서 함께 조회
+
         UserDTO userDTO = new UserDTO(
                 currentUser.getUserId(),
                 currentUser.getNickname(),
                 currentUser.getProfileImage()
         );
 
-        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
         when(postRepository.getPostResponse(postId, currentUser.getUserId())).thenReturn(Optional.of(postResponse));
-        when(userClient.findUserById(currentUser.getUserId())).thenReturn(new ApiResponse<>(userDTO));
+        when(userDirectoryService.getUser(currentUser.getUserId())).thenReturn(userDTO);
 
         when(redisTemplate.opsForValue()).thenReturn(valueOperations); // Redis 모킹
         when(request.getHeader("X-Forwarded-For")).thenReturn(null);
         when(request.getRemoteAddr()).thenReturn("127.0.0.1");
         when(valueOperations.setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class))).thenReturn(true);
 
-        when(tagService.findTagsByPostId(postId)).thenReturn(Arrays.asList("Spring", "Java"));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
 
         // when
         PostResponse response = postService.getPostResponse(request, currentUser, postId);
@@ -555,13 +572,92 @@ class PostServiceTest {
         assertThat(response.getAuthor()).isEqualTo("tester");
         assertThat(response.getTags()).containsExactly("Spring", "Java");
         assertThat(response.getViewCount()).isEqualTo(100);
+        assertThat(response.isPartial()).isFalse();
 
-        verify(postRepository, times(1)).findById(postId);
+        // 게시글 조회는 상세 쿼리 한 번 (조회수 증가 제외)
         verify(postRepository, times(1)).getPostResponse(postId, currentUser.getUserId());
-        verify(userClient, times(1)).findUserById(currentUser.getUserId());
+        verify(postRepository, times(1)).increaseViewCount(postId);
+        verifyNoMoreInteractions(postRepository);
+        verifyNoInteractions(tagService);
+        verify(userDirectoryService, times(1)).getUser(currentUser.getUserId());
         verify(redisTemplate, times(1)).opsForValue();
         verify(valueOperations, times(1)).setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class));
-        verify(postRepository, times(1)).increaseViewCount(postId);
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조회 성공 - 작성자 조회 실패 시 작성자 없이 응답")
+    void getPostResponse_success_partialWhenAuthorFails() {
+        // given
+        Long postId = 1L;
+        HttpServletRequest request = mock(HttpServletRequest.class);
+
+        PostResponse postResponse = new PostResponse(
+                postId,
+                currentUser.getUserId(),
+                "Test Post",
+                "<p>Test Content</p>",
+                10L,
+                100,
+                false,
+                true,
+                true,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+
+        postResponse.setTags(List.of("Spring"));
+
+        when(postRepository.getPostResponse(postId, currentUser.getUserId())).thenReturn(Optional.of(postResponse));
+        when(userDirectoryService.getUser(currentUser.getUserId())).thenThrow(new RuntimeException("user-service unavailable"));
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+        when(valueOperations.setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class))).thenReturn(false);
+
+        // when
+        PostResponse response = postService.getPostResponse(request, currentUser, postId);
+
+        // then
+        assertThat(response.getAuthor()).isNull();
+        assertThat(response.getTags()).containsExactly("Spring");
+        assertThat(response.isPartial()).isTrue();
+        verify(postRepository, never()).increaseViewCount(anyLong());
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조회 성공 - Executor 가 포화 상태면 요청 스레드에서 실행하지 않고 작성자 없이 응답")
+    void getPostResponse_success_partialWhenExecutorRejects() {
+        // given
+        Long postId = 1L;
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        TestUtil.setField(postService, "postDetailExecutor", (Executor) runnable -> {
+            throw new RejectedExecutionException("post-detail executor saturated");
+        });
+
+        PostResponse postResponse = new PostResponse(
+                postId,
+                currentUser.getUserId(),
+                "Test Post",
+                "<p>Test Content</p>",
+                10L,
+                100,
+                false,
+                true,
+                true,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+
+        when(postRepository.getPostResponse(postId, currentUser.getUserId())).thenReturn(Optional.of(postResponse));
+
+        // when
+        PostResponse response = postService.getPostResponse(request, currentUser, postId);
+
+        // then
+        assertThat(response.getAuthor()).isNull();
+        assertThat(response.isPartial()).isTrue();
+        verifyNoInteractions(userDirectoryService);
+        verify(postRepository, never()).increaseViewCount(anyLong());
     }
 
     @Test
@@ -571,19 +667,37 @@ class PostServiceTest {
         Long postId = 1L;
         HttpServletRequest request = mock(HttpServletRequest.class);
 
-        when(postRepository.findById(postId)).thenReturn(Optional.empty());
+        when(postRepository.getPostResponse(postId, currentUser.getUserId())).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> postService.getPostResponse(request, currentUser, postId))
                 .isInstanceOf(PostNotFoundException.class);
 
-        verify(postRepository, times(1)).findById(postId);
-        verify(postRepository, never()).getPostResponse(anyLong(), anyLong());
-        verify(userClient, never()).findUserById(anyLong());
+        verify(postRepository, times(1)).getPostResponse(postId, currentUser.getUserId());
+        verify(postRepository, never()).findById(anyLong());
+        verify(existenceGuard, times(1)).markPostMissing(postId);
+        verify(userDirectoryService, never()).getUser(anyLong());
         verify(redisTemplate, never()).opsForValue();
         verify(postRepository, never()).increaseViewCount(anyLong());
     }
 
+    @Test
+    @DisplayName("게시글 상세 조회 실패 - 존재하지 않는 것으로 확인된 게시글은 DB 조회 없이 거절")
+    void getPostResponse_fail_rejectedByExistenceGuard() {
+        // given
+        Long postId = 999L;
+        HttpServletRequest request = mock(HttpServletRequest.class);
+
+        doThrow(new PostNotFoundException()).when(existenceGuard).checkPost(postId);
+
+        // when & then
+        assertThatThrownBy(() -> postService.getPostResponse(request, currentUser, postId))
+                .isInstanceOf(PostNotFoundException.class);
+
+        verify(postRepository, never()).getPostResponse(anyLong(), anyLong());
+        verify(existenceGuard, never()).markPostMissing(anyLong());
+    }
+
     @Test
     @DisplayName("게시글 상세 조회 실패 - 비공개 게시글, 권한 없음")
     void getPostResponse_fail_privatePost_unauthorized() {
@@ -591,21 +705,29 @@ class PostServiceTest {
         Long postId = 1L;
         HttpServletRequest request = mock(HttpServletRequest.class);
 
-        Post post = Post.builder()
-                .userId(2L) // 다른 사용자 ID
-                .isPublic(false)
-                .build();
-        TestUtil.setField(post, "id", postId);
+        PostResponse postResponse = new PostResponse(
+                postId,
+                2L, // 다른 사용자 ID
+                "Private Post",
+                "<p>Private Content</p>",
+                0L,
+                0,
+                false,
+                false,
+                true,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
 
-        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
+        when(postRepository.getPostResponse(postId, currentUser.getUserId())).thenReturn(Optional.of(postResponse));
 
         // when & then
         assertThatThrownBy(() -> postService.getPostResponse(request, currentUser, postId))
                 .isInstanceOf(UnauthorizedException.class);
 
-        verify(postRepository, times(1)).findById(postId);
-        verify(postRepository, never()).getPostResponse(anyLong(), anyLong());
-        verify(userClient, never()).findUserById(anyLong());
+        verify(postRepository, times(1)).getPostResponse(postId, currentUser.getUserId());
+        verify(postRepository, never()).findById(anyLong());
+        verify(userDirectoryService, never()).getUser(anyLong());
         verify(redisTemplate, never()).opsForValue();
         verify(postRepository, never()).increaseViewCount(anyLong());
     }
@@ -628,7 +750,7 @@ class PostServiceTest {
                 .build();
         TestUtil.setField(blog, "id", 1L);
 
-        when(userClient.findUserByNickname(nickname)).thenReturn(new ApiResponse<>(userDTO));
+        when(userDirectoryService.findByNickname(nickname)).thenReturn(userDTO);
         when(blogRepository.findByUserId(userDTO.getUserId())).thenReturn(Optional.of(blog));
 
         PostListResponse postListResponse = new PostListResponse( // 썸네일과 태그는 서비스에서 설정
@@ -642,27 +764,30 @@ class PostServiceTest {
                 LocalDateTime.now()
         );
 
-        when(postRepository.getPostListResponse(blog.getId(), true, pageable))
-                .thenReturn(Collections.singletonList(postListResponse));
+        postListResponse.setTags(Arrays.asList("Spring", "Java")); // 태그는 목록 쿼리에서 함께 조회
 
-        when(tagService.findTagsByPostIds(Collections.singletonList(1L)))
-                .thenReturn(Collections.singletonMap(1L, Arrays.asList("Spring", "Java")));
+        when(postRepository.getPostListResponse(blog.getId(), true, pageable))
+                .thenReturn(new PageImpl<>(Collections.singletonList(postListResponse), pageable, 1));
 
         // when
-        List<PostListResponse> responses = postService.getPostListResponse(currentUser, nickname, pageable);
+        PageResponse<PostListResponse> pageResponse = postService.getPostListResponse(currentUser, nickname, pageable);
 
         // then
+        List<PostListResponse> responses = pageResponse.getContent();
         assertThat(responses).hasSize(1);
+        assertThat(pageResponse.getTotalElements()).isEqualTo(1);
         PostListResponse response = responses.get(0);
         assertThat(response.getPostId()).isEqualTo(1L);
         assertThat(response.getTags()).containsExactly("Spring", "Java");
         assertThat(response.getRepresentativeImage()).isNull(); // 썸네일이 설정되지 않은 경우
         assertThat(response.getContentSnippet()).isEqualTo("This is a test post content snippet...");
 
-        verify(userClient, times(1)).findUserByNickname(nickname);
+        verify(userDirectoryService, times(1)).findByNickname(nickname);
         verify(blogRepository, times(1)).findByUserId(userDTO.getUserId());
+        // 게시글 목록, 태그, 전체 수를 목록 쿼리 한 번으로 조회
         verify(postRepository, times(1)).getPostListResponse(blog.getId(), true, pageable);
-        verify(tagService, times(1)).findTagsByPostIds(Collections.singletonList(1L));
+        verifyNoMoreInteractions(postRepository);
+        verifyNoInteractions(tagService);
         verify(cacheUtils, never()).evictPostListAndTagListCache(anyLong());
     }
 
@@ -684,7 +809,7 @@ class PostServiceTest {
                 .build();
         TestUtil.setField(blog, "id", 1L);
 
-        when(userClient.findUserByNickname(nickname)).thenReturn(new ApiResponse<>(userDTO));
+        when(userDirectoryService.findByNickname(nickname)).thenReturn(userDTO);
         when(blogRepository.findByUserId(userDTO.getUserId())).thenReturn(Optional.of(blog));
 
         List<PostListResponse> postList = Arrays.asList(
@@ -710,20 +835,19 @@ class PostServiceTest {
                 )
         );
 
-        when(postRepository.getPostListResponse(blog.getId(), true, pageable)).thenReturn(postList);
+        postList.get(0).setTags(Arrays.asList("Spring", "Java"));
+        postList.get(1).setTags(Arrays.asList("Microservices", "Docker"));
 
-        when(tagService.findTagsByPostIds(Arrays.asList(1L, 2L))).thenReturn(
-                Map.of(
-                        1L, Arrays.asList("Spring", "Java"),
-                        2L, Arrays.asList("Microservices", "Docker")
-                )
-        );
+        when(postRepository.getPostListResponse(blog.getId(), true, pageable)).thenReturn(new PageImpl<>(postList, pageable, 12));
 
         // when
-        List<PostListResponse> responses = postService.getPostListResponse(currentUser, nickname, pageable);
+        PageResponse<PostListResponse> pageResponse = postService.getPostListResponse(currentUser, nickname, pageable);
 
         // then
+        List<PostListResponse> responses = pageResponse.getContent();
         assertThat(responses).hasSize(2);
+        assertThat(pageResponse.getTotalElements()).isEqualTo(12);
+        assertThat(pageResponse.getTotalPages()).isEqualTo(2);
 
         PostListResponse response1 = responses.get(0);
         assertThat(response1.getPostId()).isEqualTo(1L);
@@ -735,10 +859,11 @@ class PostServiceTest {
         assertThat(response2.getTags()).containsExactly("Microservices", "Docker");
         assertThat(response2.getContentSnippet()).isEqualTo("This is a test post content snippet 2...");
 
-        verify(userClient, times(1)).findUserByNickname(nickname);
+        verify(userDirectoryService, times(1)).findByNickname(nickname);
         verify(blogRepository, times(1)).findByUserId(userDTO.getUserId());
         verify(postRepository, times(1)).getPostListResponse(blog.getId(), true, pageable);
-        verify(tagService, times(1)).findTagsByPostIds(Arrays.asList(1L, 2L));
+        verifyNoMoreInteractions(postRepository);
+        verifyNoInteractions(tagService);
         verify(cacheUtils, never()).evictPostListAndTagListCache(anyLong());
     }
 
@@ -754,17 +879,17 @@ class PostServiceTest {
                 "anotherProfile.png"
         );
 
-        when(userClient.findUserByNickname(nickname)).thenReturn(new ApiResponse<>(userDTO));
+        when(userDirectoryService.findByNickname(nickname)).thenReturn(userDTO);
         when(blogRepository.findByUserId(userDTO.getUserId())).thenReturn(Optional.empty());
 
         // when & Then
         assertThatThrownBy(() -> postService.getPostListResponse(currentUser, nickname, pageable))
                 .isInstanceOf(BlogNotFoundException.class);
 
-        verify(userClient, times(1)).findUserByNickname(nickname);
+        verify(userDirectoryService, times(1)).findByNickname(nickname);
         verify(blogRepository, times(1)).findByUserId(userDTO.getUserId());
         verify(postRepository, never()).getPostListResponse(anyLong(), anyBoolean(), any(Pageable.class));
-        verify(tagService, never()).findTagsByPostIds(anyList());
+        verifyNoInteractions(tagService);
     }
 
     @Test
@@ -785,7 +910,7 @@ class PostServiceTest {
                 .build();
         TestUtil.setField(blog, "id", 2L);
 
-        when(userClient.findUserByNickname(nickname)).thenReturn(new ApiResponse<>(userDTO));
+        when(userDirectoryService.findByNickname(nickname)).thenReturn(userDTO);
         when(blogRepository.findByUserId(userDTO.getUserId())).thenReturn(Optional.of(blog));
 
         PostListResponse postListResponse = new PostListResponse( // 썸네일과 태그는 서비스에서 설정
@@ -799,16 +924,16 @@ class PostServiceTest {
                 LocalDateTime.now()
         );
 
-        when(postRepository.getPostListResponse(blog.getId(), false, pageable))
-                .thenReturn(Collections.singletonList(postListResponse));
+        postListResponse.setTags(Arrays.asList("Microservices", "Docker"));
 
-        when(tagService.findTagsByPostIds(Collections.singletonList(2L)))
-                .thenReturn(Collections.singletonMap(2L, Arrays.asList("Microservices", "Docker")));
+        when(postRepository.getPostListResponse(blog.getId(), false, pageable))
+                .thenReturn(new PageImpl<>(Collections.singletonList(postListResponse), pageable, 1));
 
         // when
-        List<PostListResponse> responses = postService.getPostListResponse(currentUser, nickname, pageable);
+        PageResponse<PostListResponse> pageResponse = postService.getPostListResponse(currentUser, nickname, pageable);
 
         // then
+        List<PostListResponse> responses = pageResponse.getContent();
         assertThat(responses).hasSize(1);
         PostListResponse response = responses.get(0);
         assertThat(response.getPostId()).isEqualTo(2L);
@@ -816,10 +941,11 @@ class PostServiceTest {
         assertThat(response.getRepresentativeImage()).isNull();
         assertThat(response.getContentSnippet()).isEqualTo("Another test post content snippet...");
 
-        verify(userClient, times(1)).findUserByNickname(nickname);
+        verify(userDirectoryService, times(1)).findByNickname(nickname);
         verify(blogRepository, times(1)).findByUserId(userDTO.getUserId());
         verify(postRepository, times(1)).getPostListResponse(blog.getId(), false, pageable);
-        verify(tagService, times(1)).findTagsByPostIds(Collections.singletonList(2L));
+        verifyNoMoreInteractions(postRepository);
+        verifyNoInteractions(tagService);
         verify(cacheUtils, never()).evictPostListAndTagListCache(anyLong());
     }
 
@@ -913,7 +1039,7 @@ class PostServiceTest {
                 .build();
         TestUtil.setField(blog, "id", 1L);
 
-        when(userClient.findUserByNickname(nickname)).thenReturn(new ApiResponse<>(userDTO));
+        when(userDirectoryService.findByNickname(nickname)).thenReturn(userDTO);
         when(blogRepository.findByUserId(userDTO.getUserId())).thenReturn(Optional.of(blog));
 
         // when
@@ -921,7 +1047,7 @@ class PostServiceTest {
 
         // then
         assertThat(blogId).isEqualTo(1L);
-        verify(userClient, times(1)).findUserByNickname(nickname);
+        verify(userDirectoryService, times(1)).findByNickname(nickname);
         verify(blogRepository, times(1)).findByUserId(userDTO.getUserId());
     }
 
@@ -936,14 +1062,31 @@ class PostServiceTest {
                 "anotherProfile.png"
         );
 
-        when(userClient.findUserByNickname(nickname)).thenReturn(new ApiResponse<>(userDTO));
+        when(userDirectoryService.findByNickname(nickname)).thenReturn(userDTO);
         when(blogRepository.findByUserId(userDTO.getUserId())).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> postService.getBlogIdByNickname(nickname))
                 .isInstanceOf(BlogNotFoundException.class);
 
-        verify(userClient, times(1)).findUserByNickname(nickname);
+        verify(userDirectoryService, times(1)).findByNickname(nickname);
         verify(blogRepository, times(1)).findByUserId(userDTO.getUserId());
+        verify(existenceGuard, times(1)).markNicknameMissing(eq(nickname), any(BlogNotFoundException.class));
+    }
+
+    @Test
+    @DisplayName("닉네임으로 블로그 ID 조회 실패 - 존재하지 않는 것으로 기록된 닉네임은 user-service 호출 없이 거절")
+    void getBlogIdByNickname_fail_rejectedByExistenceGuard() {
+        // given
+        String nickname = "scraper";
+
+        doThrow(new UserNotFoundException()).when(existenceGuard).checkNickname(nickname);
+
+        // when & then
+        assertThatThrownBy(() -> postService.getBlogIdByNickname(nickname))
+                .isInstanceOf(UserNotFoundException.class);
+
+        verify(userDirectoryService, never()).findByNickname(anyString());
+        verify(blogRepository, never()).findByUserId(anyLong());
     }
-}
\ No newline at end of file
+}
@@ -9,6 +9,7 @@ import com.alphaka.blogservice.common.dto.CurrentUser;
 import com.alphaka.blogservice.common.dto.UserDTO;
 import com.alphaka.blogservice.common.response.ApiResponse;
 import com.alphaka.blogservice.exception.custom.InvalidReportTargetException;
+import com.alphaka.blogservice.post.dto.PostSummary;
 import com.alphaka.blogservice.post.entity.Post;
 import com.alphaka.blogservice.post.repository.PostRepository;
 import com.alphaka.blogservice.report.dto.ReportRequest;
@@ -93,7 +94,9 @@ class ReportServiceTest {
                 .isCommentable(true)
                 .build();
         TestUtil.setField(post, "id", 1L);
-        lenient().when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
+        lenient().when(postRepository.findSummaryById(post.getId()))
+                .thenReturn(Optional.of(new PostSummary(post.getId(), post.getUserId(), blog.getId(), true, true)));
+        lenient().when(postRepository.getReferenceById(post.getId())).thenReturn(post);
 
         // 댓글 생성
         comment = Comment.builder()
@@ -191,15 +194,14 @@ class ReportServiceTest {
                 "스팸홍보 게시글 신고"
         );
 
-        when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
-
         ArgumentCaptor<Report> captor = ArgumentCaptor.forClass(Report.class);
 
         // when
         reportService.reportPost(currentUser, request);
 
         // then
-        verify(postRepository, times(1)).findById(post.getId());
+        verify(postRepository, times(1)).findSummaryById(post.getId());
+        verify(postRepository, never()).findById(anyLong()); // 본문까지 읽는 전체 조회는 하지 않음
         verify(reportRepository, times(1)).save(captor.capture());
 
         Report report = captor.getValue();
@@ -230,13 +232,14 @@ class ReportServiceTest {
                 "스팸홍보 게시글 신고"
         );
 
-        when(postRepository.findById(myPost.getId())).thenReturn(Optional.of(myPost));
+        when(postRepository.findSummaryById(myPost.getId()))
+                .thenReturn(Optional.of(new PostSummary(myPost.getId(), myPost.getUserId(), blog.getId(), true, true)));
 
         // when & then
         assertThatThrownBy(() -> reportService.reportPost(currentUser, request))
                 .isInstanceOf(InvalidReportTargetException.class);
 
-        verify(postRepository, times(1)).findById(myPost.getId());
+        verify(postRepository, times(1)).findSummaryById(myPost.getId());
         verify(reportRepository, never()).save(any());
     }
 
@@ -250,13 +253,13 @@ class ReportServiceTest {
                 "스팸홍보 게시글 신고"
         );
 
-        when(postRepository.findById(999L)).thenReturn(Optional.empty());
+        when(postRepository.findSummaryById(999L)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> reportService.reportPost(currentUser, request))
                 .isInstanceOf(InvalidReportTargetException.class);
 
-        verify(postRepository, times(1)).findById(999L);
+        verify(postRepository, times(1)).findSummaryById(999L);
         verify(reportRepository, never()).save(any());
     }
 
@@ -2,9 +2,7 @@ package com.alphaka.blogservice.service;
 
 import com.alphaka.blogservice.blog.entity.Blog;
 import com.alphaka.blogservice.blog.repository.BlogRepository;
-import com.alphaka.blogservice.client.feign.UserClient;
 import com.alphaka.blogservice.common.dto.UserDTO;
-import com.alphaka.blogservice.common.response.ApiResponse;
 import com.alphaka.blogservice.exception.custom.BlogNotFoundException;
 import com.alphaka.blogservice.exception.custom.UserNotFoundException;
 import com.alphaka.blogservice.post.entity.Post;
@@ -14,7 +12,9 @@ import com.alphaka.blogservice.tag.entity.Tag;
 import com.alphaka.blogservice.tag.repository.PostTagRepository;
 import com.alphaka.blogservice.tag.repository.TagRepository;
 import com.alphaka.blogservice.tag.service.TagService;
+import com.alphaka.blogservice.user.service.UserDirectoryService;
 import com.alphaka.blogservice.util.CacheUtils;
+import com.alphaka.blogservice.util.ExistenceGuard;
 import com.alphaka.blogservice.util.TestUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -38,7 +38,10 @@ class TagServiceTest {
     private CacheUtils cacheUtils;
 
     @Mock
-    private UserClient userClient;
+    private ExistenceGuard existenceGuard;
+
+    @Mock
+    private UserDirectoryService userDirectoryService;
 
     @Mock
     private TagRepository tagRepository;
@@ -85,7 +88,7 @@ class TagServiceTest {
     void getTagListForBlog_success() {
         // given
         String nickname = "tester";
-        when(userClient.findUserByNickname(nickname)).thenReturn(new ApiResponse<>(userDTO));
+        when(userDirectoryService.findByNickname(nickname)).thenReturn(userDTO);
         when(blogRepository.findById(userDTO.getUserId())).thenReturn(Optional.of(blog));
 
         Tag tag1 = Tag.builder().tagName("Java").build();
@@ -106,7 +109,7 @@ class TagServiceTest {
         assertThat(tagList).extracting("tagName").containsExactlyInAnyOrder("Java", "Spring");
         assertThat(tagList).extracting("postCount").containsExactlyInAnyOrder(3, 4);
 
-        verify(userClient, times(1)).findUserByNickname(nickname);
+        verify(userDirectoryService, times(1)).findByNickname(nickname);
         verify(blogRepository, times(1)).findById(userDTO.getUserId());
         verify(postTagRepository, times(1)).findTagsByBlogId(blog.getId());
         verify(postTagRepository, times(1)).countByBlogIdAndTagId(blog.getId(), tag1.getId());
@@ -118,7 +121,7 @@ class TagServiceTest {
     void getTagListForBlog_success_noTags() {
         // given
         String nickname = "tester";
-        when(userClient.findUserByNickname(nickname)).thenReturn(new ApiResponse<>(userDTO));
+        when(userDirectoryService.findByNickname(nickname)).thenReturn(userDTO);
         when(blogRepository.findById(userDTO.getUserId())).thenReturn(Optional.of(blog));
         when(postTagRepository.findTagsByBlogId(blog.getId())).thenReturn(List.of());
 
@@ -128,7 +131,7 @@ class TagServiceTest {
         // then
         assertThat(tagList).isEmpty();
 
-        verify(userClient, times(1)).findUserByNickname(nickname);
+        verify(userDirectoryService, times(1)).findByNickname(nickname);
         verify(blogRepository, times(1)).findById(userDTO.getUserId());
         verify(postTagRepository, times(1)).findTagsByBlogId(blog.getId());
     }
@@ -138,14 +141,14 @@ class TagServiceTest {
     void getTagListForBlog_fail_blogNotFound() {
         // given
         String nickname = "tester";
-        when(userClient.findUserByNickname(nickname)).thenReturn(new ApiResponse<>(userDTO));
+        when(userDirectoryService.findByNickname(nickname)).thenReturn(userDTO);
         when(blogRepository.findById(userDTO.getUserId())).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> tagService.getTagListForBlog(nickname))
                 .isInstanceOf(BlogNotFoundException.class);
 
-        verify(userClient, times(1)).findUserByNickname(nickname);
+        verify(userDirectoryService, times(1)).findByNickname(nickname);
         verify(blogRepository, times(1)).findById(userDTO.getUserId());
         verifyNoInteractions(postTagRepository);
     }
@@ -155,13 +158,13 @@ class TagServiceTest {
     void getTagListForBlog_fail_userNotFound() {
         // given
         String nickname = "nonexistent";
-        when(userClient.findUserByNickname(nickname)).thenReturn(new com.alphaka.blogservice.common.response.ApiResponse<>(null));
+        when(userDirectoryService.findByNickname(nickname)).thenReturn(null);
 
         // when & then
         assertThatThrownBy(() -> tagService.getTagListForBlog(nickname))
                 .isInstanceOf(UserNotFoundException.class);
 
-        verify(userClient, times(1)).findUserByNickname(nickname);
+        verify(userDirectoryService, times(1)).findByNickname(nickname);
         verify(blogRepository, never()).findById(anyLong());
         verify(postTagRepository, never()).findTagsByBlogId(anyLong());
         verify(cacheUtils, never()).evictTagListCache(anyLong());
@@ -200,11 +203,11 @@ class TagServiceTest {
         verify(tagRepository, times(1)).findByTagNameIn(tagNames);
         verify(tagRepository, times(1)).batchInsert(anyList());
         verify(tagRepository, times(1)).findByTagNameIn(Arrays.asList("Spring", "JPA"));
-        verify(postTagRepository, times(1)).batchInsert(anyList());
+        verify(postTagRepository, times(1)).saveAll(anyList());
 
         verify(cacheUtils, times(1)).evictTagListCache(post.getBlog().getId());
 
-        verify(postTagRepository).batchInsert(postTagCaptor.capture());
+        verify(postTagRepository).saveAll(postTagCaptor.capture());
         List<PostTag> savedPostTags = postTagCaptor.getValue();
         assertThat(savedPostTags).hasSize(3);
         assertThat(savedPostTags).extracting("tag.tagName").containsExactlyInAnyOrder("Java", "Spring", "JPA");
@@ -231,7 +234,7 @@ class TagServiceTest {
         // then
         verify(tagRepository, times(1)).findByTagNameIn(tagNames);
         verify(tagRepository, never()).batchInsert(anyList());
-        verify(postTagRepository, times(1)).batchInsert(postTagCaptor.capture());
+        verify(postTagRepository, times(1)).saveAll(postTagCaptor.capture());
         verify(cacheUtils, times(1)).evictTagListCache(post.getBlog().getId());
 
         List<PostTag> savedPostTags = postTagCaptor.getValue();
@@ -267,7 +270,7 @@ class TagServiceTest {
         // then
         verify(tagRepository, times(2)).findByTagNameIn(tagNames);
         verify(tagRepository, times(1)).batchInsert(anyList());
-        verify(postTagRepository, times(1)).batchInsert(postTagCaptor.capture());
+        verify(postTagRepository, times(1)).saveAll(postTagCaptor.capture());
         verify(cacheUtils, times(1)).evictTagListCache(post.getBlog().getId());
 
         List<PostTag> savedPostTags = postTagCaptor.getValue();
@@ -287,7 +290,7 @@ class TagServiceTest {
         // then
         verify(tagRepository, never()).findByTagNameIn(anyList());
         verify(tagRepository, never()).batchInsert(anyList());
-        verify(postTagRepository, never()).batchInsert(anyList());
+        verify(postTagRepository, never()).saveAll(anyList());
 
         verify(cacheUtils, never()).evictTagListCache(anyLong());
     }
@@ -304,7 +307,7 @@ class TagServiceTest {
         // then
         verify(tagRepository, never()).findByTagNameIn(anyList());
         verify(tagRepository, never()).batchInsert(anyList());
-        verify(postTagRepository, never()).batchInsert(anyList());
+        verify(postTagRepository, never()).saveAll(anyList());
 
         verify(cacheUtils, never()).evictTagListCache(anyLong());
     }
@@ -400,7 +403,7 @@ class TagServiceTest {
         verify(postTagRepository, times(1)).findByPost(post);
         verify(tagRepository, times(2)).findByTagNameIn(Collections.singletonList("Docker"));
         verify(tagRepository, times(1)).batchInsert(anyList());
-        verify(postTagRepository, times(1)).batchInsert(postTagCaptor.capture());
+        verify(postTagRepository, times(1)).saveAll(postTagCaptor.capture());
         verify(postTagRepository, times(1)).findByPostAndTag_TagNameIn(post, Collections.singletonList("Java"));
         verify(postTagRepository, times(1)).deleteAllInBatch(Collections.singletonList(postTagJava));
 
@@ -446,7 +449,7 @@ class TagServiceTest {
         verify(postTagRepository, times(1)).findByPost(post);
         verify(tagRepository, times(2)).findByTagNameIn(Collections.singletonList("Spring"));
         verify(tagRepository, times(1)).batchInsert(anyList());
-        verify(postTagRepository, times(1)).batchInsert(postTagCaptor.capture());
+        verify(postTagRepository, times(1)).saveAll(postTagCaptor.capture());
         verify(postTagRepository, never()).findByPostAndTag_TagNameIn(any(Post.class), anyList());
         verify(postTagRepository, never()).deleteAllInBatch(anyList());
 
@@ -0,0 +1,73 @@
+package com.alphaka.blogservice.service;
+
+import com.alphaka.blogservice.shard.ReferenceTableReplicator;
+import com.alphaka.blogservice.user.service.UserDirectoryPurger;
+import com.alphaka.blogservice.util.TestUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserDirectoryPurgerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserDirectoryPurger userDirectoryPurger;
+
+    @BeforeEach
+    void setUp() {
+        userDirectoryPurger = new UserDirectoryPurger(jdbcTemplate, transactionManager, new ReferenceTableReplicator(null));
+        TestUtil.setField(userDirectoryPurger, "batchSize", 2);
+        TestUtil.setField(userDirectoryPurger, "maxBatches", 10);
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 삭제 표시를 배치로 삭제하고, 대상이 없으면 중단")
+    void purge_success() {
+        // given
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(), eq(2)))
+                .thenReturn(List.of(1L, 2L), List.of(3L), List.of());
+        when(jdbcTemplate.update(startsWith("DELETE FROM user_directory"), any(Object[].class)))
+                .thenReturn(2, 1);
+
+        // when
+        int purged = userDirectoryPurger.purge(LocalDateTime.now());
+
+        // then
+        assertThat(purged).isEqualTo(3);
+        verify(jdbcTemplate).update(contains("deleted_at IS NOT NULL"), eq(1L), eq(2L));
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    @DisplayName("정리할 삭제 표시가 없으면 삭제하지 않음")
+    void purge_nothingToPurge() {
+        // given
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(), eq(2))).thenReturn(List.of());
+
+        // when
+        int purged = userDirectoryPurger.purge(LocalDateTime.now());
+
+        // then
+        assertThat(purged).isZero();
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+}
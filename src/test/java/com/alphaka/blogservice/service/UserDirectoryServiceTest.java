@@ -0,0 +1,275 @@
+package com.alphaka.blogservice.service;
+
+import com.alphaka.blogservice.blog.repository.BlogRepository;
+import com.alphaka.blogservice.client.UserBatchLoader;
+import com.alphaka.blogservice.client.feign.UserClient;
+import com.alphaka.blogservice.common.dto.UserDTO;
+import com.alphaka.blogservice.common.event.UserProfileEvent;
+import com.alphaka.blogservice.common.response.ApiResponse;
+import com.alphaka.blogservice.shard.ReferenceTableReplicator;
+import com.alphaka.blogservice.user.entity.UserProfile;
+import com.alphaka.blogservice.user.repository.UserProfileRepository;
+import com.alphaka.blogservice.user.service.UserDirectoryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserDirectoryServiceTest {
+
+    @Mock
+    private UserProfileRepository userProfileRepository;
+
+    @Mock
+    private BlogRepository blogRepository;
+
+    @Mock
+    private UserClient userClient;
+
+    @Mock
+    private UserBatchLoader userBatchLoader;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private UserDirectoryService userDirectoryService;
+
+    @BeforeEach
+    void setUp() {
+        userDirectoryService = new UserDirectoryService(
+                userProfileRepository, blogRepository, userClient, userBatchLoader, stringRedisTemplate,
+                new ReferenceTableReplicator(null), true);
+    }
+
+    @Test
+    @DisplayName("디렉터리에 없는 사용자만 user-service 에서 조회")
+    @SuppressWarnings("unchecked")
+    void getUsers_missingOnly_fallback() {
+        // given
+        UserProfile local = profile(1L, "local", 1L);
+        when(userProfileRepository.findByUserIdIn(anyCollection())).thenReturn(List.of(local));
+        when(userBatchLoader.getUsers(anyCollection())).thenReturn(Map.of(2L, new UserDTO(2L, "remote", null)));
+
+        // when
+        Map<Long, UserDTO> users = userDirectoryService.getUsers(List.of(1L, 2L));
+
+        // then
+        assertThat(users).containsOnlyKeys(1L, 2L);
+        assertThat(users.get(1L).getNickname()).isEqualTo("local");
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(userBatchLoader, times(1)).getUsers(captor.capture());
+        assertThat(captor.getValue()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("모든 사용자가 디렉터리에 있으면 user-service 를 호출하지 않음")
+    void getUsers_allLocal_noCall() {
+        // given
+        when(userProfileRepository.findByUserIdIn(anyCollection()))
+                .thenReturn(List.of(profile(1L, "a", 1L), profile(2L, "b", 1L)));
+
+        // when
+        Map<Long, UserDTO> users = userDirectoryService.getUsers(List.of(1L, 2L, 1L));
+
+        // then
+        assertThat(users).containsOnlyKeys(1L, 2L);
+        verifyNoInteractions(userBatchLoader, userClient);
+    }
+
+    @Test
+    @DisplayName("디렉터리에 없는 닉네임은 user-service 에서 조회")
+    void findByNickname_miss_fallback() {
+        // given
+        when(userProfileRepository.findFirstByNicknameOrderByVersionDesc("tester")).thenReturn(Optional.empty());
+        when(userClient.findUserByNickname("tester")).thenReturn(new ApiResponse<>(new UserDTO(1L, "tester", null)));
+
+        // when
+        UserDTO user = userDirectoryService.findByNickname("tester");
+
+        // then
+        assertThat(user.getUserId()).isEqualTo(1L);
+        verify(userClient, times(1)).findUserByNickname("tester");
+    }
+
+    @Test
+    @DisplayName("새 사용자 이벤트는 디렉터리에 저장")
+    void upsert_newUser_save() {
+        // given
+        when(userProfileRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // when
+        userDirectoryService.upsert(new UserProfileEvent(1L, "tester", "image", 10L));
+
+        // then
+        ArgumentCaptor<UserProfile> captor = ArgumentCaptor.forClass(UserProfile.class);
+        verify(userProfileRepository, times(1)).save(captor.capture());
+        assertThat(captor.getValue().getNickname()).isEqualTo("tester");
+        assertThat(captor.getValue().getVersion()).isEqualTo(10L);
+        verify(userBatchLoader, times(1)).evict(1L);
+    }
+
+    @Test
+    @DisplayName("이미 반영된 버전보다 오래된 이벤트는 무시")
+    void upsert_olderVersion_ignored() {
+        // given
+        UserProfile existing = profile(1L, "newer", 20L);
+        when(userProfileRepository.findById(1L)).thenReturn(Optional.of(existing));
+
+        // when
+        userDirectoryService.upsert(new UserProfileEvent(1L, "older", null, 10L));
+
+        // then
+        assertThat(existing.getNickname()).isEqualTo("newer");
+        verify(userBatchLoader, never()).evict(anyLong());
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자는 행을 지우지 않고 삭제 표시로 남김")
+    void delete_existing_tombstone() {
+        // given
+        UserProfile existing = profile(1L, "tester", 10L);
+        when(userProfileRepository.findById(1L)).thenReturn(Optional.of(existing));
+
+        // when
+        userDirectoryService.delete(1L);
+
+        // then
+        assertThat(existing.isDeleted()).isTrue();
+        assertThat(existing.getNickname()).isNull();
+        assertThat(existing.getVersion()).isGreaterThan(10L);
+        verify(userProfileRepository, never()).delete(any());
+        verify(userBatchLoader, times(1)).evict(1L);
+    }
+
+    @Test
+    @DisplayName("디렉터리에 없던 사용자가 탈퇴해도 삭제 표시를 저장")
+    void delete_missing_saveTombstone() {
+        // given
+        when(userProfileRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // when
+        userDirectoryService.delete(1L);
+
+        // then
+        ArgumentCaptor<UserProfile> captor = ArgumentCaptor.forClass(UserProfile.class);
+        verify(userProfileRepository, times(1)).save(captor.capture());
+        assertThat(captor.getValue().getUserId()).isEqualTo(1L);
+        assertThat(captor.getValue().isDeleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("탈퇴 이전 버전의 이벤트가 늦게 도착해도 탈퇴한 사용자를 되살리지 않음")
+    void upsert_afterTombstone_olderVersion_ignored() {
+        // given
+        UserProfile tombstone = profile(1L, "tester", 10L);
+        tombstone.withdraw(20L);
+        when(userProfileRepository.findById(1L)).thenReturn(Optional.of(tombstone));
+
+        // when
+        userDirectoryService.upsert(new UserProfileEvent(1L, "tester", null, 15L));
+        userDirectoryService.upsert(new UserProfileEvent(1L, "tester", null, 20L));
+        userDirectoryService.upsert(new UserProfileEvent(1L, "tester", null, null));
+
+        // then
+        assertThat(tombstone.isDeleted()).isTrue();
+        assertThat(tombstone.getNickname()).isNull();
+        verify(userBatchLoader, never()).evict(anyLong());
+    }
+
+    @Test
+    @DisplayName("탈퇴 이후 버전의 이벤트는 사용자 정보를 다시 반영")
+    void upsert_afterTombstone_newerVersion_restore() {
+        // given
+        UserProfile tombstone = profile(1L, "tester", 10L);
+        tombstone.withdraw(20L);
+        when(userProfileRepository.findById(1L)).thenReturn(Optional.of(tombstone));
+
+        // when
+        userDirectoryService.upsert(new UserProfileEvent(1L, "again", null, 30L));
+
+        // then
+        assertThat(tombstone.isDeleted()).isFalse();
+        assertThat(tombstone.getNickname()).isEqualTo("again");
+        verify(userBatchLoader, times(1)).evict(1L);
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자는 user-service 를 조회하지 않고 존재하지 않는 사용자로 처리")
+    void getUser_tombstone_null() {
+        // given
+        UserProfile tombstone = profile(1L, "tester", 10L);
+        tombstone.withdraw(20L);
+        when(userProfileRepository.findById(1L)).thenReturn(Optional.of(tombstone));
+        when(userProfileRepository.findByUserIdIn(anyCollection())).thenReturn(List.of(tombstone));
+
+        // when
+        UserDTO user = userDirectoryService.getUser(1L);
+        Map<Long, UserDTO> users = userDirectoryService.getUsers(List.of(1L));
+
+        // then
+        assertThat(user).isNull();
+        assertThat(users).isEmpty();
+        verifyNoInteractions(userBatchLoader);
+    }
+
+    @Test
+    @DisplayName("디렉터리가 비어 있으면 블로그 주인 정보를 일괄 조회하여 채움")
+    @SuppressWarnings("unchecked")
+    void bootstrap_empty_fill() {
+        // given
+        when(userProfileRepository.count()).thenReturn(0L);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(blogRepository.findUserIdsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(userClient.getUsersById(anySet())).thenReturn(new ApiResponse<>(
+                new ArrayList<>(List.of(new UserDTO(1L, "a", null), new UserDTO(2L, "b", null)))));
+        when(userProfileRepository.findByUserIdIn(anyCollection())).thenReturn(List.of(profile(2L, "b", 5L)));
+
+        // when
+        userDirectoryService.bootstrap();
+
+        // then - 이벤트로 이미 반영된 사용자는 덮어쓰지 않음
+        ArgumentCaptor<List<UserProfile>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userProfileRepository, times(1)).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(UserProfile::getUserId).containsExactly(1L);
+        verify(stringRedisTemplate, times(1)).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("디렉터리가 이미 채워져 있으면 채우지 않음")
+    void bootstrap_notEmpty_skip() {
+        // given
+        when(userProfileRepository.count()).thenReturn(10L);
+
+        // when
+        userDirectoryService.bootstrap();
+
+        // then
+        verifyNoInteractions(blogRepository, userClient, stringRedisTemplate);
+    }
+
+    private UserProfile profile(Long userId, String nickname, Long version) {
+        return UserProfile.builder()
+                .userId(userId)
+                .nickname(nickname)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.alphaka.blogservice.shard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShardPagesTest {
+
+    private final Comparator<Integer> latestFirst = Comparator.reverseOrder();
+
+    @Test
+    @DisplayName("샤드별 정렬 결과를 정렬 순서로 병합")
+    void merge_firstPage() {
+        // given
+        List<List<Integer>> shardResults = List.of(List.of(9, 6, 2), List.of(8, 7, 1), List.of(5, 4, 3));
+
+        // when
+        List<Integer> page = ShardPages.merge(shardResults, latestFirst, 0, 3);
+
+        // then
+        assertThat(page).containsExactly(9, 8, 7);
+    }
+
+    @Test
+    @DisplayName("앞 페이지 개수만큼 건너뛰고 다음 페이지 반환")
+    void merge_secondPage() {
+        // given - 각 샤드에서 (offset + size) 개씩 조회한 결과
+        List<List<Integer>> shardResults = List.of(List.of(9, 6, 2, 0), List.of(8, 7, 1), List.of(5, 4, 3));
+
+        // when
+        List<Integer> page = ShardPages.merge(shardResults, latestFirst, 3, 3);
+
+        // then
+        assertThat(page).containsExactly(6, 5, 4);
+    }
+
+    @Test
+    @DisplayName("빈 샤드는 건너뛰고, 남은 결과가 페이지 크기보다 적으면 남은 만큼 반환")
+    void merge_emptyShardAndLastPage() {
+        // given
+        List<List<Integer>> shardResults = List.of(List.of(), List.of(3, 1), List.of(2));
+
+        // when
+        List<Integer> page = ShardPages.merge(shardResults, latestFirst, 2, 5);
+
+        // then
+        assertThat(page).containsExactly(1);
+    }
+}
@@ -0,0 +1,198 @@
+package com.alphaka.blogservice.util;
+
+import com.alphaka.blogservice.cache.CacheKeyIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheUtilsTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private CacheKeyIndex cacheKeyIndex;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private CacheUtils cacheUtils;
+
+    @BeforeEach
+    void setUp() {
+        cacheUtils = new CacheUtils(stringRedisTemplate, cacheKeyIndex, taskScheduler, false, 5000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(cacheUtils);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 즉시 캐시 무효화")
+    void evict_noTransaction_flushImmediately() {
+        // when
+        cacheUtils.evictCommentsCache(1L);
+
+        // then
+        verify(stringRedisTemplate, times(1)).unlink(List.of("blogService:cache:comments::post:1"));
+        verifyNoInteractions(cacheKeyIndex);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 무효화는 커밋 이후 한 번에 처리")
+    @SuppressWarnings("unchecked")
+    void evict_inTransaction_flushOnceAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        cacheUtils.evictCommentsAndPostListAndDetailsCache(1L, 2L, 3L);
+        cacheUtils.evictPostListAndTagListCache(1L);
+
+        // then
+        verifyNoInteractions(stringRedisTemplate, cacheKeyIndex);
+
+        commit();
+
+        ArgumentCaptor<Collection<String>> keys = ArgumentCaptor.forClass(Collection.class);
+        verify(stringRedisTemplate, times(1)).unlink(keys.capture());
+        assertThat(keys.getValue()).containsExactly(
+                "blogService:cache:comments::post:2",
+                "blogService:cache:postDetails::post:2:user:3");
+        assertThat(unlinkedIndexes()).containsExactly(
+                "blogService:cache:postList:keys::blog:1",
+                "blogService:cache:blogHome:keys::blog:1",
+                "blogService:cache:tagList:keys::blog:1");
+    }
+
+    @Test
+    @DisplayName("블로그 단위 캐시는 SCAN 없이 색인에 기록된 키만 한 번에 삭제")
+    void evictTagListCache_unlinkIndexedKeys() {
+        // when
+        cacheUtils.evictTagListCache(1L);
+
+        // then
+        assertThat(unlinkedIndexes()).containsExactly(
+                "blogService:cache:tagList:keys::blog:1",
+                "blogService:cache:blogHome:keys::blog:1");
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("롤백 시 캐시를 무효화하지 않음")
+    void evict_rollback_noFlush() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        cacheUtils.evictCommentsCache(1L);
+
+        // when
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        verifyNoInteractions(stringRedisTemplate);
+        assertThat(TransactionSynchronizationManager.hasResource(cacheUtils)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 가 일시적으로 실패하면 재시도")
+    void evict_redisFailure_retry() {
+        // given
+        when(stringRedisTemplate.unlink(anyCollection()))
+                .thenThrow(new RedisConnectionFailureException("connection reset"))
+                .thenReturn(1L);
+
+        // when
+        cacheUtils.evictCommentsCache(1L);
+
+        // then
+        verify(stringRedisTemplate, times(2)).unlink(anyCollection());
+    }
+
+    @Test
+    @DisplayName("복제 DB 를 사용하면 복제 지연 시간 뒤에 같은 대상을 한 번 더 무효화")
+    void evict_replicaEnabled_secondEviction() {
+        // given
+        CacheUtils replicaCacheUtils = new CacheUtils(stringRedisTemplate, cacheKeyIndex, taskScheduler, true, 5000);
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+
+        // when
+        replicaCacheUtils.evictMissingPost(1L);
+
+        // then
+        verify(taskScheduler).schedule(task.capture(), any(Instant.class));
+        task.getValue().run();
+        verify(stringRedisTemplate, times(2)).unlink(List.of("blogService:cache:negative::post:1"));
+    }
+
+    @Test
+    @DisplayName("복제 DB 를 사용하지 않으면 두 번째 무효화를 예약하지 않음")
+    void evict_replicaDisabled_noSecondEviction() {
+        // when
+        cacheUtils.evictMissingPost(1L);
+
+        // then
+        verifyNoInteractions(taskScheduler);
+    }
+
+    @Test
+    @DisplayName("삭제된 블로그는 블로그 단위 캐시와 블로그 게시글의 캐시를 커밋 이후 한 번에 무효화")
+    @SuppressWarnings("unchecked")
+    void evictDeletedBlogCache() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        cacheUtils.evictDeletedBlogCache(1L, List.of(2L));
+        commit();
+
+        // then
+        ArgumentCaptor<Collection<String>> keys = ArgumentCaptor.forClass(Collection.class);
+        verify(stringRedisTemplate, times(1)).unlink(keys.capture());
+        assertThat(keys.getValue()).containsExactly(
+                "blogService:cache:comments::post:2",
+                "blogService:cache:likeCount::post:2");
+        assertThat(unlinkedIndexes()).containsExactly(
+                "blogService:cache:postList:keys::blog:1",
+                "blogService:cache:blogHome:keys::blog:1",
+                "blogService:cache:tagList:keys::blog:1",
+                "blogService:cache:postDetails:keys::post:2");
+    }
+
+    // 한 번의 무효화에서 키를 삭제한 색인 목록
+    @SuppressWarnings("unchecked")
+    private List<String> unlinkedIndexes() {
+        ArgumentCaptor<Collection<String>> indexes = ArgumentCaptor.forClass(Collection.class);
+        verify(cacheKeyIndex, times(1)).unlinkIndexed(indexes.capture());
+        return List.copyOf(indexes.getValue());
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
@@ -0,0 +1,99 @@
+package com.alphaka.blogservice.util;
+
+import com.alphaka.blogservice.post.repository.PostRepository;
+import com.alphaka.blogservice.shard.ShardContext;
+import com.alphaka.blogservice.shard.ShardMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExistenceGuardTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private CacheUtils cacheUtils;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private ShardMap shardMap;
+
+    private ExistenceGuard existenceGuard;
+
+    @BeforeEach
+    void setUp() {
+        existenceGuard = new ExistenceGuard(stringRedisTemplate, cacheUtils, postRepository, shardMap, 1000, 0.01, 60000);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.getBit(eq(ExistenceGuard.POST_FILTER_KEY), anyLong())).thenReturn(false);
+        when(valueOperations.setIfAbsent(eq(ExistenceGuard.POST_FILTER_WARM_UP_LOCK_KEY), anyString(), any(Duration.class)))
+                .thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("모든 샤드의 게시글로 블룸 필터를 채운 뒤에 준비 완료 표시")
+    void warmUpPostFilter_allShards() {
+        // given
+        when(shardMap.shards()).thenReturn(List.of("shard-0", "shard-1"));
+        List<String> queriedShards = new ArrayList<>();
+        when(postRepository.findIdsAfter(eq(0L), any(Pageable.class))).thenAnswer(invocation -> {
+            queriedShards.add(ShardContext.current());
+            return "shard-0".equals(ShardContext.current()) ? List.of(1L, 2L) : List.of(3L);
+        });
+
+        // when
+        existenceGuard.warmUpPostFilter();
+
+        // then
+        assertThat(queriedShards).containsExactly("shard-0", "shard-1");
+        assertThat(ShardContext.current()).isNull();
+        InOrder inOrder = inOrder(postRepository, valueOperations);
+        inOrder.verify(postRepository, times(2)).findIdsAfter(eq(0L), any(Pageable.class));
+        inOrder.verify(valueOperations).setBit(eq(ExistenceGuard.POST_FILTER_KEY), anyLong(), eq(true));
+    }
+
+    @Test
+    @DisplayName("한 샤드라도 채우지 못하면 준비 완료 표시를 하지 않음")
+    void warmUpPostFilter_shardFailed() {
+        // given
+        when(shardMap.shards()).thenReturn(List.of("shard-0", "shard-1"));
+        when(postRepository.findIdsAfter(eq(0L), any(Pageable.class))).thenAnswer(invocation -> {
+            if ("shard-1".equals(ShardContext.current())) {
+                throw new IllegalStateException("shard down");
+            }
+            return List.of(1L);
+        });
+
+        // when
+        existenceGuard.warmUpPostFilter();
+
+        // then
+        verify(valueOperations, never()).setBit(anyString(), anyLong(), anyBoolean());
+        assertThat(ShardContext.current()).isNull();
+    }
+}
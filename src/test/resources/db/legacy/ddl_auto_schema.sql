@@ -0,0 +1,21 @@
+-- Flyway 도입 이전 ddl-auto: update 가 만든 스키마 (Hibernate 가 생성한 DDL 형식 그대로)
+-- 제약 조건 이름은 Hibernate 가 테이블, 컬럼 이름으로 만든 해시 이름 (환경에 따라 다를 수 있으므로 검증에서 이름은 비교하지 않음)
+
+create table blogs (id bigint not null auto_increment, created_at datetime(6) not null, updated_at datetime(6), deleted_at datetime(6), user_id bigint not null, primary key (id)) engine=InnoDB;
+create table comments (is_public bit not null, created_at datetime(6) not null, deleted_at datetime(6), id bigint not null auto_increment, parent_id bigint, post_id bigint not null, updated_at datetime(6), user_id bigint not null, content varchar(500) not null, primary key (id)) engine=InnoDB;
+create table likes (comment_id bigint, created_at datetime(6) not null, id bigint not null auto_increment, post_id bigint, user_id bigint not null, primary key (id)) engine=InnoDB;
+create table post_tags (created_at datetime(6) not null, deleted_at datetime(6), id bigint not null auto_increment, post_id bigint not null, tag_id bigint not null, updated_at datetime(6), primary key (id)) engine=InnoDB;
+create table posts (is_commentable bit not null, is_public bit not null, view_count integer not null, blog_id bigint not null, created_at datetime(6) not null, deleted_at datetime(6), id bigint not null auto_increment, updated_at datetime(6), user_id bigint not null, title varchar(100) not null, content LONGTEXT not null, primary key (id)) engine=InnoDB;
+create table reports (comment_id bigint, created_at datetime(6) not null, id bigint not null auto_increment, post_id bigint, reported_id bigint, reporter_id bigint not null, details longtext, reason enum ('SPAM_ADVERTISEMENT','OBSCENE_CONTENT','ILLEGAL_INFORMATION','HATE_SPEECH','VIOLATION_OF_PRIVACY','FALSE_INFORMATION','INAPPROPRIATE_NICKNAME','INAPPROPRIATE_PROFILE','INAPPROPRIATE_BIO','OTHER') not null, status enum ('PENDING','IN_PROGRESS','COMPLETED','REJECTED') not null, primary key (id)) engine=InnoDB;
+create table tags (created_at datetime(6) not null, id bigint not null auto_increment, tag_name varchar(20) not null, primary key (id)) engine=InnoDB;
+alter table post_tags add constraint UKd7dfvdxxfl6ps4ykrnecq5usx unique (post_id, tag_id);
+alter table tags add constraint UK6of9kyq0hmg9ekwx3k3qc4ooa unique (tag_name);
+alter table comments add constraint FKlri30okf66phtcgbe5pok7cc0 foreign key (parent_id) references comments (id);
+alter table comments add constraint FKh4c7lvsc298whoyd4w9ta25cr foreign key (post_id) references posts (id);
+alter table likes add constraint FK2yj6eohe7mfqvd1ge8d6hqg53 foreign key (comment_id) references comments (id);
+alter table likes add constraint FKry8tnr4x2vwemv2bb0h5hyl0x foreign key (post_id) references posts (id);
+alter table post_tags add constraint FKkifam22p4s1nm3bkmp1igcn5w foreign key (post_id) references posts (id);
+alter table post_tags add constraint FKm6cfovkyqvu5rlm6ahdx3eavj foreign key (tag_id) references tags (id);
+alter table posts add constraint FK4e2o7o8t9gc8iwhkqc8lru3e0 foreign key (blog_id) references blogs (id);
+alter table reports add constraint FKkj3rq9dbh0pd4cr6vw8ftaxja foreign key (comment_id) references comments (id);
+alter table reports add constraint FKh1m5apxc1rj1gyltlb8yu6c5p foreign key (post_id) references posts (id);